@@ -0,0 +1,42 @@
+package kr.flint.api.auth;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import kr.flint.api.auth.dto.RefreshTokenRequest;
+import kr.flint.api.auth.dto.TokenResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Auth", description = "인증")
+@RestController
+@RequiredArgsConstructor
+public class AuthController {
+
+    private final AuthFacade authFacade;
+
+    @Operation(summary = "토큰 재발급", description = "리프레시 토큰을 사용하고 새 토큰 쌍을 받습니다. 이미 사용한 토큰을 보내면 해당 기기의 세션이 끊깁니다.")
+    @PostMapping("/auth/token/refresh")
+    public TokenResponse refresh(@RequestBody @Valid RefreshTokenRequest request) {
+        return authFacade.refresh(request.refreshToken());
+    }
+
+    @Operation(summary = "로그아웃", description = "이 리프레시 토큰을 발급받은 기기의 세션을 끊습니다.")
+    @PostMapping("/auth/logout")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void logout(@RequestBody @Valid RefreshTokenRequest request) {
+        authFacade.logout(request.refreshToken());
+    }
+
+    @Operation(summary = "모든 기기 로그아웃", description = "발급된 모든 리프레시 토큰을 폐기합니다. 액세스 토큰은 만료될 때까지 유효합니다.")
+    @PostMapping("/api/v1/me/logout-all")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void logoutAll(@AuthenticationPrincipal Long userId) {
+        authFacade.logoutAll(userId);
+    }
+}
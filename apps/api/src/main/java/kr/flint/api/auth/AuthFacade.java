@@ -0,0 +1,25 @@
+package kr.flint.api.auth;
+
+import kr.flint.api.auth.dto.TokenResponse;
+import kr.flint.auth.service.AuthTokenService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class AuthFacade {
+
+    private final AuthTokenService authTokenService;
+
+    public TokenResponse refresh(String refreshToken) {
+        return TokenResponse.from(authTokenService.refresh(refreshToken));
+    }
+
+    public void logout(String refreshToken) {
+        authTokenService.logout(refreshToken);
+    }
+
+    public void logoutAll(Long userId) {
+        authTokenService.logoutAll(userId);
+    }
+}
@@ -0,0 +1,11 @@
+package kr.flint.api.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+@Schema(description = "리프레시 토큰")
+public record RefreshTokenRequest(
+        @Schema(description = "로그인 또는 마지막 회전에서 받은 리프레시 토큰")
+        @NotBlank String refreshToken
+) {
+}
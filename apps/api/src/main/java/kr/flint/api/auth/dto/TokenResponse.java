@@ -0,0 +1,31 @@
+package kr.flint.api.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import kr.flint.auth.dto.TokenPair;
+
+import java.time.Instant;
+
+@Schema(description = "토큰 쌍")
+public record TokenResponse(
+        @Schema(description = "액세스 토큰 (Authorization: Bearer)")
+        String accessToken,
+
+        @Schema(description = "액세스 토큰 만료 시각")
+        Instant accessTokenExpiresAt,
+
+        @Schema(description = "리프레시 토큰. 한 번 사용하면 새 토큰으로 바뀌며, 이전 토큰을 다시 보내면 해당 기기의 세션이 끊깁니다.")
+        String refreshToken,
+
+        @Schema(description = "리프레시 토큰 만료 시각")
+        Instant refreshTokenExpiresAt
+) {
+
+    public static TokenResponse from(TokenPair pair) {
+        return new TokenResponse(
+                pair.accessToken().token(),
+                pair.accessToken().expiresAt(),
+                pair.refreshToken(),
+                pair.refreshTokenExpiresAt()
+        );
+    }
+}
@@ -0,0 +1,59 @@
+package kr.flint.api.bookmark;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.flint.api.bookmark.dto.BookmarkCountsResponse;
+import kr.flint.shared.dto.PaginationResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Bookmark", description = "북마크")
+@RestController
+@RequestMapping("/api/v1/collections")
+@RequiredArgsConstructor
+public class BookmarkController {
+
+    private final BookmarkFacade bookmarkFacade;
+
+    @Operation(summary = "컬렉션 북마크", description = "이미 북마크한 컬렉션이면 아무것도 하지 않습니다.")
+    @PutMapping("/{collectionId}/bookmark")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void bookmark(@AuthenticationPrincipal Long userId, @PathVariable Long collectionId) {
+        bookmarkFacade.bookmark(userId, collectionId);
+    }
+
+    @Operation(summary = "컬렉션 북마크 해제")
+    @DeleteMapping("/{collectionId}/bookmark")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void unbookmark(@AuthenticationPrincipal Long userId, @PathVariable Long collectionId) {
+        bookmarkFacade.unbookmark(userId, collectionId);
+    }
+
+    @Operation(summary = "북마크한 컬렉션 목록", description = "최신순으로 조회합니다. page는 1부터, size는 최대 100입니다. "
+            + "meta.totalEstimated가 true이면 전체 수는 캐시된 추정치입니다.")
+    @GetMapping("/bookmarked")
+    public PaginationResponse<Long> getBookmarkedCollectionIds(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return bookmarkFacade.getBookmarkedCollectionIds(userId, page, size);
+    }
+
+    @Operation(summary = "컬렉션 북마크 수 조회", description = "컬렉션 카드 목록의 북마크 수를 한 번에 조회합니다. ids는 최대 100개입니다.")
+    @GetMapping("/bookmark-counts")
+    public BookmarkCountsResponse getBookmarkCounts(@RequestParam List<Long> ids) {
+        return bookmarkFacade.getBookmarkCounts(ids);
+    }
+}
@@ -0,0 +1,67 @@
+package kr.flint.api.bookmark;
+
+import kr.flint.api.bookmark.dto.BookmarkCountsResponse;
+import kr.flint.api.bookmark.dto.RecentViewsResponse;
+import kr.flint.bookmark.service.BookmarkService;
+import kr.flint.bookmark.service.RecentViewService;
+import kr.flint.collection.dto.CollectionVersion;
+import kr.flint.collection.service.CollectionService;
+import kr.flint.collection.service.CollectionVersions;
+import kr.flint.shared.dto.PaginationResponse;
+import kr.flint.shared.exception.ErrorCode;
+import kr.flint.shared.exception.GeneralException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class BookmarkFacade {
+
+    /**
+     * 한 화면의 컬렉션 카드 수 상한
+     */
+    public static final int MAX_COUNT_IDS = 100;
+
+    private final BookmarkService bookmarkService;
+    private final RecentViewService recentViewService;
+    private final CollectionService collectionService;
+    private final CollectionVersions collectionVersions;
+
+    public void bookmark(Long userId, Long collectionId) {
+        collectionService.checkReadable(userId, collectionId);
+        bookmarkService.bookmark(userId, collectionId);
+    }
+
+    public void unbookmark(Long userId, Long collectionId) {
+        bookmarkService.unbookmark(userId, collectionId);
+    }
+
+    public PaginationResponse<Long> getBookmarkedCollectionIds(Long userId, int page, int size) {
+        return bookmarkService.getBookmarkedCollectionIds(userId, page, size);
+    }
+
+    public BookmarkCountsResponse getBookmarkCounts(List<Long> collectionIds) {
+        if (collectionIds.size() > MAX_COUNT_IDS) {
+            throw new GeneralException(ErrorCode.INVALID_INPUT, "ids <= " + MAX_COUNT_IDS);
+        }
+        return new BookmarkCountsResponse(bookmarkService.getBookmarkCounts(collectionIds));
+    }
+
+    /**
+     * 조회 빈도가 가장 높은 쓰기이므로 컬렉션은 버전 스탬프(Redis)의 소유자/공개 여부로 확인하고,
+     * 스탬프가 없거나 읽을 수 없다고 나올 때만 MySQL로 다시 확인한다 (없거나 남의 비공개 컬렉션이면 COLLECTION_NOT_FOUND)
+     */
+    public void recordView(Long userId, Long collectionId) {
+        CollectionVersion version = collectionVersions.find(collectionId);
+        if (version == null || !version.isReadableBy(userId)) {
+            collectionService.checkReadable(userId, collectionId);
+        }
+        recentViewService.recordView(userId, collectionId);
+    }
+
+    public RecentViewsResponse getRecentViews(Long userId, int size) {
+        return RecentViewsResponse.from(recentViewService.getRecentViews(userId, size));
+    }
+}
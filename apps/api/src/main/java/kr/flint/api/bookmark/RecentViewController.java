@@ -0,0 +1,40 @@
+package kr.flint.api.bookmark;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.flint.api.bookmark.dto.RecentViewsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Recent View", description = "최근 조회")
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class RecentViewController {
+
+    private final BookmarkFacade bookmarkFacade;
+
+    @Operation(summary = "컬렉션 조회 기록", description = "같은 컬렉션은 조회 시각만 갱신됩니다. 없거나 읽을 수 없는 컬렉션이면 404입니다.")
+    @PostMapping("/collections/{collectionId}/views")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void recordView(@AuthenticationPrincipal Long userId, @PathVariable Long collectionId) {
+        bookmarkFacade.recordView(userId, collectionId);
+    }
+
+    @Operation(summary = "최근 조회한 컬렉션", description = "최신순으로 조회합니다. size는 최대 100입니다.")
+    @GetMapping("/me/recent-views")
+    public RecentViewsResponse getRecentViews(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return bookmarkFacade.getRecentViews(userId, size);
+    }
+}
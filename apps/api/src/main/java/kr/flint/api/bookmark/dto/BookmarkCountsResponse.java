@@ -0,0 +1,12 @@
+package kr.flint.api.bookmark.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+@Schema(description = "컬렉션별 북마크 수")
+public record BookmarkCountsResponse(
+        @Schema(description = "컬렉션 ID → 북마크 수 (요청 순서)")
+        Map<Long, Long> counts
+) {
+}
@@ -0,0 +1,29 @@
+package kr.flint.api.bookmark.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import kr.flint.bookmark.dto.RecentView;
+
+import java.time.Instant;
+import java.util.List;
+
+@Schema(description = "최근 조회한 컬렉션")
+public record RecentViewsResponse(
+        @Schema(description = "최신순")
+        List<Item> items
+) {
+
+    public static RecentViewsResponse from(List<RecentView> views) {
+        return new RecentViewsResponse(views.stream()
+                .map(view -> new Item(view.collectionId(), view.viewedAt()))
+                .toList());
+    }
+
+    public record Item(
+            @Schema(description = "컬렉션 ID")
+            Long collectionId,
+
+            @Schema(description = "마지막 조회 시각")
+            Instant viewedAt
+    ) {
+    }
+}
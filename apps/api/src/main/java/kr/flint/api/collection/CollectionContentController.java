@@ -0,0 +1,78 @@
+package kr.flint.api.collection;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import kr.flint.api.collection.dto.AddCollectionContentsResponse;
+import kr.flint.api.collection.dto.CollectionContentsRequest;
+import kr.flint.api.collection.dto.MoveCollectionContentRequest;
+import kr.flint.api.http.ConditionalGet;
+import kr.flint.shared.dto.PaginationResponse;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Collection Content", description = "컬렉션 콘텐츠")
+@RestController
+@RequestMapping("/api/v1/collections/{collectionId}/contents")
+@RequiredArgsConstructor
+public class CollectionContentController {
+
+    private final CollectionContentFacade collectionContentFacade;
+
+    @Operation(summary = "콘텐츠 목록 조회", description = "컬렉션에 담긴 순서대로 콘텐츠 ID를 조회합니다. size는 최대 100입니다. "
+            + "ETag/Last-Modified를 주며, If-None-Match 또는 If-Modified-Since가 맞으면 304를 반환합니다.")
+    @ConditionalGet
+    @GetMapping
+    public PaginationResponse<Long> getContentIds(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable Long collectionId,
+            @RequestParam(required = false) @Nullable String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return collectionContentFacade.getContentIds(userId, collectionId, cursor, size);
+    }
+
+    @Operation(summary = "콘텐츠 일괄 추가", description = "내 콘텐츠를 요청 순서대로 컬렉션 끝에 담습니다. 이미 담긴 콘텐츠는 건너뜁니다.")
+    @PostMapping
+    public AddCollectionContentsResponse addContents(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable Long collectionId,
+            @RequestBody @Valid CollectionContentsRequest request
+    ) {
+        return collectionContentFacade.addContents(userId, collectionId, request.contentIds());
+    }
+
+    @Operation(summary = "콘텐츠 순서 변경", description = "컬렉션의 모든 콘텐츠 ID를 원하는 순서로 보냅니다.")
+    @PutMapping("/order")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void reorder(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable Long collectionId,
+            @RequestBody @Valid CollectionContentsRequest request
+    ) {
+        collectionContentFacade.reorder(userId, collectionId, request.contentIds());
+    }
+
+    @Operation(summary = "콘텐츠 이동", description = "콘텐츠 하나를 afterContentId 바로 뒤로 옮깁니다. afterContentId가 없으면 맨 앞으로 옮깁니다.")
+    @PutMapping("/{contentId}/position")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void move(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable Long collectionId,
+            @PathVariable Long contentId,
+            @RequestBody MoveCollectionContentRequest request
+    ) {
+        collectionContentFacade.move(userId, collectionId, contentId, request.afterContentId());
+    }
+}
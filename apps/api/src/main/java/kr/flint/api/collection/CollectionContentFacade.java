@@ -0,0 +1,36 @@
+package kr.flint.api.collection;
+
+import kr.flint.api.collection.dto.AddCollectionContentsResponse;
+import kr.flint.collection.service.CollectionContentService;
+import kr.flint.content.service.ContentService;
+import kr.flint.shared.dto.PaginationResponse;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CollectionContentFacade {
+
+    private final CollectionContentService collectionContentService;
+    private final ContentService contentService;
+
+    public AddCollectionContentsResponse addContents(Long userId, Long collectionId, List<Long> contentIds) {
+        contentService.checkOwned(userId, contentIds);
+        return new AddCollectionContentsResponse(collectionContentService.addContents(userId, collectionId, contentIds));
+    }
+
+    public void reorder(Long userId, Long collectionId, List<Long> contentIds) {
+        collectionContentService.reorder(userId, collectionId, contentIds);
+    }
+
+    public void move(Long userId, Long collectionId, Long contentId, @Nullable Long afterContentId) {
+        collectionContentService.move(userId, collectionId, contentId, afterContentId);
+    }
+
+    public PaginationResponse<Long> getContentIds(Long userId, Long collectionId, @Nullable String cursor, int size) {
+        return PaginationResponse.ofCursor(collectionContentService.getContentIds(userId, collectionId, cursor, size));
+    }
+}
@@ -0,0 +1,10 @@
+package kr.flint.api.collection.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "컬렉션 콘텐츠 추가 결과")
+public record AddCollectionContentsResponse(
+        @Schema(description = "새로 담긴 콘텐츠 수 (이미 담긴 콘텐츠 제외)")
+        int addedCount
+) {
+}
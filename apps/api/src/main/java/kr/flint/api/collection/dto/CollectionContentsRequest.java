@@ -0,0 +1,18 @@
+package kr.flint.api.collection.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import kr.flint.collection.service.CollectionContentService;
+
+import java.util.List;
+
+@Schema(description = "컬렉션 콘텐츠 목록")
+public record CollectionContentsRequest(
+        @Schema(description = "콘텐츠 ID (순서대로, 최대 1000개)")
+        @NotEmpty
+        @Size(max = CollectionContentService.MAX_BULK_SIZE)
+        List<@NotNull Long> contentIds
+) {
+}
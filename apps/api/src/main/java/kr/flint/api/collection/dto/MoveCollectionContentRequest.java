@@ -0,0 +1,11 @@
+package kr.flint.api.collection.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.jspecify.annotations.Nullable;
+
+@Schema(description = "콘텐츠 이동")
+public record MoveCollectionContentRequest(
+        @Schema(description = "이 콘텐츠 바로 뒤로 옮깁니다. 비우면 맨 앞으로 옮깁니다.")
+        @Nullable Long afterContentId
+) {
+}
@@ -0,0 +1,35 @@
+package kr.flint.api.concurrent;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 응답을 구성하는 독립적인 조회 단위.
+ *
+ * @param name             섹션 이름 (로그/메트릭)
+ * @param deadline         조회 시작부터 허용하는 최대 시간. 초과하면 fallback 사용
+ * @param loader           실제 조회
+ * @param fallback         실패/타임아웃 시 마지막 성공 값도 없을 때 사용할 값
+ * @param lastGoodCacheKey 지정하면 성공 값을 캐시에 보관하고 실패 시 우선 사용
+ */
+public record Section<T>(
+        String name,
+        Duration deadline,
+        Supplier<T> loader,
+        Supplier<T> fallback,
+        @Nullable String lastGoodCacheKey
+) {
+
+    public static <T> Section<T> of(String name, Duration deadline, Supplier<T> loader, Supplier<T> fallback) {
+        return new Section<>(name, deadline, loader, fallback, null);
+    }
+
+    /**
+     * 실패 시 같은 키로 마지막에 성공한 값을 제공
+     */
+    public Section<T> withLastGood(String cacheKey) {
+        return new Section<>(name, deadline, loader, fallback, name + ":" + cacheKey);
+    }
+}
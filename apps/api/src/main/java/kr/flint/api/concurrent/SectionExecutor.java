@@ -0,0 +1,54 @@
+package kr.flint.api.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 여러 섹션을 가상 스레드에서 동시에 조회하는 실행기.
+ * 응답 지연은 섹션 지연의 합이 아니라 가장 느린 섹션(최대 deadline)으로 제한된다.
+ * <p>
+ * 섹션/요청 시간과 fallback 횟수는 facade 태그로 {@link kr.flint.api.metrics.FacadeMetrics}에 기록된다.
+ *
+ * <pre>
+ * try (SectionScope scope = sectionExecutor.open("home")) {
+ *     SectionResult&lt;A&gt; a = scope.fork(sectionA);
+ *     SectionResult&lt;B&gt; b = scope.fork(sectionB);
+ *     return new Response(a.get(), b.get());
+ * }
+ * </pre>
+ */
+@Component
+public class SectionExecutor {
+
+    public static final String LAST_GOOD_CACHE_NAME = "section-last-good";
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+    private final MeterRegistry meterRegistry;
+
+    public SectionExecutor(ObjectProvider<CacheManager> cacheManagerProvider, MeterRegistry meterRegistry) {
+        this.cacheManagerProvider = cacheManagerProvider;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public SectionScope open(String facade) {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        Cache lastGoodCache = cacheManager == null ? null : cacheManager.getCache(LAST_GOOD_CACHE_NAME);
+        return new SectionScope(executor, lastGoodCache, meterRegistry, facade);
+    }
+
+    /**
+     * 종료 시 남은 섹션을 인터럽트한다. 요청은 이미 끝났거나 곧 deadline에 걸리므로 기다리지 않는다
+     */
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+}
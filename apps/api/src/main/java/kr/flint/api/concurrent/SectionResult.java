@@ -0,0 +1,10 @@
+package kr.flint.api.concurrent;
+
+/**
+ * fork된 섹션의 결과. {@link #get()}은 섹션 deadline까지만 기다리고 이후에는 fallback을 반환한다.
+ */
+@FunctionalInterface
+public interface SectionResult<T> {
+
+    T get();
+}
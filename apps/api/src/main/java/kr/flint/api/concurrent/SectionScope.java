@@ -0,0 +1,146 @@
+package kr.flint.api.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.flint.api.metrics.FacadeMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.Cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 한 요청 안에서 fork한 섹션들의 생명주기. close 시 끝나지 않은 섹션은 인터럽트한다.
+ * <p>
+ * 섹션은 요청 스레드가 아닌 가상 스레드에서 실행되므로 SecurityContext, 요청 스코프 빈에 의존하지 않아야 한다.
+ * 필요한 값(userId 등)은 loader에 직접 전달한다.
+ * <p>
+ * open부터 close까지가 {@code facade.request} 한 건으로 기록된다.
+ */
+@Slf4j
+public class SectionScope implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final @Nullable Cache lastGoodCache;
+    private final MeterRegistry meterRegistry;
+    private final String facade;
+    private final long openedAtNanos = System.nanoTime();
+    private final List<Future<?>> tasks = new ArrayList<>();
+
+    SectionScope(ExecutorService executor, @Nullable Cache lastGoodCache, MeterRegistry meterRegistry, String facade) {
+        this.executor = executor;
+        this.lastGoodCache = lastGoodCache;
+        this.meterRegistry = meterRegistry;
+        this.facade = facade;
+    }
+
+    public <T> SectionResult<T> fork(Section<T> section) {
+        long deadlineNanos = System.nanoTime() + section.deadline().toNanos();
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        Future<?> task = executor.submit(() -> {
+            long startedAt = System.nanoTime();
+            try {
+                T value = section.loader().get();
+                recordSection(section, "success", startedAt);
+                result.complete(value);
+                saveLastGood(section, value);
+            } catch (Throwable e) {
+                recordSection(section, "error", startedAt);
+                result.completeExceptionally(e);
+            }
+        });
+        tasks.add(task);
+
+        return new Awaiting<>(section, result, task, deadlineNanos);
+    }
+
+    @Override
+    public void close() {
+        for (Future<?> task : tasks) {
+            task.cancel(true);
+        }
+        FacadeMetrics.request(meterRegistry, facade).record(System.nanoTime() - openedAtNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void recordSection(Section<?> section, String outcome, long startedAt) {
+        FacadeMetrics.section(meterRegistry, facade, section.name(), outcome)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private <T> void saveLastGood(Section<T> section, @Nullable T value) {
+        if (lastGoodCache == null || section.lastGoodCacheKey() == null || value == null) {
+            return;
+        }
+        try {
+            lastGoodCache.put(section.lastGoodCacheKey(), value);
+        } catch (RuntimeException e) {
+            log.warn("섹션 마지막 성공 값 저장 실패: {}", section.name(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T fallback(Section<T> section) {
+        if (lastGoodCache != null && section.lastGoodCacheKey() != null) {
+            try {
+                Cache.ValueWrapper lastGood = lastGoodCache.get(section.lastGoodCacheKey());
+                if (lastGood != null && lastGood.get() != null) {
+                    return (T) lastGood.get();
+                }
+            } catch (RuntimeException e) {
+                log.warn("섹션 마지막 성공 값 조회 실패: {}", section.name(), e);
+            }
+        }
+        return section.fallback().get();
+    }
+
+    private final class Awaiting<T> implements SectionResult<T> {
+
+        private final Section<T> section;
+        private final CompletableFuture<T> result;
+        private final Future<?> task;
+        private final long deadlineNanos;
+
+        private boolean resolved;
+        private @Nullable T value;
+
+        private Awaiting(Section<T> section, CompletableFuture<T> result, Future<?> task, long deadlineNanos) {
+            this.section = section;
+            this.result = result;
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public T get() {
+            if (!resolved) {
+                value = await();
+                resolved = true;
+            }
+            return value;
+        }
+
+        private T await() {
+            try {
+                long remaining = Math.max(0, deadlineNanos - System.nanoTime());
+                return result.get(remaining, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                task.cancel(true);
+                FacadeMetrics.fallback(meterRegistry, facade, section.name(), "timeout").increment();
+                log.warn("섹션 조회 시간 초과: {} ({}ms)", section.name(), section.deadline().toMillis());
+            } catch (ExecutionException e) {
+                FacadeMetrics.fallback(meterRegistry, facade, section.name(), "error").increment();
+                log.warn("섹션 조회 실패: {}", section.name(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return fallback(section);
+        }
+    }
+}
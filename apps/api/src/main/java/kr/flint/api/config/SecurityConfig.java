@@ -1,13 +1,23 @@
 package kr.flint.api.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.flint.api.security.JwtAuthenticationFilter;
+import kr.flint.api.security.ProblemDetailAuthenticationEntryPoint;
+import kr.flint.auth.service.AccessTokenService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -19,6 +29,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private final AccessTokenService accessTokenService;
+    private final ObjectMapper objectMapper;
+
     private static final String[] PUBLIC_ENDPOINTS = {
             "/swagger-ui/**",
             "/v3/api-docs/**",
@@ -27,13 +40,48 @@ public class SecurityConfig {
             "/actuator/info"
     };
 
+    private static final String METRICS_ENDPOINT = "/actuator/prometheus";
+    private static final String METRICS_ROLE = "METRICS";
+
+    /**
+     * Prometheus 스크랩 전용 체인. 수집기 계정 하나만 Basic 인증으로 통과시킨다.
+     * 사용자 인증과 섞이지 않도록 계정 저장소는 이 체인에만 둔다.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain metricsSecurityFilterChain(
+            HttpSecurity http,
+            @Value("${metrics.scrape.username:prometheus}") String username,
+            @Value("${metrics.scrape.password}") String password
+    ) throws Exception {
+        InMemoryUserDetailsManager scraper = new InMemoryUserDetailsManager(User.withUsername(username)
+                .password(password.startsWith("{") ? password : "{noop}" + password)
+                .roles(METRICS_ROLE)
+                .build());
+        return http
+                .securityMatcher(METRICS_ENDPOINT)
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .userDetailsService(scraper)
+                .httpBasic(Customizer.withDefaults())
+                .authorizeHttpRequests(auth -> auth
+                        .anyRequest().hasRole(METRICS_ROLE))
+                .build();
+    }
+
     @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         return http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                // 필터 빈으로 등록하면 서블릿 필터로도 한 번 더 등록되므로 체인에만 추가한다
+                .addFilterBefore(new JwtAuthenticationFilter(accessTokenService), UsernamePasswordAuthenticationFilter.class)
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint(new ProblemDetailAuthenticationEntryPoint(objectMapper)))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(PUBLIC_ENDPOINTS).permitAll()
                         .anyRequest().authenticated())
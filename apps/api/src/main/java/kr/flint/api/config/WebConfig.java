@@ -0,0 +1,20 @@
+package kr.flint.api.config;
+
+import kr.flint.api.http.CollectionConditionalGetInterceptor;
+import kr.flint.collection.service.CollectionVersions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final CollectionVersions collectionVersions;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new CollectionConditionalGetInterceptor(collectionVersions));
+    }
+}
@@ -0,0 +1,39 @@
+package kr.flint.api.discovery;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.flint.api.discovery.dto.RandomCollectionsResponse;
+import kr.flint.api.discovery.dto.RecommendedCollectionsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Discovery", description = "탐색")
+@RestController
+@RequestMapping("/api/v1/discovery")
+@RequiredArgsConstructor
+public class DiscoveryController {
+
+    private final DiscoveryQueryFacade discoveryQueryFacade;
+
+    @Operation(summary = "무작위 공개 컬렉션 조회", description = "최근 노출한 컬렉션을 제외하고 공개 컬렉션을 무작위로 조회합니다. size는 최대 50입니다.")
+    @GetMapping("/collections/random")
+    public RandomCollectionsResponse getRandomCollections(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return discoveryQueryFacade.getRandomCollections(userId, size);
+    }
+
+    @Operation(summary = "추천 컬렉션 조회", description = "취향 키워드가 겹치는 사용자의 공개 컬렉션을 추천합니다. size는 최대 50입니다.")
+    @GetMapping("/collections/recommended")
+    public RecommendedCollectionsResponse getRecommendedCollections(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return discoveryQueryFacade.getRecommendedCollections(userId, size);
+    }
+}
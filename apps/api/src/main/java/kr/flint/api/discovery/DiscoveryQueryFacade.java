@@ -1,15 +1,36 @@
 package kr.flint.api.discovery;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.flint.api.discovery.dto.RandomCollectionsResponse;
+import kr.flint.api.discovery.dto.RecommendedCollectionsResponse;
+import kr.flint.api.metrics.FacadeMetrics;
+import kr.flint.api.recommendation.CollectionRecommender;
+import kr.flint.collection.service.CollectionDiscoveryService;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 @Service
+@RequiredArgsConstructor
 public class DiscoveryQueryFacade {
 
     // TODO: MVP에서는 apps:api에서 여러 모듈의 Service를 조합하여 구현
     // 추후 규모가 커지면 modules:discovery로 분리 가능
     //
     // 주요 기능:
-    // - 공개 컬렉션 랜덤/샘플링 조회 (CollectionService)
-    // - 추천 컬렉션 조회 (CollectionService + 추천 로직)
+    // - 공개 컬렉션 랜덤/샘플링 조회 (CollectionDiscoveryService, 메모리 풀에서 O(k) 샘플)
+    // - 추천 컬렉션 조회 (CollectionRecommender: 취향 인덱스 + 공개 컬렉션 풀)
 
+    private final CollectionDiscoveryService collectionDiscoveryService;
+    private final CollectionRecommender collectionRecommender;
+    private final MeterRegistry meterRegistry;
+
+    public RandomCollectionsResponse getRandomCollections(Long userId, int size) {
+        return FacadeMetrics.request(meterRegistry, "discovery.random").record(() ->
+                new RandomCollectionsResponse(collectionDiscoveryService.samplePublicCollectionIds(userId, size)));
+    }
+
+    public RecommendedCollectionsResponse getRecommendedCollections(Long userId, int size) {
+        return FacadeMetrics.request(meterRegistry, "discovery.recommended").record(() ->
+                new RecommendedCollectionsResponse(collectionRecommender.recommend(userId, size)));
+    }
 }
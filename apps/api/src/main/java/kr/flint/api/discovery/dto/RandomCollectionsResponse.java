@@ -0,0 +1,12 @@
+package kr.flint.api.discovery.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "무작위 공개 컬렉션")
+public record RandomCollectionsResponse(
+        @Schema(description = "공개 컬렉션 ID (최근 노출한 컬렉션 제외)")
+        List<Long> collectionIds
+) {
+}
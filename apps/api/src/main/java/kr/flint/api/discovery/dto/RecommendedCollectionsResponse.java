@@ -0,0 +1,12 @@
+package kr.flint.api.discovery.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "추천 컬렉션")
+public record RecommendedCollectionsResponse(
+        @Schema(description = "추천 컬렉션 ID (취향 키워드가 많이 겹치는 순)")
+        List<Long> collectionIds
+) {
+}
@@ -0,0 +1,25 @@
+package kr.flint.api.home;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.flint.api.home.dto.HomeResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Home", description = "홈 화면")
+@RestController
+@RequestMapping("/api/v1/home")
+@RequiredArgsConstructor
+public class HomeController {
+
+    private final HomeQueryFacade homeQueryFacade;
+
+    @Operation(summary = "홈 화면 조회", description = "추천 컬렉션, 최근 북마크한 콘텐츠, 북마크한 컬렉션을 한 번에 조회합니다.")
+    @GetMapping
+    public HomeResponse getHome(@AuthenticationPrincipal Long userId) {
+        return homeQueryFacade.getHome(userId);
+    }
+}
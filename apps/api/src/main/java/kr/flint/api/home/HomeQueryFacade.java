@@ -1,7 +1,27 @@
 package kr.flint.api.home;
 
+import kr.flint.api.concurrent.Section;
+import kr.flint.api.concurrent.SectionExecutor;
+import kr.flint.api.concurrent.SectionResult;
+import kr.flint.api.concurrent.SectionScope;
+import kr.flint.api.home.dto.HomeResponse;
+import kr.flint.api.recommendation.CollectionRecommender;
+import kr.flint.bookmark.service.BookmarkService;
+import kr.flint.collection.dto.CollectionSearchSource;
+import kr.flint.collection.service.CollectionService;
+import kr.flint.content.service.ContentService;
+import kr.flint.shared.loader.BatchLoader;
+import kr.flint.shared.loader.BatchLoaderContext;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 public class HomeQueryFacade {
 
@@ -9,8 +29,90 @@ public class HomeQueryFacade {
     // 추후 규모가 커지면 modules:home으로 분리 가능
     //
     // 주요 기능:
-    // - 추천 컬렉션 조회 (CollectionService)
-    // - 최근 북마크한 콘텐츠 조회 (BookmarkService + ContentService)
-    // - 북마크한 컬렉션 조회 (BookmarkService + CollectionService)
+    // - 추천 컬렉션 조회 (CollectionRecommender: 취향 인덱스 + 공개 컬렉션 풀)
+    // - 최근 북마크한(저장한) 콘텐츠 조회 (ContentService)
+    // - 북마크한 컬렉션 조회 (BookmarkService + CollectionService, BatchLoaderContext로 IN 조회 한 번)
+    //
+    // 각 섹션은 동시에 조회하며, 섹션별 deadline을 넘기면 마지막 성공 값(없으면 빈 목록)으로 대체한다.
+
+    private static final int RECOMMENDED_COLLECTION_SIZE = 10;
+    private static final int RECENT_CONTENT_SIZE = 10;
+    private static final int BOOKMARKED_COLLECTION_SIZE = 10;
+
+    private final SectionExecutor sectionExecutor;
+    private final CollectionRecommender collectionRecommender;
+    private final BookmarkService bookmarkService;
+    private final ContentService contentService;
+    private final CollectionService collectionService;
+    private final Duration recommendedDeadline;
+    private final Duration recentBookmarkDeadline;
+    private final Duration bookmarkedCollectionDeadline;
+
+    public HomeQueryFacade(
+            SectionExecutor sectionExecutor,
+            CollectionRecommender collectionRecommender,
+            BookmarkService bookmarkService,
+            ContentService contentService,
+            CollectionService collectionService,
+            @Value("${home.sections.recommended-collections.deadline:300ms}") Duration recommendedDeadline,
+            @Value("${home.sections.recent-bookmarked-contents.deadline:200ms}") Duration recentBookmarkDeadline,
+            @Value("${home.sections.bookmarked-collections.deadline:200ms}") Duration bookmarkedCollectionDeadline
+    ) {
+        this.sectionExecutor = sectionExecutor;
+        this.collectionRecommender = collectionRecommender;
+        this.bookmarkService = bookmarkService;
+        this.contentService = contentService;
+        this.collectionService = collectionService;
+        this.recommendedDeadline = recommendedDeadline;
+        this.recentBookmarkDeadline = recentBookmarkDeadline;
+        this.bookmarkedCollectionDeadline = bookmarkedCollectionDeadline;
+    }
+
+    public HomeResponse getHome(Long userId) {
+        // 섹션마다 다른 가상 스레드에서 키를 등록하고 dispatch하므로 요청당 하나를 공유한다 (스레드 안전)
+        BatchLoaderContext loaders = new BatchLoaderContext();
+        BatchLoader<Long, CollectionSearchSource> collections = loaders.register(ids -> collectionService.findSearchSources(ids)
+                .stream()
+                .collect(Collectors.toMap(CollectionSearchSource::id, Function.identity())));
+
+        try (SectionScope scope = sectionExecutor.open("home")) {
+            SectionResult<List<Long>> recommended = scope.fork(
+                    Section.of("home.recommended-collections", recommendedDeadline,
+                                    () -> findRecommendedCollectionIds(userId), List::of)
+                            .withLastGood(String.valueOf(userId)));
+
+            SectionResult<List<Long>> recentBookmarked = scope.fork(
+                    Section.of("home.recent-bookmarked-contents", recentBookmarkDeadline,
+                            () -> findRecentBookmarkedContentIds(userId), List::of));
+
+            SectionResult<List<Long>> bookmarkedCollections = scope.fork(
+                    Section.of("home.bookmarked-collections", bookmarkedCollectionDeadline,
+                            () -> findBookmarkedCollectionIds(userId, collections, loaders), List::of));
+
+            return new HomeResponse(recommended.get(), recentBookmarked.get(), bookmarkedCollections.get());
+        }
+    }
+
+    private List<Long> findRecommendedCollectionIds(Long userId) {
+        return collectionRecommender.recommend(userId, RECOMMENDED_COLLECTION_SIZE);
+    }
+
+    private List<Long> findRecentBookmarkedContentIds(Long userId) {
+        return contentService.findRecentIds(userId, RECENT_CONTENT_SIZE);
+    }
 
+    /**
+     * 북마크 이후 삭제되었거나 남의 비공개 컬렉션이 된 것은 뺀다
+     */
+    private List<Long> findBookmarkedCollectionIds(
+            Long userId, BatchLoader<Long, CollectionSearchSource> collections, BatchLoaderContext loaders
+    ) {
+        List<Long> bookmarked = bookmarkService.findBookmarkedCollectionIds(userId, BOOKMARKED_COLLECTION_SIZE);
+        CompletableFuture<Map<Long, CollectionSearchSource>> loaded = collections.loadMany(bookmarked);
+        loaders.dispatch();
+        return loaded.join().values().stream()
+                .filter(collection -> collection.isPublic() || collection.userId().equals(userId))
+                .map(CollectionSearchSource::id)
+                .toList();
+    }
 }
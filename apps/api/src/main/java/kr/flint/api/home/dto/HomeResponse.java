@@ -0,0 +1,18 @@
+package kr.flint.api.home.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "홈 화면 응답")
+public record HomeResponse(
+        @Schema(description = "추천 컬렉션 ID 목록")
+        List<Long> recommendedCollectionIds,
+
+        @Schema(description = "최근 북마크한 콘텐츠 ID 목록")
+        List<Long> recentBookmarkedContentIds,
+
+        @Schema(description = "북마크한 컬렉션 ID 목록")
+        List<Long> bookmarkedCollectionIds
+) {
+}
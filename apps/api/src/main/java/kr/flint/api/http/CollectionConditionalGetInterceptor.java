@@ -0,0 +1,88 @@
+package kr.flint.api.http;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.flint.collection.dto.CollectionVersion;
+import kr.flint.collection.service.CollectionVersions;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ConditionalGet} 핸들러의 조건부 GET.
+ * <p>
+ * 파사드를 부르기 전에 {@link CollectionVersions}의 버전 스탬프(Redis HMGET 한 번)로 검증자를 만들고,
+ * If-None-Match/If-Modified-Since가 맞으면 조회와 직렬화 없이 304로 끝낸다.
+ * <ul>
+ *     <li>ETag: {@code W/"<version>"}. 캐시는 URL(쿼리 포함)별로 보관하므로 같은 버전이면 같은 본문이다</li>
+ *     <li>Last-Modified: 버전(epoch 초). 같은 초에 바뀌어도 버전이 1초씩 커지므로 초 단위 비교로 충분하다</li>
+ *     <li>Cache-Control: 공개 컬렉션은 보는 사람과 무관하므로 {@code public}, 비공개는 {@code private}. 모두 매번 재검증한다</li>
+ * </ul>
+ * 읽을 수 없는 컬렉션이거나 버전을 모르면 아무 헤더도 쓰지 않고 파사드에 맡긴다 (404 등).
+ */
+@RequiredArgsConstructor
+public class CollectionConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final CacheControl PUBLIC = CacheControl.maxAge(0, TimeUnit.SECONDS).cachePublic().mustRevalidate();
+    private static final CacheControl PRIVATE = CacheControl.maxAge(0, TimeUnit.SECONDS).cachePrivate().mustRevalidate();
+
+    private final CollectionVersions collectionVersions;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        ConditionalGet conditionalGet = method.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null || !isGetOrHead(request)) {
+            return true;
+        }
+        Long collectionId = pathVariable(request, conditionalGet.collectionIdVariable());
+        Long viewerId = viewerId();
+        if (collectionId == null || viewerId == null) {
+            return true;
+        }
+        CollectionVersion version = collectionVersions.find(collectionId);
+        if (version == null || !version.isReadableBy(viewerId)) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, (version.isPublic() ? PUBLIC : PRIVATE).getHeaderValue());
+        String etag = "W/\"" + version.version() + "\"";
+        // 304면 ETag/Last-Modified를 쓰고 상태를 바꾼 뒤 true, 아니면 헤더만 쓴다
+        return !new ServletWebRequest(request, response)
+                .checkNotModified(etag, TimeUnit.SECONDS.toMillis(version.version()));
+    }
+
+    private static boolean isGetOrHead(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+    private static @Nullable Long pathVariable(HttpServletRequest request, String name) {
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (!(variables instanceof Map<?, ?> map) || !(map.get(name) instanceof String value)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static @Nullable Long viewerId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof Long userId ? userId : null;
+    }
+}
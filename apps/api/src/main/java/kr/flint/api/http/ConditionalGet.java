@@ -0,0 +1,24 @@
+package kr.flint.api.http;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컬렉션 버전으로 조건부 GET(ETag/Last-Modified)을 처리할 핸들러.
+ * 응답 본문이 경로의 컬렉션과 그 콘텐츠 목록, 쿼리 파라미터로만 정해지는 조회에만 붙인다.
+ *
+ * @see CollectionConditionalGetInterceptor
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+
+    /**
+     * 컬렉션 ID를 담은 경로 변수 이름
+     */
+    String collectionIdVariable() default "collectionId";
+}
@@ -0,0 +1,44 @@
+package kr.flint.api.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Facade 지표 이름과 태그. 히스토그램 여부는 management.metrics.distribution(facade.*)에서 정한다.
+ * <ul>
+ *     <li>{@code facade.request{facade}}: Facade 메서드 하나의 전체 처리 시간</li>
+ *     <li>{@code facade.section{facade, section, outcome}}: 섹션 loader 실행 시간 (outcome: success, error)</li>
+ *     <li>{@code facade.section.fallbacks{facade, section, reason}}: fallback으로 대체된 횟수 (reason: timeout, error)</li>
+ * </ul>
+ */
+public final class FacadeMetrics {
+
+    private FacadeMetrics() {
+    }
+
+    public static Timer request(MeterRegistry registry, String facade) {
+        return Timer.builder("facade.request")
+                .description("Facade 처리 시간")
+                .tag("facade", facade)
+                .register(registry);
+    }
+
+    public static Timer section(MeterRegistry registry, String facade, String section, String outcome) {
+        return Timer.builder("facade.section")
+                .description("섹션 조회 시간")
+                .tag("facade", facade)
+                .tag("section", section)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    public static Counter fallback(MeterRegistry registry, String facade, String section, String reason) {
+        return Counter.builder("facade.section.fallbacks")
+                .description("fallback으로 대체된 섹션")
+                .tag("facade", facade)
+                .tag("section", section)
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
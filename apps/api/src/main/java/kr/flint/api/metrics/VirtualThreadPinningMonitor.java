@@ -0,0 +1,120 @@
+package kr.flint.api.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드가 캐리어를 고정(pinning)한 구간을 JFR 이벤트({@code jdk.VirtualThreadPinned})로 감시.
+ * <p>
+ * Java 21에서는 synchronized 안에서 블로킹하면 가상 스레드가 캐리어를 놓지 못해, 캐리어 수(코어 수)만큼만 동시에 진행한다.
+ * threshold보다 오래 고정된 구간을 스택에서 처음 만나는 우리 코드 프레임별로 {@code jvm.threads.virtual.pinned} 타이머(tag: frame)에 기록하고,
+ * 프레임마다 처음 한 번은 스택과 함께 경고 로그를 남긴다. 우리 코드가 스택에 없으면 frame=other.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "spring.threads.virtual", name = "enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    public static final String METRIC = "jvm.threads.virtual.pinned";
+    public static final String OTHER = "other";
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "kr.flint.";
+    private static final int MAX_FRAMES = 200;
+    private static final int LOGGED_STACK_DEPTH = 20;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Set<String> reported = ConcurrentHashMap.newKeySet();
+
+    private @Nullable RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${virtual-threads.pinning.threshold:20ms}") Duration threshold
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("가상 스레드 고정 감시 시작 (threshold {})", threshold);
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        if (recording != null) {
+            recording.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = frames(event.getStackTrace());
+        String frame = firstAppFrame(frames);
+        timer(frame).record(event.getDuration());
+
+        if (reported.add(frame)) {
+            log.warn("가상 스레드 캐리어 고정 {}ms: {}\n{}", event.getDuration().toMillis(), frame, frames.stream()
+                    .limit(LOGGED_STACK_DEPTH)
+                    .map(f -> "\tat " + describe(f) + ":" + f.getLineNumber())
+                    .collect(Collectors.joining("\n")));
+        }
+    }
+
+    private Timer timer(String frame) {
+        // 프레임 태그가 한없이 늘지 않도록 상한을 넘으면 other로 모은다
+        String tag = timers.size() < MAX_FRAMES || timers.containsKey(frame) ? frame : OTHER;
+        return timers.computeIfAbsent(tag, key -> Timer.builder(METRIC)
+                .description("가상 스레드가 캐리어를 고정한 시간")
+                .tag("frame", key)
+                .register(meterRegistry));
+    }
+
+    private static List<RecordedFrame> frames(@Nullable RecordedStackTrace stackTrace) {
+        return stackTrace != null ? stackTrace.getFrames() : List.of();
+    }
+
+    private static String firstAppFrame(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(APP_PACKAGE)) {
+                return describe(frame);
+            }
+        }
+        return OTHER;
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+}
@@ -0,0 +1,50 @@
+package kr.flint.api.recommendation;
+
+import kr.flint.collection.service.CollectionDiscoveryService;
+import kr.flint.taste.service.TasteService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 취향 키워드 기반 컬렉션 추천.
+ * <p>
+ * 키워드가 많이 겹치는 사용자의 공개 컬렉션 순서로 추천하며, 부족한 만큼은 무작위 공개 컬렉션으로 채운다.
+ * 취향 인덱스와 공개 컬렉션 풀 모두 메모리에서 조회하므로 MySQL을 거치지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CollectionRecommender {
+
+    /**
+     * 한 사용자의 컬렉션이 추천 목록을 독차지하지 않도록 제한
+     */
+    private static final int PER_OWNER_LIMIT = 2;
+
+    private final TasteService tasteService;
+    private final CollectionDiscoveryService collectionDiscoveryService;
+
+    public List<Long> recommend(Long userId, int size) {
+        size = Math.clamp(size, 1, CollectionDiscoveryService.MAX_SAMPLE_SIZE);
+        List<Long> recommended = new ArrayList<>(collectionDiscoveryService.collectPublicCollectionIdsOwnedBy(
+                tasteService.findSimilarUsers(userId), size, PER_OWNER_LIMIT));
+        if (recommended.size() >= size) {
+            return recommended;
+        }
+
+        Set<Long> chosen = new HashSet<>(recommended);
+        for (Long id : collectionDiscoveryService.samplePublicCollectionIds(null, size)) {
+            if (recommended.size() >= size) {
+                break;
+            }
+            if (chosen.add(id)) {
+                recommended.add(id);
+            }
+        }
+        return recommended;
+    }
+}
@@ -0,0 +1,81 @@
+package kr.flint.api.search;
+
+import kr.flint.collection.dto.CollectionSearchSource;
+import kr.flint.collection.service.CollectionService;
+import kr.flint.search.dto.AutocompleteSource;
+import kr.flint.search.dto.AutocompleteType;
+import kr.flint.search.service.AutocompleteService;
+import kr.flint.taste.service.TasteService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 취향 키워드와 공개 컬렉션 제목으로 자동완성 색인을 주기적으로 다시 만든다.
+ * <p>
+ * - 키워드: 선택한 사용자 수가 인기도
+ * - 컬렉션 제목: 같은 제목의 공개 컬렉션 수가 인기도 (색인 빌드 시 합산)
+ * <p>
+ * 자동완성은 몇 분 늦어도 되므로 변경 이벤트를 따라가지 않고 전체 재구성만 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AutocompleteSynchronizer {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final AutocompleteService autocompleteService;
+    private final TasteService tasteService;
+    private final CollectionService collectionService;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Thread.ofVirtual().name("autocomplete-init").start(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("자동완성 색인 초기화 실패", e);
+            }
+        });
+    }
+
+    @Scheduled(
+            initialDelayString = "${search.autocomplete.rebuild-interval:10m}",
+            fixedDelayString = "${search.autocomplete.rebuild-interval:10m}"
+    )
+    public void rebuild() {
+        lock.lock();
+        try {
+            rebuildLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void rebuildLocked() {
+        List<AutocompleteSource> sources = new ArrayList<>();
+        tasteService.findKeywordPopularity().forEach(keyword ->
+                sources.add(new AutocompleteSource(AutocompleteType.KEYWORD, keyword.name(), keyword.userCount())));
+
+        for (List<CollectionSearchSource> page = collectionService.findSearchSourcesAfterId(0L, BATCH_SIZE);
+             !page.isEmpty();
+             page = collectionService.findSearchSourcesAfterId(page.getLast().id(), BATCH_SIZE)) {
+            page.stream()
+                    .filter(CollectionSearchSource::isPublic)
+                    .forEach(collection -> sources.add(
+                            new AutocompleteSource(AutocompleteType.COLLECTION, collection.title(), 1)));
+        }
+
+        int indexed = autocompleteService.replace(sources);
+        log.info("자동완성 색인 재구성: 후보 {}건 (원본 {}건)", indexed, sources.size());
+    }
+}
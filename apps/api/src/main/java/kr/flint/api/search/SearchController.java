@@ -0,0 +1,45 @@
+package kr.flint.api.search;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.flint.api.search.dto.AutocompleteResponse;
+import kr.flint.api.search.dto.SearchHitResponse;
+import kr.flint.search.dto.SearchType;
+import kr.flint.shared.dto.PaginationResponse;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Search", description = "검색")
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchQueryFacade searchQueryFacade;
+
+    @Operation(summary = "검색", description = "공개 컬렉션, 내 컬렉션, 내 콘텐츠의 제목/본문을 검색합니다. type을 생략하면 전체를 검색합니다.")
+    @GetMapping
+    public PaginationResponse<SearchHitResponse> search(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam String q,
+            @RequestParam(required = false) @Nullable SearchType type,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return searchQueryFacade.search(userId, q, type, page, size);
+    }
+
+    @Operation(summary = "자동완성", description = "공개 컬렉션 제목과 취향 키워드를 접두어로 찾습니다. 초성(예: ㅇㅎ)으로도 찾을 수 있으며 size는 최대 10입니다.")
+    @GetMapping("/autocomplete")
+    public AutocompleteResponse autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return searchQueryFacade.autocomplete(q, size);
+    }
+}
@@ -0,0 +1,240 @@
+package kr.flint.api.search;
+
+import kr.flint.collection.dto.CollectionSearchSource;
+import kr.flint.collection.event.CollectionChangedEvent;
+import kr.flint.collection.service.CollectionService;
+import kr.flint.content.dto.ContentSearchSource;
+import kr.flint.content.event.ContentChangedEvent;
+import kr.flint.content.service.ContentService;
+import kr.flint.search.dto.SearchDocument;
+import kr.flint.search.dto.SearchType;
+import kr.flint.search.service.SearchService;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * content/collection 모듈의 변경을 search 모듈 색인에 반영.
+ * <p>
+ * - 이 노드의 변경: 커밋 직후 이벤트로 다시 읽어 색인 (다음 refresh 주기에 검색 반영)
+ * - 다른 노드의 변경: updatedAt 워터마크 이후 변경분을 주기적으로 색인. 워터마크는 색인과 함께 디스크에 저장된다
+ * - 다른 노드에서 삭제된 행: 주기적인 전체 재구성으로 정리
+ */
+@Slf4j
+@Component
+public class SearchIndexSynchronizer {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String CONTENT_CHECKPOINT = "content.updated-at";
+    private static final String COLLECTION_CHECKPOINT = "collection.updated-at";
+
+    private final SearchService searchService;
+    private final ContentService contentService;
+    private final CollectionService collectionService;
+    private final Duration pollOverlap;
+
+    private volatile boolean initialized;
+
+    // 색인 중 DB 조회와 디스크 쓰기가 있으므로 가상 스레드를 고정하는 synchronized 대신 사용
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public SearchIndexSynchronizer(
+            SearchService searchService,
+            ContentService contentService,
+            CollectionService collectionService,
+            @Value("${search.index.poll-overlap:30s}") Duration pollOverlap
+    ) {
+        this.searchService = searchService;
+        this.contentService = contentService;
+        this.collectionService = collectionService;
+        this.pollOverlap = pollOverlap;
+    }
+
+    @TransactionalEventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        indexContents(contentService.findSearchSources(List.of(event.contentId())), List.of(event.contentId()));
+    }
+
+    @TransactionalEventListener
+    public void onCollectionChanged(CollectionChangedEvent event) {
+        indexCollections(collectionService.findSearchSources(List.of(event.collectionId())), List.of(event.collectionId()));
+    }
+
+    /**
+     * 색인이 비어 있으면 전체 재구성, 이전 워터마크가 있으면 그 이후만 따라잡는다. 시작을 막지 않도록 별도 스레드에서 수행.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Thread.ofVirtual().name("search-index-init").start(() -> {
+            try {
+                if (searchService.getCheckpoint(CONTENT_CHECKPOINT) == null
+                        || searchService.getCheckpoint(COLLECTION_CHECKPOINT) == null) {
+                    rebuild();
+                } else {
+                    initialized = true;
+                    poll();
+                }
+            } catch (RuntimeException e) {
+                log.error("검색 색인 초기화 실패", e);
+            }
+        });
+    }
+
+    @Scheduled(
+            initialDelayString = "${search.index.rebuild-interval:6h}",
+            fixedDelayString = "${search.index.rebuild-interval:6h}"
+    )
+    public void rebuild() {
+        lock.lock();
+        try {
+            rebuildLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void rebuildLocked() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long generation = searchService.beginRebuild();
+
+        int contents = 0;
+        for (List<ContentSearchSource> page = contentService.findSearchSourcesAfterId(0L, BATCH_SIZE);
+             !page.isEmpty();
+             page = contentService.findSearchSourcesAfterId(page.getLast().id(), BATCH_SIZE)) {
+            indexContents(page, List.of());
+            contents += page.size();
+        }
+
+        int collections = 0;
+        for (List<CollectionSearchSource> page = collectionService.findSearchSourcesAfterId(0L, BATCH_SIZE);
+             !page.isEmpty();
+             page = collectionService.findSearchSourcesAfterId(page.getLast().id(), BATCH_SIZE)) {
+            indexCollections(page, List.of());
+            collections += page.size();
+        }
+
+        searchService.setCheckpoint(CONTENT_CHECKPOINT, startedAt.toString());
+        searchService.setCheckpoint(COLLECTION_CHECKPOINT, startedAt.toString());
+        searchService.finishRebuild(generation);
+        initialized = true;
+        log.info("검색 색인 재구성: 콘텐츠 {}건, 컬렉션 {}건", contents, collections);
+    }
+
+    @Scheduled(
+            initialDelayString = "${search.index.poll-interval:5s}",
+            fixedDelayString = "${search.index.poll-interval:5s}"
+    )
+    public void poll() {
+        lock.lock();
+        try {
+            pollLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void pollLocked() {
+        if (!initialized) {
+            return;
+        }
+
+        boolean stalled = catchUp(CONTENT_CHECKPOINT,
+                since -> contentService.findSearchSourcesChangedSince(since, BATCH_SIZE),
+                ContentSearchSource::updatedAt,
+                page -> indexContents(page, List.of()));
+        stalled |= catchUp(COLLECTION_CHECKPOINT,
+                since -> collectionService.findSearchSourcesChangedSince(since, BATCH_SIZE),
+                CollectionSearchSource::updatedAt,
+                page -> indexCollections(page, List.of()));
+
+        if (stalled) {
+            // 한 페이지가 모두 같은 시각이면 워터마크로 더 진행할 수 없으므로 전체 재구성
+            rebuild();
+        }
+    }
+
+    /**
+     * @return 워터마크를 더 진행할 수 없으면 true
+     */
+    private <T> boolean catchUp(
+            String checkpoint,
+            Function<LocalDateTime, List<T>> changedSince,
+            Function<T, LocalDateTime> updatedAt,
+            Consumer<List<T>> indexer
+    ) {
+        LocalDateTime current = parse(searchService.getCheckpoint(checkpoint));
+        if (current == null) {
+            return false;
+        }
+
+        LocalDateTime since = current.minus(pollOverlap);
+        while (true) {
+            List<T> page = changedSince.apply(since);
+            if (page.isEmpty()) {
+                return false;
+            }
+            indexer.accept(page);
+
+            LocalDateTime last = updatedAt.apply(page.getLast());
+            if (last.isAfter(current)) {
+                current = last;
+                searchService.setCheckpoint(checkpoint, last.toString());
+            }
+            if (page.size() < BATCH_SIZE) {
+                return false;
+            }
+            if (!last.isAfter(since)) {
+                return true;
+            }
+            since = last;
+        }
+    }
+
+    /**
+     * @param requestedIds 조회를 요청한 ID. 조회되지 않은 ID는 삭제된 것으로 보고 색인에서 지운다
+     */
+    private void indexContents(List<ContentSearchSource> sources, Collection<Long> requestedIds) {
+        searchService.index(sources.stream()
+                .map(source -> SearchDocument.content(source.id(), source.userId(), source.title(), source.memo()))
+                .toList());
+        deleteMissing(SearchType.CONTENT, requestedIds, sources, ContentSearchSource::id);
+    }
+
+    private void indexCollections(List<CollectionSearchSource> sources, Collection<Long> requestedIds) {
+        searchService.index(sources.stream()
+                .map(source -> SearchDocument.collection(
+                        source.id(), source.userId(), source.isPublic(), source.title(), source.description()))
+                .toList());
+        deleteMissing(SearchType.COLLECTION, requestedIds, sources, CollectionSearchSource::id);
+    }
+
+    private <T> void deleteMissing(SearchType type, Collection<Long> requestedIds, List<T> found, Function<T, Long> idOf) {
+        if (requestedIds.isEmpty()) {
+            return;
+        }
+        Set<Long> missing = new HashSet<>(requestedIds);
+        found.forEach(source -> missing.remove(idOf.apply(source)));
+        if (!missing.isEmpty()) {
+            searchService.delete(type, missing);
+        }
+    }
+
+    private static @Nullable LocalDateTime parse(@Nullable String value) {
+        return value == null ? null : LocalDateTime.parse(value);
+    }
+}
@@ -0,0 +1,62 @@
+package kr.flint.api.search;
+
+import kr.flint.api.search.dto.AutocompleteResponse;
+import kr.flint.api.search.dto.SearchHitResponse;
+import kr.flint.collection.dto.CollectionSearchSource;
+import kr.flint.collection.service.CollectionService;
+import kr.flint.content.dto.ContentSearchSource;
+import kr.flint.content.service.ContentService;
+import kr.flint.search.dto.SearchHit;
+import kr.flint.search.dto.SearchType;
+import kr.flint.search.service.AutocompleteService;
+import kr.flint.search.service.SearchService;
+import kr.flint.shared.dto.PaginationResponse;
+import kr.flint.shared.loader.BatchLoader;
+import kr.flint.shared.loader.BatchLoaderContext;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class SearchQueryFacade {
+
+    private final SearchService searchService;
+    private final AutocompleteService autocompleteService;
+    private final ContentService contentService;
+    private final CollectionService collectionService;
+
+    /**
+     * 검색 결과의 제목은 종류별 IN 조회 한 번씩으로 채운다 (페이지 크기와 무관하게 최대 2회)
+     */
+    public PaginationResponse<SearchHitResponse> search(
+            Long userId, String query, @Nullable SearchType type, int page, int size
+    ) {
+        Slice<SearchHit> hits = searchService.search(userId, query, type, page, size);
+
+        BatchLoaderContext loaders = new BatchLoaderContext();
+        BatchLoader<Long, String> contentTitles = loaders.register(ids -> contentService.findSearchSources(ids).stream()
+                .collect(Collectors.toMap(ContentSearchSource::id, ContentSearchSource::title)));
+        BatchLoader<Long, String> collectionTitles = loaders.register(ids -> collectionService.findSearchSources(ids).stream()
+                .collect(Collectors.toMap(CollectionSearchSource::id, CollectionSearchSource::title)));
+
+        List<CompletableFuture<SearchHitResponse>> responses = hits.getContent().stream()
+                .map(hit -> (hit.type() == SearchType.CONTENT ? contentTitles : collectionTitles).load(hit.id())
+                        .thenApply(title -> SearchHitResponse.of(hit, title)))
+                .toList();
+        loaders.dispatch();
+
+        return PaginationResponse.ofOffsetSlice(new SliceImpl<>(
+                responses.stream().map(CompletableFuture::join).toList(), hits.getPageable(), hits.hasNext()));
+    }
+
+    public AutocompleteResponse autocomplete(String query, int size) {
+        return AutocompleteResponse.from(autocompleteService.suggest(query, size));
+    }
+}
@@ -0,0 +1,29 @@
+package kr.flint.api.search.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import kr.flint.search.dto.AutocompleteSuggestion;
+import kr.flint.search.dto.AutocompleteType;
+
+import java.util.List;
+
+@Schema(description = "자동완성")
+public record AutocompleteResponse(
+        @Schema(description = "인기도 순 후보")
+        List<Suggestion> suggestions
+) {
+
+    public static AutocompleteResponse from(List<AutocompleteSuggestion> suggestions) {
+        return new AutocompleteResponse(suggestions.stream()
+                .map(suggestion -> new Suggestion(suggestion.type(), suggestion.text()))
+                .toList());
+    }
+
+    public record Suggestion(
+            @Schema(description = "후보 종류")
+            AutocompleteType type,
+
+            @Schema(description = "후보 문장 (정규화된 소문자)")
+            String text
+    ) {
+    }
+}
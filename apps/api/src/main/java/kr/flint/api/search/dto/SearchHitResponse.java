@@ -0,0 +1,26 @@
+package kr.flint.api.search.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import kr.flint.search.dto.SearchHit;
+import kr.flint.search.dto.SearchType;
+import org.jspecify.annotations.Nullable;
+
+@Schema(description = "검색 결과")
+public record SearchHitResponse(
+        @Schema(description = "결과 종류")
+        SearchType type,
+
+        @Schema(description = "콘텐츠 또는 컬렉션 ID")
+        Long id,
+
+        @Schema(description = "제목 (색인 이후 삭제되었으면 null)")
+        @Nullable String title,
+
+        @Schema(description = "BM25 점수")
+        float score
+) {
+
+    public static SearchHitResponse of(SearchHit hit, @Nullable String title) {
+        return new SearchHitResponse(hit.type(), hit.id(), title, hit.score());
+    }
+}
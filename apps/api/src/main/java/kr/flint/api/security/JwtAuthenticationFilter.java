@@ -0,0 +1,59 @@
+package kr.flint.api.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.flint.auth.dto.AuthPrincipal;
+import kr.flint.auth.service.AccessTokenService;
+import kr.flint.shared.exception.GeneralException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Bearer 액세스 토큰 인증. principal은 userId(Long)이므로 컨트롤러에서 {@code @AuthenticationPrincipal Long userId}로 받는다.
+ * <p>
+ * 토큰이 잘못되어도 여기서 응답하지 않고 오류만 요청에 남긴다.
+ * 인증이 필요한 엔드포인트면 {@link ProblemDetailAuthenticationEntryPoint}가 그 오류로 401을 응답하고, 공개 엔드포인트는 그대로 처리된다.
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    static final String ERROR_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".error";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AccessTokenService accessTokenService;
+
+    public JwtAuthenticationFilter(AccessTokenService accessTokenService) {
+        this.accessTokenService = accessTokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            try {
+                AuthPrincipal principal = accessTokenService.verify(authorization.substring(BEARER_PREFIX.length()).trim());
+                SecurityContextHolder.getContext().setAuthentication(
+                        UsernamePasswordAuthenticationToken.authenticated(principal.userId(), null, authorities(principal)));
+            } catch (GeneralException e) {
+                request.setAttribute(ERROR_ATTRIBUTE, e.getErrorCode());
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static List<GrantedAuthority> authorities(AuthPrincipal principal) {
+        return principal.roles().stream()
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .toList();
+    }
+}
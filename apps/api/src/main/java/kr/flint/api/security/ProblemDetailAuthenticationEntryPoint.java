@@ -0,0 +1,38 @@
+package kr.flint.api.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.flint.shared.exception.AppError;
+import kr.flint.shared.exception.ErrorCode;
+import kr.flint.shared.exception.ProblemDetail;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+
+import java.io.IOException;
+
+/**
+ * 인증이 필요한 요청에 인증 정보가 없을 때 RFC 9457 형식으로 401 응답.
+ * 토큰 검증 오류가 있으면 그 오류 코드(만료/무효)를, 없으면 {@link ErrorCode#UNAUTHORIZED}를 쓴다.
+ */
+public class ProblemDetailAuthenticationEntryPoint implements AuthenticationEntryPoint {
+
+    private final ObjectMapper objectMapper;
+
+    public ProblemDetailAuthenticationEntryPoint(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authException)
+            throws IOException {
+        AppError error = request.getAttribute(JwtAuthenticationFilter.ERROR_ATTRIBUTE) instanceof AppError tokenError
+                ? tokenError
+                : ErrorCode.UNAUTHORIZED;
+
+        response.setStatus(error.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ProblemDetail.of(error, request.getRequestURI()));
+    }
+}
@@ -0,0 +1,211 @@
+package kr.flint.api.perf;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.flint.api.metrics.VirtualThreadPinningMonitor;
+import kr.flint.api.search.AutocompleteSynchronizer;
+import kr.flint.api.search.SearchIndexSynchronizer;
+import kr.flint.auth.service.AccessTokenService;
+import kr.flint.collection.service.PublicCollectionPoolSynchronizer;
+import kr.flint.taste.service.TasteIndexSynchronizer;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 전체 스택(MVC + Security + JPA + Redis) 지연 회귀 테스트.
+ * <p>
+ * MySQL/Redis 컨테이너로 앱을 띄우고 데이터셋을 넣은 뒤, 홈/탐색/검색/페이지네이션 엔드포인트에
+ * 고정 요청률 부하를 섞어 보내고 엔드포인트별 지연 예산(p50, p99)과 오류율을 검사한다.
+ * 사용자마다 액세스 토큰을 하나씩 발급해 실제 인증 필터를 거친다. 예열 구간의 결과는 버린다.
+ * <p>
+ * 부하 설정: {@code -Pperf.rate=200 -Pperf.duration=30s -Pperf.warmup=15s}.
+ * 요청 스레드는 {@code perf.threads}(platform, virtual)로 고르며, 가상 스레드에서는 우리 코드의 캐리어 고정도 없어야 한다.
+ * 보고서는 build/reports/perf/{threads}에 남는다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"local", "perf"})
+@Testcontainers
+class ApiLatencyPerfTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiLatencyPerfTest.class);
+
+    private static final double MAX_ERROR_RATE = 0.001;
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void containerProperties(DynamicPropertyRegistry registry) throws IOException {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(6379));
+        registry.add("spring.data.redis.password", () -> "");
+        registry.add("spring.data.redis.database", () -> 0);
+        registry.add("spring.threads.virtual.enabled", ApiLatencyPerfTest::virtualThreads);
+
+        Path searchIndex = Files.createTempDirectory("flint-perf-search-index");
+        registry.add("search.index.path", searchIndex::toString);
+    }
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    AccessTokenService accessTokenService;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    PublicCollectionPoolSynchronizer publicCollectionPoolSynchronizer;
+
+    @Autowired
+    TasteIndexSynchronizer tasteIndexSynchronizer;
+
+    @Autowired
+    SearchIndexSynchronizer searchIndexSynchronizer;
+
+    @Autowired
+    AutocompleteSynchronizer autocompleteSynchronizer;
+
+    @Test
+    @DisplayName("고정 요청률 부하에서 엔드포인트별 지연이 예산 안에 머문다")
+    void endpoints_stay_within_latency_budgets() {
+        PerfDataset dataset = PerfDataset.defaults();
+        PerfDataset.Seeded seeded = dataset.seed(jdbcTemplate);
+
+        // 메모리 인덱스는 주기적으로 DB를 읽으므로 기다리지 않고 바로 다시 만든다
+        publicCollectionPoolSynchronizer.rebuild();
+        tasteIndexSynchronizer.rebuild();
+        searchIndexSynchronizer.rebuild();
+        autocompleteSynchronizer.rebuild();
+
+        String[] tokens = new String[dataset.users()];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = accessTokenService.issue(dataset.userId(i), Set.of()).token();
+        }
+
+        List<Scenario> scenarios = scenarios(tokens, seeded);
+        OpenLoadGenerator generator = new OpenLoadGenerator(HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build());
+        int rate = Integer.getInteger("perf.rate", 200);
+
+        generator.run(scenarios, rate, duration("perf.warmup", "15s"), 1);
+        Map<String, OpenLoadGenerator.Result> results = generator.run(scenarios, rate, duration("perf.duration", "30s"), 2);
+
+        log.info("부하 테스트 결과 ({} req/s, {} 스레드)\n{}", rate, System.getProperty("perf.threads", "platform"),
+                LatencyReport.summary(results.values()));
+        LatencyReport.write(Path.of(System.getProperty("perf.report-dir", "build/reports/perf")), results.values());
+
+        SoftAssertions.assertSoftly(softly -> {
+            for (OpenLoadGenerator.Result result : results.values()) {
+                Scenario scenario = result.scenario();
+                softly.assertThat(result.percentile(50))
+                        .as("%s p50", scenario.name())
+                        .isLessThanOrEqualTo(scenario.p50Budget());
+                softly.assertThat(result.percentile(99))
+                        .as("%s p99", scenario.name())
+                        .isLessThanOrEqualTo(scenario.p99Budget());
+                softly.assertThat((double) result.errors() / Math.max(1, result.requests()))
+                        .as("%s 오류율", scenario.name())
+                        .isLessThanOrEqualTo(MAX_ERROR_RATE);
+            }
+            if (virtualThreads()) {
+                softly.assertThat(pinnedInApplicationCode())
+                        .as("우리 코드에서 가상 스레드 캐리어 고정")
+                        .isZero();
+            }
+        });
+    }
+
+    private long pinnedInApplicationCode() {
+        return meterRegistry.find(VirtualThreadPinningMonitor.METRIC).timers().stream()
+                .filter(timer -> !VirtualThreadPinningMonitor.OTHER.equals(timer.getId().getTag("frame")))
+                .mapToLong(Timer::count)
+                .sum();
+    }
+
+    private static boolean virtualThreads() {
+        return "virtual".equals(System.getProperty("perf.threads", "platform"));
+    }
+
+    /**
+     * 엔드포인트 구성과 예산. 홈은 섹션 deadline(최대 300ms)을 넘지 않아야 한다
+     */
+    private List<Scenario> scenarios(String[] tokens, PerfDataset.Seeded seeded) {
+        List<Long> collectionIds = seeded.publicCollectionIds();
+        return List.of(
+                new Scenario("home", 30, Duration.ofMillis(50), Duration.ofMillis(350),
+                        random -> get(tokens, random, "/api/v1/home")),
+                new Scenario("discovery.random", 15, Duration.ofMillis(20), Duration.ofMillis(100),
+                        random -> get(tokens, random, "/api/v1/discovery/collections/random?size=20")),
+                new Scenario("discovery.recommended", 15, Duration.ofMillis(20), Duration.ofMillis(100),
+                        random -> get(tokens, random, "/api/v1/discovery/collections/recommended?size=20")),
+                new Scenario("search", 15, Duration.ofMillis(30), Duration.ofMillis(200),
+                        random -> get(tokens, random, "/api/v1/search?size=20&q=" + encode(word(random)))),
+                new Scenario("search.autocomplete", 10, Duration.ofMillis(10), Duration.ofMillis(50),
+                        random -> get(tokens, random, "/api/v1/search/autocomplete?q=" + encode(word(random).substring(0, 1)))),
+                new Scenario("collection.contents", 15, Duration.ofMillis(20), Duration.ofMillis(100),
+                        random -> get(tokens, random, "/api/v1/collections/"
+                                + collectionIds.get(random.nextInt(collectionIds.size())) + "/contents?size=20"))
+        );
+    }
+
+    private HttpRequest get(String[] tokens, SplittableRandom random, String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokens[random.nextInt(tokens.length)])
+                .GET()
+                .build();
+    }
+
+    private static String word(SplittableRandom random) {
+        return PerfDataset.WORDS.get(random.nextInt(PerfDataset.WORDS.size()));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+    }
+}
@@ -0,0 +1,64 @@
+package kr.flint.api.perf;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+
+/**
+ * 엔드포인트별 지연 보고서.
+ * <ul>
+ *     <li>{@code summary.txt}: 요청 수, 오류 수, 보정/미보정 p50·p99·p99.9·max와 예산</li>
+ *     <li>{@code {name}.hgrm}: 보정된 응답 시간의 백분위 분포 (ms). HdrHistogram plotter로 커밋 간 비교</li>
+ * </ul>
+ */
+final class LatencyReport {
+
+    private static final double MICROS_PER_MILLI = 1_000.0;
+
+    private LatencyReport() {
+    }
+
+    static String summary(Collection<OpenLoadGenerator.Result> results) {
+        StringBuilder summary = new StringBuilder(String.format("%-24s %8s %6s %9s %9s %9s %9s %9s %11s%n",
+                "endpoint", "requests", "errors", "p50", "p99", "p99.9", "max", "svc p99", "budget p99"));
+        for (OpenLoadGenerator.Result result : results) {
+            Histogram response = result.responseTime();
+            summary.append(String.format("%-24s %8d %6d %9s %9s %9s %9s %9s %11s%n",
+                    result.scenario().name(),
+                    result.requests(),
+                    result.errors(),
+                    millis(response.getValueAtPercentile(50)),
+                    millis(response.getValueAtPercentile(99)),
+                    millis(response.getValueAtPercentile(99.9)),
+                    millis(response.getMaxValue()),
+                    millis(result.serviceTime().getValueAtPercentile(99)),
+                    result.scenario().p99Budget().toMillis() + "ms"));
+        }
+        return summary.toString();
+    }
+
+    static void write(Path directory, Collection<OpenLoadGenerator.Result> results) {
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve("summary.txt"), summary(results), StandardCharsets.UTF_8);
+            for (OpenLoadGenerator.Result result : results) {
+                try (PrintStream out = new PrintStream(
+                        Files.newOutputStream(directory.resolve(result.scenario().name() + ".hgrm")), false, StandardCharsets.UTF_8)) {
+                    result.responseTime().outputPercentileDistribution(out, MICROS_PER_MILLI);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.1fms", micros / MICROS_PER_MILLI);
+    }
+}
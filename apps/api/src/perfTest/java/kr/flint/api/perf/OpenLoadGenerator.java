@@ -0,0 +1,152 @@
+package kr.flint.api.perf;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 고정 요청률 open-model 부하 생성기.
+ * <p>
+ * 요청 i는 응답을 기다리지 않고 {@code start + i / rate} 시각에 가상 스레드에서 보낸다.
+ * 지연은 실제 전송 시각이 아니라 예정 시각부터 재므로, 서버가 멈춰 요청이 밀려도 그 대기 시간이 결과에 그대로 남는다
+ * (coordinated omission 보정). 실제 전송 시각부터 잰 서비스 시간도 함께 기록해 생성기 자체 지연과 구분한다.
+ */
+final class OpenLoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient client;
+
+    OpenLoadGenerator(HttpClient client) {
+        this.client = client;
+    }
+
+    Map<String, Result> run(List<Scenario> scenarios, int ratePerSecond, Duration duration, long seed) {
+        Map<String, Result> results = new LinkedHashMap<>();
+        int totalWeight = 0;
+        for (Scenario scenario : scenarios) {
+            results.put(scenario.name(), new Result(scenario));
+            totalWeight += scenario.weight();
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long requests = duration.toNanos() / intervalNanos;
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < requests; i++) {
+                long intended = start + i * intervalNanos;
+                parkUntil(intended);
+
+                Scenario scenario = pick(scenarios, random.nextInt(totalWeight));
+                HttpRequest request = scenario.request().apply(random);
+                Result result = results.get(scenario.name());
+                executor.execute(() -> send(request, intended, result));
+            }
+        }
+        return results;
+    }
+
+    private void send(HttpRequest request, long intended, Result result) {
+        long sent = System.nanoTime();
+        boolean success;
+        try {
+            HttpResponse<Void> response = client.send(
+                    HttpRequest.newBuilder(request, (name, value) -> true).timeout(REQUEST_TIMEOUT).build(),
+                    HttpResponse.BodyHandlers.discarding());
+            success = response.statusCode() < 400;
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            success = false;
+        }
+        long completed = System.nanoTime();
+        result.record(completed - intended, completed - sent, success);
+    }
+
+    private static Scenario pick(List<Scenario> scenarios, int point) {
+        for (Scenario scenario : scenarios) {
+            point -= scenario.weight();
+            if (point < 0) {
+                return scenario;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * 엔드포인트별 결과. 히스토그램 단위는 마이크로초
+     */
+    static final class Result {
+
+        private final Scenario scenario;
+        private final Histogram responseTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+
+        private Result(Scenario scenario) {
+            this.scenario = scenario;
+        }
+
+        private void record(long responseNanos, long serviceNanos, boolean success) {
+            responseTime.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(responseNanos), HIGHEST_TRACKABLE_MICROS));
+            serviceTime.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(serviceNanos), HIGHEST_TRACKABLE_MICROS));
+            if (!success) {
+                errors.increment();
+            }
+        }
+
+        Scenario scenario() {
+            return scenario;
+        }
+
+        /**
+         * 예정 시각부터 응답까지 (coordinated omission 보정)
+         */
+        Histogram responseTime() {
+            return responseTime;
+        }
+
+        /**
+         * 실제 전송부터 응답까지
+         */
+        Histogram serviceTime() {
+            return serviceTime;
+        }
+
+        long requests() {
+            return responseTime.getTotalCount();
+        }
+
+        long errors() {
+            return errors.sum();
+        }
+
+        Duration percentile(double percentile) {
+            return Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(responseTime.getValueAtPercentile(percentile)));
+        }
+    }
+}
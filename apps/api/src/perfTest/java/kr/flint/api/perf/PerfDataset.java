@@ -0,0 +1,171 @@
+package kr.flint.api.perf;
+
+import kr.flint.collection.domain.PositionKeys;
+import kr.flint.shared.id.TsidGenerator;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트용 데이터셋. JDBC 배치로 직접 넣는다.
+ * <p>
+ * 사용자 엔티티는 없으므로 사용자는 ID로만 존재한다.
+ * 컬렉션 소유, 북마크, 키워드 인기도는 일부 사용자/컬렉션/키워드에 몰리도록 치우치게 생성한다.
+ *
+ * @param users                 사용자 수
+ * @param keywords              취향 키워드 수
+ * @param keywordsPerUser       사용자별 취향 키워드 수
+ * @param contentsPerUser       사용자별 콘텐츠 수
+ * @param collections           컬렉션 수 (publicRatio만큼 공개)
+ * @param contentsPerCollection 컬렉션별 콘텐츠 수
+ * @param bookmarksPerUser      사용자별 북마크한 공개 컬렉션 수
+ */
+record PerfDataset(
+        int users,
+        int keywords,
+        int keywordsPerUser,
+        int contentsPerUser,
+        int collections,
+        double publicRatio,
+        int contentsPerCollection,
+        int bookmarksPerUser
+) {
+
+    static final List<String> WORDS = List.of(
+            "영화", "여행", "음악", "독서", "요리", "카페", "전시", "캠핑", "사진", "운동",
+            "드라마", "재즈", "맛집", "디자인", "개발", "산책", "와인", "커피", "건축", "그림"
+    );
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final long USER_ID_BASE = 1_000_000L;
+
+    static PerfDataset defaults() {
+        return new PerfDataset(2_000, 200, 5, 10, 5_000, 0.6, 20, 15);
+    }
+
+    long userId(int index) {
+        return USER_ID_BASE + index;
+    }
+
+    Seeded seed(JdbcTemplate jdbcTemplate) {
+        SplittableRandom random = new SplittableRandom(42);
+        TsidGenerator tsid = TsidGenerator.getInstance();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        long[] keywordIds = tsid.allocate(keywords);
+        List<Object[]> keywordRows = new ArrayList<>(keywords);
+        for (int i = 0; i < keywords; i++) {
+            keywordRows.add(new Object[]{keywordIds[i], WORDS.get(i % WORDS.size()) + (i / WORDS.size()), now, now});
+        }
+        insert(jdbcTemplate, "insert into keyword (id, name, created_at, updated_at) values (?, ?, ?, ?)", keywordRows);
+
+        List<Object[]> userKeywordRows = new ArrayList<>(users * keywordsPerUser);
+        for (int u = 0; u < users; u++) {
+            Set<Integer> chosen = new HashSet<>();
+            while (chosen.size() < Math.min(keywordsPerUser, keywords)) {
+                chosen.add(skewed(random, keywords));
+            }
+            for (int k : chosen) {
+                userKeywordRows.add(new Object[]{tsid.next(), userId(u), keywordIds[k], now, now});
+            }
+        }
+        insert(jdbcTemplate, "insert into user_keyword (id, user_id, keyword_id, created_at, updated_at) values (?, ?, ?, ?, ?)",
+                userKeywordRows);
+
+        int contents = users * contentsPerUser;
+        long[] contentIds = tsid.allocate(contents);
+        List<Object[]> contentRows = new ArrayList<>(contents);
+        for (int i = 0; i < contents; i++) {
+            String word = WORDS.get(random.nextInt(WORDS.size()));
+            contentRows.add(new Object[]{contentIds[i], userId(i / contentsPerUser), "https://example.com/contents/" + contentIds[i],
+                    word + " 기록 " + i, word + "에 대한 메모", now, now});
+        }
+        insert(jdbcTemplate, "insert into content (id, user_id, url, title, memo, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?)",
+                contentRows);
+
+        long[] collectionIds = tsid.allocate(collections);
+        List<Long> publicCollectionIds = new ArrayList<>();
+        List<Object[]> collectionRows = new ArrayList<>(collections);
+        for (int i = 0; i < collections; i++) {
+            boolean isPublic = random.nextDouble() < publicRatio;
+            if (isPublic) {
+                publicCollectionIds.add(collectionIds[i]);
+            }
+            String word = WORDS.get(random.nextInt(WORDS.size()));
+            collectionRows.add(new Object[]{collectionIds[i], userId(skewed(random, users)), "주말 " + word + " 모음 " + i,
+                    word + "을 좋아하는 사람을 위한 컬렉션", isPublic, now, now});
+        }
+        insert(jdbcTemplate,
+                "insert into collection (id, user_id, title, description, is_public, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?)",
+                collectionRows);
+
+        List<String> positions = PositionKeys.between(null, null, contentsPerCollection);
+        List<Object[]> collectionContentRows = new ArrayList<>(collections * contentsPerCollection);
+        for (long collectionId : collectionIds) {
+            Set<Integer> chosen = new HashSet<>();
+            while (chosen.size() < Math.min(contentsPerCollection, contents)) {
+                chosen.add(random.nextInt(contents));
+            }
+            int p = 0;
+            for (int c : chosen) {
+                collectionContentRows.add(new Object[]{tsid.next(), collectionId, contentIds[c], positions.get(p++), now, now});
+            }
+        }
+        insert(jdbcTemplate,
+                "insert into collection_content (id, collection_id, content_id, position, created_at, updated_at) values (?, ?, ?, ?, ?, ?)",
+                collectionContentRows);
+
+        int[] bookmarkCounts = new int[publicCollectionIds.size()];
+        List<Object[]> bookmarkRows = new ArrayList<>(users * bookmarksPerUser);
+        for (int u = 0; u < users; u++) {
+            Set<Integer> chosen = new HashSet<>();
+            while (chosen.size() < Math.min(bookmarksPerUser, publicCollectionIds.size())) {
+                chosen.add(skewed(random, publicCollectionIds.size()));
+            }
+            for (int c : chosen) {
+                bookmarkCounts[c]++;
+                bookmarkRows.add(new Object[]{tsid.next(), userId(u), publicCollectionIds.get(c), now, now});
+            }
+        }
+        insert(jdbcTemplate,
+                "insert into collection_bookmark (id, user_id, collection_id, created_at, updated_at) values (?, ?, ?, ?, ?)",
+                bookmarkRows);
+
+        List<Object[]> bookmarkCountRows = new ArrayList<>();
+        for (int c = 0; c < bookmarkCounts.length; c++) {
+            if (bookmarkCounts[c] > 0) {
+                bookmarkCountRows.add(new Object[]{publicCollectionIds.get(c), bookmarkCounts[c]});
+            }
+        }
+        insert(jdbcTemplate, "insert into collection_bookmark_count (collection_id, bookmark_count) values (?, ?)",
+                bookmarkCountRows);
+
+        return new Seeded(publicCollectionIds);
+    }
+
+    /**
+     * @param publicCollectionIds 콘텐츠 목록 조회 대상
+     */
+    record Seeded(List<Long> publicCollectionIds) {
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    /**
+     * 앞쪽 인덱스가 더 자주 뽑히는 분포 (제곱 변환)
+     */
+    private static int skewed(SplittableRandom random, int bound) {
+        double r = random.nextDouble();
+        return (int) (r * r * bound);
+    }
+}
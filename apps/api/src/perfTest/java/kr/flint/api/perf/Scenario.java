@@ -0,0 +1,24 @@
+package kr.flint.api.perf;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+/**
+ * 부하 대상 엔드포인트 하나.
+ *
+ * @param name      결과/보고서 이름
+ * @param weight    전체 요청률 중 이 엔드포인트의 비중
+ * @param p50Budget 허용 중앙값 지연
+ * @param p99Budget 허용 p99 지연
+ * @param request   요청 생성. 부하 생성 스레드에서만 호출된다
+ */
+record Scenario(
+        String name,
+        int weight,
+        Duration p50Budget,
+        Duration p99Budget,
+        Function<SplittableRandom, HttpRequest> request
+) {
+}
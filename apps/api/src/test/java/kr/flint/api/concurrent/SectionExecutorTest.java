@@ -0,0 +1,134 @@
+package kr.flint.api.concurrent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 벽시계 시간 대신 래치로 섹션의 진행을 직접 조절한다.
+ * 긴 deadline은 실패할 때만 닿는 상한이고, 짧은 deadline은 끝나지 않는 섹션에만 쓴다.
+ */
+class SectionExecutorTest {
+
+    private static final Duration LONG_DEADLINE = Duration.ofSeconds(10);
+
+    private final SectionExecutor sectionExecutor =
+            new SectionExecutor(new StaticListableBeanFactory().getBeanProvider(CacheManager.class), new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        sectionExecutor.close();
+    }
+
+    @Nested
+    @DisplayName("동시 실행")
+    class Concurrency {
+
+        @Test
+        @DisplayName("모든 섹션이 동시에 실행되므로 응답 지연은 섹션 지연의 합이 아니라 가장 느린 섹션이다")
+        void sections_run_at_the_same_time() throws InterruptedException {
+            CountDownLatch allStarted = new CountDownLatch(3);
+            CountDownLatch release = new CountDownLatch(1);
+
+            try (SectionScope scope = sectionExecutor.open("test")) {
+                SectionResult<String> a = scope.fork(Section.of("a", LONG_DEADLINE, () -> startAndWait(allStarted, release, "a"), () -> ""));
+                SectionResult<String> b = scope.fork(Section.of("b", LONG_DEADLINE, () -> startAndWait(allStarted, release, "b"), () -> ""));
+                SectionResult<String> c = scope.fork(Section.of("c", LONG_DEADLINE, () -> startAndWait(allStarted, release, "c"), () -> ""));
+
+                // 순차 실행이면 첫 섹션이 release를 기다리는 동안 나머지는 시작하지 못한다
+                assertThat(allStarted.await(5, TimeUnit.SECONDS)).isTrue();
+                release.countDown();
+
+                assertThat(a.get() + b.get() + c.get()).isEqualTo("abc");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("섹션 격리")
+    class Isolation {
+
+        @Test
+        @DisplayName("deadline을 넘긴 섹션만 fallback으로 대체되고 인터럽트되며, 나머지 섹션은 정상 반환된다")
+        void slow_section_degrades_to_fallback() throws InterruptedException {
+            CountDownLatch never = new CountDownLatch(1);
+            CountDownLatch interrupted = new CountDownLatch(1);
+
+            try (SectionScope scope = sectionExecutor.open("test")) {
+                SectionResult<String> healthy = scope.fork(
+                        Section.of("healthy", LONG_DEADLINE, () -> "ok", () -> "fallback"));
+                SectionResult<String> stuck = scope.fork(
+                        Section.of("stuck", Duration.ofMillis(50), () -> blockUntilInterrupted(never, interrupted), () -> "fallback"));
+
+                assertThat(healthy.get()).isEqualTo("ok");
+                assertThat(stuck.get()).isEqualTo("fallback");
+            }
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        @DisplayName("예외가 발생한 섹션은 fallback으로 대체된다")
+        void failed_section_degrades_to_fallback() {
+            try (SectionScope scope = sectionExecutor.open("test")) {
+                SectionResult<String> failed = scope.fork(Section.of("failed", LONG_DEADLINE,
+                        () -> {
+                            throw new IllegalStateException("boom");
+                        },
+                        () -> "fallback"));
+
+                assertThat(failed.get()).isEqualTo("fallback");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("실행기를 닫으면 끝나지 않은 섹션을 인터럽트한다")
+    void close_interrupts_running_sections() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch never = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        SectionScope scope = sectionExecutor.open("test");
+        scope.fork(Section.of("running", LONG_DEADLINE, () -> {
+            started.countDown();
+            return blockUntilInterrupted(never, interrupted);
+        }, () -> "fallback"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        sectionExecutor.close();
+
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static String startAndWait(CountDownLatch started, CountDownLatch release, String value) {
+        started.countDown();
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return value;
+    }
+
+    private static String blockUntilInterrupted(CountDownLatch never, CountDownLatch interrupted) {
+        try {
+            never.await();
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return "late";
+    }
+}
@@ -0,0 +1,120 @@
+package kr.flint.api.datasource;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 라우팅을 켰을 때 문장 하나가 p6spy 리스너를 한 번만 지나는지 확인한다.
+ * 라우터 안쪽 DataSource까지 p6spy로 감싸면 {@code sql.statement} 지표와 느린 쿼리 로그가 두 번 남는다.
+ */
+@SpringBootTest
+@ActiveProfiles("local")
+@Testcontainers(disabledWithoutDocker = true)
+class DataSourceRoutingStatementTest {
+
+    /**
+     * 스케줄러가 보내는 문장과 구분되도록 이 테스트에서만 보내는 문장
+     */
+    private static final String MARKER_SQL = "select 1 /* routing-statement-test */";
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void containerProperties(DynamicPropertyRegistry registry) throws IOException {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(6379));
+        registry.add("spring.data.redis.password", () -> "");
+        registry.add("spring.data.redis.database", () -> 0);
+
+        // 복제본도 같은 컨테이너를 가리킨다. 어느 풀에서 커넥션을 받았는지가 아니라 감싼 횟수를 본다
+        registry.add("datasource.routing.enabled", () -> true);
+        registry.add("datasource.routing.replicas[0].name", () -> "replica-1");
+        registry.add("datasource.routing.replicas[0].url", MYSQL::getJdbcUrl);
+
+        Path searchIndex = Files.createTempDirectory("flint-test-search-index");
+        registry.add("search.index.path", searchIndex::toString);
+    }
+
+    @TestConfiguration
+    static class StatementCounterConfig {
+
+        @Bean
+        MarkerStatementCounter markerStatementCounter() {
+            return new MarkerStatementCounter();
+        }
+    }
+
+    /**
+     * p6spy가 {@link #MARKER_SQL}을 실행했다고 알린 횟수를 센다
+     */
+    static class MarkerStatementCounter extends SimpleJdbcEventListener {
+
+        private final AtomicInteger executions = new AtomicInteger();
+
+        @Override
+        public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, @Nullable SQLException e) {
+            if (MARKER_SQL.equals(statementInformation.getSql())) {
+                executions.incrementAndGet();
+            }
+        }
+
+        int drain() {
+            return executions.getAndSet(0);
+        }
+    }
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    MarkerStatementCounter counter;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    @DisplayName("primary로 가든 복제본으로 가든 문장 하나는 리스너를 한 번만 지난다")
+    void statement_is_observed_once(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        counter.drain();
+
+        transaction.executeWithoutResult(status -> jdbcTemplate.queryForObject(MARKER_SQL, Integer.class));
+
+        assertThat(counter.drain()).isOne();
+    }
+}
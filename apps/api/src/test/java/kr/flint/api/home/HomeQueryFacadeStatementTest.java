@@ -0,0 +1,162 @@
+package kr.flint.api.home;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import kr.flint.api.home.dto.HomeResponse;
+import kr.flint.shared.id.TsidGenerator;
+import kr.flint.shared.p6spy.SqlShape;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 홈의 북마크한 컬렉션 섹션이 북마크 수와 무관하게 같은 수의 SQL을 보내는지 p6spy에서 실제 문장을 세어 확인한다.
+ * 섹션은 가상 스레드에서 돌고 스케줄러도 같은 DB를 읽으므로, 호출 스택에 섹션 메서드가 있는 문장만 센다.
+ */
+@SpringBootTest
+@ActiveProfiles("local")
+@Testcontainers(disabledWithoutDocker = true)
+class HomeQueryFacadeStatementTest {
+
+    private static final String SECTION_METHOD = "findBookmarkedCollectionIds";
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void containerProperties(DynamicPropertyRegistry registry) throws IOException {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(6379));
+        registry.add("spring.data.redis.password", () -> "");
+        registry.add("spring.data.redis.database", () -> 0);
+        // 컨테이너의 첫 쿼리가 섹션 deadline을 넘겨 빈 목록으로 대체되지 않게 한다
+        registry.add("home.sections.bookmarked-collections.deadline", () -> "10s");
+
+        Path searchIndex = Files.createTempDirectory("flint-test-search-index");
+        registry.add("search.index.path", searchIndex::toString);
+    }
+
+    @TestConfiguration
+    static class StatementRecorderConfig {
+
+        @Bean
+        SectionStatementRecorder sectionStatementRecorder() {
+            return new SectionStatementRecorder();
+        }
+    }
+
+    /**
+     * p6spy가 실행한 문장 중 홈 섹션 메서드에서 보낸 것의 형태({@link SqlShape})를 모은다
+     */
+    static class SectionStatementRecorder extends SimpleJdbcEventListener {
+
+        private static final StackWalker WALKER = StackWalker.getInstance();
+
+        private final Queue<SqlShape> statements = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, @Nullable SQLException e) {
+            String sql = statementInformation.getSql();
+            if (sql != null && !sql.isEmpty() && calledFromSection()) {
+                statements.add(SqlShape.of(sql));
+            }
+        }
+
+        List<SqlShape> drain() {
+            List<SqlShape> drained = new ArrayList<>(statements);
+            statements.clear();
+            return drained;
+        }
+
+        private static boolean calledFromSection() {
+            return WALKER.walk(frames -> frames.anyMatch(frame ->
+                    frame.getClassName().equals(HomeQueryFacade.class.getName())
+                            && frame.getMethodName().equals(SECTION_METHOD)));
+        }
+    }
+
+    @Autowired
+    HomeQueryFacade homeQueryFacade;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    SectionStatementRecorder recorder;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10})
+    @DisplayName("북마크한 컬렉션 섹션은 북마크 목록 한 번, 컬렉션 IN 조회 한 번으로 끝난다")
+    void bookmarked_collections_section_sends_two_statements(int bookmarks) {
+        long userId = TsidGenerator.getInstance().next();
+        List<Long> collectionIds = seedBookmarkedPublicCollections(userId, bookmarks);
+        recorder.drain();
+
+        HomeResponse home = homeQueryFacade.getHome(userId);
+
+        assertThat(home.bookmarkedCollectionIds()).containsExactlyInAnyOrderElementsOf(collectionIds);
+        assertThat(recorder.drain())
+                .extracting(SqlShape::operation, SqlShape::table)
+                .containsExactlyInAnyOrder(
+                        tuple("select", "collection_bookmark"),
+                        tuple("select", "collection"));
+    }
+
+    /**
+     * 다른 사용자가 만든 공개 컬렉션을 userId가 북마크한 상태로 넣는다
+     */
+    private List<Long> seedBookmarkedPublicCollections(long userId, int count) {
+        long ownerId = TsidGenerator.getInstance().next();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long[] collectionIds = TsidGenerator.getInstance().allocate(count);
+        long[] bookmarkIds = TsidGenerator.getInstance().allocate(count);
+
+        List<Object[]> collectionRows = new ArrayList<>(count);
+        List<Object[]> bookmarkRows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            collectionRows.add(new Object[]{collectionIds[i], ownerId, "컬렉션 " + i, null, true, now, now});
+            bookmarkRows.add(new Object[]{bookmarkIds[i], userId, collectionIds[i], now, now});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into collection (id, user_id, title, description, is_public, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?)",
+                collectionRows);
+        jdbcTemplate.batchUpdate(
+                "insert into collection_bookmark (id, user_id, collection_id, created_at, updated_at) values (?, ?, ?, ?, ?)",
+                bookmarkRows);
+        return Arrays.stream(collectionIds).boxed().toList();
+    }
+}
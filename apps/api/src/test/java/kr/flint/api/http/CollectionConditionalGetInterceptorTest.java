@@ -0,0 +1,117 @@
+package kr.flint.api.http;
+
+import kr.flint.collection.dto.CollectionVersion;
+import kr.flint.collection.service.CollectionVersions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class CollectionConditionalGetInterceptorTest {
+
+    private static final Long COLLECTION_ID = 10L;
+    private static final Long OWNER_ID = 1L;
+    private static final Long VIEWER_ID = 2L;
+    private static final long VERSION = 1_760_000_000L;
+
+    private final CollectionVersions collectionVersions = mock(CollectionVersions.class);
+    private final CollectionConditionalGetInterceptor interceptor = new CollectionConditionalGetInterceptor(collectionVersions);
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(VIEWER_ID, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("ETag가 같으면 핸들러를 부르지 않고 304로 끝낸다")
+    void returns_not_modified_for_matching_etag() throws Exception {
+        given(collectionVersions.find(COLLECTION_ID)).willReturn(new CollectionVersion(VERSION, OWNER_ID, true));
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"" + VERSION + "\"");
+
+        boolean proceed = interceptor.preHandle(request, response, handler("conditional"));
+
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("W/\"" + VERSION + "\"");
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌었으면 새 검증자와 공개 캐시 헤더를 쓰고 핸들러로 넘긴다")
+    void writes_validators_when_modified() throws Exception {
+        given(collectionVersions.find(COLLECTION_ID)).willReturn(new CollectionVersion(VERSION + 1, OWNER_ID, true));
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"" + VERSION + "\"");
+
+        boolean proceed = interceptor.preHandle(request, response, handler("conditional"));
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("W/\"" + (VERSION + 1) + "\"");
+        assertThat(response.getDateHeader(HttpHeaders.LAST_MODIFIED)).isEqualTo((VERSION + 1) * 1000);
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("public");
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 비공개 컬렉션은 ETag가 같아도 핸들러에 맡긴다")
+    void does_not_reveal_private_collection() throws Exception {
+        given(collectionVersions.find(COLLECTION_ID)).willReturn(new CollectionVersion(VERSION, OWNER_ID, false));
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"" + VERSION + "\"");
+
+        boolean proceed = interceptor.preHandle(request, response, handler("conditional"));
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    @Test
+    @DisplayName("@ConditionalGet이 없는 핸들러는 건드리지 않는다")
+    void ignores_plain_handlers() throws Exception {
+        boolean proceed = interceptor.preHandle(request(), response, handler("plain"));
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getHeaderNames()).isEmpty();
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/collections/" + COLLECTION_ID + "/contents");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("collectionId", String.valueOf(COLLECTION_ID)));
+        return request;
+    }
+
+    private static HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new Handlers(), Handlers.class.getDeclaredMethod(name));
+    }
+
+    static class Handlers {
+
+        @ConditionalGet
+        void conditional() {
+        }
+
+        void plain() {
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package kr.flint.benchmark;
+
+import kr.flint.search.dto.AutocompleteSource;
+import kr.flint.search.dto.AutocompleteSuggestion;
+import kr.flint.search.dto.AutocompleteType;
+import kr.flint.search.service.AutocompleteIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자동완성 조회 비용. 한 글자 접두어(후보가 가장 많음), 두 글자 접두어, 초성 질의를 나눠 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class AutocompleteBenchmark {
+
+    private static final String[] WORDS = {
+            "영화", "드라마", "여행", "캠핑", "요리", "레시피", "음악", "플레이리스트", "개발", "스프링",
+            "자바", "디자인", "독서", "에세이", "소설", "운동", "러닝", "등산", "카페", "맛집",
+            "전시", "미술관", "사진", "필름", "강의", "정리", "추천", "모음", "주말", "서울"
+    };
+    private static final String[] CHOSEONG_QUERIES = {"ㅇㅎ", "ㄷㄹ", "ㅋㅍ", "ㅇㄹ", "ㅈㅁ", "ㅅㅇ"};
+
+    @Param({"200000"})
+    int suggestions;
+
+    private AutocompleteIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<AutocompleteSource> sources = new ArrayList<>(suggestions);
+        for (int i = 0; i < suggestions; i++) {
+            String title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            sources.add(new AutocompleteSource(AutocompleteType.COLLECTION, title, random.nextInt(1000)));
+        }
+        index = AutocompleteIndex.build(sources, 10, suggestions);
+    }
+
+    @Benchmark
+    public List<AutocompleteSuggestion> oneSyllable() {
+        return index.suggest(WORDS[ThreadLocalRandom.current().nextInt(WORDS.length)].substring(0, 1), 10);
+    }
+
+    @Benchmark
+    public List<AutocompleteSuggestion> word() {
+        return index.suggest(WORDS[ThreadLocalRandom.current().nextInt(WORDS.length)], 10);
+    }
+
+    @Benchmark
+    public List<AutocompleteSuggestion> choseong() {
+        return index.suggest(CHOSEONG_QUERIES[ThreadLocalRandom.current().nextInt(CHOSEONG_QUERIES.length)], 10);
+    }
+}
@@ -0,0 +1,139 @@
+package kr.flint.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import kr.flint.infra.redis.cache.CacheEntry;
+import kr.flint.infra.redis.cache.CachePolicyProperties;
+import kr.flint.infra.redis.cache.CachePolicyProperties.CachePolicy;
+import kr.flint.infra.redis.cache.CachePolicyProperties.Serialization;
+import kr.flint.infra.redis.cache.CachePolicyProperties.WireFormat;
+import kr.flint.infra.redis.serializer.CacheSerializerRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RedisProdConfig가 쓰는 캐시 값 직렬화기 (CacheSerializerRegistry) 왕복 비용.
+ * <p>
+ * 기본 직렬화기(타입 정보 포함)와 value-type을 지정한 캐시의 스키마 직렬화기를 포맷별로 비교한다.
+ * 값은 {@link CacheEntry}로 감싸 @Cacheable(sync = true) 경로와 같은 헤더를 기록한다.
+ * <p>
+ * 기준선은 Spring 기본 구성인 {@link GenericJackson2JsonRedisSerializer}(모든 값에 클래스명 기록, 헤더/압축 없음)로 같은 값을 직렬화한다.
+ * 값 크기(바이트) 비교는 VersionedRedisSerializerTest가 검증하므로 여기서는 시간만 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheSerializerBenchmark {
+
+    private static final String SCHEMA_CACHE = "collection-detail";
+
+    @Param({"SMILE", "JSON"})
+    WireFormat format;
+
+    @Param({"10", "200"})
+    int contents;
+
+    private RedisSerializer<Object> baselineSerializer;
+    private RedisSerializer<Object> typedSerializer;
+    private RedisSerializer<Object> schemaSerializer;
+    private CacheEntry entry;
+    private byte[] baselineBytes;
+    private byte[] typedBytes;
+    private byte[] schemaBytes;
+
+    public record CollectionDetail(Long id, String title, String description, Long authorId, boolean isPublic,
+                                   LocalDateTime createdAt, List<Long> contentIds) {
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        CachePolicy schemaPolicy = new CachePolicy(null, null, CollectionDetail.class, null, null, null, null);
+        CachePolicyProperties properties = new CachePolicyProperties(
+                "flint:cache:invalidation",
+                null,
+                Map.of(SCHEMA_CACHE, schemaPolicy),
+                new Serialization(format, 1024));
+        CacheSerializerRegistry registry = new CacheSerializerRegistry(objectMapper, properties);
+        baselineSerializer = new GenericJackson2JsonRedisSerializer(baselineMapper(objectMapper));
+        typedSerializer = registry.defaultSerializer();
+        schemaSerializer = registry.serializerFor(SCHEMA_CACHE);
+
+        List<Long> contentIds = new ArrayList<>(contents);
+        for (int i = 0; i < contents; i++) {
+            contentIds.add(698_554_635_463_574_400L + i);
+        }
+        CollectionDetail value = new CollectionDetail(698_554_635_463_000_000L, "주말에 보기 좋은 영화",
+                "비 오는 주말에 혼자 보기 좋은 영화들을 모았습니다.", 698_000_000_000_000_000L, true,
+                LocalDateTime.of(2025, 1, 1, 12, 0), contentIds);
+        entry = new CacheEntry(value, System.currentTimeMillis() + 3_600_000L, 12);
+
+        baselineBytes = baselineSerializer.serialize(value);
+        typedBytes = typedSerializer.serialize(entry);
+        schemaBytes = schemaSerializer.serialize(entry);
+    }
+
+    @Benchmark
+    public byte[] serializeBaseline() {
+        return baselineSerializer.serialize(entry.value());
+    }
+
+    @Benchmark
+    public Object deserializeBaseline() {
+        return baselineSerializer.deserialize(baselineBytes);
+    }
+
+    /**
+     * 최종 클래스(record)인 루트 값에도 클래스명을 기록해야 역직렬화할 수 있으므로 EVERYTHING으로 둔다
+     */
+    @SuppressWarnings("deprecation")
+    private static ObjectMapper baselineMapper(ObjectMapper objectMapper) {
+        ObjectMapper mapper = objectMapper.copy();
+        mapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance, DefaultTyping.EVERYTHING, As.PROPERTY);
+        return mapper;
+    }
+
+    @Benchmark
+    public byte[] serializeTyped() {
+        return typedSerializer.serialize(entry);
+    }
+
+    @Benchmark
+    public Object deserializeTyped() {
+        return typedSerializer.deserialize(typedBytes);
+    }
+
+    @Benchmark
+    public byte[] serializeSchema() {
+        return schemaSerializer.serialize(entry);
+    }
+
+    @Benchmark
+    public Object deserializeSchema() {
+        return schemaSerializer.deserialize(schemaBytes);
+    }
+}
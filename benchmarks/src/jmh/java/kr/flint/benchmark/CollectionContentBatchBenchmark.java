@@ -0,0 +1,135 @@
+package kr.flint.benchmark;
+
+import kr.flint.collection.domain.PositionKeys;
+import kr.flint.shared.id.TsidGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컬렉션에 콘텐츠 1,000개를 담는 비용 (트랜잭션 하나).
+ * <p>
+ * 행마다 INSERT를 보내는 경우와 JDBC 배치(hibernate.jdbc.batch_size = 100)를 비교하고,
+ * 각각 MySQL 드라이버의 rewriteBatchedStatements 유무를 나눠 측정한다. Docker가 필요하다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CollectionContentBatchBenchmark {
+
+    private static final int LINKS = 1_000;
+    private static final int BATCH_SIZE = 100;
+    private static final List<String> POSITIONS = PositionKeys.between(null, null, LINKS);
+
+    private static final String INSERT_SQL = """
+            insert into collection_content (id, collection_id, content_id, position, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+
+    @Param({"false", "true"})
+    boolean rewriteBatchedStatements;
+
+    private MySQLContainer<?> mysql;
+    private Connection connection;
+    private final TsidGenerator generator = TsidGenerator.getInstance();
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        mysql = new MySQLContainer<>("mysql:8.0");
+        mysql.start();
+        connection = DriverManager.getConnection(
+                mysql.getJdbcUrl() + "?rewriteBatchedStatements=" + rewriteBatchedStatements,
+                mysql.getUsername(), mysql.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            // CollectionContent 엔티티와 같은 구성
+            statement.execute("""
+                    create table collection_content (
+                        id bigint not null primary key,
+                        collection_id bigint not null,
+                        content_id bigint not null,
+                        position varchar(128) character set ascii collate ascii_bin not null,
+                        created_at datetime(6),
+                        updated_at datetime(6),
+                        constraint uk_collection_content unique (collection_id, content_id),
+                        index idx_collection_content_position (collection_id, position)
+                    )
+                    """);
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        mysql.stop();
+    }
+
+    @Benchmark
+    public int rowByRow() throws SQLException {
+        long collectionId = generator.next();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int inserted = 0;
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+            for (int position = 0; position < LINKS; position++) {
+                bind(statement, generator.next(), collectionId, position, now);
+                inserted += statement.executeUpdate();
+            }
+        }
+        connection.commit();
+        return inserted;
+    }
+
+    @Benchmark
+    public int batched() throws SQLException {
+        long collectionId = generator.next();
+        long[] ids = generator.allocate(LINKS);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int batches = 0;
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+            for (int position = 0; position < LINKS; position++) {
+                bind(statement, ids[position], collectionId, position, now);
+                statement.addBatch();
+                if ((position + 1) % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                    batches++;
+                }
+            }
+        }
+        connection.commit();
+        return batches;
+    }
+
+    private static void bind(PreparedStatement statement, long id, long collectionId, int position, Timestamp now)
+            throws SQLException {
+        statement.setLong(1, id);
+        statement.setLong(2, collectionId);
+        statement.setLong(3, position + 1L);
+        statement.setString(4, POSITIONS.get(position));
+        statement.setTimestamp(5, now);
+        statement.setTimestamp(6, now);
+    }
+}
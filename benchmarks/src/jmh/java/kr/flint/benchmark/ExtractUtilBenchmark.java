@@ -0,0 +1,90 @@
+package kr.flint.benchmark;
+
+import kr.flint.shared.domain.HasId;
+import kr.flint.shared.util.ExtractUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 목록에서 ID를 뽑는 ExtractUtil (BatchLoader, 다른 모듈 IN 조회 직전) 비용.
+ * Stream 기반 구현을 같은 결과를 만드는 반복문과 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExtractUtilBenchmark {
+
+    @Param({"20", "1000"})
+    int size;
+
+    private List<Entity> entities;
+
+    record Entity(Long id, Long ownerId) implements HasId {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // 소유자는 일부 중복되도록 생성 (Set 추출 시 중복 제거)
+            entities.add(new Entity(698_554_635_463_574_400L + i, 698_000_000_000_000_000L + i % 16));
+        }
+    }
+
+    @Benchmark
+    public List<Long> extractIdList() {
+        return ExtractUtil.extractIdList(entities);
+    }
+
+    @Benchmark
+    public Set<Long> extractIdSet() {
+        return ExtractUtil.extractIdSet(entities);
+    }
+
+    @Benchmark
+    public Set<Long> extractOwnerIdSet() {
+        return ExtractUtil.extractSet(entities, Entity::ownerId);
+    }
+
+    @Benchmark
+    public List<Long> loopIdList() {
+        List<Long> ids = new ArrayList<>(entities.size());
+        for (Entity entity : entities) {
+            ids.add(entity.getId());
+        }
+        return ids;
+    }
+
+    @Benchmark
+    public Set<Long> loopIdSet() {
+        Set<Long> ids = new HashSet<>(entities.size() * 2);
+        for (Entity entity : entities) {
+            ids.add(entity.getId());
+        }
+        return ids;
+    }
+}
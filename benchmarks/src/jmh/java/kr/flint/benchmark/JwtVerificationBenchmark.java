@@ -0,0 +1,65 @@
+package kr.flint.benchmark;
+
+import kr.flint.auth.config.JwtProperties;
+import kr.flint.auth.dto.AuthPrincipal;
+import kr.flint.auth.service.AccessTokenService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 인증 비용: 매번 파싱/서명 검증(캐시 없음) vs 검증 결과 캐시.
+ * <p>
+ * 활성 사용자 수만큼 토큰을 발급하고 무작위로 검증한다. 캐시 크기보다 사용자가 많으면 일부 요청은 다시 서명을 검증한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class JwtVerificationBenchmark {
+
+    private static final String KEY = "ZmxpbnQtYmVuY2gtand0LXNpZ25pbmcta2V5LTMyYnl0ZXM=";
+
+    @Param({"1000", "100000"})
+    int activeUsers;
+
+    @Param({"0", "100000"})
+    long verifiedCacheSize;
+
+    private AccessTokenService accessTokenService;
+    private String[] tokens;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        accessTokenService = new AccessTokenService(new JwtProperties(
+                "flint", Duration.ofHours(1), "bench", Map.of("bench", KEY), Duration.ofSeconds(30), verifiedCacheSize));
+        tokens = new String[activeUsers];
+        for (int i = 0; i < activeUsers; i++) {
+            tokens[i] = accessTokenService.issue(1_000_000L + i, Set.of("USER")).token();
+        }
+    }
+
+    @Benchmark
+    public AuthPrincipal verify() {
+        return accessTokenService.verify(tokens[ThreadLocalRandom.current().nextInt(tokens.length)]);
+    }
+}
@@ -0,0 +1,152 @@
+package kr.flint.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 콘텐츠 100만 건이 담긴 컬렉션에서 depth번째 행 다음의 한 페이지를 읽는 비용.
+ * <p>
+ * OFFSET은 앞의 depth개 행을 읽고 버리므로 깊이에 비례하고, {@code (position, id)} 키셋은
+ * {@code (collection_id, position)} 인덱스에서 커서 위치로 바로 이동하므로 깊이와 무관해야 한다.
+ * 키셋 조건은 {@code CollectionContentRepository.findAllByCollectionIdAfter}와 같다. Docker가 필요하다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PaginationDepthBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+    private static final long COLLECTION_ID = 1L;
+
+    private static final String OFFSET_SQL = """
+            select id, content_id, position from collection_content
+            where collection_id = ?
+            order by position asc, id asc
+            limit ? offset ?
+            """;
+
+    private static final String KEYSET_SQL = """
+            select id, content_id, position from collection_content
+            where collection_id = ?
+              and position >= ?
+              and (position > ? or id > ?)
+            order by position asc, id asc
+            limit ?
+            """;
+
+    @Param({"0", "10000", "100000", "500000", "999000"})
+    int depth;
+
+    private MySQLContainer<?> mysql;
+    private Connection connection;
+    private String cursorPosition;
+    private long cursorId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        mysql = new MySQLContainer<>("mysql:8.0");
+        mysql.start();
+        connection = DriverManager.getConnection(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            // CollectionContent 엔티티와 같은 구성
+            statement.execute("""
+                    create table collection_content (
+                        id bigint not null primary key,
+                        collection_id bigint not null,
+                        content_id bigint not null,
+                        position varchar(128) character set ascii collate ascii_bin not null,
+                        created_at datetime(6),
+                        updated_at datetime(6),
+                        constraint uk_collection_content unique (collection_id, content_id),
+                        index idx_collection_content_position (collection_id, position)
+                    )
+                    """);
+            statement.execute("set session cte_max_recursion_depth = " + ROWS);
+            // 두 행씩 같은 position을 주어 id tie-breaker 분기도 타게 한다
+            statement.execute("""
+                    insert into collection_content (id, collection_id, content_id, position, created_at, updated_at)
+                    with recursive seq (n) as (select 1 union all select n + 1 from seq where n < %d)
+                    select n, %d, n, lpad((n + 1) div 2, 7, '0'), now(6), now(6) from seq
+                    """.formatted(ROWS, COLLECTION_ID));
+            statement.execute("analyze table collection_content");
+        }
+
+        if (depth > 0) {
+            try (PreparedStatement statement = connection.prepareStatement(OFFSET_SQL)) {
+                statement.setLong(1, COLLECTION_ID);
+                statement.setInt(2, 1);
+                statement.setInt(3, depth - 1);
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+                    cursorId = rs.getLong(1);
+                    cursorPosition = rs.getString(3);
+                }
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        mysql.stop();
+    }
+
+    @Benchmark
+    public long offset() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(OFFSET_SQL)) {
+            statement.setLong(1, COLLECTION_ID);
+            statement.setInt(2, PAGE_SIZE + 1);
+            statement.setInt(3, depth);
+            return sumIds(statement);
+        }
+    }
+
+    @Benchmark
+    public long keyset() throws SQLException {
+        if (depth == 0) {
+            return offset();
+        }
+        try (PreparedStatement statement = connection.prepareStatement(KEYSET_SQL)) {
+            statement.setLong(1, COLLECTION_ID);
+            statement.setString(2, cursorPosition);
+            statement.setString(3, cursorPosition);
+            statement.setLong(4, cursorId);
+            statement.setInt(5, PAGE_SIZE + 1);
+            return sumIds(statement);
+        }
+    }
+
+    private static long sumIds(PreparedStatement statement) throws SQLException {
+        long sum = 0;
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                sum += rs.getLong(1);
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,89 @@
+package kr.flint.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.flint.shared.dto.PaginationResponse;
+import kr.flint.shared.pagination.TotalCount;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 응답(PaginationResponse + PaginationMeta) 생성과 JSON 직렬화 비용.
+ * <p>
+ * ObjectMapper는 Spring Boot 기본 설정과 같은 {@link Jackson2ObjectMapperBuilder}로 만든다.
+ * ID 목록(컬렉션 콘텐츠 조회)과 필드 6개짜리 항목 목록을 offset/cursor 메타와 함께 직렬화한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PaginationJsonBenchmark {
+
+    private static final String NEXT_CURSOR = "eyJrIjoiYTAiLCJpIjo2OTk4NTQ2MzU0NjM1NzQ0fQ.kR3x9Qm2vL0pT7wYc1sZbA";
+
+    @Param({"20", "100"})
+    int size;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private List<Long> ids;
+    private List<Item> fetchedItems;
+
+    public record Item(Long id, String title, String thumbnailUrl, Long authorId, int bookmarkCount,
+                       LocalDateTime createdAt) {
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ids = new ArrayList<>(size);
+        fetchedItems = new ArrayList<>(size + 1);
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int i = 0; i <= size; i++) {
+            long id = 698_554_635_463_574_400L + i;
+            if (i < size) {
+                ids.add(id);
+            }
+            fetchedItems.add(new Item(id, "컬렉션 제목 " + i, "https://cdn.flint.kr/thumbnails/" + id + ".webp",
+                    698_000_000_000_000_000L + i % 7, i * 3, createdAt.plusMinutes(i)));
+        }
+    }
+
+    @Benchmark
+    public byte[] cursorIds() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(PaginationResponse.ofCursor(ids, NEXT_CURSOR));
+    }
+
+    @Benchmark
+    public byte[] cursorItems() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(PaginationResponse.ofCursor(fetchedItems.subList(0, size), NEXT_CURSOR));
+    }
+
+    @Benchmark
+    public byte[] offsetItems() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(
+                PaginationResponse.ofOffset(fetchedItems, 3, size, TotalCount.exact(12_345)));
+    }
+
+    @Benchmark
+    public byte[] offsetSliceItems() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(PaginationResponse.ofOffsetSlice(fetchedItems, 3, size));
+    }
+}
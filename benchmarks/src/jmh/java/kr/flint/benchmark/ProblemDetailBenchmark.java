@@ -0,0 +1,94 @@
+package kr.flint.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.flint.shared.exception.ErrorCode;
+import kr.flint.shared.exception.GeneralException;
+import kr.flint.shared.exception.ProblemDetail;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오류 응답 경로 비용: GeneralException 생성(스택 트레이스 수집) → ProblemDetail → JSON.
+ * <p>
+ * 예외 생성 비용은 던진 위치의 스택 깊이에 비례하므로, 요청 처리 스택(필터 + 디스패처 + 프록시)과
+ * 비슷한 깊이에서 던지는 경우를 함께 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProblemDetailBenchmark {
+
+    private static final String INSTANCE = "/api/v1/collections/698554635463574400";
+
+    @Param({"10", "150"})
+    int stackDepth;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final GeneralException prebuilt = new GeneralException(ErrorCode.NOT_FOUND);
+    private final Map<String, String> fieldErrors = Map.of(
+            "title", "제목은 1자 이상 50자 이하여야 합니다.",
+            "description", "설명은 500자 이하여야 합니다.");
+
+    /**
+     * 예외 생성과 catch까지 (GlobalExceptionHandler 진입 전)
+     */
+    @Benchmark
+    public GeneralException throwAndCatch() {
+        try {
+            throwAt(stackDepth);
+            throw new IllegalStateException();
+        } catch (GeneralException e) {
+            return e;
+        }
+    }
+
+    /**
+     * GlobalExceptionHandler.handleGeneralException과 같은 렌더링 (예외 생성 제외)
+     */
+    @Benchmark
+    public byte[] render() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ProblemDetail.from(prebuilt, INSTANCE));
+    }
+
+    @Benchmark
+    public byte[] throwAndRender() throws JsonProcessingException {
+        try {
+            throwAt(stackDepth);
+            throw new IllegalStateException();
+        } catch (GeneralException e) {
+            return objectMapper.writeValueAsBytes(ProblemDetail.from(e, INSTANCE));
+        }
+    }
+
+    /**
+     * 검증 오류 응답 (필드별 메시지 포함)
+     */
+    @Benchmark
+    public byte[] renderValidation() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(
+                ProblemDetail.of(ErrorCode.INVALID_INPUT, "입력값이 올바르지 않습니다.", INSTANCE, fieldErrors));
+    }
+
+    private static void throwAt(int depth) {
+        if (depth <= 0) {
+            throw new GeneralException(ErrorCode.NOT_FOUND);
+        }
+        throwAt(depth - 1);
+    }
+}
@@ -0,0 +1,98 @@
+package kr.flint.benchmark;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanPath;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.JPQLTemplates;
+import kr.flint.shared.pagination.KeysetCursor;
+import kr.flint.shared.util.QueryDslUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QueryDslUtil 조건/정렬 조립 비용. 목록 조회 요청마다 한 번씩 실행된다.
+ * <p>
+ * Q타입 대신 같은 구조의 {@link PathBuilder} 경로를 사용한다 (Q타입은 각 모듈에만 생성되므로).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryDslPredicateBenchmark {
+
+    private final PathBuilder<Object> collection = new PathBuilder<>(Object.class, "collection");
+    private final NumberPath<Long> id = collection.getNumber("id", Long.class);
+    private final NumberPath<Long> userId = collection.getNumber("userId", Long.class);
+    private final BooleanPath isPublic = collection.getBoolean("isPublic");
+    private final StringPath title = collection.getString("title");
+    private final DateTimePath<LocalDateTime> createdAt = collection.getDateTime("createdAt", LocalDateTime.class);
+
+    private final KeysetCursor<LocalDateTime> cursor =
+            KeysetCursor.of(LocalDateTime.of(2025, 1, 1, 12, 0), 698_554_635_463_574_400L);
+    private final List<Long> excludedUserIds = List.of(698_000_000_000_000_001L, 698_000_000_000_000_002L);
+    private final Long viewerId = 698_000_000_000_000_000L;
+    private final String keyword = "영화";
+
+    /**
+     * 공개 컬렉션 목록: 선택 조건 3개 + seek 조건
+     */
+    @Benchmark
+    public Predicate filteredSeek() {
+        return new BooleanBuilder()
+                .and(isPublic.isTrue())
+                .and(QueryDslUtil.onCondition(keyword, title::contains))
+                .and(QueryDslUtil.onNotEmpty(excludedUserIds, userId::notIn))
+                .and(QueryDslUtil.onCondition(viewerId != null, () -> userId.ne(viewerId)))
+                .and(QueryDslUtil.seekAfter(createdAt, id, cursor, Order.DESC));
+    }
+
+    /**
+     * 첫 페이지: 선택 조건이 모두 비어 있는 경우
+     */
+    @Benchmark
+    public Predicate emptyFirstPage() {
+        return new BooleanBuilder()
+                .and(isPublic.isTrue())
+                .and(QueryDslUtil.onCondition((String) null, title::contains))
+                .and(QueryDslUtil.onNotEmpty(List.<Long>of(), userId::notIn))
+                .and(QueryDslUtil.seekAfter(createdAt, id, null, Order.DESC));
+    }
+
+    @Benchmark
+    public OrderSpecifier<?>[] keysetOrder() {
+        return QueryDslUtil.keysetOrder(createdAt, id, Order.DESC);
+    }
+
+    /**
+     * 조립한 조건을 JPQL where 절로 렌더링 (Hibernate에 넘기기 직전 단계)
+     */
+    @Benchmark
+    public String serializeSeek() {
+        JPQLSerializer serializer = new JPQLSerializer(JPQLTemplates.DEFAULT);
+        serializer.handle(Expressions.allOf(
+                isPublic.isTrue(),
+                QueryDslUtil.seekAfter(createdAt, id, cursor, Order.DESC)));
+        return serializer.toString();
+    }
+}
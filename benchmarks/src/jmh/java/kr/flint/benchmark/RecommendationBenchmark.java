@@ -0,0 +1,115 @@
+package kr.flint.benchmark;
+
+import kr.flint.collection.service.PublicCollectionPool;
+import kr.flint.taste.service.TasteIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 취향 키워드 추천 (TasteIndex + PublicCollectionPool) 조회 비용.
+ * <p>
+ * 사용자 10만 명, 공개 컬렉션 100만 개. 키워드 인기도와 컬렉션 소유는 일부 사용자/키워드에 몰리도록 치우치게 생성한다.
+ * 목표: top-20 추천 p99 한 자릿수 ms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RecommendationBenchmark {
+
+    private static final long USER_ID_BASE = 1_000_000L;
+    private static final long COLLECTION_ID_BASE = 100_000_000L;
+
+    @Param("100000")
+    int users;
+
+    @Param("1000000")
+    int collections;
+
+    @Param("300")
+    int keywords;
+
+    @Param({"3", "10"})
+    int keywordsPerUser;
+
+    private final TasteIndex tasteIndex = new TasteIndex();
+    private final PublicCollectionPool pool = new PublicCollectionPool();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+
+        Map<Long, List<Long>> keywordIdsByUser = new HashMap<>(users * 2);
+        for (int i = 0; i < users; i++) {
+            Set<Long> chosen = new HashSet<>();
+            while (chosen.size() < keywordsPerUser) {
+                chosen.add((long) skewed(random, keywords) + 1);
+            }
+            keywordIdsByUser.put(USER_ID_BASE + i, new ArrayList<>(chosen));
+        }
+        tasteIndex.replaceAll(keywordIdsByUser);
+
+        List<PublicCollectionPool.Entry> entries = new ArrayList<>(collections);
+        for (int i = 0; i < collections; i++) {
+            entries.add(new PublicCollectionPool.Entry(COLLECTION_ID_BASE + i, USER_ID_BASE + skewed(random, users)));
+        }
+        pool.replaceAll(entries);
+    }
+
+    @Benchmark
+    public List<Long> recommendTop20() {
+        return pool.collectOwnedBy(tasteIndex.findSimilarUsers(randomViewer()), 20, 2);
+    }
+
+    /**
+     * 비트맵 연산만 (소유자 순회 제외)
+     */
+    @Benchmark
+    public void findSimilarUsersFirst100(Blackhole blackhole) {
+        PrimitiveIterator.OfLong similarUsers = tasteIndex.findSimilarUsers(randomViewer());
+        for (int i = 0; i < 100 && similarUsers.hasNext(); i++) {
+            blackhole.consume(similarUsers.nextLong());
+        }
+    }
+
+    @Benchmark
+    public List<Long> randomSample20() {
+        return pool.sample(20, Set.of());
+    }
+
+    private long randomViewer() {
+        return USER_ID_BASE + ThreadLocalRandom.current().nextInt(users);
+    }
+
+    /**
+     * 0 ~ bound - 1, 작은 값일수록 자주 나오는 분포
+     */
+    private static int skewed(SplittableRandom random, int bound) {
+        double u = random.nextDouble();
+        return (int) (bound * u * u);
+    }
+}
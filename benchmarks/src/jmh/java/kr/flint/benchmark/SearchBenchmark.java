@@ -0,0 +1,123 @@
+package kr.flint.benchmark;
+
+import kr.flint.search.dto.SearchDocument;
+import kr.flint.search.dto.SearchHit;
+import kr.flint.search.dto.SearchType;
+import kr.flint.search.repository.SearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 검색 색인 조회 비용 (메모리 맵 디렉터리, BM25, 공개 범위 필터 포함).
+ * <p>
+ * 사용자 1만 명의 콘텐츠/컬렉션 문서를 한글 단어 조합으로 생성한다. 단어 빈도는 일부 단어에 몰리도록 치우치게 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SearchBenchmark {
+
+    private static final String[] WORDS = {
+            "영화", "드라마", "여행", "캠핑", "요리", "레시피", "음악", "플레이리스트", "개발", "스프링",
+            "자바", "디자인", "독서", "에세이", "소설", "운동", "러닝", "등산", "카페", "맛집",
+            "전시", "미술관", "사진", "필름", "강의", "정리", "추천", "모음", "주말", "서울",
+            "부산", "제주", "인테리어", "가구", "육아", "반려동물", "고양이", "강아지", "경제", "투자"
+    };
+    private static final String[] PARTICLES = {"", "을", "를", "의", "에", "와", "과", "로"};
+    private static final int USERS = 10_000;
+
+    @Param({"200000", "1000000"})
+    int documents;
+
+    private Path path;
+    private SearchIndex searchIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        path = Files.createTempDirectory("flint-search-benchmark");
+        searchIndex = new SearchIndex(path);
+
+        SplittableRandom random = new SplittableRandom(42);
+        List<SearchDocument> batch = new ArrayList<>(10_000);
+        for (long id = 1; id <= documents; id++) {
+            long ownerId = 1 + random.nextInt(USERS);
+            batch.add(id % 2 == 0
+                    ? SearchDocument.content(id, ownerId, sentence(random, 4), sentence(random, 20))
+                    : SearchDocument.collection(id, ownerId, random.nextInt(10) < 7, sentence(random, 4), sentence(random, 12)));
+            if (batch.size() == 10_000) {
+                searchIndex.upsert(batch);
+                batch.clear();
+            }
+        }
+        searchIndex.upsert(batch);
+        searchIndex.commit();
+        searchIndex.refresh();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        searchIndex.close();
+        try (Stream<Path> files = Files.walk(path)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public List<SearchHit> singleWord() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return searchIndex.search(viewer(random), WORDS[random.nextInt(WORDS.length)], null, 0, 21);
+    }
+
+    @Benchmark
+    public List<SearchHit> twoWords() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String query = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+        return searchIndex.search(viewer(random), query, null, 0, 21);
+    }
+
+    @Benchmark
+    public List<SearchHit> ownContentOnly() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return searchIndex.search(viewer(random), WORDS[random.nextInt(WORDS.length)], SearchType.CONTENT, 0, 21);
+    }
+
+    private static Long viewer(ThreadLocalRandom random) {
+        return 1L + random.nextInt(USERS);
+    }
+
+    private static String sentence(SplittableRandom random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            double u = random.nextDouble();
+            builder.append(WORDS[(int) (WORDS.length * u * u)])
+                    .append(PARTICLES[random.nextInt(PARTICLES.length)])
+                    .append(' ');
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,45 @@
+package kr.flint.benchmark;
+
+import kr.flint.shared.id.TsidGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 스레드가 전역 TSID 생성기 하나를 공유할 때의 처리량.
+ * 단건 발급(엔티티 저장)과 100개 구간 예약(JDBC 배치 저장)을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class TsidBenchmark {
+
+    private static final int BLOCK_SIZE = 100;
+
+    private final TsidGenerator generator = TsidGenerator.getInstance();
+
+    @Benchmark
+    public long next() {
+        return generator.next();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BLOCK_SIZE)
+    public long[] allocateBlock() {
+        return generator.allocate(BLOCK_SIZE);
+    }
+}
@@ -0,0 +1,45 @@
+package kr.flint.infra.redis.cache;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+
+/**
+ * 캐시 값과 만료/계산 비용 메타데이터.
+ * 확률적 조기 갱신(XFetch)에 필요한 정보를 L1/L2 모두에 함께 보관한다.
+ *
+ * @param value      캐시 값. 로더가 null을 반환한 경우에만 null이며 이 엔트리는 저장하지 않는다
+ * @param expiresAt  만료 시각 (epoch millis). 0이면 만료하지 않음
+ * @param loadMillis 값을 계산하는 데 걸린 시간
+ */
+public record CacheEntry(
+        @Nullable Object value,
+        long expiresAt,
+        long loadMillis
+) {
+
+    /**
+     * 엔트리에 기록된 만료 시각으로 Redis TTL 계산
+     */
+    public static final RedisCacheWriter.TtlFunction TTL_FUNCTION = (key, value) -> {
+        if (value instanceof CacheEntry entry && entry.expiresAt() > 0) {
+            return Duration.ofMillis(Math.max(1, entry.expiresAt() - System.currentTimeMillis()));
+        }
+        return Duration.ZERO;
+    };
+
+    /**
+     * 메타데이터 없이 저장된 값(이전 포맷)은 만료 정보 없는 엔트리로 취급
+     */
+    static @Nullable CacheEntry from(@Nullable Object stored) {
+        if (stored == null || stored instanceof CacheEntry) {
+            return (CacheEntry) stored;
+        }
+        return new CacheEntry(stored, 0, 0);
+    }
+
+    boolean isExpired(long now) {
+        return expiresAt > 0 && now >= expiresAt;
+    }
+}
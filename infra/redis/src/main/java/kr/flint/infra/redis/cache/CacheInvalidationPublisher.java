@@ -0,0 +1,70 @@
+package kr.flint.infra.redis.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+/**
+ * L1 무효화 메시지를 Redis pub/sub으로 다른 노드에 전파.
+ * <p>
+ * 메시지 포맷: {@code nodeId \n cacheName [\n key]} (key가 없으면 캐시 전체 무효화)
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    private static final char SEPARATOR = '\n';
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(RedisConnectionFactory redisConnectionFactory, String channel) {
+        this.redisTemplate = new StringRedisTemplate(redisConnectionFactory);
+        this.channel = channel;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    void publishEvict(String cacheName, String key) {
+        publish(nodeId + SEPARATOR + cacheName + SEPARATOR + key);
+    }
+
+    void publishClear(String cacheName) {
+        publish(nodeId + SEPARATOR + cacheName);
+    }
+
+    /**
+     * 자기 자신이 보낸 메시지는 null 반환
+     */
+    @Nullable Invalidation parse(String message) {
+        int first = message.indexOf(SEPARATOR);
+        if (first < 0) {
+            return null;
+        }
+        if (first == nodeId.length() && message.startsWith(nodeId)) {
+            return null;
+        }
+        int second = message.indexOf(SEPARATOR, first + 1);
+        if (second < 0) {
+            return new Invalidation(message.substring(first + 1), null);
+        }
+        return new Invalidation(message.substring(first + 1, second), message.substring(second + 1));
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } catch (RuntimeException e) {
+            // 전파에 실패해도 다른 노드의 L1은 localTtl 이내에 만료된다
+            log.warn("캐시 무효화 전파 실패: {}", message, e);
+        }
+    }
+
+    record Invalidation(String cacheName, @Nullable String key) {
+    }
+}
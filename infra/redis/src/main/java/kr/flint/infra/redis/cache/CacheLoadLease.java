@@ -0,0 +1,61 @@
+package kr.flint.infra.redis.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 캐시 값을 계산할 노드를 하나로 제한하는 Redis 임대(lease).
+ * 임대는 만료 시간이 있으므로 계산 중 노드가 죽어도 다른 노드가 이어서 계산할 수 있다.
+ */
+@Slf4j
+public class CacheLoadLease {
+
+    private static final String KEY_PREFIX = "flint:cache:lease:";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public CacheLoadLease(RedisConnectionFactory redisConnectionFactory) {
+        this.redisTemplate = new StringRedisTemplate(redisConnectionFactory);
+    }
+
+    /**
+     * @return 임대를 얻으면 해제에 사용할 토큰, 다른 노드가 보유 중이면 null
+     */
+    @Nullable String tryAcquire(String cacheName, String key, Duration leaseTime) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(leaseKey(cacheName, key), token, leaseTime);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (RuntimeException e) {
+            // 임대를 확인할 수 없으면 이 노드에서 계산 (JVM 내 single-flight는 유지)
+            log.warn("캐시 임대 획득 실패: {}::{}", cacheName, key, e);
+            return token;
+        }
+    }
+
+    void release(String cacheName, String key, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey(cacheName, key)), token);
+        } catch (RuntimeException e) {
+            log.warn("캐시 임대 해제 실패: {}::{}", cacheName, key, e);
+        }
+    }
+
+    private static String leaseKey(String cacheName, String key) {
+        return KEY_PREFIX + cacheName + "::" + key;
+    }
+}
@@ -0,0 +1,102 @@
+package kr.flint.infra.redis.cache;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 캐시별 정책 설정. caches에 없는 캐시는 defaults를 따른다.
+ *
+ * <pre>
+ * cache:
+ *   defaults:
+ *     local-max-size: 10000
+ *     local-ttl: 30s
+ *     ttl: 1h
+ *     ttl-jitter: 5m
+ *   caches:
+ *     pagination-count:
+ *       local-max-size: 0   # L1 미사용
+ *       ttl: 10m
+ *     collection-detail:
+ *       value-type: kr.flint.collection.dto.CollectionResponse   # 타입 정보 없이 직렬화
+ *   serialization:
+ *     format: SMILE
+ *     compression-threshold: 1024
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "cache")
+public record CachePolicyProperties(
+        @DefaultValue("flint:cache:invalidation") String invalidationChannel,
+        @DefaultValue CachePolicy defaults,
+        @DefaultValue Map<String, CachePolicy> caches,
+        @DefaultValue Serialization serialization
+) {
+
+    private static final long DEFAULT_LOCAL_MAX_SIZE = 10_000;
+    private static final Duration DEFAULT_LOCAL_TTL = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_TTL = Duration.ofHours(1);
+    private static final double DEFAULT_EARLY_REFRESH_BETA = 1.0;
+    private static final Duration DEFAULT_LOAD_LEASE = Duration.ofSeconds(5);
+
+    public CachePolicy policyOf(String cacheName) {
+        CachePolicy fallback = defaults.orElse(new CachePolicy(
+                DEFAULT_LOCAL_MAX_SIZE, DEFAULT_LOCAL_TTL, null,
+                DEFAULT_TTL, Duration.ZERO, DEFAULT_EARLY_REFRESH_BETA, DEFAULT_LOAD_LEASE));
+        CachePolicy policy = caches.get(cacheName);
+        return policy == null ? fallback : policy.orElse(fallback);
+    }
+
+    /**
+     * @param localMaxSize L1(프로세스 내) 최대 엔트리 수. 0이면 L1을 사용하지 않는다
+     * @param localTtl     L1 엔트리 유지 시간. 다른 노드의 무효화 메시지가 유실되어도 이 시간 이상 오래된 값은 제공하지 않는다
+     * @param valueType    캐시 값의 타입. 지정하면 클래스명을 값에 포함하지 않는 스키마 기반 직렬화를 사용한다 (캐시별로만 지정)
+     * @param ttl              Redis 엔트리 유지 시간. 0이면 만료하지 않는다
+     * @param ttlJitter        ttl에 더하는 무작위 시간의 최대값. 같은 시점에 채워진 키들이 동시에 만료되지 않도록 분산
+     * @param earlyRefreshBeta 만료 전 확률적 갱신 강도 (XFetch beta). 0이면 만료 전 갱신하지 않는다
+     * @param loadLease        한 노드만 값을 계산하도록 잡는 Redis 임대 시간. 다른 노드는 이 시간 동안 계산 결과를 기다린다
+     */
+    public record CachePolicy(
+            @Nullable Long localMaxSize,
+            @Nullable Duration localTtl,
+            @Nullable Class<?> valueType,
+            @Nullable Duration ttl,
+            @Nullable Duration ttlJitter,
+            @Nullable Double earlyRefreshBeta,
+            @Nullable Duration loadLease
+    ) {
+
+        CachePolicy orElse(CachePolicy fallback) {
+            return new CachePolicy(
+                    localMaxSize != null ? localMaxSize : fallback.localMaxSize(),
+                    localTtl != null ? localTtl : fallback.localTtl(),
+                    valueType,
+                    ttl != null ? ttl : fallback.ttl(),
+                    ttlJitter != null ? ttlJitter : fallback.ttlJitter(),
+                    earlyRefreshBeta != null ? earlyRefreshBeta : fallback.earlyRefreshBeta(),
+                    loadLease != null ? loadLease : fallback.loadLease()
+            );
+        }
+
+        boolean localEnabled() {
+            return localMaxSize != null && localMaxSize > 0 && localTtl != null && !localTtl.isZero();
+        }
+    }
+
+    /**
+     * @param format               새로 쓰는 값의 포맷. 읽기는 포맷과 무관하게 헤더를 보고 판단한다
+     * @param compressionThreshold 이 크기(바이트)를 넘는 값은 deflate 압축. 0이면 압축하지 않는다
+     */
+    public record Serialization(
+            @DefaultValue("SMILE") WireFormat format,
+            @DefaultValue("1024") int compressionThreshold
+    ) {
+    }
+
+    public enum WireFormat {
+        JSON, SMILE
+    }
+}
@@ -0,0 +1,68 @@
+package kr.flint.infra.redis.cache;
+
+import io.micrometer.core.instrument.Timer;
+import org.jspecify.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캐시 계층별 hit/miss 집계. L1 hit 수가 절약한 Redis 왕복 수다.
+ * <p>
+ * 값 계산(load) 시간은 Timer가 있을 때만 기록한다.
+ */
+public final class CacheTierStats {
+
+    private final @Nullable Timer loadSuccess;
+    private final @Nullable Timer loadFailure;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder localMisses = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+
+    CacheTierStats(@Nullable Timer loadSuccess, @Nullable Timer loadFailure) {
+        this.loadSuccess = loadSuccess;
+        this.loadFailure = loadFailure;
+    }
+
+    void localHit() {
+        localHits.increment();
+    }
+
+    void localMiss() {
+        localMisses.increment();
+    }
+
+    void remoteHit() {
+        remoteHits.increment();
+    }
+
+    void remoteMiss() {
+        remoteMisses.increment();
+    }
+
+    void load(long elapsedNanos, boolean success) {
+        Timer timer = success ? loadSuccess : loadFailure;
+        if (timer != null) {
+            timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(localHits.sum(), localMisses.sum(), remoteHits.sum(), remoteMisses.sum());
+    }
+
+    public record Snapshot(
+            long localHits,
+            long localMisses,
+            long remoteHits,
+            long remoteMisses
+    ) {
+
+        public double localHitRatio() {
+            long total = localHits + localMisses;
+            return total == 0 ? 0 : (double) localHits / total;
+        }
+    }
+}
@@ -0,0 +1,433 @@
+package kr.flint.infra.redis.cache;
+
+import kr.flint.infra.redis.cache.CachePolicyProperties.CachePolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 프로세스 내 L1(Caffeine) + Redis L2 캐시.
+ * <p>
+ * 조회는 L1 → L2 순서로 하고 L2 hit은 L1에 채운다.
+ * 쓰기/삭제는 L2에 먼저 반영한 뒤 L1을 갱신하고 다른 노드에 L1 무효화를 전파한다.
+ * <p>
+ * {@code @Cacheable(sync = true)}로 호출되는 {@link #get(Object, Callable)}은 캐시 스탬피드를 막는다.
+ * <ul>
+ *     <li>JVM 내: 같은 키는 한 스레드만 계산하고 나머지는 결과를 공유 (single-flight)</li>
+ *     <li>노드 간: Redis 임대를 얻은 노드만 계산하고, 나머지는 임대 보유 노드가 끝났다는 무효화 메시지를 임대 시간까지 기다린 뒤 L2를 읽음</li>
+ *     <li>만료 전: 계산 비용과 남은 시간에 비례한 확률로 백그라운드 갱신 (XFetch), 갱신 중에는 기존 값 제공</li>
+ * </ul>
+ */
+@Slf4j
+public class TwoTierCache implements Cache {
+
+    private final String name;
+    private final CachePolicy policy;
+    private final com.github.benmanes.caffeine.cache.@Nullable Cache<String, CacheEntry> local;
+    private final Cache remote;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final CacheLoadLease loadLease;
+    private final Executor refreshExecutor;
+    private final CacheTierStats stats;
+
+    private final ConcurrentMap<String, CompletableFuture<CacheEntry>> loading = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompletableFuture<Void>> awaitingOtherNode = new ConcurrentHashMap<>();
+
+    TwoTierCache(String name,
+                 CachePolicy policy,
+                 com.github.benmanes.caffeine.cache.@Nullable Cache<String, CacheEntry> local,
+                 Cache remote,
+                 CacheInvalidationPublisher invalidationPublisher,
+                 CacheLoadLease loadLease,
+                 Executor refreshExecutor,
+                 CacheTierStats stats) {
+        this.name = name;
+        this.policy = policy;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+        this.loadLease = loadLease;
+        this.refreshExecutor = refreshExecutor;
+        this.stats = stats;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    public CacheTierStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public @Nullable ValueWrapper get(Object key) {
+        CacheEntry entry = lookup(key, localKey(key));
+        return entry == null ? null : new SimpleValueWrapper(entry.value());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable T get(Object key, @Nullable Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        CacheEntry entry = lookup(key, localKey);
+        if (entry != null) {
+            if (shouldRefreshEarly(entry)) {
+                refreshAsync(key, localKey, valueLoader);
+            }
+            return (T) entry.value();
+        }
+        return (T) load(key, localKey, valueLoader).value();
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        store(key, localKey(key), newEntry(value, 0));
+    }
+
+    @Override
+    public @Nullable ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        if (value == null) {
+            return get(key);
+        }
+        String localKey = localKey(key);
+        CacheEntry entry = newEntry(value, 0);
+        ValueWrapper existing = remote.putIfAbsent(key, entry);
+        CacheEntry existingEntry = existing == null ? null : CacheEntry.from(existing.get());
+        if (existingEntry != null) {
+            putLocal(localKey, existingEntry);
+            return new SimpleValueWrapper(existingEntry.value());
+        }
+        putLocal(localKey, entry);
+        invalidateOthers(localKey);
+        return null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        remote.evict(key);
+        invalidateLocal(localKey);
+        invalidateOthers(localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        String localKey = localKey(key);
+        boolean evicted = remote.evictIfPresent(key);
+        invalidateLocal(localKey);
+        invalidateOthers(localKey);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        clearLocal();
+        invalidationPublisher.publishClear(name);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        clearLocal();
+        invalidationPublisher.publishClear(name);
+        return invalidated;
+    }
+
+    // ==================== 조회 / 적재 ====================
+
+    private @Nullable CacheEntry lookup(Object key, String localKey) {
+        CacheEntry entry = getLocal(localKey);
+        if (entry != null) {
+            return entry;
+        }
+
+        entry = getRemote(key, localKey);
+        if (entry == null) {
+            stats.remoteMiss();
+        }
+        return entry;
+    }
+
+    /**
+     * 같은 키를 이미 계산 중인 스레드가 있으면 그 결과를 기다린다
+     */
+    private CacheEntry load(Object key, String localKey, Callable<?> valueLoader) {
+        CompletableFuture<CacheEntry> mine = new CompletableFuture<>();
+        CompletableFuture<CacheEntry> inFlight = loading.putIfAbsent(localKey, mine);
+        if (inFlight != null) {
+            CacheEntry shared = join(inFlight);
+            // 다른 노드가 갱신 중이라 조기 갱신이 취소된 경우
+            return shared != null ? shared : loadWithLease(key, localKey, valueLoader);
+        }
+
+        try {
+            CacheEntry entry = loadWithLease(key, localKey, valueLoader);
+            mine.complete(entry);
+            return entry;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(localKey, mine);
+        }
+    }
+
+    private CacheEntry loadWithLease(Object key, String localKey, Callable<?> valueLoader) {
+        Duration leaseTime = policy.loadLease();
+        String token = loadLease.tryAcquire(name, localKey, leaseTime);
+        if (token == null) {
+            CacheEntry loadedByOther = awaitOtherNode(key, localKey, leaseTime);
+            if (loadedByOther != null) {
+                return loadedByOther;
+            }
+            // 임대가 끝나도록 값이 채워지지 않으면 직접 계산
+        }
+
+        try {
+            return loadAndStore(key, localKey, valueLoader);
+        } finally {
+            if (token != null) {
+                loadLease.release(name, localKey, token);
+            }
+            releaseWaiters(localKey);
+        }
+    }
+
+    /**
+     * 임대 보유 노드의 계산이 끝났다는 메시지({@link #invalidateLocal})를 받을 때까지 기다린 뒤 L2를 한 번 읽는다.
+     * 보유 노드가 죽었거나 메시지가 유실되면 임대가 만료되는 leaseTime 뒤에 깨어난다
+     */
+    private @Nullable CacheEntry awaitOtherNode(Object key, String localKey, Duration leaseTime) {
+        CompletableFuture<Void> released = awaitingOtherNode.computeIfAbsent(localKey, k -> new CompletableFuture<>());
+        try {
+            // 대기를 등록하기 전에 계산이 끝나 메시지를 놓쳤을 수 있다
+            CacheEntry entry = getRemote(key, localKey);
+            if (entry != null) {
+                return entry;
+            }
+            released.get(leaseTime.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            // 임대 만료까지 알림이 없으면 L2를 확인하고 직접 계산
+        } finally {
+            awaitingOtherNode.remove(localKey, released);
+        }
+        return getRemote(key, localKey);
+    }
+
+    private @Nullable CacheEntry getRemote(Object key, String localKey) {
+        ValueWrapper wrapper = remote.get(key);
+        CacheEntry entry = wrapper == null ? null : CacheEntry.from(wrapper.get());
+        if (entry == null || entry.value() == null) {
+            return null;
+        }
+        stats.remoteHit();
+        putLocal(localKey, entry);
+        return entry;
+    }
+
+    /**
+     * 임대를 기다리는 다른 노드를 깨운다. 값을 채우지 못했어도 보내서, 기다리던 노드가 임대 만료 전에 직접 계산하게 한다
+     */
+    private void releaseWaiters(String localKey) {
+        invalidationPublisher.publishEvict(name, localKey);
+    }
+
+    private CacheEntry loadAndStore(Object key, String localKey, Callable<?> valueLoader) {
+        long startedAt = System.nanoTime();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            stats.load(System.nanoTime() - startedAt, false);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        stats.load(elapsedNanos, true);
+        CacheEntry entry = newEntry(value, Duration.ofNanos(elapsedNanos).toMillis());
+        if (value != null) {
+            // 다른 노드의 L1 무효화는 임대 해제 뒤 releaseWaiters가 함께 전파한다
+            remote.put(key, entry);
+            putLocal(localKey, entry);
+        }
+        return entry;
+    }
+
+    // ==================== 조기 갱신 (XFetch) ====================
+
+    /**
+     * now - loadMillis * beta * ln(rand) >= expiresAt 이면 갱신.
+     * 계산이 오래 걸리는 값일수록, 만료가 가까울수록 먼저 갱신될 확률이 높다
+     */
+    private boolean shouldRefreshEarly(CacheEntry entry) {
+        Double beta = policy.earlyRefreshBeta();
+        if (entry.expiresAt() <= 0 || entry.loadMillis() <= 0 || beta == null || beta <= 0) {
+            return false;
+        }
+        double gap = -entry.loadMillis() * beta * Math.log(ThreadLocalRandom.current().nextDouble());
+        return System.currentTimeMillis() + gap >= entry.expiresAt();
+    }
+
+    /**
+     * 다른 노드가 이미 갱신 중(임대 보유)이면 건너뛰고, 갱신하는 동안에는 기존 값을 계속 제공
+     */
+    private void refreshAsync(Object key, String localKey, Callable<?> valueLoader) {
+        CompletableFuture<CacheEntry> mine = new CompletableFuture<>();
+        if (loading.putIfAbsent(localKey, mine) != null) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                String token = loadLease.tryAcquire(name, localKey, policy.loadLease());
+                try {
+                    if (token != null) {
+                        mine.complete(loadAndStore(key, localKey, valueLoader));
+                    } else {
+                        mine.cancel(false);
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("캐시 조기 갱신 실패: {}::{}", name, localKey, e);
+                    mine.completeExceptionally(e);
+                } finally {
+                    loading.remove(localKey, mine);
+                    if (token != null) {
+                        loadLease.release(name, localKey, token);
+                        releaseWaiters(localKey);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            loading.remove(localKey, mine);
+            log.warn("캐시 조기 갱신 작업 등록 실패: {}::{}", name, localKey, e);
+        }
+    }
+
+    private CacheEntry newEntry(@Nullable Object value, long loadMillis) {
+        Duration ttl = policy.ttl();
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            return new CacheEntry(value, 0, loadMillis);
+        }
+
+        long jitterMillis = policy.ttlJitter() == null ? 0 : policy.ttlJitter().toMillis();
+        long extra = jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0;
+        return new CacheEntry(value, System.currentTimeMillis() + ttl.toMillis() + extra, loadMillis);
+    }
+
+    private void store(Object key, String localKey, CacheEntry entry) {
+        remote.put(key, entry);
+        putLocal(localKey, entry);
+        invalidateOthers(localKey);
+    }
+
+    private static @Nullable CacheEntry join(CompletableFuture<CacheEntry> future) {
+        try {
+            return future.join();
+        } catch (CancellationException e) {
+            return null;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // ==================== L1 ====================
+
+    /**
+     * 다른 노드가 키를 바꿨거나 계산을 마쳤다. L1에서 지우고 그 노드의 임대를 기다리던 스레드를 깨운다
+     */
+    void invalidateLocal(String localKey) {
+        if (local != null) {
+            local.invalidate(localKey);
+        }
+        CompletableFuture<Void> released = awaitingOtherNode.get(localKey);
+        if (released != null) {
+            released.complete(null);
+        }
+    }
+
+    void clearLocal() {
+        if (local != null) {
+            local.invalidateAll();
+        }
+        awaitingOtherNode.values().forEach(released -> released.complete(null));
+    }
+
+    private @Nullable CacheEntry getLocal(String localKey) {
+        if (local == null) {
+            return null;
+        }
+        CacheEntry entry = local.getIfPresent(localKey);
+        if (entry != null && entry.isExpired(System.currentTimeMillis())) {
+            local.invalidate(localKey);
+            entry = null;
+        }
+        if (entry == null) {
+            stats.localMiss();
+        } else {
+            stats.localHit();
+        }
+        return entry;
+    }
+
+    private void putLocal(String localKey, CacheEntry entry) {
+        if (local != null && entry.value() != null) {
+            local.put(localKey, entry);
+        }
+    }
+
+    private void invalidateOthers(String localKey) {
+        if (local != null) {
+            invalidationPublisher.publishEvict(name, localKey);
+        }
+    }
+
+    /**
+     * 노드 간 무효화 메시지로 주고받을 수 있도록 L1 키는 문자열로 통일
+     */
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,153 @@
+package kr.flint.infra.redis.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.flint.infra.redis.cache.CachePolicyProperties.CachePolicy;
+import kr.flint.infra.redis.cache.CacheInvalidationPublisher.Invalidation;
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * {@link RedisCacheManager} 앞에 캐시별 L1을 두는 CacheManager.
+ * 다른 노드가 보낸 무효화 메시지를 받아 L1에서 제거한다.
+ * <p>
+ * MeterRegistry가 있으면 캐시를 만들 때 지표를 등록한다.
+ * <ul>
+ *     <li>{@code cache.gets{cache, tier=local|remote, result=hit|miss}}</li>
+ *     <li>{@code cache.load{cache, result=success|failure}}: 값 계산 시간 히스토그램</li>
+ * </ul>
+ */
+public class TwoTierCacheManager implements CacheManager, MessageListener, AutoCloseable {
+
+    private final RedisCacheManager redisCacheManager;
+    private final CachePolicyProperties properties;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final CacheLoadLease loadLease;
+    private final @Nullable MeterRegistry meterRegistry;
+
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public TwoTierCacheManager(RedisCacheManager redisCacheManager,
+                               CachePolicyProperties properties,
+                               CacheInvalidationPublisher invalidationPublisher,
+                               CacheLoadLease loadLease,
+                               @Nullable MeterRegistry meterRegistry) {
+        this.redisCacheManager = redisCacheManager;
+        this.properties = properties;
+        this.invalidationPublisher = invalidationPublisher;
+        this.loadLease = loadLease;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public @Nullable Cache getCache(String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remote = redisCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> createCache(key, remote));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    /**
+     * 캐시별 계층 hit/miss 통계
+     */
+    public Map<String, CacheTierStats.Snapshot> getStatistics() {
+        return caches.values().stream()
+                .collect(Collectors.toMap(TwoTierCache::getName, cache -> cache.getStats().snapshot()));
+    }
+
+    @Override
+    public void onMessage(Message message, byte @Nullable [] pattern) {
+        Invalidation invalidation = invalidationPublisher.parse(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (invalidation == null) {
+            return;
+        }
+        TwoTierCache cache = caches.get(invalidation.cacheName());
+        if (cache == null) {
+            return;
+        }
+        if (invalidation.key() == null) {
+            cache.clearLocal();
+        } else {
+            cache.invalidateLocal(invalidation.key());
+        }
+    }
+
+    /**
+     * 진행 중인 조기 갱신을 중단한다. 갱신은 최선 노력이라 다음 조회가 다시 계산한다
+     */
+    @Override
+    public void close() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private TwoTierCache createCache(String name, Cache remote) {
+        CachePolicy policy = properties.policyOf(name);
+        com.github.benmanes.caffeine.cache.Cache<String, CacheEntry> local = policy.localEnabled()
+                ? Caffeine.newBuilder()
+                .maximumSize(policy.localMaxSize())
+                .expireAfterWrite(policy.localTtl())
+                .build()
+                : null;
+        return new TwoTierCache(name, policy, local, remote, invalidationPublisher, loadLease, refreshExecutor,
+                createStats(name));
+    }
+
+    private CacheTierStats createStats(String name) {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            return new CacheTierStats(null, null);
+        }
+        CacheTierStats stats = new CacheTierStats(
+                loadTimer(registry, name, "success"), loadTimer(registry, name, "failure"));
+        registerGets(registry, name, "local", "hit", stats, CacheTierStats.Snapshot::localHits);
+        registerGets(registry, name, "local", "miss", stats, CacheTierStats.Snapshot::localMisses);
+        registerGets(registry, name, "remote", "hit", stats, CacheTierStats.Snapshot::remoteHits);
+        registerGets(registry, name, "remote", "miss", stats, CacheTierStats.Snapshot::remoteMisses);
+        return stats;
+    }
+
+    private static Timer loadTimer(MeterRegistry registry, String name, String result) {
+        return Timer.builder("cache.load")
+                .description("캐시 값 계산 시간")
+                .tag("cache", name)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static void registerGets(MeterRegistry registry, String name, String tier, String result,
+                                     CacheTierStats stats, ToDoubleFunction<CacheTierStats.Snapshot> count) {
+        FunctionCounter.builder("cache.gets", stats, s -> count.applyAsDouble(s.snapshot()))
+                .description("캐시 계층별 조회 결과")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+}
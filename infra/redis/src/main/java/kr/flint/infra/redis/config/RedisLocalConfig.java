@@ -1,12 +1,20 @@
 package kr.flint.infra.redis.config;
 
-import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
-import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.flint.infra.redis.cache.CacheEntry;
+import kr.flint.infra.redis.cache.CacheInvalidationPublisher;
+import kr.flint.infra.redis.cache.CacheLoadLease;
+import kr.flint.infra.redis.cache.CachePolicyProperties;
+import kr.flint.infra.redis.cache.TwoTierCacheManager;
+import kr.flint.infra.redis.serializer.CacheSerializerCustomizer;
+import kr.flint.infra.redis.serializer.CacheSerializerRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -16,14 +24,18 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CachePolicyProperties.class)
 @RequiredArgsConstructor
 @Profile("local")
 public class RedisLocalConfig {
@@ -40,7 +52,11 @@ public class RedisLocalConfig {
     @Value("${spring.data.redis.database:0}")
     private int database;
 
+    @Value("${redis.request-queue-size:2147483647}")
+    private int requestQueueSize;
+
     private final ObjectMapper objectMapper;
+    private final CachePolicyProperties cachePolicyProperties;
 
     @Bean
     RedisConfiguration redisConfiguration() {
@@ -52,44 +68,76 @@ public class RedisLocalConfig {
         return config;
     }
 
+    /**
+     * Boot가 만든 ClientResources를 써야 Lettuce 명령 지연 지표가 기록된다.
+     * 연결 하나를 모든 스레드가 나눠 쓰므로, 응답을 기다리는 명령 수는 requestQueueSize로 제한한다
+     */
+    @Bean
+    public RedisConnectionFactory redisConnectionFactory(RedisConfiguration redisConfiguration,
+                                                         ClientResources clientResources) {
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .clientResources(clientResources)
+                .clientOptions(ClientOptions.builder()
+                        .requestQueueSize(requestQueueSize)
+                        .build())
+                .build();
+        return new LettuceConnectionFactory(redisConfiguration, clientConfiguration);
+    }
+
     @Bean
-    public RedisConnectionFactory redisConnectionFactory(RedisConfiguration redisConfiguration) {
-        return new LettuceConnectionFactory(redisConfiguration);
+    public CacheSerializerRegistry cacheSerializerRegistry(ObjectProvider<CacheSerializerCustomizer> customizers) {
+        CacheSerializerRegistry registry = new CacheSerializerRegistry(objectMapper, cachePolicyProperties);
+        customizers.orderedStream().forEach(customizer -> customizer.customize(registry));
+        return registry;
     }
 
     @Bean
-    RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
+    RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory,
+                                                CacheSerializerRegistry cacheSerializerRegistry) {
+        RedisSerializer<Object> valueSerializer = cacheSerializerRegistry.defaultSerializer();
+
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(redisConnectionFactory);
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer(createCacheObjectMapper()));
+        template.setValueSerializer(valueSerializer);
         template.setHashKeySerializer(new StringRedisSerializer());
-        template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer(createCacheObjectMapper()));
+        template.setHashValueSerializer(valueSerializer);
         return template;
     }
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
-        GenericJackson2JsonRedisSerializer serializer =
-                new GenericJackson2JsonRedisSerializer(createCacheObjectMapper());
+    public CacheInvalidationPublisher cacheInvalidationPublisher(RedisConnectionFactory redisConnectionFactory) {
+        return new CacheInvalidationPublisher(redisConnectionFactory, cachePolicyProperties.invalidationChannel());
+    }
 
+    @Bean(destroyMethod = "close")
+    public TwoTierCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                            CacheSerializerRegistry cacheSerializerRegistry,
+                                            CacheInvalidationPublisher cacheInvalidationPublisher,
+                                            ObjectProvider<MeterRegistry> meterRegistryProvider) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(SerializationPair.fromSerializer(serializer))
+                .serializeValuesWith(SerializationPair.fromSerializer(cacheSerializerRegistry.defaultSerializer()))
+                .entryTtl(CacheEntry.TTL_FUNCTION)
                 .disableCachingNullValues();
 
-        return RedisCacheManager.builder(redisConnectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(config)
+                .withInitialCacheConfigurations(cacheSerializerRegistry.cacheConfigurations(config))
                 .build();
+        redisCacheManager.initializeCaches();
+
+        return new TwoTierCacheManager(redisCacheManager, cachePolicyProperties, cacheInvalidationPublisher,
+                new CacheLoadLease(redisConnectionFactory), meterRegistryProvider.getIfAvailable());
     }
 
-    private ObjectMapper createCacheObjectMapper() {
-        ObjectMapper cacheMapper = objectMapper.copy();
-        cacheMapper.activateDefaultTyping(
-                LaissezFaireSubTypeValidator.instance,
-                DefaultTyping.NON_FINAL,
-                As.PROPERTY
-        );
-        return cacheMapper;
+    @Bean
+    RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                      TwoTierCacheManager cacheManager,
+                                                                      CacheInvalidationPublisher cacheInvalidationPublisher) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(cacheInvalidationPublisher.getChannel()));
+        return container;
     }
 }
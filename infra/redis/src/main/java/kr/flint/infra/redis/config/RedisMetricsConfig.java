@@ -0,0 +1,20 @@
+package kr.flint.infra.redis.config;
+
+import io.lettuce.core.metrics.MicrometerOptions;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Lettuce 명령 지연 지표 (lettuce.command.completion, lettuce.command.firstresponse).
+ * Boot 기본값은 히스토그램을 남기지 않으므로 p99를 볼 수 있도록 켠다.
+ */
+@Configuration
+public class RedisMetricsConfig {
+
+    @Bean
+    public MicrometerOptions micrometerOptions() {
+        return MicrometerOptions.builder()
+                .histogram(true)
+                .build();
+    }
+}
@@ -0,0 +1,10 @@
+package kr.flint.infra.redis.serializer;
+
+/**
+ * 캐시 전용 직렬화기를 등록하는 확장 지점. 빈으로 등록하면 CacheManager 생성 전에 적용된다.
+ */
+@FunctionalInterface
+public interface CacheSerializerCustomizer {
+
+    void customize(CacheSerializerRegistry registry);
+}
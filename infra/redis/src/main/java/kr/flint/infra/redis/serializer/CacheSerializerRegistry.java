@@ -0,0 +1,139 @@
+package kr.flint.infra.redis.serializer;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import kr.flint.infra.redis.cache.CachePolicyProperties;
+import kr.flint.infra.redis.cache.CachePolicyProperties.CachePolicy;
+import kr.flint.infra.redis.cache.CachePolicyProperties.WireFormat;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캐시별 값 직렬화기 레지스트리.
+ * <ul>
+ *     <li>기본: 타입 정보를 포함한 Smile(바이너리 JSON). 반복되는 필드명/클래스명은 back-reference로 한 번만 기록</li>
+ *     <li>valueType 지정 캐시: 루트 타입을 레지스트리가 알고 있으므로 타입 정보 없이 기록</li>
+ *     <li>{@link #register}: 캐시별 직접 구현한 직렬화기 등록 ({@link CacheSerializerCustomizer} 빈으로 등록)</li>
+ * </ul>
+ * 모든 직렬화기는 {@link VersionedRedisSerializer} 헤더를 공유하므로 포맷을 바꿔도 기존 값을 읽을 수 있다.
+ */
+public class CacheSerializerRegistry {
+
+    // 헤더 formatId. 배포 이후 값의 의미를 바꾸지 않는다
+    static final byte JSON_TYPED = 1;
+    static final byte SMILE_TYPED = 2;
+    static final byte SMILE_SCHEMA = 3;
+
+    private final ObjectMapper jsonTypedMapper;
+    private final ObjectMapper smileTypedMapper;
+    private final ObjectMapper smileSchemaMapper;
+    private final CachePolicyProperties properties;
+
+    private final RedisSerializer<Object> legacySerializer;
+    private final RedisSerializer<Object> defaultSerializer;
+    private final Map<String, RedisSerializer<Object>> serializers = new ConcurrentHashMap<>();
+
+    public CacheSerializerRegistry(ObjectMapper objectMapper, CachePolicyProperties properties) {
+        this.properties = properties;
+
+        this.jsonTypedMapper = withDefaultTyping(objectMapper.copy());
+        this.smileTypedMapper = withDefaultTyping(objectMapper.copyWith(smileFactory()));
+        this.smileSchemaMapper = objectMapper.copyWith(smileFactory());
+
+        this.legacySerializer = new GenericJackson2JsonRedisSerializer(jsonTypedMapper);
+        this.defaultSerializer = createSerializer(typedCodec());
+
+        properties.caches().forEach((cacheName, policy) -> {
+            if (policy.valueType() != null) {
+                serializers.put(cacheName, createSerializer(schemaCodec(policy)));
+            }
+        });
+    }
+
+    /**
+     * 타입을 모르는 값(RedisTemplate, valueType 미지정 캐시)에 사용하는 직렬화기
+     */
+    public RedisSerializer<Object> defaultSerializer() {
+        return defaultSerializer;
+    }
+
+    public RedisSerializer<Object> serializerFor(String cacheName) {
+        return serializers.getOrDefault(cacheName, defaultSerializer);
+    }
+
+    /**
+     * 캐시 전용 직렬화기 등록. CacheManager 생성 전에 호출해야 한다
+     */
+    public void register(String cacheName, RedisSerializer<Object> serializer) {
+        serializers.put(cacheName, serializer);
+    }
+
+    /**
+     * 전용 직렬화기가 있는 캐시의 RedisCacheConfiguration
+     */
+    public Map<String, RedisCacheConfiguration> cacheConfigurations(RedisCacheConfiguration defaults) {
+        Map<String, RedisCacheConfiguration> configurations = new HashMap<>();
+        serializers.forEach((cacheName, serializer) ->
+                configurations.put(cacheName, defaults.serializeValuesWith(SerializationPair.fromSerializer(serializer))));
+        return configurations;
+    }
+
+    private RedisSerializer<Object> createSerializer(CacheValueCodec writeCodec) {
+        return new VersionedRedisSerializer(
+                writeCodec,
+                List.of(codec(JSON_TYPED, jsonTypedMapper), codec(SMILE_TYPED, smileTypedMapper), writeCodec),
+                legacySerializer,
+                properties.serialization().compressionThreshold()
+        );
+    }
+
+    private CacheValueCodec typedCodec() {
+        return properties.serialization().format() == WireFormat.JSON
+                ? codec(JSON_TYPED, jsonTypedMapper)
+                : codec(SMILE_TYPED, smileTypedMapper);
+    }
+
+    private CacheValueCodec schemaCodec(CachePolicy policy) {
+        if (properties.serialization().format() == WireFormat.JSON) {
+            return typedCodec();
+        }
+        return new CacheValueCodec(
+                SMILE_SCHEMA,
+                smileSchemaMapper.writerFor(policy.valueType()),
+                smileSchemaMapper.readerFor(policy.valueType())
+        );
+    }
+
+    /**
+     * 루트 타입을 Object로 고정하여 record 등 final 클래스도 루트에 타입 정보를 기록
+     */
+    private static CacheValueCodec codec(byte formatId, ObjectMapper typedMapper) {
+        return new CacheValueCodec(formatId, typedMapper.writerFor(Object.class), typedMapper.readerFor(Object.class));
+    }
+
+    private static SmileFactory smileFactory() {
+        return SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+    }
+
+    private static ObjectMapper withDefaultTyping(ObjectMapper mapper) {
+        mapper.activateDefaultTyping(
+                LaissezFaireSubTypeValidator.instance,
+                DefaultTyping.NON_FINAL,
+                As.PROPERTY
+        );
+        return mapper;
+    }
+}
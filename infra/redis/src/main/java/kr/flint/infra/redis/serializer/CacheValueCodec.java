@@ -0,0 +1,26 @@
+package kr.flint.infra.redis.serializer;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+
+/**
+ * 헤더의 format id 하나에 대응하는 값 인코딩
+ *
+ * @param formatId 헤더에 기록되는 포맷 식별자. 한 번 배포된 id는 의미를 바꾸지 않는다
+ */
+record CacheValueCodec(
+        byte formatId,
+        ObjectWriter writer,
+        ObjectReader reader
+) {
+
+    byte[] write(Object value) throws IOException {
+        return writer.writeValueAsBytes(value);
+    }
+
+    Object read(byte[] data, int offset, int length) throws IOException {
+        return reader.readValue(data, offset, length);
+    }
+}
@@ -0,0 +1,159 @@
+package kr.flint.infra.redis.serializer;
+
+import kr.flint.infra.redis.cache.CacheEntry;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 버전 헤더를 붙여 저장하는 캐시 값 직렬화기.
+ * <p>
+ * 포맷: {@code MAGIC(0xFA) | formatId | flags | [expiresAt(8) | loadMillis(4)] | payload}
+ * <ul>
+ *     <li>formatId: 페이로드 인코딩. 읽기는 등록된 모든 포맷을 지원하므로 쓰기 포맷을 바꿔도 캐시를 비울 필요가 없다</li>
+ *     <li>flags: bit0 = deflate 압축 여부 (compressionThreshold 바이트 초과 시), bit1 = {@link CacheEntry} 메타데이터 포함</li>
+ * </ul>
+ * {@link CacheEntry}는 메타데이터를 헤더에 기록하고 값만 페이로드로 인코딩하므로 캐시별 스키마 직렬화를 그대로 사용한다.
+ * 헤더가 없는 값은 헤더 도입 이전의 JSON 값으로 보고 legacy 직렬화기로 읽는다.
+ */
+public class VersionedRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xFA;
+    static final int HEADER_LENGTH = 3;
+
+    private static final byte FLAG_DEFLATE = 0x01;
+    private static final byte FLAG_ENTRY_META = 0x02;
+    private static final int ENTRY_META_LENGTH = Long.BYTES + Integer.BYTES;
+    private static final byte[] EMPTY = new byte[0];
+
+    private final CacheValueCodec writeCodec;
+    private final Map<Byte, CacheValueCodec> readCodecs;
+    private final RedisSerializer<Object> legacySerializer;
+    private final int compressionThreshold;
+
+    /**
+     * @param readCodecs 읽기 가능한 포맷 목록. formatId가 겹치면 뒤의 코덱을 사용
+     */
+    VersionedRedisSerializer(CacheValueCodec writeCodec,
+                             List<CacheValueCodec> readCodecs,
+                             RedisSerializer<Object> legacySerializer,
+                             int compressionThreshold) {
+        this.writeCodec = writeCodec;
+        this.readCodecs = readCodecs.stream()
+                .collect(Collectors.toUnmodifiableMap(CacheValueCodec::formatId, Function.identity(), (first, second) -> second));
+        this.legacySerializer = legacySerializer;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(@Nullable Object value) throws SerializationException {
+        if (value == null) {
+            return EMPTY;
+        }
+        CacheEntry entry = value instanceof CacheEntry cacheEntry ? cacheEntry : null;
+        Object payloadValue = entry != null ? entry.value() : value;
+        if (payloadValue == null) {
+            return EMPTY;
+        }
+
+        try {
+            byte[] payload = writeCodec.write(payloadValue);
+            byte flags = 0;
+            if (compressionThreshold > 0 && payload.length > compressionThreshold) {
+                byte[] compressed = deflate(payload);
+                if (compressed.length < payload.length) {
+                    payload = compressed;
+                    flags |= FLAG_DEFLATE;
+                }
+            }
+
+            int metaLength = entry != null ? ENTRY_META_LENGTH : 0;
+            byte[] result = new byte[HEADER_LENGTH + metaLength + payload.length];
+            result[0] = MAGIC;
+            result[1] = writeCodec.formatId();
+            if (entry != null) {
+                flags |= FLAG_ENTRY_META;
+                ByteBuffer.wrap(result, HEADER_LENGTH, ENTRY_META_LENGTH)
+                        .putLong(entry.expiresAt())
+                        .putInt((int) Math.min(entry.loadMillis(), Integer.MAX_VALUE));
+            }
+            result[2] = flags;
+            System.arraycopy(payload, 0, result, HEADER_LENGTH + metaLength, payload.length);
+            return result;
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 직렬화 실패: " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public @Nullable Object deserialize(byte @Nullable [] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return legacySerializer.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_LENGTH) {
+            throw new SerializationException("캐시 값 헤더가 올바르지 않습니다.");
+        }
+
+        CacheValueCodec codec = readCodecs.get(bytes[1]);
+        if (codec == null) {
+            throw new SerializationException("알 수 없는 캐시 값 포맷: " + bytes[1]);
+        }
+
+        boolean hasMeta = (bytes[2] & FLAG_ENTRY_META) != 0;
+        int offset = HEADER_LENGTH + (hasMeta ? ENTRY_META_LENGTH : 0);
+        if (bytes.length < offset) {
+            throw new SerializationException("캐시 값 헤더가 올바르지 않습니다.");
+        }
+
+        try {
+            Object value;
+            if ((bytes[2] & FLAG_DEFLATE) != 0) {
+                byte[] payload = inflate(bytes, offset);
+                value = codec.read(payload, 0, payload.length);
+            } else {
+                value = codec.read(bytes, offset, bytes.length - offset);
+            }
+
+            if (!hasMeta) {
+                return value;
+            }
+            ByteBuffer meta = ByteBuffer.wrap(bytes, HEADER_LENGTH, ENTRY_META_LENGTH);
+            return new CacheEntry(value, meta.getLong(), meta.getInt());
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 역직렬화 실패", e);
+        }
+    }
+
+    private static byte[] deflate(byte[] payload) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(payload.length / 2);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream out = new DeflaterOutputStream(buffer, deflater)) {
+            out.write(payload);
+        } finally {
+            deflater.end();
+        }
+        return buffer.toByteArray();
+    }
+
+    private static byte[] inflate(byte[] bytes, int offset) throws IOException {
+        ByteArrayInputStream in = new ByteArrayInputStream(bytes, offset, bytes.length - offset);
+        try (InflaterInputStream inflater = new InflaterInputStream(in)) {
+            return inflater.readAllBytes();
+        }
+    }
+}
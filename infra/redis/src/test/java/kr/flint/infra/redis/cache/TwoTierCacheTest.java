@@ -0,0 +1,315 @@
+package kr.flint.infra.redis.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.flint.infra.redis.cache.CachePolicyProperties.CachePolicy;
+import kr.flint.infra.redis.cache.CachePolicyProperties.Serialization;
+import kr.flint.infra.redis.cache.CachePolicyProperties.WireFormat;
+import kr.flint.infra.redis.serializer.CacheSerializerRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 노드 하나는 {@link TwoTierCacheManager}와 무효화 채널 구독 하나. 같은 Redis를 보는 두 노드로 노드 간 동작을 확인한다
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TwoTierCacheTest {
+
+    private static final String CACHE = "collection-detail";
+    private static final String CHANNEL = "flint:cache:invalidation";
+    private static final String KEY = "42";
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final List<Node> nodes = new ArrayList<>();
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        nodes.forEach(Node::close);
+    }
+
+    @Nested
+    @DisplayName("L1과 노드 간 무효화")
+    class LocalTier {
+
+        @Test
+        @DisplayName("L2 hit은 L1에 채워서 다음 조회는 Redis를 거치지 않는다")
+        void remote_hit_fills_local() {
+            // L1이 없는 노드는 무효화 메시지를 보내지 않으므로, 늦게 도착한 메시지가 reader의 L1을 지우지 않는다
+            TwoTierCache writer = node(new CachePolicy(0L, null, null,
+                    Duration.ofHours(1), Duration.ZERO, 0.0, Duration.ofSeconds(5))).cache();
+            TwoTierCache reader = node(policy(0.0, Duration.ofSeconds(5))).cache();
+            writer.put(KEY, "value");
+
+            assertThat(reader.get(KEY, String.class)).isEqualTo("value");
+            assertThat(reader.getStats().snapshot())
+                    .isEqualTo(new CacheTierStats.Snapshot(0, 1, 1, 0));
+
+            redisTemplate.delete(CACHE + "::" + KEY);
+            assertThat(reader.get(KEY, String.class)).isEqualTo("value");
+            assertThat(reader.getStats().snapshot())
+                    .isEqualTo(new CacheTierStats.Snapshot(1, 1, 1, 0));
+        }
+
+        @Test
+        @DisplayName("다른 노드가 값을 바꾸면 무효화 메시지로 L1에서 지워 localTtl 전이라도 새 값을 읽는다")
+        void other_node_write_evicts_local() {
+            TwoTierCache writer = node(policy(0.0, Duration.ofSeconds(5))).cache();
+            TwoTierCache reader = node(policy(0.0, Duration.ofSeconds(5))).cache();
+            writer.put(KEY, "v1");
+            assertThat(reader.get(KEY, String.class)).isEqualTo("v1");
+
+            writer.put(KEY, "v2");
+
+            eventually(() -> assertThat(reader.get(KEY, String.class)).isEqualTo("v2"));
+        }
+
+        @Test
+        @DisplayName("다른 노드가 캐시 전체를 비우면 L1도 모두 비운다")
+        void other_node_clear_clears_local() {
+            TwoTierCache writer = node(policy(0.0, Duration.ofSeconds(5))).cache();
+            TwoTierCache reader = node(policy(0.0, Duration.ofSeconds(5))).cache();
+            writer.put(KEY, "v1");
+            assertThat(reader.get(KEY, String.class)).isEqualTo("v1");
+
+            writer.clear();
+
+            eventually(() -> assertThat(reader.get(KEY)).isNull());
+        }
+    }
+
+    @Nested
+    @DisplayName("스탬피드 방지")
+    class Stampede {
+
+        @Test
+        @DisplayName("같은 JVM에서 동시에 조회해도 값은 한 번만 계산한다")
+        void single_flight_in_jvm() throws Exception {
+            TwoTierCache cache = node(policy(0.0, Duration.ofSeconds(5))).cache();
+            AtomicInteger loads = new AtomicInteger();
+            CountDownLatch release = new CountDownLatch(1);
+
+            List<CompletableFuture<String>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> cache.get(KEY, () -> {
+                    loads.incrementAndGet();
+                    release.await();
+                    return "value";
+                }), callers));
+            }
+            release.countDown();
+
+            for (CompletableFuture<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            }
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("다른 노드가 임대를 잡고 계산 중이면 해제 메시지를 받는 즉시 그 값을 읽고 직접 계산하지 않는다")
+        void waits_for_lease_holder_release() throws Exception {
+            // 해제 메시지 없이 임대 만료를 기다리면 아래 5초 안에 끝나지 않는다
+            CachePolicy policy = policy(0.0, Duration.ofSeconds(30));
+            TwoTierCache holder = node(policy).cache();
+            TwoTierCache waiter = node(policy).cache();
+            CountDownLatch holderLoading = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger waiterLoads = new AtomicInteger();
+
+            CompletableFuture<String> held = CompletableFuture.supplyAsync(() -> holder.get(KEY, () -> {
+                holderLoading.countDown();
+                release.await();
+                return "from-holder";
+            }), callers);
+            assertThat(holderLoading.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<String> waited = CompletableFuture.supplyAsync(() -> waiter.get(KEY, () -> {
+                waiterLoads.incrementAndGet();
+                return "from-waiter";
+            }), callers);
+            release.countDown();
+
+            assertThat(held.get(5, TimeUnit.SECONDS)).isEqualTo("from-holder");
+            assertThat(waited.get(5, TimeUnit.SECONDS)).isEqualTo("from-holder");
+            assertThat(waiterLoads).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("임대를 잡은 노드가 해제하지 못하고 죽으면 임대가 만료된 뒤 직접 계산한다")
+        void computes_after_dead_holder_lease_expires() {
+            Duration leaseTime = Duration.ofMillis(500);
+            TwoTierCache cache = node(policy(0.0, leaseTime)).cache();
+            redisTemplate.opsForValue().set("flint:cache:lease:" + CACHE + "::" + KEY, "dead-node", leaseTime);
+            AtomicInteger loads = new AtomicInteger();
+
+            String value = cache.get(KEY, () -> {
+                loads.incrementAndGet();
+                return "recomputed";
+            });
+
+            assertThat(value).isEqualTo("recomputed");
+            assertThat(loads).hasValue(1);
+            assertThat(redisTemplate.hasKey("flint:cache:lease:" + CACHE + "::" + KEY)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("조기 갱신 (XFetch)")
+    class EarlyRefresh {
+
+        @Test
+        @DisplayName("갱신할 차례면 기존 값을 바로 돌려주고 백그라운드에서 다시 계산한다")
+        void refreshes_in_background_and_serves_stale_value() {
+            // beta가 충분히 크면 계산 시간이 1ms만 넘어도 항상 갱신할 차례가 된다
+            TwoTierCache cache = node(policy(1e12, Duration.ofSeconds(5))).cache();
+            AtomicInteger loads = new AtomicInteger();
+
+            assertThat(cache.get(KEY, () -> slowLoad(loads))).isEqualTo("v1");
+            assertThat(cache.get(KEY, () -> slowLoad(loads))).isEqualTo("v1");
+
+            eventually(() -> assertThat(cache.get(KEY, String.class)).isEqualTo("v2"));
+        }
+
+        @Test
+        @DisplayName("beta가 0이면 만료 전에 갱신하지 않는다")
+        void disabled_with_zero_beta() {
+            TwoTierCache cache = node(policy(0.0, Duration.ofSeconds(5))).cache();
+            AtomicInteger loads = new AtomicInteger();
+
+            cache.get(KEY, () -> slowLoad(loads));
+            assertThat(cache.get(KEY, () -> slowLoad(loads))).isEqualTo("v1");
+
+            assertThat(loads).hasValue(1);
+        }
+
+        private static String slowLoad(AtomicInteger loads) throws InterruptedException {
+            // loadMillis가 0이면 조기 갱신 대상이 아니다
+            Thread.sleep(5);
+            return "v" + loads.incrementAndGet();
+        }
+    }
+
+    private static CachePolicy policy(double earlyRefreshBeta, Duration loadLease) {
+        return new CachePolicy(1_000L, Duration.ofMinutes(1), null,
+                Duration.ofHours(1), Duration.ZERO, earlyRefreshBeta, loadLease);
+    }
+
+    private Node node(CachePolicy policy) {
+        CachePolicyProperties properties = new CachePolicyProperties(
+                CHANNEL, policy, Map.of(), new Serialization(WireFormat.SMILE, 1024));
+        CacheSerializerRegistry serializers = new CacheSerializerRegistry(new ObjectMapper(), properties);
+        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
+                .serializeKeysWith(SerializationPair.fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(SerializationPair.fromSerializer(serializers.defaultSerializer()))
+                .entryTtl(CacheEntry.TTL_FUNCTION)
+                .disableCachingNullValues();
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory).cacheDefaults(config).build();
+        redisCacheManager.initializeCaches();
+
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(redisCacheManager, properties,
+                new CacheInvalidationPublisher(connectionFactory, CHANNEL), new CacheLoadLease(connectionFactory), null);
+        RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.addMessageListener(cacheManager, new ChannelTopic(CHANNEL));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        Node node = new Node(cacheManager, listenerContainer);
+        nodes.add(node);
+        return node;
+    }
+
+    /**
+     * pub/sub 전달과 백그라운드 갱신은 비동기라서 5초 안에 단언이 성립하는지 본다
+     */
+    private static void eventually(Runnable assertion) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (true) {
+            try {
+                assertion.run();
+                return;
+            } catch (AssertionError e) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw e;
+                }
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private record Node(TwoTierCacheManager cacheManager, RedisMessageListenerContainer listenerContainer) {
+
+        TwoTierCache cache() {
+            return (TwoTierCache) cacheManager.getCache(CACHE);
+        }
+
+        void close() {
+            try {
+                listenerContainer.destroy();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            cacheManager.close();
+        }
+    }
+}
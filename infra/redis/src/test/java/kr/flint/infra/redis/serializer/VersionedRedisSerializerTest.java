@@ -0,0 +1,203 @@
+package kr.flint.infra.redis.serializer;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import kr.flint.infra.redis.cache.CacheEntry;
+import kr.flint.infra.redis.cache.CachePolicyProperties;
+import kr.flint.infra.redis.cache.CachePolicyProperties.CachePolicy;
+import kr.flint.infra.redis.cache.CachePolicyProperties.Serialization;
+import kr.flint.infra.redis.cache.CachePolicyProperties.WireFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VersionedRedisSerializerTest {
+
+    private static final String SCHEMA_CACHE = "collection-detail";
+    private static final int COMPRESSION_THRESHOLD = 256;
+
+    public record Detail(Long id, String title, boolean isPublic, List<Long> contentIds) {
+    }
+
+    @Nested
+    @DisplayName("왕복")
+    class RoundTrip {
+
+        @ParameterizedTest
+        @EnumSource(WireFormat.class)
+        @DisplayName("타입 정보를 포함한 기본 직렬화기는 최종 클래스 값과 엔트리 메타데이터를 그대로 복원한다")
+        void typed_value_with_entry_meta(WireFormat format) {
+            RedisSerializer<Object> serializer = registry(format).defaultSerializer();
+            CacheEntry entry = new CacheEntry(detail(10), 1_700_000_000_000L, 12);
+
+            assertThat(serializer.deserialize(serializer.serialize(entry))).isEqualTo(entry);
+            assertThat(serializer.deserialize(serializer.serialize(detail(10)))).isEqualTo(detail(10));
+        }
+
+        @ParameterizedTest
+        @EnumSource(WireFormat.class)
+        @DisplayName("value-type을 지정한 캐시는 스키마 직렬화로 복원한다")
+        void schema_value(WireFormat format) {
+            RedisSerializer<Object> serializer = registry(format).serializerFor(SCHEMA_CACHE);
+            CacheEntry entry = new CacheEntry(detail(10), 1_700_000_000_000L, 12);
+
+            assertThat(serializer.deserialize(serializer.serialize(entry))).isEqualTo(entry);
+        }
+
+        @Test
+        @DisplayName("쓰기 포맷을 바꿔도 이전 포맷으로 쓴 값을 읽는다")
+        void reads_values_written_in_previous_format() {
+            byte[] json = registry(WireFormat.JSON).defaultSerializer().serialize(detail(10));
+
+            assertThat(registry(WireFormat.SMILE).defaultSerializer().deserialize(json)).isEqualTo(detail(10));
+        }
+
+        @Test
+        @DisplayName("null과 빈 배열은 값이 없는 것으로 본다")
+        void null_and_empty() {
+            RedisSerializer<Object> serializer = registry(WireFormat.SMILE).defaultSerializer();
+
+            assertThat(serializer.serialize(null)).isEmpty();
+            assertThat(serializer.deserialize(null)).isNull();
+            assertThat(serializer.deserialize(new byte[0])).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("압축")
+    class Compression {
+
+        @Test
+        @DisplayName("임계값을 넘는 페이로드만 압축하고, 압축한 값도 그대로 복원한다")
+        void compresses_only_above_threshold() {
+            RedisSerializer<Object> serializer = registry(WireFormat.JSON).defaultSerializer();
+
+            byte[] small = serializer.serialize(detail(1));
+            byte[] large = serializer.serialize(detail(500));
+
+            assertThat(small.length).isLessThanOrEqualTo(COMPRESSION_THRESHOLD + VersionedRedisSerializer.HEADER_LENGTH);
+            assertThat(small[2] & 0x01).isZero();
+            assertThat(large[2] & 0x01).isOne();
+            assertThat(serializer.deserialize(large)).isEqualTo(detail(500));
+        }
+
+        @Test
+        @DisplayName("임계값이 0이면 압축하지 않는다")
+        void zero_threshold_disables_compression() {
+            RedisSerializer<Object> serializer = registry(WireFormat.JSON, 0).defaultSerializer();
+
+            assertThat(serializer.serialize(detail(500))[2] & 0x01).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("크기")
+    class Size {
+
+        @ParameterizedTest
+        @EnumSource(WireFormat.class)
+        @DisplayName("스키마 직렬화 < 타입 정보 포함 < Spring 기본 직렬화기 순으로 작다")
+        void schema_is_smaller_than_typed_and_baseline(WireFormat format) {
+            CacheSerializerRegistry registry = registry(format, 0);
+            RedisSerializer<Object> baseline = new GenericJackson2JsonRedisSerializer();
+
+            for (int contents : new int[]{10, 200}) {
+                CacheEntry entry = new CacheEntry(detail(contents), 1_700_000_000_000L, 12);
+                int baselineSize = baseline.serialize(entry.value()).length;
+                int typedSize = registry.defaultSerializer().serialize(entry).length;
+                int schemaSize = registry.serializerFor(SCHEMA_CACHE).serialize(entry).length;
+
+                assertThat(schemaSize).as("contents=%d", contents).isLessThan(typedSize);
+                assertThat(typedSize).as("contents=%d", contents).isLessThan(baselineSize);
+            }
+        }
+
+        @Test
+        @DisplayName("SMILE은 같은 값을 JSON보다 작게 쓴다")
+        void smile_is_smaller_than_json() {
+            CacheEntry entry = new CacheEntry(detail(200), 1_700_000_000_000L, 12);
+
+            assertThat(registry(WireFormat.SMILE, 0).serializerFor(SCHEMA_CACHE).serialize(entry).length)
+                    .isLessThan(registry(WireFormat.JSON, 0).serializerFor(SCHEMA_CACHE).serialize(entry).length);
+        }
+
+        @Test
+        @DisplayName("압축한 값은 압축하지 않은 값보다 작다")
+        void compressed_is_smaller() {
+            CacheEntry entry = new CacheEntry(detail(200), 1_700_000_000_000L, 12);
+
+            assertThat(registry(WireFormat.JSON).defaultSerializer().serialize(entry).length)
+                    .isLessThan(registry(WireFormat.JSON, 0).defaultSerializer().serialize(entry).length);
+        }
+    }
+
+    @Nested
+    @DisplayName("헤더 이전 값과 알 수 없는 값")
+    class Fallback {
+
+        @Test
+        @DisplayName("헤더가 없는 값은 헤더 도입 이전의 JSON 값으로 읽는다")
+        void reads_legacy_json() {
+            ObjectMapper legacyMapper = new ObjectMapper();
+            legacyMapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance, DefaultTyping.NON_FINAL, As.PROPERTY);
+            byte[] legacy = new GenericJackson2JsonRedisSerializer(legacyMapper)
+                    .serialize(new ArrayList<>(List.of("movie", "book")));
+
+            assertThat(registry(WireFormat.SMILE).defaultSerializer().deserialize(legacy)).isEqualTo(List.of("movie", "book"));
+        }
+
+        @Test
+        @DisplayName("등록되지 않은 포맷 id는 다른 값으로 잘못 읽지 않고 실패한다")
+        void rejects_unknown_format() {
+            byte[] unknown = {VersionedRedisSerializer.MAGIC, 99, 0, '{', '}'};
+
+            assertThatThrownBy(() -> registry(WireFormat.SMILE).defaultSerializer().deserialize(unknown))
+                    .isInstanceOf(SerializationException.class);
+        }
+
+        @Test
+        @DisplayName("메타데이터 플래그가 있는데 헤더가 잘렸으면 실패한다")
+        void rejects_truncated_header() {
+            byte[] truncated = {VersionedRedisSerializer.MAGIC, CacheSerializerRegistry.SMILE_TYPED, 0x02, 0, 0};
+
+            assertThatThrownBy(() -> registry(WireFormat.SMILE).defaultSerializer().deserialize(truncated))
+                    .isInstanceOf(SerializationException.class);
+        }
+    }
+
+    private static CacheSerializerRegistry registry(WireFormat format) {
+        return registry(format, COMPRESSION_THRESHOLD);
+    }
+
+    private static CacheSerializerRegistry registry(WireFormat format, int compressionThreshold) {
+        CachePolicy schemaPolicy = new CachePolicy(null, null, Detail.class, null, null, null, null);
+        CachePolicyProperties properties = new CachePolicyProperties(
+                "flint:cache:invalidation",
+                null,
+                Map.of(SCHEMA_CACHE, schemaPolicy),
+                new Serialization(format, compressionThreshold));
+        return new CacheSerializerRegistry(new ObjectMapper(), properties);
+    }
+
+    private static Detail detail(int contents) {
+        return new Detail(698_554_635_463_000_000L, "주말에 보기 좋은 영화", true,
+                LongStream.range(0, contents).map(i -> 698_554_635_463_574_400L + i).boxed()
+                        .collect(Collectors.toCollection(ArrayList::new)));
+    }
+}
@@ -0,0 +1,41 @@
+package kr.flint.auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 액세스 토큰(JWT, HS256) 설정.
+ * <p>
+ * 서명 키는 kid별로 여러 개 등록하고 activeKid로 서명한다. 검증은 토큰 헤더의 kid로 키를 고르므로,
+ * 새 키를 먼저 모든 노드에 추가한 뒤 activeKid를 바꾸고, 이전 키는 accessTokenTtl이 지난 뒤 제거한다.
+ * 키는 환경 변수({@code AUTH_JWT_KEYS_<KID>=<base64>})로도 추가할 수 있으며, 이때 kid는 소문자로 바인딩된다.
+ *
+ * <pre>
+ * auth:
+ *   jwt:
+ *     active-kid: k2507
+ *     keys:
+ *       k2501: ${JWT_KEY_K2501}   # 만료 대기 중인 이전 키
+ *       k2507: ${JWT_KEY_K2507}
+ * </pre>
+ *
+ * @param issuer            iss 클레임
+ * @param accessTokenTtl    액세스 토큰 유효 시간
+ * @param activeKid         서명에 사용할 키의 kid
+ * @param keys              kid → base64 인코딩한 HMAC 키 (32바이트 이상)
+ * @param clockSkew         exp/nbf 검사 시 허용하는 노드 간 시계 차이
+ * @param verifiedCacheSize 검증 결과를 보관하는 토큰 수. 0이면 매 요청 서명을 검증한다
+ */
+@ConfigurationProperties(prefix = "auth.jwt")
+public record JwtProperties(
+        @DefaultValue("flint") String issuer,
+        @DefaultValue("30m") Duration accessTokenTtl,
+        String activeKid,
+        @DefaultValue Map<String, String> keys,
+        @DefaultValue("30s") Duration clockSkew,
+        @DefaultValue("100000") long verifiedCacheSize
+) {
+}
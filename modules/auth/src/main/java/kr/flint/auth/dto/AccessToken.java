@@ -0,0 +1,15 @@
+package kr.flint.auth.dto;
+
+import java.time.Instant;
+
+/**
+ * 발급한 액세스 토큰
+ *
+ * @param token     JWT 문자열
+ * @param expiresAt 만료 시각
+ */
+public record AccessToken(
+        String token,
+        Instant expiresAt
+) {
+}
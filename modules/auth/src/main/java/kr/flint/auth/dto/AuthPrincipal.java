@@ -0,0 +1,19 @@
+package kr.flint.auth.dto;
+
+import java.util.Set;
+
+/**
+ * 검증된 액세스 토큰의 주체
+ *
+ * @param userId 사용자 ID (sub)
+ * @param roles  권한 (ROLE_ 접두어 없이)
+ */
+public record AuthPrincipal(
+        Long userId,
+        Set<String> roles
+) {
+
+    public AuthPrincipal {
+        roles = Set.copyOf(roles);
+    }
+}
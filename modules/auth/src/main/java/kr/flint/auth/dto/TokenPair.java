@@ -0,0 +1,17 @@
+package kr.flint.auth.dto;
+
+import java.time.Instant;
+
+/**
+ * 로그인/회전 시 발급하는 토큰 쌍
+ *
+ * @param accessToken           액세스 토큰
+ * @param refreshToken          리프레시 토큰 (불투명 문자열, 한 번만 사용 가능)
+ * @param refreshTokenExpiresAt 리프레시 토큰 만료 시각. 회전할 때마다 늘어난다
+ */
+public record TokenPair(
+        AccessToken accessToken,
+        String refreshToken,
+        Instant refreshTokenExpiresAt
+) {
+}
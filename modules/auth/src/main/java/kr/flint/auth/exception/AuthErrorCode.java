@@ -0,0 +1,21 @@
+package kr.flint.auth.exception;
+
+import kr.flint.shared.exception.AppError;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum AuthErrorCode implements AppError {
+
+    INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "AUTH.INVALID_TOKEN", "Invalid Token", "유효하지 않은 토큰입니다."),
+    EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "AUTH.EXPIRED_TOKEN", "Expired Token", "만료된 토큰입니다."),
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "AUTH.INVALID_REFRESH_TOKEN", "Invalid Refresh Token", "유효하지 않거나 만료된 리프레시 토큰입니다."),
+    REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "AUTH.REFRESH_TOKEN_REUSED", "Refresh Token Reused", "이미 사용된 리프레시 토큰입니다. 다시 로그인해 주세요.");
+
+    private final HttpStatus httpStatus;
+    private final String code;
+    private final String title;
+    private final String detail;
+}
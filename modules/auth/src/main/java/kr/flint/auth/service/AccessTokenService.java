@@ -0,0 +1,143 @@
+package kr.flint.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import kr.flint.auth.config.JwtProperties;
+import kr.flint.auth.dto.AccessToken;
+import kr.flint.auth.dto.AuthPrincipal;
+import kr.flint.auth.exception.AuthErrorCode;
+import kr.flint.shared.exception.GeneralException;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 액세스 토큰 발급/검증.
+ * <p>
+ * 검증은 서명 키만으로 끝나며 DB나 Redis를 조회하지 않는다.
+ * 한 번 검증한 토큰은 토큰 해시를 키로 만료 시각까지 프로세스 내 캐시에 두어, 같은 토큰의 이후 요청은
+ * 파싱과 서명 검증 없이 해시 계산과 캐시 조회만 한다. 원문 대신 해시를 보관하므로 힙에 토큰이 남지 않는다.
+ * <p>
+ * 토큰을 만료 전에 무효화하지 않으므로 accessTokenTtl은 짧게 유지한다.
+ */
+@Service
+public class AccessTokenService {
+
+    private static final String ROLES_CLAIM = "roles";
+
+    private final JwtProperties properties;
+    private final JwtKeySet keySet;
+    private final JwtParser parser;
+    private final @Nullable Cache<TokenHash, Verified> verified;
+
+    public AccessTokenService(JwtProperties properties) {
+        this.properties = properties;
+        this.keySet = new JwtKeySet(properties);
+        this.parser = Jwts.parser()
+                .keyLocator(keySet)
+                .requireIssuer(properties.issuer())
+                .clockSkewSeconds(properties.clockSkew().toSeconds())
+                .build();
+        this.verified = properties.verifiedCacheSize() > 0
+                ? Caffeine.newBuilder()
+                .maximumSize(properties.verifiedCacheSize())
+                .expireAfter(Expiry.creating((TokenHash hash, Verified value) ->
+                        Duration.ofMillis(Math.max(0, value.expiresAtMillis() - System.currentTimeMillis()))))
+                .build()
+                : null;
+    }
+
+    public AccessToken issue(Long userId, Set<String> roles) {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(properties.accessTokenTtl());
+        String token = Jwts.builder()
+                .header().keyId(keySet.activeKid()).and()
+                .issuer(properties.issuer())
+                .subject(String.valueOf(userId))
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(expiresAt))
+                .claim(ROLES_CLAIM, List.copyOf(roles))
+                .signWith(keySet.signingKey(), Jwts.SIG.HS256)
+                .compact();
+        return new AccessToken(token, expiresAt);
+    }
+
+    /**
+     * @throws GeneralException 서명/발급자/kid가 맞지 않거나({@link AuthErrorCode#INVALID_TOKEN}) 만료된 경우({@link AuthErrorCode#EXPIRED_TOKEN})
+     */
+    public AuthPrincipal verify(String token) {
+        if (verified == null) {
+            return parse(token).principal();
+        }
+        TokenHash hash = TokenHash.of(token);
+        Verified cached = verified.getIfPresent(hash);
+        if (cached != null) {
+            return cached.principal();
+        }
+        Verified parsed = parse(token);
+        verified.put(hash, parsed);
+        return parsed.principal();
+    }
+
+    private Verified parse(String token) {
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (ExpiredJwtException e) {
+            throw new GeneralException(AuthErrorCode.EXPIRED_TOKEN, e);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new GeneralException(AuthErrorCode.INVALID_TOKEN, e);
+        }
+
+        Long userId;
+        try {
+            userId = Long.valueOf(claims.getSubject());
+        } catch (NumberFormatException e) {
+            throw new GeneralException(AuthErrorCode.INVALID_TOKEN, e);
+        }
+        if (claims.getExpiration() == null) {
+            throw new GeneralException(AuthErrorCode.INVALID_TOKEN);
+        }
+        Set<String> roles = new HashSet<>();
+        List<?> claimed = claims.get(ROLES_CLAIM, List.class);
+        if (claimed != null) {
+            claimed.forEach(role -> roles.add(String.valueOf(role)));
+        }
+        return new Verified(new AuthPrincipal(userId, roles), claims.getExpiration().getTime());
+    }
+
+    private record Verified(AuthPrincipal principal, long expiresAtMillis) {
+    }
+
+    /**
+     * 토큰의 SHA-256
+     */
+    private record TokenHash(long h0, long h1, long h2, long h3) {
+
+        static TokenHash of(String token) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+                ByteBuffer buffer = ByteBuffer.wrap(digest);
+                return new TokenHash(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package kr.flint.auth.service;
+
+import kr.flint.auth.dto.AccessToken;
+import kr.flint.auth.dto.TokenPair;
+import kr.flint.auth.exception.AuthErrorCode;
+import kr.flint.shared.exception.GeneralException;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 액세스/리프레시 토큰 쌍 발급과 회전, 로그아웃.
+ * <p>
+ * 리프레시 토큰은 {@code <userId>.<familyId>.<secret>} 형태의 불투명 문자열이며, 원문 대신 SHA-256만 {@link RefreshTokenStore}에 둔다.
+ * 회전과 로그아웃은 Redis만 사용하고 MySQL에 쓰지 않는다.
+ */
+@Slf4j
+@Service
+public class AuthTokenService {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int FAMILY_ID_BYTES = 16;
+    private static final int FAMILY_ID_LENGTH = 22;
+    private static final int SECRET_BYTES = 32;
+
+    private final AccessTokenService accessTokenService;
+    private final RefreshTokenStore refreshTokenStore;
+
+    AuthTokenService(AccessTokenService accessTokenService, RefreshTokenStore refreshTokenStore) {
+        this.accessTokenService = accessTokenService;
+        this.refreshTokenStore = refreshTokenStore;
+    }
+
+    /**
+     * 로그인 성공 시 새 패밀리로 토큰 쌍을 발급한다.
+     */
+    public TokenPair issue(Long userId, Set<String> roles) {
+        String familyId = random(FAMILY_ID_BYTES);
+        String refreshToken = refreshToken(userId, familyId);
+        refreshTokenStore.create(userId, familyId, hash(refreshToken), String.join(",", roles));
+        return pair(accessTokenService.issue(userId, roles), refreshToken);
+    }
+
+    /**
+     * 리프레시 토큰을 한 번 사용하고 같은 패밀리의 새 토큰 쌍을 발급한다.
+     *
+     * @throws GeneralException 토큰이 없거나 만료/폐기된 경우({@link AuthErrorCode#INVALID_REFRESH_TOKEN}),
+     *                          이미 회전된 토큰을 다시 사용해 패밀리를 폐기한 경우({@link AuthErrorCode#REFRESH_TOKEN_REUSED})
+     */
+    public TokenPair refresh(String refreshToken) {
+        ParsedToken parsed = ParsedToken.parse(refreshToken);
+        String next = refreshToken(parsed.userId(), parsed.familyId());
+        RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(
+                parsed.userId(), parsed.familyId(), hash(refreshToken), hash(next));
+
+        return switch (rotation.outcome()) {
+            case ROTATED -> pair(accessTokenService.issue(parsed.userId(), roles(rotation.roles())), next);
+            case REUSED -> {
+                log.warn("리프레시 토큰 재사용 감지, 패밀리 폐기: userId={}, familyId={}", parsed.userId(), parsed.familyId());
+                throw new GeneralException(AuthErrorCode.REFRESH_TOKEN_REUSED);
+            }
+            case MISSING, REVOKED -> throw new GeneralException(AuthErrorCode.INVALID_REFRESH_TOKEN);
+        };
+    }
+
+    /**
+     * 이 리프레시 토큰의 패밀리(기기 하나)를 로그아웃한다. 이미 없거나 현재 토큰이 아니면 아무것도 하지 않는다.
+     */
+    public void logout(String refreshToken) {
+        ParsedToken parsed;
+        try {
+            parsed = ParsedToken.parse(refreshToken);
+        } catch (GeneralException e) {
+            return;
+        }
+        refreshTokenStore.delete(parsed.userId(), parsed.familyId(), hash(refreshToken));
+    }
+
+    /**
+     * 사용자의 모든 기기를 로그아웃한다. 이미 발급된 액세스 토큰은 만료될 때까지 유효하다.
+     */
+    public void logoutAll(Long userId) {
+        refreshTokenStore.revokeAll(userId);
+    }
+
+    private TokenPair pair(AccessToken accessToken, String refreshToken) {
+        return new TokenPair(accessToken, refreshToken, Instant.now().plus(refreshTokenStore.ttl()));
+    }
+
+    private static String refreshToken(Long userId, String familyId) {
+        return userId + "." + familyId + "." + random(SECRET_BYTES);
+    }
+
+    private static Set<String> roles(@Nullable String joined) {
+        if (joined == null) {
+            return Set.of();
+        }
+        return Arrays.stream(joined.split(","))
+                .filter(role -> !role.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+    private static String random(int bytes) {
+        byte[] buffer = new byte[bytes];
+        RANDOM.nextBytes(buffer);
+        return ENCODER.encodeToString(buffer);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record ParsedToken(Long userId, String familyId) {
+
+        static ParsedToken parse(String token) {
+            String[] parts = token.split("\\.", -1);
+            // familyId는 Redis 키에 들어가므로 발급한 길이만 받는다
+            if (parts.length != 3 || parts[1].length() != FAMILY_ID_LENGTH || parts[2].isEmpty()) {
+                throw new GeneralException(AuthErrorCode.INVALID_REFRESH_TOKEN);
+            }
+            try {
+                return new ParsedToken(Long.valueOf(parts[0]), parts[1]);
+            } catch (NumberFormatException e) {
+                throw new GeneralException(AuthErrorCode.INVALID_REFRESH_TOKEN, e);
+            }
+        }
+    }
+}
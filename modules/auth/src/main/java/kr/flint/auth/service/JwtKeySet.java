@@ -0,0 +1,69 @@
+package kr.flint.auth.service;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import kr.flint.auth.config.JwtProperties;
+import org.jspecify.annotations.Nullable;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * kid별 HMAC 서명 키. 서명은 activeKid 키로, 검증은 토큰 헤더의 kid 키로 한다.
+ */
+class JwtKeySet extends LocatorAdapter<Key> {
+
+    private static final int MIN_KEY_BYTES = 32;
+
+    private final String activeKid;
+    private final Map<String, SecretKey> keys;
+
+    JwtKeySet(JwtProperties properties) {
+        Map<String, SecretKey> keys = new HashMap<>();
+        properties.keys().forEach((kid, secret) -> {
+            byte[] bytes = Decoders.BASE64.decode(secret);
+            if (bytes.length < MIN_KEY_BYTES) {
+                throw new IllegalStateException("JWT 키는 " + MIN_KEY_BYTES + "바이트 이상이어야 합니다: " + kid);
+            }
+            keys.put(kid, Keys.hmacShaKeyFor(bytes));
+        });
+        if (!keys.containsKey(properties.activeKid())) {
+            throw new IllegalStateException("auth.jwt.keys에 activeKid 키가 없습니다: " + properties.activeKid());
+        }
+        this.activeKid = properties.activeKid();
+        this.keys = Map.copyOf(keys);
+    }
+
+    String activeKid() {
+        return activeKid;
+    }
+
+    SecretKey signingKey() {
+        return keys.get(activeKid);
+    }
+
+    /**
+     * 모르는 kid(제거된 키, 다른 환경의 토큰)는 서명 검증 전에 거절한다
+     */
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        SecretKey key = kid == null ? null : keys.get(kid);
+        if (key == null) {
+            throw new UnknownKeyIdException(kid);
+        }
+        return key;
+    }
+
+    static final class UnknownKeyIdException extends JwtException {
+
+        UnknownKeyIdException(@Nullable String kid) {
+            super("알 수 없는 kid: " + kid);
+        }
+    }
+}
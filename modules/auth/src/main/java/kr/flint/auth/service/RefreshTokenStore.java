@@ -0,0 +1,157 @@
+package kr.flint.auth.service;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 리프레시 토큰 패밀리 저장소 (Redis hash, TTL = refresh-token.ttl).
+ * <p>
+ * 로그인 한 번이 패밀리 하나가 되며, 회전할 때마다 패밀리의 현재 토큰 해시만 바뀌고 TTL이 다시 늘어난다.
+ * 만료된 토큰은 Redis TTL로 사라지므로 정리 작업이 없다.
+ * <p>
+ * - 재사용 감지: 현재 해시와 다른(이미 회전된) 토큰이 오면 패밀리 키를 지워 그 기기의 세션 전체를 끊는다
+ * - 모든 기기 로그아웃: 사용자 세대 키를 INCR 한 번 한다. 패밀리는 만들 때의 세대를 기억하고, 세대가 다르면 회전을 거부한다
+ * - 세대 키도 패밀리를 만들거나 회전하거나 폐기할 때마다 같은 TTL로 늘린다. 세대 키는 살아 있는 어떤 패밀리보다 늦게 만료되므로,
+ *   세대가 만료로 "0"이 되어도 그 전에 폐기된 패밀리가 되살아나지 않는다
+ * <p>
+ * 클러스터에서 스크립트의 키가 한 슬롯에 모이도록 키에 {@code {userId}} 해시 태그를 둔다.
+ */
+@Component
+class RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "flint:auth:refresh:{";
+
+    enum Outcome {
+        ROTATED, MISSING, REVOKED, REUSED
+    }
+
+    /**
+     * @param roles 회전에 성공했을 때 패밀리의 권한
+     */
+    record Rotation(Outcome outcome, @Nullable String roles) {
+    }
+
+    /**
+     * KEYS[1] 패밀리, KEYS[2] 사용자 세대 / ARGV[1] 토큰 해시, ARGV[2] 권한, ARGV[3] TTL(ms).
+     * 세대를 같은 스크립트에서 읽어 발급과 모든 기기 로그아웃이 엇갈리지 않게 한다.
+     */
+    private static final RedisScript<Long> CREATE_SCRIPT = RedisScript.of("""
+            local generation = redis.call('get', KEYS[2]) or '0'
+            redis.call('hset', KEYS[1], 'hash', ARGV[1], 'roles', ARGV[2], 'gen', generation)
+            redis.call('pexpire', KEYS[1], ARGV[3])
+            redis.call('pexpire', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1] 패밀리, KEYS[2] 사용자 세대 / ARGV[1] 제시한 토큰 해시, ARGV[2] 새 토큰 해시, ARGV[3] TTL(ms).
+     * 성공하면 {1, 권한}, 패밀리가 없으면 {-1}, 세대가 바뀌었으면 {-2}, 이미 회전된 토큰이면 {-3}
+     */
+    private static final RedisScript<List> ROTATE_SCRIPT = RedisScript.of("""
+            local family = redis.call('hmget', KEYS[1], 'hash', 'gen', 'roles')
+            if not family[1] then
+                return {-1}
+            end
+            local generation = redis.call('get', KEYS[2]) or '0'
+            if family[2] ~= generation then
+                redis.call('del', KEYS[1])
+                return {-2}
+            end
+            if family[1] ~= ARGV[1] then
+                redis.call('del', KEYS[1])
+                return {-3}
+            end
+            redis.call('hset', KEYS[1], 'hash', ARGV[2])
+            redis.call('pexpire', KEYS[1], ARGV[3])
+            redis.call('pexpire', KEYS[2], ARGV[3])
+            return {1, family[3] or ''}
+            """, List.class);
+
+    /**
+     * KEYS[1] 패밀리 / ARGV[1] 제시한 토큰 해시. 현재 해시와 같을 때만 지운다
+     */
+    private static final RedisScript<Long> DELETE_SCRIPT = RedisScript.of("""
+            if redis.call('hget', KEYS[1], 'hash') == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS[1] 사용자 세대 / ARGV[1] TTL(ms)
+     */
+    private static final RedisScript<Long> REVOKE_ALL_SCRIPT = RedisScript.of("""
+            local generation = redis.call('incr', KEYS[1])
+            redis.call('pexpire', KEYS[1], ARGV[1])
+            return generation
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    RefreshTokenStore(
+            StringRedisTemplate redisTemplate,
+            @Value("${auth.refresh-token.ttl:14d}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    Duration ttl() {
+        return ttl;
+    }
+
+    void create(Long userId, String familyId, String hash, String roles) {
+        redisTemplate.execute(CREATE_SCRIPT, List.of(familyKey(userId, familyId), generationKey(userId)),
+                hash, roles, String.valueOf(ttl.toMillis()));
+    }
+
+    /**
+     * 제시한 토큰 해시가 패밀리의 현재 해시일 때만 다음 해시로 바꾼다. 아니면 패밀리를 지운다
+     */
+    Rotation rotate(Long userId, String familyId, String presentedHash, String nextHash) {
+        List<?> result = redisTemplate.execute(ROTATE_SCRIPT, List.of(familyKey(userId, familyId), generationKey(userId)),
+                presentedHash, nextHash, String.valueOf(ttl.toMillis()));
+        if (result == null || result.isEmpty()) {
+            return new Rotation(Outcome.MISSING, null);
+        }
+        Outcome outcome = switch (((Number) result.get(0)).intValue()) {
+            case 1 -> Outcome.ROTATED;
+            case -2 -> Outcome.REVOKED;
+            case -3 -> Outcome.REUSED;
+            default -> Outcome.MISSING;
+        };
+        return new Rotation(outcome, result.size() > 1 ? String.valueOf(result.get(1)) : null);
+    }
+
+    /**
+     * 제시한 토큰 해시가 패밀리의 현재 해시일 때만 패밀리를 지운다. userId와 familyId만 알아서는 로그아웃시킬 수 없다
+     *
+     * @return 지웠으면 true
+     */
+    boolean delete(Long userId, String familyId, String presentedHash) {
+        Long deleted = redisTemplate.execute(DELETE_SCRIPT, List.of(familyKey(userId, familyId)), presentedHash);
+        return deleted != null && deleted > 0;
+    }
+
+    /**
+     * 지금까지 발급된 모든 패밀리를 무효화한다. 패밀리 키는 TTL로 사라진다
+     */
+    void revokeAll(Long userId) {
+        redisTemplate.execute(REVOKE_ALL_SCRIPT, List.of(generationKey(userId)), String.valueOf(ttl.toMillis()));
+    }
+
+    private static String familyKey(Long userId, String familyId) {
+        return KEY_PREFIX + userId + "}:family:" + familyId;
+    }
+
+    private static String generationKey(Long userId) {
+        return KEY_PREFIX + userId + "}:gen";
+    }
+}
@@ -0,0 +1,82 @@
+package kr.flint.auth.service;
+
+import kr.flint.auth.config.JwtProperties;
+import kr.flint.auth.dto.AuthPrincipal;
+import kr.flint.auth.exception.AuthErrorCode;
+import kr.flint.shared.exception.GeneralException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccessTokenServiceTest {
+
+    private static final String OLD_KEY = "ZmxpbnQtb2xkLWp3dC1zaWduaW5nLWtleS0zMmJ5dGVz";
+    private static final String NEW_KEY = "ZmxpbnQtbmV3LWp3dC1zaWduaW5nLWtleS0zMmJ5dGVz";
+
+    @Test
+    @DisplayName("발급한 토큰을 검증하면 userId와 권한을 돌려준다")
+    void verify_returns_principal() {
+        AccessTokenService service = service("old", Map.of("old", OLD_KEY), Duration.ofMinutes(30));
+
+        AuthPrincipal principal = service.verify(service.issue(42L, Set.of("USER")).token());
+
+        assertThat(principal.userId()).isEqualTo(42L);
+        assertThat(principal.roles()).containsExactly("USER");
+    }
+
+    @Test
+    @DisplayName("activeKid를 바꾼 뒤에도 이전 키로 서명한 토큰은 키가 남아 있는 동안 검증된다")
+    void verifies_tokens_signed_with_previous_key() {
+        String issuedBeforeRotation = service("old", Map.of("old", OLD_KEY), Duration.ofMinutes(30))
+                .issue(42L, Set.of()).token();
+
+        AccessTokenService rotated = service("new", Map.of("old", OLD_KEY, "new", NEW_KEY), Duration.ofMinutes(30));
+        assertThat(rotated.verify(issuedBeforeRotation).userId()).isEqualTo(42L);
+
+        AccessTokenService oldKeyRemoved = service("new", Map.of("new", NEW_KEY), Duration.ofMinutes(30));
+        assertThatThrownBy(() -> oldKeyRemoved.verify(issuedBeforeRotation))
+                .isInstanceOf(GeneralException.class)
+                .extracting(e -> ((GeneralException) e).getErrorCode())
+                .isEqualTo(AuthErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 EXPIRED_TOKEN으로 거절한다")
+    void rejects_expired_token() {
+        AccessTokenService service = service("old", Map.of("old", OLD_KEY), Duration.ofMinutes(-1));
+        String token = service.issue(42L, Set.of()).token();
+
+        assertThatThrownBy(() -> service.verify(token))
+                .isInstanceOf(GeneralException.class)
+                .extracting(e -> ((GeneralException) e).getErrorCode())
+                .isEqualTo(AuthErrorCode.EXPIRED_TOKEN);
+    }
+
+    @Test
+    @DisplayName("서명을 바꾼 토큰은 캐시에 같은 사용자의 토큰이 있어도 거절한다")
+    void rejects_tampered_token_even_when_original_is_cached() {
+        AccessTokenService service = service("old", Map.of("old", OLD_KEY), Duration.ofMinutes(30));
+        String token = service.issue(42L, Set.of()).token();
+        service.verify(token);
+
+        // 서명 마지막 글자는 패딩 비트를 포함하므로 중간 글자를 바꾼다
+        int index = token.length() - 5;
+        char replaced = token.charAt(index) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, index) + replaced + token.substring(index + 1);
+
+        assertThatThrownBy(() -> service.verify(tampered))
+                .isInstanceOf(GeneralException.class)
+                .extracting(e -> ((GeneralException) e).getErrorCode())
+                .isEqualTo(AuthErrorCode.INVALID_TOKEN);
+    }
+
+    private static AccessTokenService service(String activeKid, Map<String, String> keys, Duration ttl) {
+        return new AccessTokenService(new JwtProperties("flint", ttl, activeKid, keys, Duration.ZERO, 1_000));
+    }
+}
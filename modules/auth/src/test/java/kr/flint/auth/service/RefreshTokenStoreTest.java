@@ -0,0 +1,151 @@
+package kr.flint.auth.service;
+
+import kr.flint.auth.service.RefreshTokenStore.Outcome;
+import kr.flint.auth.service.RefreshTokenStore.Rotation;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class RefreshTokenStoreTest {
+
+    private static final Long USER_ID = 42L;
+    private static final String FAMILY_ID = "family-a";
+    private static final Duration TTL = Duration.ofDays(14);
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RefreshTokenStore store;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        store = new RefreshTokenStore(redisTemplate, TTL);
+        store.create(USER_ID, FAMILY_ID, "h1", "USER,ADMIN");
+    }
+
+    @Nested
+    @DisplayName("회전")
+    class Rotate {
+
+        @Test
+        @DisplayName("현재 토큰이면 새 해시로 바꾸고 권한을 돌려준다")
+        void rotated() {
+            Rotation rotation = store.rotate(USER_ID, FAMILY_ID, "h1", "h2");
+
+            assertThat(rotation.outcome()).isEqualTo(Outcome.ROTATED);
+            assertThat(rotation.roles()).isEqualTo("USER,ADMIN");
+            assertThat(store.rotate(USER_ID, FAMILY_ID, "h2", "h3").outcome()).isEqualTo(Outcome.ROTATED);
+        }
+
+        @Test
+        @DisplayName("이미 회전된 토큰이면 패밀리를 지워 현재 토큰도 쓸 수 없게 한다")
+        void reused() {
+            store.rotate(USER_ID, FAMILY_ID, "h1", "h2");
+
+            assertThat(store.rotate(USER_ID, FAMILY_ID, "h1", "h3").outcome()).isEqualTo(Outcome.REUSED);
+            assertThat(store.rotate(USER_ID, FAMILY_ID, "h2", "h3").outcome()).isEqualTo(Outcome.MISSING);
+        }
+
+        @Test
+        @DisplayName("모든 기기 로그아웃 이후에 만든 패밀리가 아니면 거부하고 지운다")
+        void revoked() {
+            store.revokeAll(USER_ID);
+
+            assertThat(store.rotate(USER_ID, FAMILY_ID, "h1", "h2").outcome()).isEqualTo(Outcome.REVOKED);
+            assertThat(redisTemplate.hasKey(familyKey(FAMILY_ID))).isFalse();
+        }
+
+        @Test
+        @DisplayName("없는 패밀리면 MISSING")
+        void missing() {
+            Rotation rotation = store.rotate(USER_ID, "family-unknown", "h1", "h2");
+
+            assertThat(rotation.outcome()).isEqualTo(Outcome.MISSING);
+            assertThat(rotation.roles()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("로그아웃")
+    class Logout {
+
+        @Test
+        @DisplayName("현재 토큰 해시가 맞을 때만 패밀리를 지운다")
+        void deletes_only_with_current_hash() {
+            assertThat(store.delete(USER_ID, FAMILY_ID, "forged")).isFalse();
+            assertThat(store.rotate(USER_ID, FAMILY_ID, "h1", "h2").outcome()).isEqualTo(Outcome.ROTATED);
+
+            assertThat(store.delete(USER_ID, FAMILY_ID, "h1")).isFalse();
+            assertThat(store.delete(USER_ID, FAMILY_ID, "h2")).isTrue();
+            assertThat(store.rotate(USER_ID, FAMILY_ID, "h2", "h3").outcome()).isEqualTo(Outcome.MISSING);
+        }
+
+        @Test
+        @DisplayName("모든 기기 로그아웃 뒤에 로그인한 기기는 계속 회전할 수 있다")
+        void logout_all_revokes_only_existing_families() {
+            store.create(USER_ID, "family-b", "b1", "USER");
+
+            store.revokeAll(USER_ID);
+            store.create(USER_ID, "family-c", "c1", "USER");
+
+            assertThat(store.rotate(USER_ID, FAMILY_ID, "h1", "h2").outcome()).isEqualTo(Outcome.REVOKED);
+            assertThat(store.rotate(USER_ID, "family-b", "b1", "b2").outcome()).isEqualTo(Outcome.REVOKED);
+            assertThat(store.rotate(USER_ID, "family-c", "c1", "c2").outcome()).isEqualTo(Outcome.ROTATED);
+        }
+
+        @Test
+        @DisplayName("세대 키는 어떤 패밀리보다 먼저 만료되지 않는다")
+        void generation_outlives_families() {
+            store.revokeAll(USER_ID);
+            store.create(USER_ID, "family-b", "b1", "USER");
+
+            Long generationTtl = redisTemplate.getExpire(generationKey(), TimeUnit.MILLISECONDS);
+            Long familyTtl = redisTemplate.getExpire(familyKey("family-b"), TimeUnit.MILLISECONDS);
+            assertThat(generationTtl).isPositive().isGreaterThanOrEqualTo(familyTtl);
+            assertThat(redisTemplate.getExpire(familyKey(FAMILY_ID), TimeUnit.MILLISECONDS)).isLessThanOrEqualTo(generationTtl);
+        }
+    }
+
+    private static String familyKey(String familyId) {
+        return "flint:auth:refresh:{" + USER_ID + "}:family:" + familyId;
+    }
+
+    private static String generationKey() {
+        return "flint:auth:refresh:{" + USER_ID + "}:gen";
+    }
+}
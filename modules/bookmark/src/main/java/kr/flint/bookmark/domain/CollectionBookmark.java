@@ -0,0 +1,38 @@
+package kr.flint.bookmark.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import kr.flint.shared.domain.BaseTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(
+        name = "collection_bookmark",
+        uniqueConstraints = @UniqueConstraint(name = "uk_collection_bookmark", columnNames = {"userId", "collectionId"}),
+        // 북마크 수 재조정 (collectionId별 집계)
+        indexes = @Index(name = "idx_collection_bookmark_collection_id", columnList = "collectionId")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CollectionBookmark extends BaseTime {
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long collectionId;
+
+    private CollectionBookmark(Long userId, Long collectionId) {
+        this.userId = userId;
+        this.collectionId = collectionId;
+    }
+
+    public static CollectionBookmark create(Long userId, Long collectionId) {
+        return new CollectionBookmark(userId, collectionId);
+    }
+}
@@ -0,0 +1,28 @@
+package kr.flint.bookmark.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 컬렉션별 북마크 수.
+ * <p>
+ * 북마크 요청마다 이 행을 갱신하면 인기 컬렉션의 행 잠금에서 쓰기가 직렬화되므로,
+ * Redis에 모은 증감분을 주기적으로 한 번에 더한다 ({@code BookmarkCounter}). JPA로는 읽기만 한다.
+ */
+@Getter
+@Entity
+@Table(name = "collection_bookmark_count")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CollectionBookmarkCount {
+
+    @Id
+    private Long collectionId;
+
+    @Column(nullable = false)
+    private long bookmarkCount;
+}
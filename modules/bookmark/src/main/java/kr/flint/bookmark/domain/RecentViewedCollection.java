@@ -0,0 +1,38 @@
+package kr.flint.bookmark.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import kr.flint.shared.domain.BaseTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 최근 조회한 컬렉션 (최대 {@code bookmark.recent-view.max-size}개).
+ * <p>
+ * 조회마다 쓰지 않고 Redis sorted set에 모은 뒤 {@code RecentViewLog}가 JDBC 배치로 저장한다. JPA로는 읽기만 한다.
+ */
+@Getter
+@Entity
+@Table(
+        name = "recent_viewed_collection",
+        uniqueConstraints = @UniqueConstraint(name = "uk_recent_viewed_collection", columnNames = {"userId", "collectionId"}),
+        indexes = @Index(name = "idx_recent_viewed_collection_user_viewed_at", columnList = "userId, viewedAt")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecentViewedCollection extends BaseTime {
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long collectionId;
+
+    @Column(nullable = false)
+    private LocalDateTime viewedAt;
+}
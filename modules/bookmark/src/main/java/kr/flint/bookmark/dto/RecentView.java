@@ -0,0 +1,9 @@
+package kr.flint.bookmark.dto;
+
+import java.time.Instant;
+
+/**
+ * 최근 조회한 컬렉션
+ */
+public record RecentView(Long collectionId, Instant viewedAt) {
+}
@@ -0,0 +1,7 @@
+package kr.flint.bookmark.event;
+
+/**
+ * 컬렉션 북마크 추가(+1) / 해제(-1)
+ */
+public record CollectionBookmarkChangedEvent(Long collectionId, int delta) {
+}
@@ -0,0 +1,76 @@
+package kr.flint.bookmark.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * collection_bookmark_count 일괄 갱신. 행마다 JPA 엔티티를 읽고 쓰지 않도록 JDBC 배치 upsert를 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookmarkCountJdbcRepository {
+
+    private static final String ADD_SQL = """
+            insert into collection_bookmark_count (collection_id, bookmark_count) values (?, ?)
+            on duplicate key update bookmark_count = bookmark_count + values(bookmark_count)
+            """;
+
+    private static final String SET_SQL = """
+            insert into collection_bookmark_count (collection_id, bookmark_count) values (?, ?)
+            on duplicate key update bookmark_count = values(bookmark_count)
+            """;
+
+    /**
+     * 센 범위(idx_collection_bookmark_collection_id)에 공유 잠금을 잡아, 트랜잭션이 끝날 때까지 이 컬렉션들의 북마크/해제 커밋을 막는다
+     */
+    private static final String COUNT_FOR_SHARE_SQL = """
+            select collection_id, count(*) from collection_bookmark
+            where collection_id in (%s)
+            group by collection_id
+            for share
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 컬렉션별 증감분을 더한다 (없는 행은 증감분으로 생성)
+     */
+    public void addAll(Map<Long, Long> deltas) {
+        jdbcTemplate.batchUpdate(ADD_SQL, toArgs(deltas));
+    }
+
+    /**
+     * 컬렉션별 북마크 수를 덮어쓴다
+     */
+    public void setAll(Map<Long, Long> counts) {
+        jdbcTemplate.batchUpdate(SET_SQL, toArgs(counts));
+    }
+
+    /**
+     * 트랜잭션 안에서 호출. 컬렉션별 북마크 행 수를 세고, 커밋할 때까지 그 컬렉션들의 북마크 행이 바뀌지 않게 잠근다.
+     *
+     * @return 컬렉션 ID → 북마크 행 수 (행이 없는 컬렉션은 빠진다)
+     */
+    public Map<Long, Long> countBookmarksForShare(Collection<Long> collectionIds) {
+        String placeholders = String.join(", ", Collections.nCopies(collectionIds.size(), "?"));
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query(COUNT_FOR_SHARE_SQL.formatted(placeholders), rs -> {
+            counts.put(rs.getLong(1), rs.getLong(2));
+        }, collectionIds.toArray());
+        return counts;
+    }
+
+    private static List<Object[]> toArgs(Map<Long, Long> values) {
+        List<Object[]> args = new ArrayList<>(values.size());
+        values.forEach((collectionId, value) -> args.add(new Object[]{collectionId, value}));
+        return args;
+    }
+}
@@ -0,0 +1,22 @@
+package kr.flint.bookmark.repository;
+
+import kr.flint.bookmark.domain.CollectionBookmarkCount;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface CollectionBookmarkCountRepository extends JpaRepository<CollectionBookmarkCount, Long> {
+
+    /**
+     * collectionId 순서로 전체를 훑기 위한 키셋 조회
+     */
+    @Query("""
+            select c.collectionId from CollectionBookmarkCount c
+            where c.collectionId > :lastId
+            order by c.collectionId
+            """)
+    List<Long> findCollectionIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+}
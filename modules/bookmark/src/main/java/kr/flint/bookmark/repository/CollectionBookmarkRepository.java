@@ -0,0 +1,50 @@
+package kr.flint.bookmark.repository;
+
+import kr.flint.bookmark.domain.CollectionBookmark;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CollectionBookmarkRepository extends JpaRepository<CollectionBookmark, Long> {
+
+    /**
+     * 이미 북마크한 행이면 유니크 키 충돌을 무시한다. 같은 사용자의 동시 요청에서도 예외 없이 한 행만 남는다.
+     *
+     * @return 새로 넣은 행 수 (이미 있었으면 0)
+     */
+    @Modifying
+    @Query(value = """
+            insert ignore into collection_bookmark (id, user_id, collection_id, created_at, updated_at)
+            values (:id, :userId, :collectionId, :now, :now)
+            """, nativeQuery = true)
+    int insertIgnore(
+            @Param("id") Long id,
+            @Param("userId") Long userId,
+            @Param("collectionId") Long collectionId,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 사용자가 최근 북마크한 컬렉션 ID. TSID는 생성 순서이므로 id 역순이 북마크한 시각 역순이다.
+     */
+    @Query("select b.collectionId from CollectionBookmark b where b.userId = :userId order by b.id desc")
+    List<Long> findLatestCollectionIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 북마크한 컬렉션 ID 페이지 (최신순). size + 1개를 조회하여 COUNT 없이 다음 페이지 여부를 판단한다
+     */
+    @Query("select b.collectionId from CollectionBookmark b where b.userId = :userId order by b.id desc")
+    Slice<Long> findCollectionIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    long countByUserId(Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CollectionBookmark b where b.userId = :userId and b.collectionId = :collectionId")
+    int deleteByUserIdAndCollectionId(@Param("userId") Long userId, @Param("collectionId") Long collectionId);
+}
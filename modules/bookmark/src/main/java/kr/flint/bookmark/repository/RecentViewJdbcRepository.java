@@ -0,0 +1,63 @@
+package kr.flint.bookmark.repository;
+
+import kr.flint.bookmark.dto.RecentView;
+import kr.flint.shared.id.TsidGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * recent_viewed_collection 일괄 저장. 사용자마다 조회 시각을 upsert하고 상한 밖으로 밀려난 행을 지운다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecentViewJdbcRepository {
+
+    private static final String UPSERT_SQL = """
+            insert into recent_viewed_collection (id, user_id, collection_id, viewed_at, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?)
+            on duplicate key update
+                viewed_at = greatest(viewed_at, values(viewed_at)),
+                updated_at = values(updated_at)
+            """;
+
+    private static final String TRIM_SQL = """
+            delete from recent_viewed_collection where user_id = ? and viewed_at < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param viewsByUser 사용자별 최근 조회 (최신순, 상한만큼)
+     * @param fullUsers   상한까지 찬 사용자. 가장 오래된 조회보다 이전 행을 지운다
+     */
+    public void saveAll(Map<Long, List<RecentView>> viewsByUser, List<Long> fullUsers) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        // 이미 있는 행은 upsert에서 id가 무시되지만, 구간 예약은 CAS 한 번이므로 행 수만큼 미리 받는다
+        long[] ids = TsidGenerator.getInstance().allocate(viewsByUser.values().stream().mapToInt(List::size).sum());
+        List<Object[]> upserts = new ArrayList<>(ids.length);
+        viewsByUser.forEach((userId, views) -> views.forEach(view -> upserts.add(new Object[]{
+                ids[upserts.size()], userId, view.collectionId(), toTimestamp(view.viewedAt()), now, now
+        })));
+        jdbcTemplate.batchUpdate(UPSERT_SQL, upserts);
+
+        List<Object[]> trims = new ArrayList<>(fullUsers.size());
+        for (Long userId : fullUsers) {
+            List<RecentView> views = viewsByUser.get(userId);
+            trims.add(new Object[]{userId, toTimestamp(views.getLast().viewedAt())});
+        }
+        jdbcTemplate.batchUpdate(TRIM_SQL, trims);
+    }
+
+    private static Timestamp toTimestamp(Instant instant) {
+        return Timestamp.valueOf(LocalDateTime.ofInstant(instant, ZoneId.systemDefault()));
+    }
+}
@@ -0,0 +1,19 @@
+package kr.flint.bookmark.repository;
+
+import kr.flint.bookmark.domain.RecentViewedCollection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface RecentViewedCollectionRepository extends JpaRepository<RecentViewedCollection, Long> {
+
+    @Query("""
+            select r from RecentViewedCollection r
+            where r.userId = :userId
+            order by r.viewedAt desc
+            """)
+    List<RecentViewedCollection> findLatestByUserId(@Param("userId") Long userId, Pageable pageable);
+}
@@ -0,0 +1,378 @@
+package kr.flint.bookmark.service;
+
+import kr.flint.bookmark.domain.CollectionBookmarkCount;
+import kr.flint.bookmark.event.CollectionBookmarkChangedEvent;
+import kr.flint.bookmark.repository.BookmarkCountJdbcRepository;
+import kr.flint.bookmark.repository.CollectionBookmarkCountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 컬렉션 북마크 수 (write-behind).
+ * <p>
+ * - 쓰기: 커밋 직전 Redis 카운터와 증감분 해시를 Lua 스크립트 하나로 함께 갱신하고, 커밋이 실패하면 되돌린다. MySQL 행 잠금을 잡지 않는다
+ * - 반영: {@code bookmark.counter.flush-interval}마다 한 노드가 증감분 해시를 떼어 내 JDBC 배치로 더한다
+ * - 조회: 카운터를 MGET 한 번으로 읽고, 없는 키만 MySQL 값 + 미반영 증감분으로 채운다
+ * <p>
+ * MySQL 값과 증감분 해시는 따로 바뀌므로, 둘을 합치는 곳은 다음 순서를 지킨다.
+ * <ul>
+ *     <li>반영/재조정은 임대를 보유한 채 MySQL을 바꾸고, 임대를 놓기 전에 세대를 올린다.
+ *     조회는 MySQL을 읽기 전의 세대를 넘기고, 그 사이 세대가 바뀌었거나 임대/반영 중 해시가 남아 있으면 카운터를 채우지 않는다</li>
+ *     <li>재조정은 북마크 행을 공유 잠금으로 세는 트랜잭션 안에서 증감분을 읽는다.
+ *     증감분은 커밋 전에 올라가므로, 잠금을 얻은 시점의 증감분은 센 행과 정확히 맞는다</li>
+ * </ul>
+ * 반영 중 장애가 나거나 커밋 자체가 실패하면 증감분이 두 번 더해지거나 빠질 수 있으므로, 북마크 행을 다시 세는 재조정으로 보정한다.
+ */
+@Slf4j
+@Component
+public class BookmarkCounter {
+
+    // 스크립트 하나가 함께 다루는 키는 Redis Cluster에서 한 슬롯에 있어야 하므로 해시 태그를 둔다
+    private static final String COUNT_KEY_PREFIX = "flint:{bookmark}:count:";
+    private static final String DELTA_KEY = "flint:{bookmark}:delta";
+    private static final String FLUSHING_KEY = "flint:{bookmark}:delta:flushing";
+    private static final String LEASE_KEY = "flint:{bookmark}:flush:lease";
+    private static final String EPOCH_KEY = "flint:{bookmark}:epoch";
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * KEYS[1] 카운터, KEYS[2] 증감분 해시 / ARGV[1] 컬렉션 ID, ARGV[2] 증감분.
+     * 카운터가 없으면 다음 조회에서 MySQL 값 + 증감분으로 채워지므로 만들지 않는다.
+     */
+    private static final RedisScript<Long> INCREMENT_SCRIPT = RedisScript.of("""
+            if redis.call('exists', KEYS[1]) == 1 then
+                redis.call('incrby', KEYS[1], ARGV[2])
+            end
+            redis.call('hincrby', KEYS[2], ARGV[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1] 증감분 해시, KEYS[2] 반영 중 해시.
+     * 이전 반영이 끝나지 않았으면 그 해시를 다시 반영하고, 아니면 현재 증감분을 떼어 낸다.
+     */
+    private static final RedisScript<Long> DETACH_SCRIPT = RedisScript.of("""
+            if redis.call('exists', KEYS[2]) == 1 then
+                return 1
+            end
+            if redis.call('exists', KEYS[1]) == 1 then
+                redis.call('rename', KEYS[1], KEYS[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS[1] 증감분 해시, KEYS[2] 반영 중 해시, KEYS[3] 임대, KEYS[4] 세대, KEYS[5..] 카운터 /
+     * ARGV[1] TTL(ms), ARGV[2] MySQL을 읽기 전의 세대, ARGV[3..] 컬렉션 ID와 MySQL 값 쌍.
+     * 이미 채워진 카운터는 덮어쓰지 않는다.
+     * <p>
+     * 반영 중(임대나 반영 중 해시가 있음)이거나 세대가 바뀌었으면 MySQL 값에 반영 중 증감분이 들어 있는지 알 수 없으므로,
+     * MySQL 값 + 증감분을 이번 응답에만 쓰고 카운터는 채우지 않는다.
+     */
+    private static final RedisScript<List> LOAD_SCRIPT = RedisScript.of("""
+            local settled = redis.call('exists', KEYS[2]) == 0
+                and redis.call('exists', KEYS[3]) == 0
+                and (redis.call('get', KEYS[4]) or '0') == ARGV[2]
+            local counts = {}
+            for i = 5, #KEYS do
+                local id = ARGV[(i - 5) * 2 + 3]
+                local current = redis.call('get', KEYS[i])
+                if current then
+                    counts[i - 4] = tonumber(current)
+                else
+                    local count = tonumber(ARGV[(i - 5) * 2 + 4]) + tonumber(redis.call('hget', KEYS[1], id) or 0)
+                    if settled then
+                        redis.call('set', KEYS[i], count, 'PX', ARGV[1])
+                    end
+                    counts[i - 4] = count
+                end
+            end
+            return counts
+            """, List.class);
+
+    /**
+     * KEYS[1] 세대, KEYS[2..] 지울 키. 임대를 보유한 채 MySQL 커밋 뒤에 호출하여,
+     * 그 사이 MySQL을 읽은 조회가 카운터를 채우지 못하게 한다.
+     */
+    private static final RedisScript<Long> ADVANCE_SCRIPT = RedisScript.of("""
+            if #KEYS > 1 then
+                redis.call('del', unpack(KEYS, 2))
+            end
+            return redis.call('incr', KEYS[1])
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CollectionBookmarkCountRepository countRepository;
+    private final BookmarkCountJdbcRepository countJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Duration flushLease;
+
+    public BookmarkCounter(
+            StringRedisTemplate redisTemplate,
+            CollectionBookmarkCountRepository countRepository,
+            BookmarkCountJdbcRepository countJdbcRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${bookmark.counter.ttl:1h}") Duration ttl,
+            @Value("${bookmark.counter.flush-lease:1m}") Duration flushLease
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.countRepository = countRepository;
+        this.countJdbcRepository = countJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.ttl = ttl;
+        this.flushLease = flushLease;
+    }
+
+    /**
+     * 커밋 직전에 증감분을 올린다. 재조정이 북마크 행을 공유 잠금으로 세는 동안 커밋을 기다리는 트랜잭션은
+     * 이미 증감분을 올린 상태이므로, 잠금을 얻은 재조정이 읽는 증감분은 센 행과 맞는다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onBookmarkChanged(CollectionBookmarkChangedEvent event) {
+        if (!increment(event.collectionId(), event.delta())) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        increment(event.collectionId(), -event.delta());
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * @return 컬렉션 ID → 북마크 수 (요청 순서 유지)
+     */
+    public Map<Long, Long> getCounts(List<Long> collectionIds) {
+        List<Long> ids = collectionIds.stream().distinct().toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        List<Long> missing = new ArrayList<>();
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(ids.stream().map(BookmarkCounter::countKey).toList());
+            for (int i = 0; i < ids.size(); i++) {
+                String value = values == null ? null : values.get(i);
+                if (value == null) {
+                    missing.add(ids.get(i));
+                } else {
+                    counts.put(ids.get(i), Long.parseLong(value));
+                }
+            }
+            if (!missing.isEmpty()) {
+                counts.putAll(load(missing));
+            }
+        } catch (RuntimeException e) {
+            // Redis 장애 시 미반영 증감분 없이 MySQL 값으로 응답
+            log.warn("북마크 수 조회 실패, MySQL 값으로 대체: {}건", ids.size(), e);
+            counts.putAll(findStoredCounts(ids));
+        }
+
+        Map<Long, Long> ordered = new LinkedHashMap<>();
+        ids.forEach(id -> ordered.put(id, counts.getOrDefault(id, 0L)));
+        return ordered;
+    }
+
+    /**
+     * 모은 증감분을 MySQL에 더한다. 여러 노드 중 임대를 얻은 노드 하나만 수행한다.
+     */
+    @Scheduled(
+            initialDelayString = "${bookmark.counter.flush-interval:5s}",
+            fixedDelayString = "${bookmark.counter.flush-interval:5s}"
+    )
+    public void flush() {
+        try {
+            withLease(() -> {
+                flushDetached();
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.error("북마크 수 반영 실패", e);
+        }
+    }
+
+    /**
+     * 지정한 컬렉션의 북마크 수를 북마크 행으로 다시 계산한다.
+     *
+     * @return 임대를 얻지 못해 수행하지 않았으면 false
+     */
+    public boolean reconcile(Collection<Long> collectionIds) {
+        Boolean done = withLease(() -> {
+            flushDetached();
+            reconcileLocked(List.copyOf(collectionIds));
+            return true;
+        });
+        return Boolean.TRUE.equals(done);
+    }
+
+    /**
+     * 반영된 모든 컬렉션의 북마크 수를 다시 계산한다 (집계 드리프트 보정)
+     */
+    @Scheduled(cron = "${bookmark.counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcileAll() {
+        int reconciled = 0;
+        for (List<Long> page = countRepository.findCollectionIdsAfter(0L, PageRequest.ofSize(BATCH_SIZE));
+             !page.isEmpty();
+             page = countRepository.findCollectionIdsAfter(page.getLast(), PageRequest.ofSize(BATCH_SIZE))) {
+            if (!reconcile(page)) {
+                log.warn("북마크 수 재조정 중단: 다른 노드가 반영 중");
+                return;
+            }
+            reconciled += page.size();
+        }
+        log.info("북마크 수 재조정: {}건", reconciled);
+    }
+
+    private boolean increment(Long collectionId, int delta) {
+        String id = String.valueOf(collectionId);
+        try {
+            redisTemplate.execute(INCREMENT_SCRIPT, List.of(countKey(id), DELTA_KEY), id, String.valueOf(delta));
+            return true;
+        } catch (RuntimeException e) {
+            // 북마크 행 기준으로 다음 재조정에서 보정된다
+            log.warn("북마크 수 증감 실패: collectionId={}, delta={}", collectionId, delta, e);
+            return false;
+        }
+    }
+
+    private Map<Long, Long> load(List<Long> collectionIds) {
+        // MySQL을 읽는 사이 반영/재조정이 커밋되면 세대가 달라져 카운터를 채우지 않는다
+        String epoch = Objects.requireNonNullElse(redisTemplate.opsForValue().get(EPOCH_KEY), "0");
+        Map<Long, Long> stored = findStoredCounts(collectionIds);
+
+        List<String> keys = new ArrayList<>(collectionIds.size() + 4);
+        keys.add(DELTA_KEY);
+        keys.add(FLUSHING_KEY);
+        keys.add(LEASE_KEY);
+        keys.add(EPOCH_KEY);
+        List<String> args = new ArrayList<>(collectionIds.size() * 2 + 2);
+        args.add(String.valueOf(ttl.toMillis()));
+        args.add(epoch);
+        for (Long id : collectionIds) {
+            keys.add(countKey(id));
+            args.add(String.valueOf(id));
+            args.add(String.valueOf(stored.getOrDefault(id, 0L)));
+        }
+
+        List<?> loaded = redisTemplate.execute(LOAD_SCRIPT, keys, args.toArray());
+        Map<Long, Long> counts = new HashMap<>();
+        for (int i = 0; i < collectionIds.size(); i++) {
+            counts.put(collectionIds.get(i), ((Number) loaded.get(i)).longValue());
+        }
+        return counts;
+    }
+
+    private Map<Long, Long> findStoredCounts(List<Long> collectionIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (CollectionBookmarkCount count : countRepository.findAllById(collectionIds)) {
+            counts.put(count.getCollectionId(), count.getBookmarkCount());
+        }
+        return counts;
+    }
+
+    /**
+     * 임대를 보유한 상태에서 호출. 반영 중 해시를 MySQL에 더한 뒤 지운다.
+     */
+    private void flushDetached() {
+        Long detached = redisTemplate.execute(DETACH_SCRIPT, List.of(DELTA_KEY, FLUSHING_KEY));
+        if (detached == null || detached == 0) {
+            return;
+        }
+
+        Map<Long, Long> deltas = new HashMap<>();
+        redisTemplate.<String, String>opsForHash().entries(FLUSHING_KEY).forEach((id, delta) -> {
+            long value = Long.parseLong(delta);
+            if (value != 0) {
+                deltas.put(Long.parseLong(id), value);
+            }
+        });
+        if (!deltas.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> countJdbcRepository.addAll(deltas));
+        }
+        // MySQL 커밋 후 여기 전에 장애가 나면 다음 반영에서 한 번 더 더해진다 (재조정으로 보정).
+        // 그때까지 반영 중 해시가 남아 있으므로 조회는 카운터를 채우지 않는다
+        redisTemplate.execute(ADVANCE_SCRIPT, List.of(EPOCH_KEY, FLUSHING_KEY));
+        log.debug("북마크 수 반영: {}건", deltas.size());
+    }
+
+    /**
+     * 임대를 보유하고 반영 중 해시를 비운 상태에서 호출. MySQL 값 = 북마크 행 수 - 아직 반영하지 않은 증감분.
+     * 다음 조회에서 다시 채우도록 카운터는 지운다.
+     */
+    private void reconcileLocked(List<Long> collectionIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, Long> counts = new HashMap<>();
+            collectionIds.forEach(id -> counts.put(id, 0L));
+            // 커밋까지 이 컬렉션들의 북마크/해제가 막히므로, 행을 센 뒤 읽는 증감분에는 센 행의 변경만 모두 들어 있다
+            counts.putAll(countJdbcRepository.countBookmarksForShare(collectionIds));
+
+            List<Object> pending = redisTemplate.opsForHash()
+                    .multiGet(DELTA_KEY, collectionIds.stream().<Object>map(String::valueOf).toList());
+            for (int i = 0; i < collectionIds.size(); i++) {
+                Object delta = pending.get(i);
+                if (delta != null) {
+                    counts.merge(collectionIds.get(i), -Long.parseLong((String) delta), Long::sum);
+                }
+            }
+            countJdbcRepository.setAll(counts);
+        });
+
+        List<String> keys = new ArrayList<>(collectionIds.size() + 1);
+        keys.add(EPOCH_KEY);
+        collectionIds.forEach(id -> keys.add(countKey(id)));
+        redisTemplate.execute(ADVANCE_SCRIPT, keys);
+    }
+
+    private <T> @Nullable T withLease(Supplier<T> task) {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LEASE_KEY, token, flushLease))) {
+            return null;
+        }
+        try {
+            return task.get();
+        } finally {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY), token);
+        }
+    }
+
+    private static String countKey(Object collectionId) {
+        return COUNT_KEY_PREFIX + collectionId;
+    }
+}
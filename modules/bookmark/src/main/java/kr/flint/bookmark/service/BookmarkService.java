@@ -0,0 +1,101 @@
+package kr.flint.bookmark.service;
+
+import kr.flint.bookmark.event.CollectionBookmarkChangedEvent;
+import kr.flint.bookmark.repository.CollectionBookmarkRepository;
+import kr.flint.shared.dto.PaginationResponse;
+import kr.flint.shared.id.TsidGenerator;
+import kr.flint.shared.pagination.OffsetCountCache;
+import kr.flint.shared.pagination.TotalCount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BookmarkService {
+
+    /**
+     * 북마크 목록 페이지 최대 크기
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * 사용자별 북마크 수 COUNT 캐시의 쿼리 종류
+     */
+    private static final String BOOKMARKED_COUNT_SHAPE = "bookmark:collections-by-user";
+
+    private final CollectionBookmarkRepository bookmarkRepository;
+    private final BookmarkCounter bookmarkCounter;
+    private final OffsetCountCache offsetCountCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 컬렉션 북마크. 이미 북마크했으면 (같은 사용자의 동시 요청 포함) 아무것도 하지 않는다.
+     */
+    @Transactional
+    public void bookmark(Long userId, Long collectionId) {
+        // 저장 후 유니크 키 예외를 잡으면 트랜잭션이 rollback-only가 되므로, 충돌을 무시하는 insert로 넣는다
+        if (bookmarkRepository.insertIgnore(TsidGenerator.getInstance().next(), userId, collectionId, LocalDateTime.now()) > 0) {
+            eventPublisher.publishEvent(new CollectionBookmarkChangedEvent(collectionId, 1));
+            evictBookmarkedCountAfterCommit(userId);
+        }
+    }
+
+    @Transactional
+    public void unbookmark(Long userId, Long collectionId) {
+        if (bookmarkRepository.deleteByUserIdAndCollectionId(userId, collectionId) > 0) {
+            eventPublisher.publishEvent(new CollectionBookmarkChangedEvent(collectionId, -1));
+            evictBookmarkedCountAfterCommit(userId);
+        }
+    }
+
+    /**
+     * 최근 북마크한 컬렉션 ID (최신순). 이후 비공개로 바뀌거나 삭제된 컬렉션도 포함된다
+     */
+    public List<Long> findBookmarkedCollectionIds(Long userId, int limit) {
+        return bookmarkRepository.findLatestCollectionIdsByUserId(userId, PageRequest.ofSize(limit));
+    }
+
+    /**
+     * 북마크한 컬렉션 ID를 최신순으로 offset 페이지네이션. 전체 수는 COUNT 캐시의 값이라 최대 max-staleness만큼 오래될 수 있다
+     *
+     * @param page 1부터 시작
+     * @param size 1 ~ {@value #MAX_PAGE_SIZE}
+     */
+    public PaginationResponse<Long> getBookmarkedCollectionIds(Long userId, int page, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        Slice<Long> slice = bookmarkRepository.findCollectionIdsByUserId(userId, PageRequest.of(Math.max(page, 1) - 1, pageSize));
+        TotalCount total = offsetCountCache.count(BOOKMARKED_COUNT_SHAPE, userId, () -> bookmarkRepository.countByUserId(userId));
+        return PaginationResponse.ofOffset(slice, total);
+    }
+
+    /**
+     * 컬렉션별 북마크 수 (Redis 한 번 조회, 요청 순서 유지)
+     */
+    public Map<Long, Long> getBookmarkCounts(List<Long> collectionIds) {
+        return bookmarkCounter.getCounts(collectionIds);
+    }
+
+    /**
+     * 북마크한 사용자가 바로 정확한 전체 수를 보도록 커밋 뒤 COUNT 캐시를 지운다.
+     * 커밋 전에 지우면 그 사이 다른 요청이 커밋 전 행 수를 다시 캐시할 수 있다
+     */
+    private void evictBookmarkedCountAfterCommit(Long userId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                offsetCountCache.evict(BOOKMARKED_COUNT_SHAPE, userId);
+            }
+        });
+    }
+}
@@ -0,0 +1,234 @@
+package kr.flint.bookmark.service;
+
+import kr.flint.bookmark.domain.RecentViewedCollection;
+import kr.flint.bookmark.dto.RecentView;
+import kr.flint.bookmark.repository.RecentViewJdbcRepository;
+import kr.flint.bookmark.repository.RecentViewedCollectionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자별 최근 조회한 컬렉션 (Redis sorted set, score = 조회 시각, 최대 maxSize개).
+ * <p>
+ * - 기록: 같은 컬렉션은 조회 시각만 갱신되고, 상한을 넘은 오래된 조회는 같은 파이프라인에서 잘린다. MySQL에 쓰지 않는다
+ * - 저장: 기록한 사용자를 dirty 집합에 모아 두고 {@code bookmark.recent-view.flush-interval}마다 사용자별 최신 목록을 JDBC 배치로 저장
+ * - 조회: sorted set에서 바로 읽고, 키가 없을 때(만료, Redis 유실)만 MySQL에서 읽어 다시 채운다
+ * - 복원: 키가 없던 상태에서 기록하면 그 조회 하나만 든 set이 생기고 조회 쪽에서는 복원할 때를 알 수 없으므로,
+ *   기록할 때 키가 없었으면 바로 MySQL 기록을 합친다 (만료 뒤 첫 조회에만 MySQL을 읽는다)
+ * <p>
+ * 저장 전에 Redis가 유실되면 마지막 저장 이후의 조회 기록은 사라진다 (최근 조회는 유실을 허용하는 기록).
+ */
+@Slf4j
+@Component
+public class RecentViewLog {
+
+    private static final String KEY_PREFIX = "flint:recent-view:";
+    private static final String DIRTY_KEY = "flint:recent-view:dirty";
+    private static final int BATCH_SIZE = 500;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RecentViewedCollectionRepository viewRepository;
+    private final RecentViewJdbcRepository viewJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxSize;
+    private final Duration ttl;
+    private final LongSupplier clock;
+
+    @Autowired
+    public RecentViewLog(
+            StringRedisTemplate redisTemplate,
+            RecentViewedCollectionRepository viewRepository,
+            RecentViewJdbcRepository viewJdbcRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${bookmark.recent-view.max-size:100}") int maxSize,
+            @Value("${bookmark.recent-view.ttl:7d}") Duration ttl
+    ) {
+        this(redisTemplate, viewRepository, viewJdbcRepository, transactionTemplate, maxSize, ttl, System::currentTimeMillis);
+    }
+
+    RecentViewLog(
+            StringRedisTemplate redisTemplate,
+            RecentViewedCollectionRepository viewRepository,
+            RecentViewJdbcRepository viewJdbcRepository,
+            TransactionTemplate transactionTemplate,
+            int maxSize,
+            Duration ttl,
+            LongSupplier clock
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.viewRepository = viewRepository;
+        this.viewJdbcRepository = viewJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    public void record(Long userId, Long collectionId) {
+        String key = key(userId);
+        long now = clock.getAsLong();
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                stringConnection.exists(key);
+                stringConnection.zAdd(key, now, String.valueOf(collectionId));
+                stringConnection.zRemRange(key, 0, -(maxSize + 1));
+                stringConnection.pExpire(key, ttl.toMillis());
+                stringConnection.sAdd(DIRTY_KEY, String.valueOf(userId));
+                return null;
+            });
+            // 동시에 기록한 요청이 함께 복원해도 GT로 합치므로 결과는 같다
+            if (Boolean.FALSE.equals(results.getFirst())) {
+                restore(userId, findStored(userId));
+            }
+        } catch (RuntimeException e) {
+            log.warn("최근 조회 기록 실패: userId={}, collectionId={}", userId, collectionId, e);
+        }
+    }
+
+    /**
+     * @return 최신순 최근 조회 (최대 min(size, maxSize)개)
+     */
+    public List<RecentView> find(Long userId, int size) {
+        int limit = Math.min(size, maxSize);
+        if (limit <= 0) {
+            return List.of();
+        }
+        try {
+            List<RecentView> views = toViews(redisTemplate.opsForZSet().reverseRangeWithScores(key(userId), 0, limit - 1));
+            if (!views.isEmpty()) {
+                return views;
+            }
+            List<RecentView> stored = findStored(userId);
+            restore(userId, stored);
+            return stored.subList(0, Math.min(limit, stored.size()));
+        } catch (RuntimeException e) {
+            log.warn("최근 조회 목록 조회 실패, MySQL 값으로 대체: userId={}", userId, e);
+            List<RecentView> stored = findStored(userId);
+            return stored.subList(0, Math.min(limit, stored.size()));
+        }
+    }
+
+    /**
+     * 기록이 바뀐 사용자의 최신 목록을 MySQL에 저장한다. 저장에 실패한 사용자는 dirty 집합으로 되돌린다.
+     */
+    @Scheduled(
+            initialDelayString = "${bookmark.recent-view.flush-interval:10s}",
+            fixedDelayString = "${bookmark.recent-view.flush-interval:10s}"
+    )
+    public void flush() {
+        while (true) {
+            List<String> userIds;
+            try {
+                userIds = redisTemplate.opsForSet().pop(DIRTY_KEY, BATCH_SIZE);
+            } catch (RuntimeException e) {
+                log.warn("최근 조회 저장 대상 조회 실패", e);
+                return;
+            }
+            if (userIds == null || userIds.isEmpty()) {
+                return;
+            }
+
+            try {
+                persist(userIds.stream().map(Long::valueOf).toList());
+            } catch (RuntimeException e) {
+                log.error("최근 조회 저장 실패: {}명", userIds.size(), e);
+                redisTemplate.opsForSet().add(DIRTY_KEY, userIds.toArray(String[]::new));
+                return;
+            }
+            if (userIds.size() < BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+
+    private void persist(List<Long> userIds) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                userIds.forEach(userId -> stringOperations.opsForZSet().reverseRangeWithScores(key(userId), 0, maxSize - 1));
+                return null;
+            }
+        });
+
+        Map<Long, List<RecentView>> viewsByUser = new HashMap<>();
+        List<Long> fullUsers = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            @SuppressWarnings("unchecked")
+            List<RecentView> views = toViews((Set<TypedTuple<String>>) results.get(i));
+            if (views.isEmpty()) {
+                continue;
+            }
+            viewsByUser.put(userIds.get(i), views);
+            if (views.size() == maxSize) {
+                fullUsers.add(userIds.get(i));
+            }
+        }
+        if (!viewsByUser.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> viewJdbcRepository.saveAll(viewsByUser, fullUsers));
+        }
+    }
+
+    private List<RecentView> findStored(Long userId) {
+        List<RecentViewedCollection> rows = viewRepository.findLatestByUserId(userId, PageRequest.ofSize(maxSize));
+        return rows.stream()
+                .map(row -> new RecentView(row.getCollectionId(), row.getViewedAt().atZone(ZoneId.systemDefault()).toInstant()))
+                .toList();
+    }
+
+    private void restore(Long userId, List<RecentView> views) {
+        if (views.isEmpty()) {
+            return;
+        }
+        String key = key(userId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            // 복원 중 새로 기록된 조회가 있으면 더 최근 시각을 유지 (GT)
+            views.forEach(view -> stringConnection.zAdd(key, view.viewedAt().toEpochMilli(),
+                    String.valueOf(view.collectionId()), ZAddArgs.empty().gt()));
+            stringConnection.zRemRange(key, 0, -(maxSize + 1));
+            stringConnection.pExpire(key, ttl.toMillis());
+            return null;
+        });
+    }
+
+    private static List<RecentView> toViews(@Nullable Set<TypedTuple<String>> tuples) {
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+        List<RecentView> views = new ArrayList<>(tuples.size());
+        for (TypedTuple<String> tuple : tuples) {
+            views.add(new RecentView(Long.valueOf(tuple.getValue()), Instant.ofEpochMilli(tuple.getScore().longValue())));
+        }
+        return views;
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
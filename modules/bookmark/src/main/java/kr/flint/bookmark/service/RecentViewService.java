@@ -0,0 +1,28 @@
+package kr.flint.bookmark.service;
+
+import kr.flint.bookmark.dto.RecentView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class RecentViewService {
+
+    private final RecentViewLog recentViewLog;
+
+    /**
+     * 컬렉션 조회 기록. Redis에만 쓰며 MySQL에는 주기적으로 모아서 저장한다.
+     */
+    public void recordView(Long userId, Long collectionId) {
+        recentViewLog.record(userId, collectionId);
+    }
+
+    /**
+     * 최근 조회한 컬렉션 (최신순)
+     */
+    public List<RecentView> getRecentViews(Long userId, int size) {
+        return recentViewLog.find(userId, size);
+    }
+}
@@ -0,0 +1,228 @@
+package kr.flint.bookmark.service;
+
+import kr.flint.bookmark.domain.CollectionBookmarkCount;
+import kr.flint.bookmark.event.CollectionBookmarkChangedEvent;
+import kr.flint.bookmark.repository.BookmarkCountJdbcRepository;
+import kr.flint.bookmark.repository.CollectionBookmarkCountRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * MySQL은 맵으로 흉내 내고, 반영/재조정 도중에 끼어드는 조회와 북마크는 저장소 응답 안에서 실행한다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class BookmarkCounterTest {
+
+    private static final Long COLLECTION_ID = 1L;
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final CollectionBookmarkCountRepository countRepository = mock(CollectionBookmarkCountRepository.class);
+    private final BookmarkCountJdbcRepository countJdbcRepository = mock(BookmarkCountJdbcRepository.class);
+    private final Map<Long, Long> stored = new HashMap<>();
+    private BookmarkCounter bookmarkCounter;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        given(countRepository.findAllById(any())).willAnswer(invocation -> findStored(invocation.getArgument(0)));
+        willAnswer(invocation -> {
+            invocation.<Map<Long, Long>>getArgument(0).forEach((id, delta) -> stored.merge(id, delta, Long::sum));
+            return null;
+        }).given(countJdbcRepository).addAll(anyMap());
+        willAnswer(invocation -> {
+            stored.putAll(invocation.getArgument(0));
+            return null;
+        }).given(countJdbcRepository).setAll(anyMap());
+
+        bookmarkCounter = new BookmarkCounter(redisTemplate, countRepository, countJdbcRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), Duration.ofHours(1), Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("반영하면 모은 증감분이 MySQL에 더해지고 증감분 해시가 비워진다")
+    void flush_adds_pending_deltas() {
+        stored.put(COLLECTION_ID, 10L);
+        assertThat(count()).isEqualTo(10L);
+
+        bookmark(1);
+        bookmark(1);
+        bookmark(-1);
+        bookmarkCounter.flush();
+
+        assertThat(stored).containsEntry(COLLECTION_ID, 11L);
+        assertThat(redisTemplate.hasKey("flint:{bookmark}:delta")).isFalse();
+        assertThat(redisTemplate.hasKey("flint:{bookmark}:delta:flushing")).isFalse();
+        assertThat(count()).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("이전 반영이 남긴 반영 중 해시를 먼저 반영하고, 새 증감분은 다음 반영에서 더한다")
+    void flushes_leftover_hash_first() {
+        redisTemplate.opsForHash().put("flint:{bookmark}:delta:flushing", String.valueOf(COLLECTION_ID), "2");
+        bookmark(1);
+
+        bookmarkCounter.flush();
+        assertThat(stored).containsEntry(COLLECTION_ID, 2L);
+
+        bookmarkCounter.flush();
+        assertThat(stored).containsEntry(COLLECTION_ID, 3L);
+    }
+
+    @Test
+    @DisplayName("반영이 MySQL에 커밋한 뒤 반영 중 해시를 지우기 전에 조회해도 두 번 세지 않고, 카운터도 채우지 않는다")
+    void load_during_flush_does_not_double_count() {
+        stored.put(COLLECTION_ID, 10L);
+        bookmark(1);
+        List<Long> seenDuringFlush = new ArrayList<>();
+        willAnswer(invocation -> {
+            invocation.<Map<Long, Long>>getArgument(0).forEach((id, delta) -> stored.merge(id, delta, Long::sum));
+            seenDuringFlush.add(count());
+            return null;
+        }).given(countJdbcRepository).addAll(anyMap());
+
+        bookmarkCounter.flush();
+
+        assertThat(seenDuringFlush).containsExactly(11L);
+        assertThat(count()).isEqualTo(11L);
+        assertThat(redisTemplate.opsForValue().get("flint:{bookmark}:count:" + COLLECTION_ID)).isEqualTo("11");
+    }
+
+    @Test
+    @DisplayName("MySQL을 읽는 사이 반영이 끝나면 읽은 값을 카운터로 남기지 않는다")
+    void load_racing_flush_does_not_cache() {
+        stored.put(COLLECTION_ID, 10L);
+        bookmark(1);
+        AtomicBoolean raced = new AtomicBoolean();
+        given(countRepository.findAllById(any())).willAnswer(invocation -> {
+            List<CollectionBookmarkCount> before = findStored(invocation.getArgument(0));
+            if (raced.compareAndSet(false, true)) {
+                bookmarkCounter.flush();
+            }
+            return before;
+        });
+
+        count();
+        assertThat(redisTemplate.hasKey("flint:{bookmark}:count:" + COLLECTION_ID)).isFalse();
+
+        assertThat(count()).isEqualTo(11L);
+        assertThat(redisTemplate.opsForValue().get("flint:{bookmark}:count:" + COLLECTION_ID)).isEqualTo("11");
+    }
+
+    @Test
+    @DisplayName("재조정은 센 행 수에서 아직 반영하지 않은 증감분을 빼서 저장하고 카운터를 지운다")
+    void reconcile_subtracts_pending_delta() {
+        stored.put(COLLECTION_ID, 100L);
+        stored.put(2L, 7L);
+        assertThat(count()).isEqualTo(100L);
+        given(countJdbcRepository.countBookmarksForShare(any())).willAnswer(invocation -> {
+            // 잠금을 얻기 직전에 커밋된 북마크: 행 수와 증감분에 모두 들어 있다
+            bookmark(1);
+            return Map.of(COLLECTION_ID, 5L);
+        });
+
+        assertThat(bookmarkCounter.reconcile(List.of(COLLECTION_ID, 2L))).isTrue();
+
+        assertThat(stored).containsEntry(COLLECTION_ID, 4L).containsEntry(2L, 0L);
+        assertThat(redisTemplate.hasKey("flint:{bookmark}:count:" + COLLECTION_ID)).isFalse();
+        assertThat(count()).isEqualTo(5L);
+
+        bookmarkCounter.flush();
+        assertThat(stored).containsEntry(COLLECTION_ID, 5L);
+        assertThat(count()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 임대를 보유하면 재조정하지 않는다")
+    void reconcile_skips_without_lease() {
+        redisTemplate.opsForValue().set("flint:{bookmark}:flush:lease", "other");
+
+        assertThat(bookmarkCounter.reconcile(List.of(COLLECTION_ID))).isFalse();
+    }
+
+    @Test
+    @DisplayName("커밋이 실패하면 올린 증감분을 되돌린다")
+    void rollback_reverts_delta() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bookmark(1);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(redisTemplate.opsForHash().get("flint:{bookmark}:delta", String.valueOf(COLLECTION_ID))).isEqualTo("0");
+    }
+
+    private void bookmark(int delta) {
+        bookmarkCounter.onBookmarkChanged(new CollectionBookmarkChangedEvent(COLLECTION_ID, delta));
+    }
+
+    private long count() {
+        return bookmarkCounter.getCounts(List.of(COLLECTION_ID)).get(COLLECTION_ID);
+    }
+
+    private List<CollectionBookmarkCount> findStored(Collection<Long> ids) {
+        List<CollectionBookmarkCount> rows = new ArrayList<>();
+        for (Long id : ids) {
+            if (stored.containsKey(id)) {
+                CollectionBookmarkCount row = BeanUtils.instantiateClass(CollectionBookmarkCount.class);
+                ReflectionTestUtils.setField(row, "collectionId", id);
+                ReflectionTestUtils.setField(row, "bookmarkCount", stored.get(id));
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
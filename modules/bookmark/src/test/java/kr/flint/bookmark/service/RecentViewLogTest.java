@@ -0,0 +1,144 @@
+package kr.flint.bookmark.service;
+
+import kr.flint.bookmark.domain.RecentViewedCollection;
+import kr.flint.bookmark.dto.RecentView;
+import kr.flint.bookmark.repository.RecentViewJdbcRepository;
+import kr.flint.bookmark.repository.RecentViewedCollectionRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Testcontainers(disabledWithoutDocker = true)
+class RecentViewLogTest {
+
+    private static final Long USER_ID = 1L;
+    private static final int MAX_SIZE = 3;
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final RecentViewedCollectionRepository viewRepository = mock(RecentViewedCollectionRepository.class);
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+    private RecentViewLog recentViewLog;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        given(viewRepository.findLatestByUserId(eq(USER_ID), any())).willReturn(List.of());
+        recentViewLog = new RecentViewLog(redisTemplate, viewRepository, mock(RecentViewJdbcRepository.class),
+                mock(TransactionTemplate.class), MAX_SIZE, Duration.ofDays(7), () -> clock.addAndGet(1_000));
+    }
+
+    @Test
+    @DisplayName("같은 컬렉션은 시각만 갱신되고 상한을 넘으면 오래된 조회부터 잘린다")
+    void dedups_and_trims_to_max_size() {
+        for (long collectionId = 1; collectionId <= 5; collectionId++) {
+            recentViewLog.record(USER_ID, collectionId);
+        }
+        recentViewLog.record(USER_ID, 3L);
+
+        assertThat(collectionIds(recentViewLog.find(USER_ID, 10))).containsExactly(3L, 5L, 4L);
+        assertThat(redisTemplate.opsForZSet().size("flint:recent-view:" + USER_ID)).isEqualTo(MAX_SIZE);
+    }
+
+    @Test
+    @DisplayName("키가 없으면 조회할 때 MySQL에서 읽어 다시 채운다")
+    void find_restores_missing_key_from_mysql() {
+        List<RecentViewedCollection> rows = List.of(stored(20L, 200), stored(10L, 100));
+        given(viewRepository.findLatestByUserId(eq(USER_ID), any())).willReturn(rows);
+
+        assertThat(collectionIds(recentViewLog.find(USER_ID, 10))).containsExactly(20L, 10L);
+        assertThat(collectionIds(recentViewLog.find(USER_ID, 10))).containsExactly(20L, 10L);
+        verify(viewRepository, times(1)).findLatestByUserId(eq(USER_ID), any());
+    }
+
+    @Test
+    @DisplayName("키가 만료된 뒤 첫 조회를 기록하면 MySQL 기록을 합쳐 이전 기록이 사라지지 않는다")
+    void record_after_expiry_merges_stored_history() {
+        recentViewLog.record(USER_ID, 10L);
+        redisTemplate.delete("flint:recent-view:" + USER_ID);
+        List<RecentViewedCollection> rows = List.of(stored(20L, 200), stored(10L, 100));
+        given(viewRepository.findLatestByUserId(eq(USER_ID), any())).willReturn(rows);
+
+        recentViewLog.record(USER_ID, 30L);
+
+        assertThat(collectionIds(recentViewLog.find(USER_ID, 10))).containsExactly(30L, 20L, 10L);
+    }
+
+    @Test
+    @DisplayName("복원할 때 Redis에 더 최근 조회가 있으면 그 시각을 유지한다")
+    void restore_keeps_newer_redis_view() {
+        List<RecentViewedCollection> rows = List.of(stored(10L, 100));
+        given(viewRepository.findLatestByUserId(eq(USER_ID), any())).willReturn(rows);
+
+        recentViewLog.record(USER_ID, 10L);
+
+        List<RecentView> views = recentViewLog.find(USER_ID, 10);
+        assertThat(collectionIds(views)).containsExactly(10L);
+        assertThat(views.getFirst().viewedAt()).isAfter(Instant.ofEpochSecond(100));
+    }
+
+    @Test
+    @DisplayName("키가 있는 동안에는 기록해도 MySQL을 읽지 않는다")
+    void record_does_not_read_mysql_while_key_exists() {
+        recentViewLog.record(USER_ID, 1L);
+        recentViewLog.record(USER_ID, 2L);
+        recentViewLog.record(USER_ID, 3L);
+
+        verify(viewRepository, times(1)).findLatestByUserId(eq(USER_ID), any());
+    }
+
+    private static RecentViewedCollection stored(Long collectionId, long viewedAtEpochSecond) {
+        RecentViewedCollection row = mock(RecentViewedCollection.class);
+        given(row.getCollectionId()).willReturn(collectionId);
+        given(row.getViewedAt()).willReturn(LocalDateTime.ofInstant(Instant.ofEpochSecond(viewedAtEpochSecond), ZoneId.systemDefault()));
+        return row;
+    }
+
+    private static List<Long> collectionIds(List<RecentView> views) {
+        return views.stream().map(RecentView::collectionId).toList();
+    }
+}
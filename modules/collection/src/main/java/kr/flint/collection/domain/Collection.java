@@ -0,0 +1,61 @@
+package kr.flint.collection.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import kr.flint.shared.domain.BaseTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.jspecify.annotations.Nullable;
+
+@Getter
+@Entity
+@Table(
+        name = "collection",
+        indexes = {
+                @Index(name = "idx_collection_user_id", columnList = "userId"),
+                // 공개 컬렉션 풀의 증분 동기화 (updatedAt 워터마크)
+                @Index(name = "idx_collection_updated_at", columnList = "updatedAt")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Collection extends BaseTime {
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Nullable
+    private String description;
+
+    @Column(nullable = false)
+    private boolean isPublic;
+
+    private Collection(Long userId, String title, @Nullable String description, boolean isPublic) {
+        this.userId = userId;
+        this.title = title;
+        this.description = description;
+        this.isPublic = isPublic;
+    }
+
+    public static Collection create(Long userId, String title, @Nullable String description, boolean isPublic) {
+        return new Collection(userId, title, description, isPublic);
+    }
+
+    public boolean isOwnedBy(Long userId) {
+        return this.userId.equals(userId);
+    }
+
+    public void update(String title, @Nullable String description) {
+        this.title = title;
+        this.description = description;
+    }
+
+    public void changeVisibility(boolean isPublic) {
+        this.isPublic = isPublic;
+    }
+}
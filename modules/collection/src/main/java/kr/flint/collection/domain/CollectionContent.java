@@ -0,0 +1,56 @@
+package kr.flint.collection.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import kr.flint.shared.domain.BaseTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 컬렉션에 담긴 콘텐츠와 그 순서.
+ * <p>
+ * 순서는 {@link PositionKeys} 분수 인덱스로 표현하므로 콘텐츠 하나를 옮기면 그 행만 바뀐다.
+ * 같은 키가 생겨도 순서가 정해지도록 (position, id)로 정렬하며,
+ * InnoDB 보조 인덱스는 PK를 포함하므로 (collectionId, position) 인덱스가 그대로 키셋 조회에 쓰인다.
+ */
+@Getter
+@Entity
+@Table(
+        name = "collection_content",
+        uniqueConstraints = @UniqueConstraint(name = "uk_collection_content", columnNames = {"collectionId", "contentId"}),
+        indexes = @Index(name = "idx_collection_content_position", columnList = "collectionId, position")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CollectionContent extends BaseTime {
+
+    @Column(nullable = false)
+    private Long collectionId;
+
+    @Column(nullable = false)
+    private Long contentId;
+
+    /**
+     * 대소문자를 구분해 사전순으로 비교되어야 하므로 바이너리 collation
+     */
+    @Column(nullable = false, length = PositionKeys.MAX_LENGTH,
+            columnDefinition = "varchar(" + PositionKeys.MAX_LENGTH + ") character set ascii collate ascii_bin not null")
+    private String position;
+
+    private CollectionContent(Long collectionId, Long contentId, String position) {
+        this.collectionId = collectionId;
+        this.contentId = contentId;
+        this.position = position;
+    }
+
+    public static CollectionContent create(Long collectionId, Long contentId, String position) {
+        return new CollectionContent(collectionId, contentId, position);
+    }
+
+    public void moveTo(String position) {
+        this.position = position;
+    }
+}
@@ -0,0 +1,259 @@
+package kr.flint.collection.domain;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사전순으로 비교되는 분수 인덱스(fractional index) 위치 키.
+ * <p>
+ * 두 키 사이에는 항상 새 키를 만들 수 있으므로, 콘텐츠 하나를 옮길 때 그 행의 키만 바꾸면 된다.
+ * <p>
+ * 키 = 정수부 + 소수부 (base-62, {@code 0-9A-Za-z}의 ASCII 순서)
+ * <ul>
+ *     <li>정수부: 첫 글자가 자릿수를 나타낸다. {@code a}~{@code z}는 1~26자리 양수, {@code Z}~{@code A}는 음수</li>
+ *     <li>소수부: 이웃 사이에 끼워 넣을 때만 생기며, 같은 값이 여러 표현을 갖지 않도록 {@code 0}으로 끝나지 않는다</li>
+ * </ul>
+ * 끝에 붙이거나 앞에 넣을 때는 정수부만 1씩 바뀌어 키가 거의 자라지 않고,
+ * 같은 자리에 반복해서 끼워 넣을 때만 소수부가 길어진다. 긴 키는 재배치로 다시 짧게 만든다.
+ * <p>
+ * DB에서도 같은 순서로 비교되도록 컬럼은 바이너리 collation이어야 한다.
+ */
+public final class PositionKeys {
+
+    /**
+     * 컬럼 길이. 이보다 긴 키가 필요하면 먼저 재배치한다.
+     */
+    public static final int MAX_LENGTH = 128;
+
+    static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+
+    private static final int BASE = DIGITS.length();
+    private static final char ZERO = DIGITS.charAt(0);
+    private static final char LAST_DIGIT = DIGITS.charAt(BASE - 1);
+
+    /**
+     * 가장 작은 정수부. 이 키 앞으로는 소수부로만 넣을 수 있다.
+     */
+    private static final String SMALLEST_INTEGER = "A" + String.valueOf(ZERO).repeat(26);
+
+    private PositionKeys() {
+    }
+
+    /**
+     * a와 b 사이의 키. null은 각각 맨 앞/맨 뒤를 뜻한다.
+     */
+    public static String between(@Nullable String a, @Nullable String b) {
+        if (a != null) {
+            validate(a);
+        }
+        if (b != null) {
+            validate(b);
+        }
+        if (a != null && b != null && a.compareTo(b) >= 0) {
+            throw new IllegalArgumentException(a + " >= " + b);
+        }
+
+        if (a == null) {
+            if (b == null) {
+                return "a" + ZERO;
+            }
+            String ib = integerPart(b);
+            String fb = b.substring(ib.length());
+            if (ib.equals(SMALLEST_INTEGER)) {
+                return ib + midpoint("", fb);
+            }
+            if (ib.compareTo(b) < 0) {
+                return ib;
+            }
+            String decremented = decrement(ib);
+            if (decremented == null) {
+                throw new IllegalStateException("더 작은 키를 만들 수 없습니다: " + b);
+            }
+            return decremented;
+        }
+
+        String ia = integerPart(a);
+        String fa = a.substring(ia.length());
+        if (b == null) {
+            String incremented = increment(ia);
+            return incremented != null ? incremented : ia + midpoint(fa, null);
+        }
+
+        String ib = integerPart(b);
+        String fb = b.substring(ib.length());
+        if (ia.equals(ib)) {
+            return ia + midpoint(fa, fb);
+        }
+        String incremented = increment(ia);
+        if (incremented == null) {
+            throw new IllegalStateException("더 큰 키를 만들 수 없습니다: " + a);
+        }
+        if (incremented.compareTo(b) < 0) {
+            return incremented;
+        }
+        return ia + midpoint(fa, null);
+    }
+
+    /**
+     * a와 b 사이에 오름차순으로 놓이는 키 n개.
+     * 양쪽이 열려 있으면 정수부만 이어 붙이고, 닫혀 있으면 가운데부터 나눠 키 길이가 log(n) 정도만 자라게 한다.
+     */
+    public static List<String> between(@Nullable String a, @Nullable String b, int n) {
+        List<String> keys = new ArrayList<>(Math.max(n, 0));
+        fill(a, b, n, keys);
+        return keys;
+    }
+
+    private static void fill(@Nullable String a, @Nullable String b, int n, List<String> out) {
+        if (n <= 0) {
+            return;
+        }
+        if (n == 1) {
+            out.add(between(a, b));
+            return;
+        }
+        if (b == null) {
+            String key = a;
+            for (int i = 0; i < n; i++) {
+                key = between(key, null);
+                out.add(key);
+            }
+            return;
+        }
+        if (a == null) {
+            String[] keys = new String[n];
+            String key = b;
+            for (int i = n - 1; i >= 0; i--) {
+                key = between(null, key);
+                keys[i] = key;
+            }
+            out.addAll(List.of(keys));
+            return;
+        }
+
+        int half = n / 2;
+        String middle = between(a, b);
+        fill(a, middle, half, out);
+        out.add(middle);
+        fill(middle, b, n - half - 1, out);
+    }
+
+    /**
+     * 0과 1 사이의 소수부 a < b 사이의 소수부. b가 null이면 1
+     */
+    private static String midpoint(String a, @Nullable String b) {
+        if (b != null) {
+            int n = 0;
+            while (n < b.length() && digitAt(a, n) == b.charAt(n)) {
+                n++;
+            }
+            if (n > 0) {
+                return b.substring(0, n) + midpoint(a.length() > n ? a.substring(n) : "", b.substring(n));
+            }
+        }
+
+        int digitA = a.isEmpty() ? 0 : DIGITS.indexOf(a.charAt(0));
+        int digitB = b != null ? DIGITS.indexOf(b.charAt(0)) : BASE;
+        if (digitB - digitA > 1) {
+            return String.valueOf(DIGITS.charAt((digitA + digitB + 1) / 2));
+        }
+        if (b != null && b.length() > 1) {
+            return b.substring(0, 1);
+        }
+        return DIGITS.charAt(digitA) + midpoint(a.isEmpty() ? "" : a.substring(1), null);
+    }
+
+    private static char digitAt(String s, int index) {
+        return index < s.length() ? s.charAt(index) : ZERO;
+    }
+
+    private static @Nullable String increment(String integer) {
+        char head = integer.charAt(0);
+        char[] digits = integer.substring(1).toCharArray();
+        boolean carry = true;
+        for (int i = digits.length - 1; carry && i >= 0; i--) {
+            int d = DIGITS.indexOf(digits[i]) + 1;
+            if (d == BASE) {
+                digits[i] = ZERO;
+            } else {
+                digits[i] = DIGITS.charAt(d);
+                carry = false;
+            }
+        }
+        if (!carry) {
+            return head + new String(digits);
+        }
+        if (head == 'Z') {
+            return "a" + ZERO;
+        }
+        if (head == 'z') {
+            return null;
+        }
+        char next = (char) (head + 1);
+        String rest = new String(digits);
+        // 양수는 자릿수가 늘고, 음수는 절댓값이 줄어 자릿수가 준다
+        return next > 'a' ? next + rest + ZERO : next + rest.substring(1);
+    }
+
+    private static @Nullable String decrement(String integer) {
+        char head = integer.charAt(0);
+        char[] digits = integer.substring(1).toCharArray();
+        boolean borrow = true;
+        for (int i = digits.length - 1; borrow && i >= 0; i--) {
+            int d = DIGITS.indexOf(digits[i]) - 1;
+            if (d == -1) {
+                digits[i] = LAST_DIGIT;
+            } else {
+                digits[i] = DIGITS.charAt(d);
+                borrow = false;
+            }
+        }
+        if (!borrow) {
+            return head + new String(digits);
+        }
+        if (head == 'a') {
+            return "Z" + LAST_DIGIT;
+        }
+        if (head == 'A') {
+            return null;
+        }
+        char next = (char) (head - 1);
+        String rest = new String(digits);
+        return next < 'Z' ? next + rest + LAST_DIGIT : next + rest.substring(1);
+    }
+
+    private static String integerPart(String key) {
+        int length = integerLength(key.charAt(0));
+        if (length > key.length()) {
+            throw new IllegalArgumentException("잘못된 위치 키: " + key);
+        }
+        return key.substring(0, length);
+    }
+
+    private static int integerLength(char head) {
+        if (head >= 'a' && head <= 'z') {
+            return head - 'a' + 2;
+        }
+        if (head >= 'A' && head <= 'Z') {
+            return 'Z' - head + 2;
+        }
+        throw new IllegalArgumentException("잘못된 위치 키 머리 글자: " + head);
+    }
+
+    private static void validate(String key) {
+        if (key.equals(SMALLEST_INTEGER)) {
+            throw new IllegalArgumentException("잘못된 위치 키: " + key);
+        }
+        String integer = integerPart(key);
+        for (int i = 1; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                throw new IllegalArgumentException("잘못된 위치 키: " + key);
+            }
+        }
+        if (key.length() > integer.length() && key.charAt(key.length() - 1) == ZERO) {
+            throw new IllegalArgumentException("잘못된 위치 키: " + key);
+        }
+    }
+}
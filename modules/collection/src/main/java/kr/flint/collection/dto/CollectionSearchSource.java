@@ -0,0 +1,18 @@
+package kr.flint.collection.dto;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 인덱스에 필요한 컬렉션 필드
+ */
+public record CollectionSearchSource(
+        Long id,
+        Long userId,
+        String title,
+        @Nullable String description,
+        boolean isPublic,
+        LocalDateTime updatedAt
+) {
+}
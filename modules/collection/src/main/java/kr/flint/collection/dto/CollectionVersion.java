@@ -0,0 +1,19 @@
+package kr.flint.collection.dto;
+
+/**
+ * 컬렉션과 담긴 콘텐츠의 버전. 컬렉션이나 콘텐츠 목록이 바뀔 때마다 커진다.
+ *
+ * @param version  변경 시각(epoch 초). 같은 초에 여러 번 바뀌어도 1씩 커지므로 같은 값은 같은 상태다
+ * @param ownerId  소유자
+ * @param isPublic 공개 여부
+ */
+public record CollectionVersion(
+        long version,
+        Long ownerId,
+        boolean isPublic
+) {
+
+    public boolean isReadableBy(Long viewerId) {
+        return isPublic || ownerId.equals(viewerId);
+    }
+}
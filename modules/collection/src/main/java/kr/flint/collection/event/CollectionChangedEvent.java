@@ -0,0 +1,7 @@
+package kr.flint.collection.event;
+
+/**
+ * 컬렉션 생성/수정/공개 여부 변경/삭제. 구독자는 collectionId로 현재 상태를 다시 조회하며, 조회되지 않으면 삭제된 것이다.
+ */
+public record CollectionChangedEvent(Long collectionId) {
+}
@@ -0,0 +1,7 @@
+package kr.flint.collection.event;
+
+/**
+ * 컬렉션에 담긴 콘텐츠 목록 또는 순서(위치 키) 변경 (추가, 정렬, 이동, 재배치).
+ */
+public record CollectionContentsChangedEvent(Long collectionId) {
+}
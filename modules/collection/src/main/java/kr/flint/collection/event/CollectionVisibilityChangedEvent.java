@@ -0,0 +1,7 @@
+package kr.flint.collection.event;
+
+/**
+ * 컬렉션 공개 여부 변경 (생성, 공개/비공개 전환, 삭제). 삭제는 isPublic = false로 발행한다.
+ */
+public record CollectionVisibilityChangedEvent(Long collectionId, Long ownerId, boolean isPublic) {
+}
@@ -0,0 +1,21 @@
+package kr.flint.collection.exception;
+
+import kr.flint.shared.exception.AppError;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum CollectionErrorCode implements AppError {
+
+    COLLECTION_NOT_FOUND(HttpStatus.NOT_FOUND, "COLLECTION.NOT_FOUND", "Collection Not Found", "컬렉션을 찾을 수 없습니다."),
+    COLLECTION_FORBIDDEN(HttpStatus.FORBIDDEN, "COLLECTION.FORBIDDEN", "Collection Forbidden", "컬렉션에 대한 권한이 없습니다."),
+    CONTENT_ORDER_MISMATCH(HttpStatus.BAD_REQUEST, "COLLECTION.CONTENT_ORDER_MISMATCH", "Content Order Mismatch", "순서 목록이 컬렉션의 콘텐츠와 일치하지 않습니다."),
+    CONTENT_NOT_IN_COLLECTION(HttpStatus.NOT_FOUND, "COLLECTION.CONTENT_NOT_IN_COLLECTION", "Content Not In Collection", "컬렉션에 담긴 콘텐츠가 아닙니다.");
+
+    private final HttpStatus httpStatus;
+    private final String code;
+    private final String title;
+    private final String detail;
+}
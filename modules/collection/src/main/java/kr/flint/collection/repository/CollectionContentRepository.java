@@ -0,0 +1,67 @@
+package kr.flint.collection.repository;
+
+import kr.flint.collection.domain.CollectionContent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CollectionContentRepository extends JpaRepository<CollectionContent, Long> {
+
+    @Query("""
+            select cc from CollectionContent cc
+            where cc.collectionId = :collectionId
+            order by cc.position asc, cc.id asc
+            """)
+    List<CollectionContent> findAllByCollectionId(@Param("collectionId") Long collectionId);
+
+    @Query("""
+            select cc from CollectionContent cc
+            where cc.collectionId = :collectionId
+            order by cc.position asc, cc.id asc
+            """)
+    List<CollectionContent> findAllByCollectionId(@Param("collectionId") Long collectionId, Pageable pageable);
+
+    /**
+     * (position, id) 이후의 콘텐츠. (collectionId, position) 인덱스의 range scan으로 읽는다.
+     */
+    @Query("""
+            select cc from CollectionContent cc
+            where cc.collectionId = :collectionId
+              and cc.position >= :position
+              and (cc.position > :position or cc.id > :id)
+            order by cc.position asc, cc.id asc
+            """)
+    List<CollectionContent> findAllByCollectionIdAfter(
+            @Param("collectionId") Long collectionId,
+            @Param("position") String position,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    Optional<CollectionContent> findByCollectionIdAndContentId(Long collectionId, Long contentId);
+
+    @Query("select cc.contentId from CollectionContent cc where cc.collectionId = :collectionId")
+    List<Long> findContentIdsByCollectionId(@Param("collectionId") Long collectionId);
+
+    @Query("""
+            select cc.position from CollectionContent cc
+            where cc.collectionId = :collectionId
+            order by cc.position desc, cc.id desc
+            """)
+    List<String> findLastPositions(@Param("collectionId") Long collectionId, Pageable pageable);
+
+    /**
+     * 위치 키가 length보다 긴 콘텐츠가 있는 컬렉션. 인덱스를 탈 수 없으므로 드물게 실행하는 점검용
+     */
+    @Query("select distinct cc.collectionId from CollectionContent cc where length(cc.position) > :length")
+    List<Long> findCollectionIdsWithPositionLongerThan(@Param("length") int length, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CollectionContent cc where cc.collectionId = :collectionId")
+    void deleteAllByCollectionId(@Param("collectionId") Long collectionId);
+}
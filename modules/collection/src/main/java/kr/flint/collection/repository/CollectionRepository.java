@@ -0,0 +1,62 @@
+package kr.flint.collection.repository;
+
+import jakarta.persistence.LockModeType;
+import kr.flint.collection.domain.Collection;
+import kr.flint.collection.dto.CollectionSearchSource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface CollectionRepository extends JpaRepository<Collection, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Collection c where c.id = :id")
+    Optional<Collection> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("""
+            select new kr.flint.collection.repository.CollectionVisibility(c.id, c.userId, c.isPublic, c.updatedAt)
+            from Collection c
+            where c.isPublic = true
+            """)
+    List<CollectionVisibility> findAllPublic();
+
+    /**
+     * since 이후(포함) 변경된 컬렉션의 공개 여부. 같은 시각에 변경된 행을 놓치지 않도록 경계를 포함한다.
+     */
+    @Query("""
+            select new kr.flint.collection.repository.CollectionVisibility(c.id, c.userId, c.isPublic, c.updatedAt)
+            from Collection c
+            where c.updatedAt >= :since
+            order by c.updatedAt asc
+            """)
+    List<CollectionVisibility> findVisibilityChangedSince(@Param("since") LocalDateTime since, Pageable pageable);
+
+    @Query("""
+            select new kr.flint.collection.dto.CollectionSearchSource(c.id, c.userId, c.title, c.description, c.isPublic, c.updatedAt)
+            from Collection c
+            where c.id in :ids
+            """)
+    List<CollectionSearchSource> findSearchSourcesByIdIn(@Param("ids") java.util.Collection<Long> ids);
+
+    @Query("""
+            select new kr.flint.collection.dto.CollectionSearchSource(c.id, c.userId, c.title, c.description, c.isPublic, c.updatedAt)
+            from Collection c
+            where c.updatedAt >= :since
+            order by c.updatedAt asc
+            """)
+    List<CollectionSearchSource> findSearchSourcesChangedSince(@Param("since") LocalDateTime since, Pageable pageable);
+
+    @Query("""
+            select new kr.flint.collection.dto.CollectionSearchSource(c.id, c.userId, c.title, c.description, c.isPublic, c.updatedAt)
+            from Collection c
+            where c.id > :lastId
+            order by c.id asc
+            """)
+    List<CollectionSearchSource> findSearchSourcesAfterId(@Param("lastId") Long lastId, Pageable pageable);
+}
@@ -0,0 +1,9 @@
+package kr.flint.collection.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공개 컬렉션 풀 동기화에 필요한 최소 컬럼 프로젝션
+ */
+public record CollectionVisibility(Long id, Long userId, boolean isPublic, LocalDateTime updatedAt) {
+}
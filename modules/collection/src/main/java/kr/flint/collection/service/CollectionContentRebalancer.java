@@ -0,0 +1,118 @@
+package kr.flint.collection.service;
+
+import kr.flint.collection.domain.CollectionContent;
+import kr.flint.collection.domain.PositionKeys;
+import kr.flint.collection.event.CollectionContentsChangedEvent;
+import kr.flint.collection.repository.CollectionContentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 길어진 콘텐츠 위치 키를 다시 짧고 고르게 배치.
+ * <p>
+ * 같은 자리에 반복해서 끼워 넣으면 {@link PositionKeys} 소수부가 길어진다.
+ * 이동 시 새 키가 rebalance-length를 넘으면 컬렉션을 대기열에 넣고, 주기적으로 꺼내 컬렉션 전체 키를 다시 매긴다.
+ * 대기열은 노드 메모리에만 있으므로 재시작이나 다른 노드에서 놓친 컬렉션은 드물게 도는 점검 조회로 찾는다.
+ * <p>
+ * 재배치는 컬렉션 행을 잠근 트랜잭션에서 이루어지므로 같은 컬렉션의 이동/추가와 섞이지 않는다.
+ */
+@Slf4j
+@Component
+public class CollectionContentRebalancer {
+
+    private static final int SWEEP_PAGE_SIZE = 100;
+
+    private final CollectionService collectionService;
+    private final CollectionContentRepository collectionContentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int rebalanceLength;
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    public CollectionContentRebalancer(
+            CollectionService collectionService,
+            CollectionContentRepository collectionContentRepository,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${collection.position.rebalance-length:24}") int rebalanceLength
+    ) {
+        this.collectionService = collectionService;
+        this.collectionContentRepository = collectionContentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.rebalanceLength = rebalanceLength;
+    }
+
+    /**
+     * 키가 재배치 기준보다 길면 컬렉션을 대기열에 넣는다.
+     */
+    public void requestIfLong(Long collectionId, String position) {
+        if (position.length() > rebalanceLength) {
+            pending.add(collectionId);
+        }
+    }
+
+    /**
+     * 순서대로 정렬된 콘텐츠에 짧고 고르게 벌어진 키를 다시 매긴다. 호출한 트랜잭션에서 잠금을 잡고 있어야 한다.
+     */
+    public void respace(List<CollectionContent> ordered) {
+        List<String> positions = PositionKeys.between(null, null, ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            CollectionContent content = ordered.get(i);
+            if (!content.getPosition().equals(positions.get(i))) {
+                content.moveTo(positions.get(i));
+            }
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${collection.position.rebalance-interval:10s}",
+            fixedDelayString = "${collection.position.rebalance-interval:10s}"
+    )
+    public void rebalancePending() {
+        List<Long> collectionIds = new ArrayList<>(pending);
+        for (Long collectionId : collectionIds) {
+            pending.remove(collectionId);
+            try {
+                rebalance(collectionId);
+            } catch (RuntimeException e) {
+                log.warn("콘텐츠 위치 재배치 실패: collectionId={}", collectionId, e);
+            }
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${collection.position.sweep-interval:1h}",
+            fixedDelayString = "${collection.position.sweep-interval:1h}"
+    )
+    public void sweep() {
+        List<Long> collectionIds = collectionContentRepository.findCollectionIdsWithPositionLongerThan(
+                rebalanceLength, PageRequest.ofSize(SWEEP_PAGE_SIZE));
+        pending.addAll(collectionIds);
+        if (!collectionIds.isEmpty()) {
+            log.info("긴 위치 키 점검: 재배치 대상 {}건", collectionIds.size());
+        }
+    }
+
+    void rebalance(Long collectionId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!collectionService.lock(collectionId)) {
+                return;
+            }
+            respace(collectionContentRepository.findAllByCollectionId(collectionId));
+            // 순서는 그대로지만 커서에 담긴 위치 키가 바뀐다
+            eventPublisher.publishEvent(new CollectionContentsChangedEvent(collectionId));
+        });
+    }
+}
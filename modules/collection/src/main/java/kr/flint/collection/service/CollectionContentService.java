@@ -0,0 +1,212 @@
+package kr.flint.collection.service;
+
+import kr.flint.collection.domain.CollectionContent;
+import kr.flint.collection.domain.PositionKeys;
+import kr.flint.collection.event.CollectionContentsChangedEvent;
+import kr.flint.collection.exception.CollectionErrorCode;
+import kr.flint.collection.repository.CollectionContentRepository;
+import kr.flint.shared.dto.SliceCursor;
+import kr.flint.shared.exception.GeneralException;
+import kr.flint.shared.pagination.CursorCodec;
+import kr.flint.shared.pagination.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 컬렉션의 콘텐츠 목록.
+ * <p>
+ * ID를 애플리케이션(TSID)에서 만들므로 hibernate.jdbc.batch_size 단위로 INSERT/UPDATE가 묶이고,
+ * MySQL 드라이버의 rewriteBatchedStatements로 배치 하나가 multi-row 문장 하나로 전송된다.
+ * 수백 건을 담거나 순서를 바꿔도 트랜잭션 하나에서 조회 한두 번과 배치 몇 번으로 끝난다.
+ * <p>
+ * 순서는 {@link PositionKeys} 분수 인덱스라서 콘텐츠 하나를 옮기면 그 행 하나만 UPDATE된다.
+ * 순서를 바꾸는 쓰기는 컬렉션 행 잠금으로 직렬화하여, 같은 이웃 사이에 같은 키가 두 번 만들어지지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CollectionContentService {
+
+    /**
+     * 한 번에 담거나 정렬할 수 있는 최대 콘텐츠 수
+     */
+    public static final int MAX_BULK_SIZE = 1000;
+
+    /**
+     * 커서 페이지 최대 크기
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * 커서 서명 범위. 다른 컬렉션의 콘텐츠 목록에서 발급한 커서는 거절된다
+     */
+    private static final String CURSOR_SCOPE_PREFIX = "collection-contents:";
+
+    private final CollectionService collectionService;
+    private final CollectionContentRepository collectionContentRepository;
+    private final CollectionContentRebalancer rebalancer;
+    private final CursorCodec cursorCodec;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 콘텐츠를 요청 순서대로 컬렉션 끝에 담는다. 이미 담긴 콘텐츠는 건너뛴다.
+     *
+     * @return 새로 담긴 콘텐츠 수
+     */
+    @Transactional
+    public int addContents(Long userId, Long collectionId, List<Long> contentIds) {
+        collectionService.lockOwned(userId, collectionId);
+
+        Set<Long> existing = new HashSet<>(collectionContentRepository.findContentIdsByCollectionId(collectionId));
+        List<Long> newContentIds = new ArrayList<>();
+        for (Long contentId : new LinkedHashSet<>(contentIds)) {
+            if (existing.add(contentId)) {
+                newContentIds.add(contentId);
+            }
+        }
+
+        String last = collectionContentRepository.findLastPositions(collectionId, PageRequest.ofSize(1)).stream()
+                .findFirst()
+                .orElse(null);
+        List<String> positions = PositionKeys.between(last, null, newContentIds.size());
+        List<CollectionContent> added = new ArrayList<>(newContentIds.size());
+        for (int i = 0; i < newContentIds.size(); i++) {
+            added.add(CollectionContent.create(collectionId, newContentIds.get(i), positions.get(i)));
+        }
+        collectionContentRepository.saveAll(added);
+        if (!added.isEmpty()) {
+            eventPublisher.publishEvent(new CollectionContentsChangedEvent(collectionId));
+        }
+        return added.size();
+    }
+
+    /**
+     * 컬렉션의 모든 콘텐츠 순서를 요청 목록대로 바꾼다. 키를 처음부터 고르게 다시 매기므로 긴 키도 함께 정리된다.
+     */
+    @Transactional
+    public void reorder(Long userId, Long collectionId, List<Long> orderedContentIds) {
+        collectionService.lockOwned(userId, collectionId);
+
+        List<CollectionContent> contents = collectionContentRepository.findAllByCollectionId(collectionId);
+        Set<Long> ordered = new LinkedHashSet<>(orderedContentIds);
+        if (ordered.size() != orderedContentIds.size() || ordered.size() != contents.size()) {
+            throw new GeneralException(CollectionErrorCode.CONTENT_ORDER_MISMATCH);
+        }
+
+        Map<Long, CollectionContent> byContentId = new HashMap<>();
+        contents.forEach(content -> byContentId.put(content.getContentId(), content));
+        List<CollectionContent> reordered = new ArrayList<>(ordered.size());
+        for (Long contentId : ordered) {
+            CollectionContent content = byContentId.get(contentId);
+            if (content == null) {
+                throw new GeneralException(CollectionErrorCode.CONTENT_ORDER_MISMATCH);
+            }
+            reordered.add(content);
+        }
+        rebalancer.respace(reordered);
+        eventPublisher.publishEvent(new CollectionContentsChangedEvent(collectionId));
+    }
+
+    /**
+     * 콘텐츠 하나를 afterContentId 바로 뒤로 옮긴다. afterContentId가 null이면 맨 앞으로 옮긴다.
+     * <p>
+     * 앞뒤 이웃의 키 사이에 새 키를 만들어 옮기는 콘텐츠의 행 하나만 바꾼다.
+     */
+    @Transactional
+    public void move(Long userId, Long collectionId, Long contentId, @Nullable Long afterContentId) {
+        collectionService.lockOwned(userId, collectionId);
+        if (contentId.equals(afterContentId)) {
+            return;
+        }
+
+        CollectionContent target = getContent(collectionId, contentId);
+        CollectionContent previous = afterContentId != null ? getContent(collectionId, afterContentId) : null;
+        List<CollectionContent> following = previous != null
+                ? collectionContentRepository.findAllByCollectionIdAfter(
+                        collectionId, previous.getPosition(), previous.getId(), PageRequest.ofSize(2))
+                : collectionContentRepository.findAllByCollectionId(collectionId, PageRequest.ofSize(2));
+        if (!following.isEmpty() && following.getFirst().getId().equals(target.getId())) {
+            // 이미 그 자리에 있음
+            return;
+        }
+        CollectionContent next = following.stream()
+                .filter(content -> !content.getId().equals(target.getId()))
+                .findFirst()
+                .orElse(null);
+
+        String position = positionBetween(previous, next);
+        if (position == null) {
+            // 키가 컬럼 길이를 넘게 되면 먼저 전체를 재배치한다. 관리 중인 엔티티라 이웃의 키도 함께 바뀐다
+            rebalancer.respace(collectionContentRepository.findAllByCollectionId(collectionId));
+            position = Objects.requireNonNull(positionBetween(previous, next));
+        }
+        target.moveTo(position);
+        rebalancer.requestIfLong(collectionId, position);
+        eventPublisher.publishEvent(new CollectionContentsChangedEvent(collectionId));
+    }
+
+    /**
+     * 컬렉션에 담긴 콘텐츠 ID (순서대로)
+     */
+    public List<Long> getContentIds(Long collectionId) {
+        return collectionContentRepository.findAllByCollectionId(collectionId).stream()
+                .map(CollectionContent::getContentId)
+                .toList();
+    }
+
+    /**
+     * 컬렉션에 담긴 콘텐츠 ID를 순서대로 커서 페이지네이션. (position, id) 키셋으로 조회한다.
+     *
+     * @param size 1 ~ {@value #MAX_PAGE_SIZE}
+     */
+    public SliceCursor<Long> getContentIds(Long viewerId, Long collectionId, @Nullable String cursor, int size) {
+        collectionService.checkReadable(viewerId, collectionId);
+
+        String scope = CURSOR_SCOPE_PREFIX + collectionId;
+        KeysetCursor<String> after = cursorCodec.decode(scope, cursor, String.class);
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<CollectionContent> fetched = after != null
+                ? collectionContentRepository.findAllByCollectionIdAfter(collectionId, after.sortKey(), after.id(), limit)
+                : collectionContentRepository.findAllByCollectionId(collectionId, limit);
+
+        SliceCursor<CollectionContent> slice = SliceCursor.fromOverfetched(
+                fetched, pageSize, cursor, content -> cursorCodec.encode(scope, KeysetCursor.of(content.getPosition(), content.getId())));
+        return SliceCursor.of(
+                slice.items().stream().map(CollectionContent::getContentId).toList(),
+                slice.currentCursor(),
+                slice.nextCursor()
+        );
+    }
+
+    private CollectionContent getContent(Long collectionId, Long contentId) {
+        return collectionContentRepository.findByCollectionIdAndContentId(collectionId, contentId)
+                .orElseThrow(() -> new GeneralException(CollectionErrorCode.CONTENT_NOT_IN_COLLECTION));
+    }
+
+    /**
+     * @return 컬럼 길이 안에서 만들 수 없으면 null
+     */
+    private @Nullable String positionBetween(@Nullable CollectionContent previous, @Nullable CollectionContent next) {
+        String lower = previous != null ? previous.getPosition() : null;
+        String upper = next != null ? next.getPosition() : null;
+        if (lower != null && upper != null && lower.compareTo(upper) >= 0) {
+            return null;
+        }
+        String position = PositionKeys.between(lower, upper);
+        return position.length() <= PositionKeys.MAX_LENGTH ? position : null;
+    }
+}
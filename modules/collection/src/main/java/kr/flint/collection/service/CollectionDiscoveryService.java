@@ -0,0 +1,46 @@
+package kr.flint.collection.service;
+
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class CollectionDiscoveryService {
+
+    public static final int MAX_SAMPLE_SIZE = 50;
+
+    private final PublicCollectionPool publicCollectionPool;
+    private final RecentlyShownCollections recentlyShownCollections;
+
+    /**
+     * 공개 컬렉션 ID를 무작위로 조회. 로그인 사용자는 최근 노출한 컬렉션을 제외하고 이번 결과를 노출 이력에 추가한다.
+     *
+     * @param userId 비로그인이면 null
+     * @param size   1 ~ {@value #MAX_SAMPLE_SIZE}
+     */
+    public List<Long> samplePublicCollectionIds(@Nullable Long userId, int size) {
+        int count = Math.clamp(size, 1, MAX_SAMPLE_SIZE);
+        if (userId == null) {
+            return publicCollectionPool.sample(count, Set.of());
+        }
+
+        List<Long> sampled = publicCollectionPool.sample(count, recentlyShownCollections.find(userId));
+        recentlyShownCollections.record(userId, sampled);
+        return sampled;
+    }
+
+    /**
+     * 소유자 우선순위 순서대로 공개 컬렉션 ID를 모은다 (메모리 풀, DB 조회 없음)
+     *
+     * @param ownerIds      우선순위 순서의 소유자 ID
+     * @param perOwnerLimit 한 소유자의 컬렉션이 결과를 독차지하지 않도록 제한
+     */
+    public List<Long> collectPublicCollectionIdsOwnedBy(PrimitiveIterator.OfLong ownerIds, int size, int perOwnerLimit) {
+        return publicCollectionPool.collectOwnedBy(ownerIds, Math.clamp(size, 1, MAX_SAMPLE_SIZE), perOwnerLimit);
+    }
+}
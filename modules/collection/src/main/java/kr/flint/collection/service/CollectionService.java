@@ -0,0 +1,130 @@
+package kr.flint.collection.service;
+
+import kr.flint.collection.domain.Collection;
+import kr.flint.collection.dto.CollectionSearchSource;
+import kr.flint.collection.event.CollectionChangedEvent;
+import kr.flint.collection.event.CollectionVisibilityChangedEvent;
+import kr.flint.collection.exception.CollectionErrorCode;
+import kr.flint.collection.repository.CollectionContentRepository;
+import kr.flint.collection.repository.CollectionRepository;
+import kr.flint.shared.exception.GeneralException;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CollectionService {
+
+    private final CollectionRepository collectionRepository;
+    private final CollectionContentRepository collectionContentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public Long create(Long userId, String title, @Nullable String description, boolean isPublic) {
+        Collection collection = collectionRepository.save(Collection.create(userId, title, description, isPublic));
+        if (isPublic) {
+            eventPublisher.publishEvent(new CollectionVisibilityChangedEvent(collection.getId(), userId, true));
+        }
+        eventPublisher.publishEvent(new CollectionChangedEvent(collection.getId()));
+        return collection.getId();
+    }
+
+    @Transactional
+    public void update(Long userId, Long collectionId, String title, @Nullable String description) {
+        getOwnedCollection(userId, collectionId).update(title, description);
+        eventPublisher.publishEvent(new CollectionChangedEvent(collectionId));
+    }
+
+    @Transactional
+    public void changeVisibility(Long userId, Long collectionId, boolean isPublic) {
+        Collection collection = getOwnedCollection(userId, collectionId);
+        if (collection.isPublic() == isPublic) {
+            return;
+        }
+        collection.changeVisibility(isPublic);
+        eventPublisher.publishEvent(new CollectionVisibilityChangedEvent(collectionId, userId, isPublic));
+        eventPublisher.publishEvent(new CollectionChangedEvent(collectionId));
+    }
+
+    @Transactional
+    public void delete(Long userId, Long collectionId) {
+        Collection collection = getOwnedCollection(userId, collectionId);
+        collectionContentRepository.deleteAllByCollectionId(collectionId);
+        collectionRepository.delete(collection);
+        eventPublisher.publishEvent(new CollectionVisibilityChangedEvent(collectionId, userId, false));
+        eventPublisher.publishEvent(new CollectionChangedEvent(collectionId));
+    }
+
+    /**
+     * 본인 컬렉션이 아니면 COLLECTION_NOT_FOUND / COLLECTION_FORBIDDEN
+     */
+    public void checkOwned(Long userId, Long collectionId) {
+        getOwnedCollection(userId, collectionId);
+    }
+
+    /**
+     * 본인 컬렉션인지 확인하고 트랜잭션이 끝날 때까지 컬렉션 행을 잠근다.
+     * 콘텐츠 순서를 바꾸는 쓰기(추가, 이동, 재배치)를 컬렉션 단위로 직렬화하는 데 쓴다.
+     */
+    @Transactional
+    public void lockOwned(Long userId, Long collectionId) {
+        Collection collection = collectionRepository.findByIdForUpdate(collectionId)
+                .orElseThrow(() -> new GeneralException(CollectionErrorCode.COLLECTION_NOT_FOUND));
+        if (!collection.isOwnedBy(userId)) {
+            throw new GeneralException(CollectionErrorCode.COLLECTION_FORBIDDEN);
+        }
+    }
+
+    /**
+     * {@link #lockOwned}의 소유자 확인 없는 버전 (백그라운드 작업용)
+     *
+     * @return 컬렉션이 없으면 false
+     */
+    @Transactional
+    public boolean lock(Long collectionId) {
+        return collectionRepository.findByIdForUpdate(collectionId).isPresent();
+    }
+
+    /**
+     * 공개 컬렉션이거나 본인 컬렉션이 아니면 COLLECTION_NOT_FOUND (비공개 컬렉션의 존재를 드러내지 않음)
+     */
+    public void checkReadable(Long viewerId, Long collectionId) {
+        Collection collection = collectionRepository.findById(collectionId)
+                .orElseThrow(() -> new GeneralException(CollectionErrorCode.COLLECTION_NOT_FOUND));
+        if (!collection.isPublic() && !collection.isOwnedBy(viewerId)) {
+            throw new GeneralException(CollectionErrorCode.COLLECTION_NOT_FOUND);
+        }
+    }
+
+    public List<CollectionSearchSource> findSearchSources(java.util.Collection<Long> collectionIds) {
+        return collectionRepository.findSearchSourcesByIdIn(collectionIds);
+    }
+
+    public List<CollectionSearchSource> findSearchSourcesChangedSince(LocalDateTime since, int limit) {
+        return collectionRepository.findSearchSourcesChangedSince(since, PageRequest.ofSize(limit));
+    }
+
+    /**
+     * id 순서로 전체를 훑기 위한 키셋 조회
+     */
+    public List<CollectionSearchSource> findSearchSourcesAfterId(Long lastId, int limit) {
+        return collectionRepository.findSearchSourcesAfterId(lastId, PageRequest.ofSize(limit));
+    }
+
+    private Collection getOwnedCollection(Long userId, Long collectionId) {
+        Collection collection = collectionRepository.findById(collectionId)
+                .orElseThrow(() -> new GeneralException(CollectionErrorCode.COLLECTION_NOT_FOUND));
+        if (!collection.isOwnedBy(userId)) {
+            throw new GeneralException(CollectionErrorCode.COLLECTION_FORBIDDEN);
+        }
+        return collection;
+    }
+}
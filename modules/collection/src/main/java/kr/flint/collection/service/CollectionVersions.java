@@ -0,0 +1,155 @@
+package kr.flint.collection.service;
+
+import kr.flint.collection.domain.Collection;
+import kr.flint.collection.dto.CollectionVersion;
+import kr.flint.collection.event.CollectionChangedEvent;
+import kr.flint.collection.event.CollectionContentsChangedEvent;
+import kr.flint.collection.repository.CollectionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 컬렉션 버전 스탬프 (Redis hash: v, owner, public).
+ * <p>
+ * 조건부 요청(ETag/Last-Modified)의 검증자로 쓰이며, 응답을 만들지 않고 HMGET 한 번으로 읽는다.
+ * <p>
+ * - 갱신: 이 노드의 커밋 직후 이벤트로 v를 max(현재 초, v + 1)로 올리고 소유자/공개 여부는 지운다
+ * - 조회: 소유자/공개 여부가 없으면 MySQL에서 읽어 채운다. v가 없으면 현재 초로 시작한다
+ * <p>
+ * MySQL을 읽는 동안 갱신이 끼어들면 읽은 값은 이미 지난 상태이므로, 채우기는 HMGET에서 본 v가 그대로일 때만 한다.
+ * 아니면 처음부터 다시 읽는다. (지난 공개 여부가 새 v에 붙으면 비공개로 바뀐 컬렉션이 공개 캐시로 나갈 수 있다)
+ * <p>
+ * v는 줄어들지 않으므로 같은 v는 같은 상태다. 키가 만료되어도 새 v는 이전 v를 발급한 시각 이후다.
+ * Redis 장애 시에는 null을 돌려주어 조건부 처리 없이 응답한다.
+ */
+@Slf4j
+@Component
+public class CollectionVersions {
+
+    private static final String KEY_PREFIX = "flint:collection:version:";
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+    private static final long CHANGED = -1L;
+
+    /**
+     * KEYS[1] 버전 / ARGV[1] HMGET에서 본 v(없었으면 빈 문자열), ARGV[2] 현재 초, ARGV[3] 소유자, ARGV[4] 공개 여부(0/1), ARGV[5] TTL(ms).
+     * 그 사이 v가 바뀌었으면(갱신, 갱신 실패로 삭제) 쓰지 않고 -1
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = RedisScript.of("""
+            local version = redis.call('hget', KEYS[1], 'v')
+            if (version or '') ~= ARGV[1] then
+                return -1
+            end
+            if not version then
+                version = ARGV[2]
+                redis.call('hset', KEYS[1], 'v', version)
+            end
+            redis.call('hset', KEYS[1], 'owner', ARGV[3], 'public', ARGV[4])
+            redis.call('pexpire', KEYS[1], ARGV[5])
+            return tonumber(version)
+            """, Long.class);
+
+    /**
+     * KEYS[1] 버전 / ARGV[1] 현재 초, ARGV[2] TTL(ms)
+     */
+    private static final RedisScript<Long> BUMP_SCRIPT = RedisScript.of("""
+            local previous = tonumber(redis.call('hget', KEYS[1], 'v') or '0')
+            local version = math.max(tonumber(ARGV[1]), previous + 1)
+            redis.call('hset', KEYS[1], 'v', string.format('%d', version))
+            redis.call('hdel', KEYS[1], 'owner', 'public')
+            redis.call('pexpire', KEYS[1], ARGV[2])
+            return version
+            """, Long.class);
+
+    private static final List<Object> FIELDS = List.of("v", "owner", "public");
+
+    private final StringRedisTemplate redisTemplate;
+    private final CollectionRepository collectionRepository;
+    private final Duration ttl;
+
+    public CollectionVersions(
+            StringRedisTemplate redisTemplate,
+            CollectionRepository collectionRepository,
+            @Value("${collection.version.ttl:1d}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.collectionRepository = collectionRepository;
+        this.ttl = ttl;
+    }
+
+    /**
+     * @return 컬렉션이 없거나, Redis 장애이거나, 갱신이 계속 끼어들면 null
+     */
+    public @Nullable CollectionVersion find(Long collectionId) {
+        String key = key(collectionId);
+        try {
+            for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+                List<Object> values = redisTemplate.opsForHash().multiGet(key, FIELDS);
+                if (values.get(0) != null && values.get(1) != null && values.get(2) != null) {
+                    return new CollectionVersion(
+                            Long.parseLong(values.get(0).toString()),
+                            Long.valueOf(values.get(1).toString()),
+                            "1".equals(values.get(2).toString()));
+                }
+
+                Collection collection = collectionRepository.findById(collectionId).orElse(null);
+                if (collection == null) {
+                    return null;
+                }
+                Long version = redisTemplate.execute(LOAD_SCRIPT, List.of(key),
+                        values.get(0) != null ? values.get(0).toString() : "",
+                        String.valueOf(Instant.now().getEpochSecond()),
+                        String.valueOf(collection.getUserId()),
+                        collection.isPublic() ? "1" : "0",
+                        String.valueOf(ttl.toMillis()));
+                if (version == null) {
+                    return null;
+                }
+                if (version != CHANGED) {
+                    return new CollectionVersion(version, collection.getUserId(), collection.isPublic());
+                }
+            }
+            return null;
+        } catch (RuntimeException e) {
+            log.warn("컬렉션 버전 조회 실패: collectionId={}", collectionId, e);
+            return null;
+        }
+    }
+
+    @TransactionalEventListener
+    public void onCollectionChanged(CollectionChangedEvent event) {
+        bump(event.collectionId());
+    }
+
+    @TransactionalEventListener
+    public void onContentsChanged(CollectionContentsChangedEvent event) {
+        bump(event.collectionId());
+    }
+
+    private void bump(Long collectionId) {
+        try {
+            redisTemplate.execute(BUMP_SCRIPT, List.of(key(collectionId)),
+                    String.valueOf(Instant.now().getEpochSecond()), String.valueOf(ttl.toMillis()));
+        } catch (RuntimeException e) {
+            // 갱신을 놓치면 키가 만료될 때까지 이전 응답이 304로 재사용될 수 있으므로 키를 지워 다음 조회에서 새로 시작하게 한다
+            log.warn("컬렉션 버전 갱신 실패: collectionId={}", collectionId, e);
+            try {
+                redisTemplate.delete(key(collectionId));
+            } catch (RuntimeException ignored) {
+                // Redis 장애 중에는 조회도 실패하므로 조건부 처리가 꺼진다
+            }
+        }
+    }
+
+    private static String key(Long collectionId) {
+        return KEY_PREFIX + collectionId;
+    }
+}
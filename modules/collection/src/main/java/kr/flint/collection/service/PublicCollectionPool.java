@@ -0,0 +1,275 @@
+package kr.flint.collection.service;
+
+import kr.flint.shared.util.LongIndexMap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 공개 컬렉션 ID를 메모리의 long 배열로 보관하고 균등 무작위 샘플을 제공.
+ * <p>
+ * ORDER BY RAND() 대신 배열 인덱스를 무작위로 뽑으므로 샘플 비용은 풀 크기와 무관하게 O(k)이다.
+ * 추가/삭제는 마지막 원소와 자리를 바꾸는 방식(swap-remove)으로 O(1)이며,
+ * 노드별 풀이므로 다른 노드의 변경은 {@link PublicCollectionPoolSynchronizer}가 주기적으로 반영한다.
+ * <p>
+ * 소유자별 공개 컬렉션도 함께 보관하여 추천처럼 소유자 목록으로 컬렉션을 고르는 조회도 DB 없이 처리한다.
+ */
+@Component
+public class PublicCollectionPool {
+
+    /**
+     * 풀이 (k + 제외 수)의 이 배수 이하이면 무작위 추출 대신 전체를 훑는다. 이 경우에도 비용은 O(k)로 제한된다.
+     */
+    private static final int SCAN_THRESHOLD_FACTOR = 4;
+
+    /**
+     * {@link #collectOwnedBy}가 살펴보는 최대 소유자 수. 앞쪽 소유자 대부분이 공개 컬렉션이 없어도 순회를 여기서 멈춘다
+     */
+    static final int MAX_SCANNED_OWNERS = 4096;
+
+    /**
+     * {@link #collectOwnedBy}가 읽기 잠금 한 번에 조회하는 소유자 수. 소유자 순회 자체는 잠금 밖에서 한다
+     */
+    static final int OWNER_BATCH_SIZE = 256;
+
+    private static final long[] EMPTY = new long[0];
+
+    private final StampedLock lock = new StampedLock();
+
+    private long[] ids = new long[1024];
+    private long[] owners = new long[1024];
+    private int size;
+    private final LongIndexMap positions = new LongIndexMap(1024);
+
+    /**
+     * 소유자 ID → 공개 컬렉션 ID. 소유자당 컬렉션 수가 적으므로 배열을 교체하는 방식으로 갱신한다.
+     */
+    private final Map<Long, long[]> idsByOwner = new HashMap<>();
+
+    public record Entry(long id, long ownerId) {
+    }
+
+    public void add(long id, long ownerId) {
+        long stamp = lock.writeLock();
+        try {
+            addUnlocked(id, ownerId);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void remove(long id) {
+        long stamp = lock.writeLock();
+        try {
+            removeUnlocked(id);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 변경 목록을 한 번의 잠금으로 반영
+     */
+    public void apply(Collection<Entry> published, Collection<Long> unpublished) {
+        long stamp = lock.writeLock();
+        try {
+            published.forEach(entry -> addUnlocked(entry.id(), entry.ownerId()));
+            unpublished.forEach(this::removeUnlocked);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 전체 재구성. 삭제된 행처럼 증분 동기화로 알 수 없는 변경을 정리한다.
+     */
+    public void replaceAll(Collection<Entry> entries) {
+        long stamp = lock.writeLock();
+        try {
+            int capacity = Math.max(1024, entries.size() + (entries.size() >> 2));
+            ids = new long[capacity];
+            owners = new long[capacity];
+            size = 0;
+            positions.clear();
+            idsByOwner.clear();
+            entries.forEach(entry -> addUnlocked(entry.id(), entry.ownerId()));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 중복 없는 균등 무작위 샘플. excluded에 포함된 ID는 뽑지 않으며,
+     * 제외 후 남은 ID가 count보다 적으면 제외된 ID로 나머지를 채운다.
+     *
+     * @param count    샘플 크기
+     * @param excluded 최근 노출한 ID 등 제외할 ID
+     */
+    public List<Long> sample(int count, Set<Long> excluded) {
+        if (count <= 0) {
+            return List.of();
+        }
+
+        long stamp = lock.readLock();
+        try {
+            if (size <= (long) SCAN_THRESHOLD_FACTOR * (count + excluded.size())) {
+                return scanSample(count, excluded);
+            }
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Set<Long> picked = new LinkedHashSet<>(count * 2);
+            // 풀의 3/4 이상이 후보이므로 기대 추출 횟수는 count의 약 1.4배
+            for (int attempts = count * 4 + 16; picked.size() < count && attempts > 0; attempts--) {
+                long id = ids[random.nextInt(size)];
+                if (!excluded.contains(id)) {
+                    picked.add(id);
+                }
+            }
+            return picked.size() < count ? scanSample(count, excluded) : new ArrayList<>(picked);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 소유자 순서대로 각 소유자의 공개 컬렉션을 최대 perOwnerLimit개씩, 전체 limit개까지 모은다.
+     * 공개 컬렉션이 없는 소유자는 건너뛰며, 앞에서부터 최대 {@value #MAX_SCANNED_OWNERS}명까지만 살펴본다.
+     * <p>
+     * 소유자는 잠금 밖에서 {@value #OWNER_BATCH_SIZE}명씩 꺼내고 조회할 때만 읽기 잠금을 잡으므로,
+     * 순회가 길어져도 쓰기(풀 동기화)를 오래 막지 않는다.
+     *
+     * @param ownerIds 우선순위 순서의 소유자 ID
+     */
+    public List<Long> collectOwnedBy(PrimitiveIterator.OfLong ownerIds, int limit, int perOwnerLimit) {
+        List<Long> result = new ArrayList<>(limit);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[] batch = new long[Math.min(OWNER_BATCH_SIZE, MAX_SCANNED_OWNERS)];
+        int scanned = 0;
+
+        while (result.size() < limit && scanned < MAX_SCANNED_OWNERS && ownerIds.hasNext()) {
+            int count = 0;
+            while (count < batch.length && scanned < MAX_SCANNED_OWNERS && ownerIds.hasNext()) {
+                batch[count++] = ownerIds.nextLong();
+                scanned++;
+            }
+
+            long stamp = lock.readLock();
+            try {
+                for (int b = 0; b < count && result.size() < limit; b++) {
+                    long[] owned = idsByOwner.getOrDefault(batch[b], EMPTY);
+                    int take = Math.min(Math.min(perOwnerLimit, owned.length), limit - result.size());
+                    // 소유자의 컬렉션이 많으면 매번 같은 컬렉션만 노출되지 않도록 시작 위치를 무작위로
+                    int start = owned.length > take ? random.nextInt(owned.length) : 0;
+                    for (int i = 0; i < take; i++) {
+                        result.add(owned[(start + i) % owned.length]);
+                    }
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return result;
+    }
+
+    private List<Long> scanSample(int count, Set<Long> excluded) {
+        long[] candidates = new long[size];
+        long[] fallbacks = new long[size];
+        int candidateCount = 0;
+        int fallbackCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (excluded.contains(ids[i])) {
+                fallbacks[fallbackCount++] = ids[i];
+            } else {
+                candidates[candidateCount++] = ids[i];
+            }
+        }
+
+        List<Long> result = new ArrayList<>(Math.min(count, size));
+        takeShuffled(candidates, candidateCount, count, result);
+        takeShuffled(fallbacks, fallbackCount, count - result.size(), result);
+        return result;
+    }
+
+    /**
+     * 부분 Fisher-Yates 셔플로 앞에서부터 limit개를 꺼낸다
+     */
+    private static void takeShuffled(long[] source, int length, int limit, List<Long> result) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int taken = Math.min(limit, length);
+        for (int i = 0; i < taken; i++) {
+            int j = i + random.nextInt(length - i);
+            long tmp = source[i];
+            source[i] = source[j];
+            source[j] = tmp;
+            result.add(source[i]);
+        }
+    }
+
+    private void addUnlocked(long id, long ownerId) {
+        if (positions.get(id) != LongIndexMap.MISSING) {
+            return;
+        }
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length << 1);
+            owners = Arrays.copyOf(owners, owners.length << 1);
+        }
+        ids[size] = id;
+        owners[size] = ownerId;
+        positions.put(id, size);
+        size++;
+
+        long[] owned = idsByOwner.getOrDefault(ownerId, EMPTY);
+        long[] updated = Arrays.copyOf(owned, owned.length + 1);
+        updated[owned.length] = id;
+        idsByOwner.put(ownerId, updated);
+    }
+
+    private void removeUnlocked(long id) {
+        int position = positions.get(id);
+        if (position == LongIndexMap.MISSING) {
+            return;
+        }
+        long ownerId = owners[position];
+
+        int last = --size;
+        if (position != last) {
+            ids[position] = ids[last];
+            owners[position] = owners[last];
+            positions.put(ids[position], position);
+        }
+        positions.remove(id);
+
+        long[] owned = idsByOwner.getOrDefault(ownerId, EMPTY);
+        if (owned.length <= 1) {
+            idsByOwner.remove(ownerId);
+            return;
+        }
+        long[] updated = new long[owned.length - 1];
+        int index = 0;
+        for (long ownedId : owned) {
+            if (ownedId != id) {
+                updated[index++] = ownedId;
+            }
+        }
+        idsByOwner.put(ownerId, updated);
+    }
+}
@@ -0,0 +1,145 @@
+package kr.flint.collection.service;
+
+import kr.flint.collection.event.CollectionVisibilityChangedEvent;
+import kr.flint.collection.repository.CollectionRepository;
+import kr.flint.collection.repository.CollectionVisibility;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link PublicCollectionPool}을 DB와 동기화.
+ * <p>
+ * - 이 노드의 변경: 커밋 직후 이벤트로 즉시 반영
+ * - 다른 노드의 변경: updatedAt 워터마크 이후 변경분을 주기적으로 조회하여 반영
+ * - 삭제 등 워터마크로 알 수 없는 변경: 주기적인 전체 재구성으로 정리
+ * <p>
+ * 워터마크 조회는 늦게 커밋된 트랜잭션과 노드 간 시계 차이를 고려해 overlap 만큼 겹쳐 조회하며, 반영은 멱등이다.
+ */
+@Slf4j
+@Component
+public class PublicCollectionPoolSynchronizer {
+
+    private static final int POLL_PAGE_SIZE = 1000;
+
+    private final PublicCollectionPool pool;
+    private final CollectionRepository collectionRepository;
+    private final Duration pollOverlap;
+
+    private volatile @Nullable LocalDateTime watermark;
+
+    // poll 중 재구성을 부르므로 재진입 가능해야 한다
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public PublicCollectionPoolSynchronizer(
+            PublicCollectionPool pool,
+            CollectionRepository collectionRepository,
+            @Value("${discovery.public-pool.poll-overlap:30s}") Duration pollOverlap
+    ) {
+        this.pool = pool;
+        this.collectionRepository = collectionRepository;
+        this.pollOverlap = pollOverlap;
+    }
+
+    @TransactionalEventListener
+    public void onVisibilityChanged(CollectionVisibilityChangedEvent event) {
+        if (event.isPublic()) {
+            pool.add(event.collectionId(), event.ownerId());
+        } else {
+            pool.remove(event.collectionId());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${discovery.public-pool.rebuild-interval:10m}",
+            fixedDelayString = "${discovery.public-pool.rebuild-interval:10m}"
+    )
+    public void rebuild() {
+        lock.lock();
+        try {
+            rebuildLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void rebuildLocked() {
+        // 조회 중 변경된 행은 다음 poll에서 다시 반영되도록 조회 전에 워터마크를 잡는다
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<PublicCollectionPool.Entry> entries = collectionRepository.findAllPublic().stream()
+                .map(visibility -> new PublicCollectionPool.Entry(visibility.id(), visibility.userId()))
+                .toList();
+        pool.replaceAll(entries);
+        watermark = startedAt;
+        log.info("공개 컬렉션 풀 재구성: {}건", entries.size());
+    }
+
+    @Scheduled(
+            initialDelayString = "${discovery.public-pool.poll-interval:5s}",
+            fixedDelayString = "${discovery.public-pool.poll-interval:5s}"
+    )
+    public void poll() {
+        lock.lock();
+        try {
+            pollLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void pollLocked() {
+        LocalDateTime current = watermark;
+        if (current == null) {
+            // 아직 한 번도 재구성하지 않음
+            return;
+        }
+
+        LocalDateTime since = current.minus(pollOverlap);
+        while (true) {
+            List<CollectionVisibility> changes =
+                    collectionRepository.findVisibilityChangedSince(since, PageRequest.ofSize(POLL_PAGE_SIZE));
+            if (changes.isEmpty()) {
+                return;
+            }
+
+            List<PublicCollectionPool.Entry> published = new ArrayList<>();
+            List<Long> unpublished = new ArrayList<>();
+            for (CollectionVisibility change : changes) {
+                if (change.isPublic()) {
+                    published.add(new PublicCollectionPool.Entry(change.id(), change.userId()));
+                } else {
+                    unpublished.add(change.id());
+                }
+            }
+            pool.apply(published, unpublished);
+
+            LocalDateTime last = changes.getLast().updatedAt();
+            if (last.isAfter(current)) {
+                current = last;
+                watermark = last;
+            }
+            if (changes.size() < POLL_PAGE_SIZE) {
+                return;
+            }
+            if (!last.isAfter(since)) {
+                // 한 페이지가 모두 같은 시각이면 워터마크로 더 진행할 수 없으므로 전체 재구성
+                rebuild();
+                return;
+            }
+            since = last;
+        }
+    }
+}
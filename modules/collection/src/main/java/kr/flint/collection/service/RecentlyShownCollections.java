@@ -0,0 +1,76 @@
+package kr.flint.collection.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자별로 최근 노출한 공개 컬렉션 ID (Redis LIST, 최신순, 최대 maxSize개).
+ * 노드와 무관하게 같은 컬렉션이 연달아 노출되지 않도록 하는 용도이며, Redis 장애 시에는 제외 없이 동작한다.
+ */
+@Slf4j
+@Component
+public class RecentlyShownCollections {
+
+    private static final String KEY_PREFIX = "flint:discovery:shown:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final int maxSize;
+    private final Duration ttl;
+
+    public RecentlyShownCollections(
+            StringRedisTemplate redisTemplate,
+            @Value("${discovery.recently-shown.max-size:200}") int maxSize,
+            @Value("${discovery.recently-shown.ttl:1h}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+    }
+
+    public Set<Long> find(Long userId) {
+        try {
+            List<String> values = redisTemplate.opsForList().range(key(userId), 0, maxSize - 1);
+            if (values == null || values.isEmpty()) {
+                return Set.of();
+            }
+            Set<Long> ids = new HashSet<>(values.size() * 2);
+            values.forEach(value -> ids.add(Long.parseLong(value)));
+            return ids;
+        } catch (RuntimeException e) {
+            log.warn("최근 노출 컬렉션 조회 실패: userId={}", userId, e);
+            return Set.of();
+        }
+    }
+
+    public void record(Long userId, List<Long> collectionIds) {
+        if (collectionIds.isEmpty()) {
+            return;
+        }
+        String key = key(userId);
+        String[] values = collectionIds.stream().map(String::valueOf).toArray(String[]::new);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                stringConnection.lPush(key, values);
+                stringConnection.lTrim(key, 0, maxSize - 1);
+                stringConnection.pExpire(key, ttl.toMillis());
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("최근 노출 컬렉션 기록 실패: userId={}", userId, e);
+        }
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,63 @@
+package kr.flint.collection.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PositionKeysTest {
+
+    @Test
+    @DisplayName("임의 위치에 끼워 넣어도 키는 항상 이웃 사이에 놓인다")
+    void between_keeps_order_for_random_inserts() {
+        Random random = new Random(42);
+        List<String> keys = new ArrayList<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            int index = random.nextInt(keys.size() + 1);
+            String lower = index == 0 ? null : keys.get(index - 1);
+            String upper = index == keys.size() ? null : keys.get(index);
+            keys.add(index, PositionKeys.between(lower, upper));
+        }
+
+        assertThat(keys).isSorted().doesNotHaveDuplicates();
+        assertThat(keys).allSatisfy(key -> assertThat(key.length()).isLessThanOrEqualTo(PositionKeys.MAX_LENGTH));
+    }
+
+    @Test
+    @DisplayName("끝에 붙이거나 앞에 넣을 때는 키가 거의 자라지 않는다")
+    void append_and_prepend_stay_short() {
+        String last = null;
+        String first = null;
+        for (int i = 0; i < 100_000; i++) {
+            last = PositionKeys.between(last, null);
+            first = PositionKeys.between(null, first);
+        }
+
+        assertThat(last).hasSizeLessThanOrEqualTo(4);
+        assertThat(first).hasSizeLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("n개 키는 두 키 사이에 오름차순으로 놓인다")
+    void between_n_keys_are_sorted_within_bounds() {
+        List<String> keys = PositionKeys.between("a0", "a1", 1_000);
+
+        assertThat(keys).hasSize(1_000).isSorted().doesNotHaveDuplicates();
+        assertThat(keys.getFirst()).isGreaterThan("a0");
+        assertThat(keys.getLast()).isLessThan("a1");
+    }
+
+    @Test
+    @DisplayName("순서가 뒤바뀐 이웃이나 잘못된 키는 거부한다")
+    void between_rejects_invalid_bounds() {
+        assertThatThrownBy(() -> PositionKeys.between("a1", "a0")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PositionKeys.between("a0", "a0")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PositionKeys.between("a00", null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,134 @@
+package kr.flint.collection.service;
+
+import kr.flint.collection.domain.Collection;
+import kr.flint.collection.dto.CollectionVersion;
+import kr.flint.collection.event.CollectionChangedEvent;
+import kr.flint.collection.repository.CollectionRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@Testcontainers(disabledWithoutDocker = true)
+class CollectionVersionsTest {
+
+    private static final Long COLLECTION_ID = 10L;
+    private static final Long OWNER_ID = 1L;
+    private static final String KEY = "flint:collection:version:" + COLLECTION_ID;
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final CollectionRepository collectionRepository = mock(CollectionRepository.class);
+    private CollectionVersions collectionVersions;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(KEY);
+        collectionVersions = new CollectionVersions(redisTemplate, collectionRepository, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("처음 조회하면 MySQL 값으로 채우고, 다음 조회는 Redis에서 같은 버전을 읽는다")
+    void loads_once_and_reads_from_redis() {
+        given(collectionRepository.findById(COLLECTION_ID)).willReturn(Optional.of(collection(true)));
+
+        CollectionVersion first = collectionVersions.find(COLLECTION_ID);
+        CollectionVersion second = collectionVersions.find(COLLECTION_ID);
+
+        assertThat(first).isNotNull();
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("변경 후에는 버전이 커지고 소유자/공개 여부를 다시 읽는다")
+    void bump_increases_version_and_reloads_visibility() {
+        given(collectionRepository.findById(COLLECTION_ID))
+                .willReturn(Optional.of(collection(true)), Optional.of(collection(false)));
+        CollectionVersion before = collectionVersions.find(COLLECTION_ID);
+
+        collectionVersions.onCollectionChanged(new CollectionChangedEvent(COLLECTION_ID));
+        CollectionVersion after = collectionVersions.find(COLLECTION_ID);
+
+        assertThat(after).isNotNull();
+        assertThat(after.version()).isGreaterThan(before.version());
+        assertThat(after.isPublic()).isFalse();
+    }
+
+    @Test
+    @DisplayName("MySQL을 읽는 사이 비공개로 바뀌고 버전이 올라가면, 지난 공개 여부를 새 버전에 붙이지 않고 다시 읽는다")
+    void does_not_attach_stale_visibility_to_bumped_version() {
+        redisTemplate.opsForHash().put(KEY, "v", "100");
+        given(collectionRepository.findById(COLLECTION_ID)).willAnswer(invocation -> {
+            // 첫 조회: 공개 상태를 읽은 직후 다른 요청이 비공개로 바꾸고 커밋 (버전 갱신)
+            collectionVersions.onCollectionChanged(new CollectionChangedEvent(COLLECTION_ID));
+            return Optional.of(collection(true));
+        }).willReturn(Optional.of(collection(false)));
+
+        CollectionVersion version = collectionVersions.find(COLLECTION_ID);
+
+        assertThat(version).isNotNull();
+        assertThat(version.version()).isGreaterThan(100);
+        assertThat(version.isPublic()).isFalse();
+        assertThat(redisTemplate.opsForHash().get(KEY, "public")).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("키가 없을 때 읽는 사이 버전이 새로 생기면 역시 다시 읽는다")
+    void retries_when_version_appears_during_load() {
+        given(collectionRepository.findById(COLLECTION_ID)).willAnswer(invocation -> {
+            collectionVersions.onCollectionChanged(new CollectionChangedEvent(COLLECTION_ID));
+            return Optional.of(collection(true));
+        }).willReturn(Optional.of(collection(false)));
+
+        CollectionVersion version = collectionVersions.find(COLLECTION_ID);
+
+        assertThat(version).isNotNull();
+        assertThat(version.isPublic()).isFalse();
+    }
+
+    @Test
+    @DisplayName("읽을 때마다 갱신이 끼어들면 검증자 없이 응답하도록 null을 돌려준다")
+    void gives_up_when_bumps_keep_racing() {
+        given(collectionRepository.findById(COLLECTION_ID)).willAnswer(invocation -> {
+            collectionVersions.onCollectionChanged(new CollectionChangedEvent(COLLECTION_ID));
+            return Optional.of(collection(true));
+        });
+
+        assertThat(collectionVersions.find(COLLECTION_ID)).isNull();
+        assertThat(redisTemplate.opsForHash().get(KEY, "public")).isNull();
+    }
+
+    private static Collection collection(boolean isPublic) {
+        return Collection.create(OWNER_ID, "컬렉션", null, isPublic);
+    }
+}
@@ -0,0 +1,125 @@
+package kr.flint.collection.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicCollectionPoolTest {
+
+    private final PublicCollectionPool pool = new PublicCollectionPool();
+
+    @Test
+    @DisplayName("샘플은 중복이 없고 제외 목록의 ID를 포함하지 않는다")
+    void sample_excludes_recently_shown() {
+        pool.replaceAll(entries(1, 10_000));
+        Set<Long> excluded = Set.copyOf(LongStream.rangeClosed(1, 200).boxed().toList());
+
+        List<Long> sampled = pool.sample(50, excluded);
+
+        assertThat(sampled).hasSize(50).doesNotHaveDuplicates().doesNotContainAnyElementsOf(excluded);
+    }
+
+    @Test
+    @DisplayName("제외 후 후보가 부족하면 제외된 ID로 나머지를 채운다")
+    void sample_falls_back_to_excluded_when_pool_is_small() {
+        pool.replaceAll(entries(1, 5));
+
+        List<Long> sampled = pool.sample(4, Set.of(1L, 2L, 3L));
+
+        assertThat(sampled).hasSize(4).doesNotHaveDuplicates();
+        assertThat(sampled.subList(0, 2)).containsExactlyInAnyOrder(4L, 5L);
+    }
+
+    @Test
+    @DisplayName("삭제된 ID는 더 이상 뽑히지 않고 나머지 ID는 유지된다")
+    void removed_ids_are_never_sampled() {
+        pool.replaceAll(entries(1, 100));
+        LongStream.rangeClosed(1, 100).filter(id -> id % 2 == 0).forEach(pool::remove);
+        pool.add(1_000L, 7L);
+        pool.add(1_000L, 7L);
+
+        List<Long> sampled = pool.sample(100, Set.of());
+
+        assertThat(pool.size()).isEqualTo(51);
+        assertThat(sampled).hasSize(51).doesNotHaveDuplicates()
+                .allMatch(id -> id % 2 == 1 || id == 1_000L);
+    }
+
+    @Test
+    @DisplayName("소유자 순서대로 소유자당 최대 개수만큼 공개 컬렉션을 모은다")
+    void collect_owned_by_respects_owner_order_and_limits() {
+        pool.replaceAll(List.of(
+                new PublicCollectionPool.Entry(11L, 1L),
+                new PublicCollectionPool.Entry(12L, 1L),
+                new PublicCollectionPool.Entry(13L, 1L),
+                new PublicCollectionPool.Entry(21L, 2L),
+                new PublicCollectionPool.Entry(31L, 3L)
+        ));
+        pool.remove(31L);
+
+        List<Long> collected = pool.collectOwnedBy(LongStream.of(3L, 2L, 1L).iterator(), 3, 2);
+
+        assertThat(collected).hasSize(3).doesNotHaveDuplicates();
+        assertThat(collected.getFirst()).isEqualTo(21L);
+        assertThat(collected.subList(1, 3)).allMatch(id -> id >= 11L && id <= 13L);
+    }
+
+    @Test
+    @DisplayName("공개 컬렉션이 없는 소유자가 이어져도 최대 소유자 수까지만 살펴본다")
+    void collect_owned_by_bounds_owner_walk() {
+        long lateOwner = PublicCollectionPool.MAX_SCANNED_OWNERS + 1L;
+        pool.replaceAll(List.of(new PublicCollectionPool.Entry(99L, lateOwner)));
+        AtomicLong walked = new AtomicLong();
+        PrimitiveIterator.OfLong owners = LongStream.rangeClosed(1, 1_000_000).peek(id -> walked.incrementAndGet()).iterator();
+
+        List<Long> collected = pool.collectOwnedBy(owners, 10, 2);
+
+        assertThat(collected).isEmpty();
+        assertThat(walked).hasValue(PublicCollectionPool.MAX_SCANNED_OWNERS);
+    }
+
+    @Test
+    @DisplayName("소유자 배치 경계를 넘어도 순서와 한도를 지킨다")
+    void collect_owned_by_across_owner_batches() {
+        long owner = PublicCollectionPool.OWNER_BATCH_SIZE + 10L;
+        pool.replaceAll(List.of(
+                new PublicCollectionPool.Entry(1L, 3L),
+                new PublicCollectionPool.Entry(2L, owner),
+                new PublicCollectionPool.Entry(3L, owner + 1)
+        ));
+
+        List<Long> collected = pool.collectOwnedBy(LongStream.rangeClosed(1, owner + 1).iterator(), 2, 1);
+
+        assertThat(collected).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("각 ID가 뽑히는 빈도는 균등하다")
+    void sample_is_uniform() {
+        pool.replaceAll(entries(1, 100));
+        Map<Long, Integer> frequency = new HashMap<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            pool.sample(5, Set.of()).forEach(id -> frequency.merge(id, 1, Integer::sum));
+        }
+
+        // 기대값 1,000회
+        assertThat(frequency).hasSize(100);
+        assertThat(frequency.values()).allMatch(count -> count > 800 && count < 1_200);
+    }
+
+    private static List<PublicCollectionPool.Entry> entries(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> new PublicCollectionPool.Entry(id, id % 10 + 1))
+                .toList();
+    }
+}
@@ -0,0 +1,58 @@
+package kr.flint.content.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import kr.flint.shared.domain.BaseTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.jspecify.annotations.Nullable;
+
+@Getter
+@Entity
+@Table(
+        name = "content",
+        indexes = {
+                @Index(name = "idx_content_user_id", columnList = "userId"),
+                // 검색 인덱스의 증분 동기화 (updatedAt 워터마크)
+                @Index(name = "idx_content_updated_at", columnList = "updatedAt")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Content extends BaseTime {
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 2048)
+    private String url;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Nullable
+    @Column(length = 2000)
+    private String memo;
+
+    private Content(Long userId, String url, String title, @Nullable String memo) {
+        this.userId = userId;
+        this.url = url;
+        this.title = title;
+        this.memo = memo;
+    }
+
+    public static Content create(Long userId, String url, String title, @Nullable String memo) {
+        return new Content(userId, url, title, memo);
+    }
+
+    public boolean isOwnedBy(Long userId) {
+        return this.userId.equals(userId);
+    }
+
+    public void update(String title, @Nullable String memo) {
+        this.title = title;
+        this.memo = memo;
+    }
+}
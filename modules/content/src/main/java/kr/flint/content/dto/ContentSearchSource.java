@@ -0,0 +1,17 @@
+package kr.flint.content.dto;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 인덱스에 필요한 콘텐츠 필드
+ */
+public record ContentSearchSource(
+        Long id,
+        Long userId,
+        String title,
+        @Nullable String memo,
+        LocalDateTime updatedAt
+) {
+}
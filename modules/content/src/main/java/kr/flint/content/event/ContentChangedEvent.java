@@ -0,0 +1,7 @@
+package kr.flint.content.event;
+
+/**
+ * 콘텐츠 생성/수정/삭제. 구독자는 contentId로 현재 상태를 다시 조회하며, 조회되지 않으면 삭제된 것이다.
+ */
+public record ContentChangedEvent(Long contentId) {
+}
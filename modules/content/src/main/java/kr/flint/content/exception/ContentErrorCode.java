@@ -0,0 +1,19 @@
+package kr.flint.content.exception;
+
+import kr.flint.shared.exception.AppError;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum ContentErrorCode implements AppError {
+
+    CONTENT_NOT_FOUND(HttpStatus.NOT_FOUND, "CONTENT.NOT_FOUND", "Content Not Found", "콘텐츠를 찾을 수 없습니다."),
+    CONTENT_FORBIDDEN(HttpStatus.FORBIDDEN, "CONTENT.FORBIDDEN", "Content Forbidden", "콘텐츠에 대한 권한이 없습니다.");
+
+    private final HttpStatus httpStatus;
+    private final String code;
+    private final String title;
+    private final String detail;
+}
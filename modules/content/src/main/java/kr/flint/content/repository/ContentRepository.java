@@ -0,0 +1,50 @@
+package kr.flint.content.repository;
+
+import kr.flint.content.domain.Content;
+import kr.flint.content.dto.ContentSearchSource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ContentRepository extends JpaRepository<Content, Long> {
+
+    @Query("""
+            select new kr.flint.content.dto.ContentSearchSource(c.id, c.userId, c.title, c.memo, c.updatedAt)
+            from Content c
+            where c.id in :ids
+            """)
+    List<ContentSearchSource> findSearchSourcesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * since 이후(포함) 변경된 콘텐츠. 같은 시각에 변경된 행을 놓치지 않도록 경계를 포함한다.
+     */
+    @Query("""
+            select new kr.flint.content.dto.ContentSearchSource(c.id, c.userId, c.title, c.memo, c.updatedAt)
+            from Content c
+            where c.updatedAt >= :since
+            order by c.updatedAt asc
+            """)
+    List<ContentSearchSource> findSearchSourcesChangedSince(@Param("since") LocalDateTime since, Pageable pageable);
+
+    @Query("""
+            select new kr.flint.content.dto.ContentSearchSource(c.id, c.userId, c.title, c.memo, c.updatedAt)
+            from Content c
+            where c.id > :lastId
+            order by c.id asc
+            """)
+    List<ContentSearchSource> findSearchSourcesAfterId(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 사용자가 최근 저장한 콘텐츠 ID. TSID는 생성 순서이므로 (userId) 인덱스를 거꾸로 읽는다.
+     */
+    @Query("select c.id from Content c where c.userId = :userId order by c.id desc")
+    List<Long> findLatestIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select c.id from Content c where c.userId = :userId and c.id in :ids")
+    List<Long> findIdsByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,90 @@
+package kr.flint.content.service;
+
+import kr.flint.content.domain.Content;
+import kr.flint.content.dto.ContentSearchSource;
+import kr.flint.content.event.ContentChangedEvent;
+import kr.flint.content.exception.ContentErrorCode;
+import kr.flint.content.repository.ContentRepository;
+import kr.flint.shared.exception.GeneralException;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ContentService {
+
+    private final ContentRepository contentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public Long create(Long userId, String url, String title, @Nullable String memo) {
+        Content content = contentRepository.save(Content.create(userId, url, title, memo));
+        eventPublisher.publishEvent(new ContentChangedEvent(content.getId()));
+        return content.getId();
+    }
+
+    @Transactional
+    public void update(Long userId, Long contentId, String title, @Nullable String memo) {
+        getOwnedContent(userId, contentId).update(title, memo);
+        eventPublisher.publishEvent(new ContentChangedEvent(contentId));
+    }
+
+    @Transactional
+    public void delete(Long userId, Long contentId) {
+        contentRepository.delete(getOwnedContent(userId, contentId));
+        eventPublisher.publishEvent(new ContentChangedEvent(contentId));
+    }
+
+    /**
+     * 모두 본인 콘텐츠가 아니면 CONTENT_NOT_FOUND (IN 조회 한 번)
+     */
+    public void checkOwned(Long userId, Collection<Long> contentIds) {
+        Set<Long> missing = new HashSet<>(contentIds);
+        contentRepository.findIdsByUserIdAndIdIn(userId, missing).forEach(missing::remove);
+        if (!missing.isEmpty()) {
+            throw new GeneralException(ContentErrorCode.CONTENT_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 최근 저장한 콘텐츠 ID (최신순)
+     */
+    public List<Long> findRecentIds(Long userId, int limit) {
+        return contentRepository.findLatestIdsByUserId(userId, PageRequest.ofSize(limit));
+    }
+
+    public List<ContentSearchSource> findSearchSources(Collection<Long> contentIds) {
+        return contentRepository.findSearchSourcesByIdIn(contentIds);
+    }
+
+    public List<ContentSearchSource> findSearchSourcesChangedSince(LocalDateTime since, int limit) {
+        return contentRepository.findSearchSourcesChangedSince(since, PageRequest.ofSize(limit));
+    }
+
+    /**
+     * id 순서로 전체를 훑기 위한 키셋 조회
+     */
+    public List<ContentSearchSource> findSearchSourcesAfterId(Long lastId, int limit) {
+        return contentRepository.findSearchSourcesAfterId(lastId, PageRequest.ofSize(limit));
+    }
+
+    private Content getOwnedContent(Long userId, Long contentId) {
+        Content content = contentRepository.findById(contentId)
+                .orElseThrow(() -> new GeneralException(ContentErrorCode.CONTENT_NOT_FOUND));
+        if (!content.isOwnedBy(userId)) {
+            throw new GeneralException(ContentErrorCode.CONTENT_FORBIDDEN);
+        }
+        return content;
+    }
+}
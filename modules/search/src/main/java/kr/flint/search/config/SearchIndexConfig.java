@@ -0,0 +1,18 @@
+package kr.flint.search.config;
+
+import kr.flint.search.repository.SearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class SearchIndexConfig {
+
+    @Bean(destroyMethod = "close")
+    public SearchIndex searchIndex(@Value("${search.index.path:./data/search-index}") Path path) throws IOException {
+        return new SearchIndex(path);
+    }
+}
@@ -0,0 +1,9 @@
+package kr.flint.search.dto;
+
+/**
+ * 자동완성 후보
+ *
+ * @param weight 인기도. 같은 접두어 안에서 높은 순으로 노출된다
+ */
+public record AutocompleteSource(AutocompleteType type, String text, long weight) {
+}
@@ -0,0 +1,4 @@
+package kr.flint.search.dto;
+
+public record AutocompleteSuggestion(AutocompleteType type, String text) {
+}
@@ -0,0 +1,14 @@
+package kr.flint.search.dto;
+
+public enum AutocompleteType {
+
+    /**
+     * 취향 키워드
+     */
+    KEYWORD,
+
+    /**
+     * 공개 컬렉션 제목
+     */
+    COLLECTION
+}
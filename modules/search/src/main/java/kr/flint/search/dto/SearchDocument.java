@@ -0,0 +1,26 @@
+package kr.flint.search.dto;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 검색 인덱스 문서
+ *
+ * @param body 콘텐츠 메모 또는 컬렉션 설명
+ */
+public record SearchDocument(
+        SearchType type,
+        Long id,
+        Long ownerId,
+        boolean isPublic,
+        String title,
+        @Nullable String body
+) {
+
+    public static SearchDocument content(Long id, Long ownerId, String title, @Nullable String memo) {
+        return new SearchDocument(SearchType.CONTENT, id, ownerId, false, title, memo);
+    }
+
+    public static SearchDocument collection(Long id, Long ownerId, boolean isPublic, String title, @Nullable String description) {
+        return new SearchDocument(SearchType.COLLECTION, id, ownerId, isPublic, title, description);
+    }
+}
@@ -0,0 +1,4 @@
+package kr.flint.search.dto;
+
+public record SearchHit(SearchType type, Long id, float score) {
+}
@@ -0,0 +1,14 @@
+package kr.flint.search.dto;
+
+public enum SearchType {
+
+    /**
+     * 콘텐츠 (본인 것만 검색)
+     */
+    CONTENT,
+
+    /**
+     * 컬렉션 (공개 컬렉션 + 본인 컬렉션)
+     */
+    COLLECTION
+}
@@ -0,0 +1,51 @@
+package kr.flint.search.repository;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.cjk.CJKBigramFilter;
+import org.apache.lucene.analysis.cjk.CJKWidthFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+
+/**
+ * 한글/한자/가나는 2-gram, 그 외는 단어 단위로 분리하는 분석기.
+ * <p>
+ * 형태소 분석 없이도 "영화를", "영화관" 같은 조사/복합어가 "영화" 질의에 걸린다.
+ * 색인 시에는 1-gram도 함께 만들어 한 글자 질의를 지원하고, 질의 시에는 2-gram만 사용해 불필요한 매칭을 줄인다.
+ */
+public final class KoreanNgramAnalyzer extends Analyzer {
+
+    private static final int CJK_SCRIPTS = CJKBigramFilter.HANGUL
+            | CJKBigramFilter.HAN
+            | CJKBigramFilter.HIRAGANA
+            | CJKBigramFilter.KATAKANA;
+
+    private final boolean outputUnigrams;
+
+    private KoreanNgramAnalyzer(boolean outputUnigrams) {
+        this.outputUnigrams = outputUnigrams;
+    }
+
+    public static KoreanNgramAnalyzer forIndexing() {
+        return new KoreanNgramAnalyzer(true);
+    }
+
+    public static KoreanNgramAnalyzer forQuery() {
+        return new KoreanNgramAnalyzer(false);
+    }
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        Tokenizer source = new StandardTokenizer();
+        TokenStream result = new CJKWidthFilter(source);
+        result = new LowerCaseFilter(result);
+        result = new CJKBigramFilter(result, CJK_SCRIPTS, outputUnigrams);
+        return new TokenStreamComponents(source, result);
+    }
+
+    @Override
+    protected TokenStream normalize(String fieldName, TokenStream in) {
+        return new LowerCaseFilter(new CJKWidthFilter(in));
+    }
+}
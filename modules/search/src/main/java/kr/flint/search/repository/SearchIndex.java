@@ -0,0 +1,333 @@
+package kr.flint.search.repository;
+
+import kr.flint.search.dto.SearchDocument;
+import kr.flint.search.dto.SearchHit;
+import kr.flint.search.dto.SearchType;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.similarities.BM25Similarity;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 콘텐츠/컬렉션 전문 검색용 Lucene 색인 (메모리 맵 디렉터리, BM25).
+ * <p>
+ * - 쓰기는 {@link #upsert}/{@link #delete} 후 {@link #refresh()} 시점에 검색에 반영된다 (near-real-time)
+ * - 디스크 반영은 {@link #commit()} 시점이며, 동기화 위치(checkpoint)도 커밋 데이터로 함께 저장된다
+ * - 전체 재구성은 문서마다 세대(generation)를 기록하고 끝난 뒤 이전 세대만 지우므로, 재구성 중에도 검색 결과가 비지 않는다
+ */
+@Slf4j
+public class SearchIndex implements Closeable {
+
+    static final String UID = "uid";
+    static final String TYPE = "type";
+    static final String ID = "id";
+    static final String OWNER = "owner";
+    static final String PUBLIC = "public";
+    static final String TITLE = "title";
+    static final String BODY = "body";
+    static final String GENERATION = "generation";
+
+    private static final String GENERATION_KEY = "generation";
+    private static final String CHECKPOINT_PREFIX = "checkpoint.";
+    private static final float TITLE_BOOST = 2.0f;
+    private static final Set<String> HIT_FIELDS = Set.of(TYPE, ID);
+
+    private final MMapDirectory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final QueryBuilder queryBuilder;
+
+    private final Map<String, String> checkpoints = new ConcurrentHashMap<>();
+    private volatile long generation;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public SearchIndex(Path path) throws IOException {
+        Files.createDirectories(path);
+        this.directory = new MMapDirectory(path);
+
+        Map<String, String> committed = DirectoryReader.indexExists(directory)
+                ? SegmentInfos.readLatestCommit(directory).getUserData()
+                : Map.of();
+        this.generation = Long.parseLong(committed.getOrDefault(GENERATION_KEY, "0"));
+        committed.forEach((key, value) -> {
+            if (key.startsWith(CHECKPOINT_PREFIX)) {
+                checkpoints.put(key.substring(CHECKPOINT_PREFIX.length()), value);
+            }
+        });
+
+        Analyzer indexAnalyzer = KoreanNgramAnalyzer.forIndexing();
+        IndexWriterConfig config = new IndexWriterConfig(indexAnalyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+                .setSimilarity(new BM25Similarity());
+        this.writer = new IndexWriter(directory, config);
+        this.searcherManager = new SearcherManager(writer, new SearcherFactory() {
+            @Override
+            public IndexSearcher newSearcher(IndexReader reader, IndexReader previousReader) {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                searcher.setSimilarity(new BM25Similarity());
+                return searcher;
+            }
+        });
+        this.queryBuilder = new QueryBuilder(KoreanNgramAnalyzer.forQuery());
+    }
+
+    public void upsert(Collection<SearchDocument> documents) {
+        try {
+            for (SearchDocument document : documents) {
+                writer.updateDocument(uidTerm(document.type(), document.id()), toLuceneDocument(document));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(SearchType type, Collection<Long> ids) {
+        try {
+            writer.deleteDocuments(ids.stream().map(id -> uidTerm(type, id)).toArray(Term[]::new));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 전체 재구성 시작. 이후 색인되는 문서는 새 세대로 기록된다.
+     *
+     * @return {@link #finishRebuild(long)}에 전달할 세대
+     */
+    public long beginRebuild() {
+        lock.lock();
+        try {
+            return ++generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 재구성 중 다시 색인되지 않은 문서(= DB에서 삭제된 행)를 지운다
+     */
+    public void finishRebuild(long rebuildGeneration) {
+        try {
+            writer.deleteDocuments(LongPoint.newRangeQuery(GENERATION, Long.MIN_VALUE, rebuildGeneration - 1));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public @Nullable String getCheckpoint(String key) {
+        return checkpoints.get(key);
+    }
+
+    /**
+     * 다음 {@link #commit()}에 함께 저장할 동기화 위치
+     */
+    public void setCheckpoint(String key, String value) {
+        checkpoints.put(key, value);
+    }
+
+    /**
+     * 마지막 refresh 이후의 변경을 검색에 반영
+     */
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 변경 사항과 동기화 위치를 디스크에 반영
+     */
+    public void commit() {
+        lock.lock();
+        try {
+            Map<String, String> userData = new HashMap<>();
+            userData.put(GENERATION_KEY, String.valueOf(generation));
+            checkpoints.forEach((key, value) -> userData.put(CHECKPOINT_PREFIX + key, value));
+            writer.setLiveCommitData(userData.entrySet());
+            writer.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * BM25 점수 순으로 offset ~ offset + limit 구간을 조회
+     *
+     * @param type null이면 전체
+     */
+    public List<SearchHit> search(Long viewerId, String text, @Nullable SearchType type, int offset, int limit) {
+        Query query = buildQuery(viewerId, text, type);
+        if (query == null) {
+            return List.of();
+        }
+
+        IndexSearcher searcher = acquire();
+        try {
+            TopDocs topDocs = searcher.search(query, offset + limit);
+            StoredFields storedFields = searcher.storedFields();
+            List<SearchHit> hits = new ArrayList<>(Math.max(0, topDocs.scoreDocs.length - offset));
+            for (int i = offset; i < topDocs.scoreDocs.length; i++) {
+                ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+                Document document = storedFields.document(scoreDoc.doc, HIT_FIELDS);
+                hits.add(new SearchHit(
+                        SearchType.valueOf(document.get(TYPE)),
+                        document.getField(ID).numericValue().longValue(),
+                        scoreDoc.score
+                ));
+            }
+            return hits;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    public int numDocs() {
+        IndexSearcher searcher = acquire();
+        try {
+            return searcher.getIndexReader().numDocs();
+        } finally {
+            release(searcher);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        commit();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private @Nullable Query buildQuery(Long viewerId, String text, @Nullable SearchType type) {
+        Query title = queryBuilder.createBooleanQuery(TITLE, text, Occur.MUST);
+        Query body = queryBuilder.createBooleanQuery(BODY, text, Occur.MUST);
+        if (title == null && body == null) {
+            return null;
+        }
+
+        BooleanQuery.Builder match = new BooleanQuery.Builder().setMinimumNumberShouldMatch(1);
+        if (title != null) {
+            match.add(new BoostQuery(title, TITLE_BOOST), Occur.SHOULD);
+        }
+        if (body != null) {
+            match.add(body, Occur.SHOULD);
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(match.build(), Occur.MUST)
+                .add(visibleTo(viewerId), Occur.FILTER);
+        if (type != null) {
+            query.add(new TermQuery(new Term(TYPE, type.name())), Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    /**
+     * 공개 컬렉션, 본인 컬렉션, 본인 콘텐츠
+     */
+    private static Query visibleTo(Long viewerId) {
+        Query owned = new TermQuery(new Term(OWNER, String.valueOf(viewerId)));
+
+        Query collection = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(TYPE, SearchType.COLLECTION.name())), Occur.FILTER)
+                .add(new TermQuery(new Term(PUBLIC, "true")), Occur.SHOULD)
+                .add(owned, Occur.SHOULD)
+                .setMinimumNumberShouldMatch(1)
+                .build();
+
+        Query content = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(TYPE, SearchType.CONTENT.name())), Occur.FILTER)
+                .add(owned, Occur.FILTER)
+                .build();
+
+        return new BooleanQuery.Builder()
+                .add(collection, Occur.SHOULD)
+                .add(content, Occur.SHOULD)
+                .setMinimumNumberShouldMatch(1)
+                .build();
+    }
+
+    private Document toLuceneDocument(SearchDocument source) {
+        Document document = new Document();
+        document.add(new StringField(UID, uid(source.type(), source.id()), Field.Store.NO));
+        document.add(new StringField(TYPE, source.type().name(), Field.Store.YES));
+        document.add(new StoredField(ID, source.id()));
+        document.add(new StringField(OWNER, String.valueOf(source.ownerId()), Field.Store.NO));
+        document.add(new StringField(PUBLIC, String.valueOf(source.isPublic()), Field.Store.NO));
+        document.add(new LongPoint(GENERATION, generation));
+        document.add(new TextField(TITLE, source.title(), Field.Store.NO));
+        if (source.body() != null) {
+            document.add(new TextField(BODY, source.body(), Field.Store.NO));
+        }
+        return document;
+    }
+
+    private IndexSearcher acquire() {
+        try {
+            return searcherManager.acquire();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("검색기 반환 실패", e);
+        }
+    }
+
+    private static Term uidTerm(SearchType type, Long id) {
+        return new Term(UID, uid(type, id));
+    }
+
+    private static String uid(SearchType type, Long id) {
+        return type.name() + ":" + id;
+    }
+}
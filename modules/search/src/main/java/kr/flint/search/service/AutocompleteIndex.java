@@ -0,0 +1,322 @@
+package kr.flint.search.service;
+
+import kr.flint.search.dto.AutocompleteSource;
+import kr.flint.search.dto.AutocompleteSuggestion;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 접두어 자동완성 색인 (불변, 메모리 전용).
+ * <p>
+ * 정렬된 키를 하나의 char 배열에 이어 붙인 암시적 trie이다. 후보는 인기도 내림차순으로 번호를 매기므로
+ * "접두어의 top-K" = "접두어 범위에서 가장 작은 후보 번호 K개"가 된다.
+ * 범위가 K보다 큰 노드는 빌드 시점에 top-K를 미리 계산해 두고, 나머지는 범위가 K 이하이므로 바로 모은다.
+ * 따라서 조회 비용은 후보 수와 무관하게 O(|접두어| + K)이다.
+ * <p>
+ * 키는 정규화된 문장, 단어 시작 위치부터의 부분 문자열, 그리고 각각의 초성("영화" → "ㅇㅎ")이다.
+ * 입력 중인 "영ㅎ"처럼 마지막 글자만 자음인 질의는 "영" 다음 음절의 초성이 ㅎ인 키로 찾는다.
+ */
+public final class AutocompleteIndex {
+
+    /**
+     * 이보다 긴 키/질의는 잘라서 비교 (긴 접두어는 후보가 거의 하나로 좁혀진다)
+     */
+    static final int MAX_KEY_LENGTH = 30;
+
+    /**
+     * 문장 중간 단어로도 찾을 수 있도록 단어 시작 위치를 키로 추가하는 최대 개수
+     */
+    static final int MAX_WORD_STARTS = 3;
+
+    private static final int[] NONE = new int[0];
+
+    private final AutocompleteSuggestion[] suggestions;
+    private final int topK;
+
+    /**
+     * 정렬된 키를 이어 붙인 문자열. i번째 키는 keyChars[keyOffsets[i] .. keyOffsets[i + 1])
+     */
+    private final char[] keyChars;
+    private final int[] keyOffsets;
+    private final int[] keySuggestions;
+
+    /**
+     * 범위가 topK보다 큰 접두어의 top-K 후보 번호
+     */
+    private final Map<String, int[]> topByPrefix;
+
+    private AutocompleteIndex(AutocompleteSuggestion[] suggestions, int topK, List<Key> keys) {
+        this.suggestions = suggestions;
+        this.topK = topK;
+
+        int totalChars = keys.stream().mapToInt(key -> key.text.length()).sum();
+        this.keyChars = new char[totalChars];
+        this.keyOffsets = new int[keys.size() + 1];
+        this.keySuggestions = new int[keys.size()];
+        int offset = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            Key key = keys.get(i);
+            key.text.getChars(0, key.text.length(), keyChars, offset);
+            keyOffsets[i] = offset;
+            keySuggestions[i] = key.suggestion;
+            offset += key.text.length();
+        }
+        keyOffsets[keys.size()] = offset;
+
+        this.topByPrefix = new HashMap<>();
+        if (!keys.isEmpty()) {
+            precompute(0, 0, keys.size());
+        }
+    }
+
+    public static AutocompleteIndex empty() {
+        return build(List.of(), 10, 0);
+    }
+
+    /**
+     * @param sources 후보. 같은 종류/문장은 인기도를 합산한다
+     * @param topK           접두어별로 미리 계산할 후보 수 (조회 가능한 최대 개수)
+     * @param maxSuggestions 인기도 상위 이만큼만 색인 (메모리 상한)
+     */
+    public static AutocompleteIndex build(List<AutocompleteSource> sources, int topK, int maxSuggestions) {
+        Map<AutocompleteSuggestion, Long> weights = new HashMap<>();
+        for (AutocompleteSource source : sources) {
+            String text = HangulKeys.normalize(source.text());
+            if (!text.isEmpty()) {
+                weights.merge(new AutocompleteSuggestion(source.type(), text), source.weight(), Long::sum);
+            }
+        }
+
+        AutocompleteSuggestion[] ranked = weights.entrySet().stream()
+                .sorted(Map.Entry.<AutocompleteSuggestion, Long>comparingByValue().reversed()
+                        .thenComparing(entry -> entry.getKey().text()))
+                .limit(maxSuggestions)
+                .map(Map.Entry::getKey)
+                .toArray(AutocompleteSuggestion[]::new);
+
+        List<Key> keys = new ArrayList<>(ranked.length * 2);
+        for (int i = 0; i < ranked.length; i++) {
+            addKeys(keys, ranked[i].text(), i);
+        }
+        keys.sort(Comparator.<Key, String>comparing(key -> key.text).thenComparingInt(key -> key.suggestion));
+
+        return new AutocompleteIndex(ranked, topK, keys);
+    }
+
+    /**
+     * 접두어로 시작하는 후보를 인기도 순으로 최대 limit개 (limit은 topK 이하로 제한)
+     */
+    public List<AutocompleteSuggestion> suggest(String query, int limit) {
+        String normalized = HangulKeys.normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int[] top = composing(normalized);
+        if (top == null) {
+            String prefix = truncate(HangulKeys.containsConsonant(normalized) ? HangulKeys.toChoseong(normalized) : normalized);
+            top = topOf(prefix);
+        }
+
+        int count = Math.min(Math.min(limit, topK), top.length);
+        List<AutocompleteSuggestion> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(suggestions[top[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * 음절 뒤에 자음 하나가 붙은 입력 중 질의("영ㅎ"). 그 외 형태면 null
+     */
+    private int @Nullable [] composing(String normalized) {
+        int last = normalized.length() - 1;
+        String syllables = normalized.substring(0, last);
+        int choseong = HangulKeys.choseongIndex(normalized.charAt(last));
+        if (last == 0 || last >= MAX_KEY_LENGTH || choseong < 0 || HangulKeys.containsConsonant(syllables)) {
+            return null;
+        }
+
+        // 글자 그대로의 자음과, 초성이 그 자음인 음절 구간의 각 자식 노드를 합친다
+        int[] top = topOf(syllables + normalized.charAt(last));
+        int from = lowerBound(syllables + HangulKeys.firstSyllable(choseong));
+        int to = lowerBound(syllables + (char) (HangulKeys.lastSyllable(choseong) + 1));
+        while (from < to) {
+            String child = new String(keyChars, keyOffsets[from], syllables.length() + 1);
+            int end = prefixEnd(child, from);
+            top = merge(top, topOf(child, from, end));
+            from = end;
+        }
+        return top;
+    }
+
+    private int[] topOf(String prefix) {
+        int from = lowerBound(prefix);
+        return topOf(prefix, from, prefixEnd(prefix, from));
+    }
+
+    private int[] topOf(String prefix, int from, int to) {
+        int[] top = topByPrefix.get(prefix);
+        return top != null ? top : smallestDistinct(from, to);
+    }
+
+    public int size() {
+        return suggestions.length;
+    }
+
+    /**
+     * keys[from, to)는 길이 depth의 접두어를 공유한다. 범위가 topK보다 크면 top-K를 저장한다.
+     *
+     * @return 범위의 top-K 후보 번호 (오름차순)
+     */
+    private int[] precompute(int depth, int from, int to) {
+        if (to - from <= topK) {
+            return smallestDistinct(from, to);
+        }
+
+        int[] top = NONE;
+        int i = from;
+        // 접두어와 같은 키(자식 없음)는 정렬상 맨 앞
+        while (i < to && keyLength(i) == depth) {
+            top = merge(top, new int[]{keySuggestions[i]});
+            i++;
+        }
+        while (i < to) {
+            char c = keyChar(i, depth);
+            int j = i + 1;
+            while (j < to && keyChar(j, depth) == c) {
+                j++;
+            }
+            top = merge(top, precompute(depth + 1, i, j));
+            i = j;
+        }
+
+        if (depth > 0) {
+            topByPrefix.put(new String(keyChars, keyOffsets[from], depth), top);
+        }
+        return top;
+    }
+
+    /**
+     * 두 오름차순 배열에서 중복 없이 작은 값 topK개
+     */
+    private int[] merge(int[] a, int[] b) {
+        int[] merged = new int[Math.min(topK, a.length + b.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (n < merged.length && (i < a.length || j < b.length)) {
+            int next = j >= b.length || (i < a.length && a[i] <= b[j]) ? a[i++] : b[j++];
+            if (n == 0 || merged[n - 1] != next) {
+                merged[n++] = next;
+            }
+        }
+        return n == merged.length ? merged : Arrays.copyOf(merged, n);
+    }
+
+    private int[] smallestDistinct(int from, int to) {
+        int[] ids = Arrays.copyOfRange(keySuggestions, from, to);
+        Arrays.sort(ids);
+        int n = 0;
+        for (int i = 0; i < ids.length && n < topK; i++) {
+            if (n == 0 || ids[n - 1] != ids[i]) {
+                ids[n++] = ids[i];
+            }
+        }
+        return Arrays.copyOf(ids, n);
+    }
+
+    /**
+     * prefix 이상인 첫 키
+     */
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = keySuggestions.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(mid, prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * from부터 prefix로 시작하는 키가 끝나는 위치
+     */
+    private int prefixEnd(String prefix, int from) {
+        int low = from;
+        int high = keySuggestions.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (startsWith(mid, prefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int compare(int key, String other) {
+        int offset = keyOffsets[key];
+        int length = keyLength(key);
+        int common = Math.min(length, other.length());
+        for (int i = 0; i < common; i++) {
+            int diff = keyChars[offset + i] - other.charAt(i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return length - other.length();
+    }
+
+    private boolean startsWith(int key, String prefix) {
+        if (keyLength(key) < prefix.length()) {
+            return false;
+        }
+        int offset = keyOffsets[key];
+        for (int i = 0; i < prefix.length(); i++) {
+            if (keyChars[offset + i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int keyLength(int key) {
+        return keyOffsets[key + 1] - keyOffsets[key];
+    }
+
+    private char keyChar(int key, int index) {
+        return keyChars[keyOffsets[key] + index];
+    }
+
+    private static void addKeys(List<Key> keys, String text, int suggestion) {
+        int starts = 0;
+        for (int i = 0; i < text.length() && starts < MAX_WORD_STARTS; i++) {
+            if (i == 0 || text.charAt(i - 1) == ' ') {
+                String key = truncate(text.substring(i));
+                keys.add(new Key(key, suggestion));
+                if (HangulKeys.containsSyllable(key)) {
+                    keys.add(new Key(HangulKeys.toChoseong(key), suggestion));
+                }
+                starts++;
+            }
+        }
+    }
+
+    private static String truncate(String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    private record Key(String text, int suggestion) {
+    }
+}
@@ -0,0 +1,42 @@
+package kr.flint.search.service;
+
+import kr.flint.search.dto.AutocompleteSource;
+import kr.flint.search.dto.AutocompleteSuggestion;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 메모리 자동완성. 조회는 현재 색인만 읽으며 DB에 접근하지 않는다.
+ * 재구성은 새 색인을 만든 뒤 참조만 바꾸므로 진행 중인 조회는 이전 색인으로 끝난다.
+ */
+@Service
+public class AutocompleteService {
+
+    private final int topK;
+    private final int maxSuggestions;
+    private final AtomicReference<AutocompleteIndex> index = new AtomicReference<>(AutocompleteIndex.empty());
+
+    public AutocompleteService(
+            @Value("${search.autocomplete.top-k:10}") int topK,
+            @Value("${search.autocomplete.max-suggestions:200000}") int maxSuggestions
+    ) {
+        this.topK = topK;
+        this.maxSuggestions = maxSuggestions;
+    }
+
+    public List<AutocompleteSuggestion> suggest(String query, int size) {
+        return index.get().suggest(query, Math.min(size, topK));
+    }
+
+    /**
+     * @return 색인된 후보 수
+     */
+    public int replace(List<AutocompleteSource> sources) {
+        AutocompleteIndex rebuilt = AutocompleteIndex.build(sources, topK, maxSuggestions);
+        index.set(rebuilt);
+        return rebuilt.size();
+    }
+}
@@ -0,0 +1,108 @@
+package kr.flint.search.service;
+
+import lombok.NoArgsConstructor;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * 자동완성 키 정규화와 초성 변환
+ */
+@NoArgsConstructor(access = PRIVATE)
+final class HangulKeys {
+
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    /**
+     * NFC 정규화, 소문자, 연속 공백 하나로
+     */
+    static String normalize(String text) {
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(composed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = !builder.isEmpty();
+                continue;
+            }
+            if (pendingSpace) {
+                builder.append(' ');
+                pendingSpace = false;
+            }
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 완성형 한글 음절을 초성으로 바꾼다 ("영화 추천" → "ㅇㅎ ㅊㅊ"). 그 외 문자는 그대로 둔다.
+     */
+    static String toChoseong(String normalized) {
+        char[] chars = normalized.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (isSyllable(chars[i])) {
+                chars[i] = CHOSEONG[(chars[i] - SYLLABLE_FIRST) / SYLLABLES_PER_CHOSEONG];
+            }
+        }
+        return new String(chars);
+    }
+
+    static boolean containsSyllable(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isSyllable(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 한글 호환 자모 자음(ㄱ ~ ㅎ) 포함 여부. 초성 질의로 판단한다.
+     */
+    static boolean containsConsonant(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 'ㄱ' && c <= 'ㅎ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 초성 자음의 순번 (ㄱ = 0 ... ㅎ = 18). 초성으로 쓰이지 않는 겹자음(ㄳ 등)은 -1
+     */
+    static int choseongIndex(char c) {
+        for (int i = 0; i < CHOSEONG.length; i++) {
+            if (CHOSEONG[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 초성이 같은 음절은 연속된 코드 구간이다 ('영'의 초성 ㅇ → '아' ~ '잏')
+     */
+    static char firstSyllable(int choseongIndex) {
+        return (char) (SYLLABLE_FIRST + choseongIndex * SYLLABLES_PER_CHOSEONG);
+    }
+
+    static char lastSyllable(int choseongIndex) {
+        return (char) (firstSyllable(choseongIndex) + SYLLABLES_PER_CHOSEONG - 1);
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST;
+    }
+}
@@ -0,0 +1,86 @@
+package kr.flint.search.service;
+
+import kr.flint.search.dto.SearchDocument;
+import kr.flint.search.dto.SearchHit;
+import kr.flint.search.dto.SearchType;
+import kr.flint.search.repository.SearchIndex;
+import kr.flint.shared.exception.ErrorCode;
+import kr.flint.shared.exception.GeneralException;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    /**
+     * 깊은 페이지는 상위 문서를 모두 점수 계산해야 하므로 조회 가능한 범위를 제한
+     */
+    public static final int MAX_RESULT_WINDOW = 1000;
+
+    private final SearchIndex searchIndex;
+
+    /**
+     * 공개 컬렉션, 본인 컬렉션, 본인 콘텐츠를 제목/본문 BM25 점수 순으로 검색
+     *
+     * @param type null이면 전체
+     */
+    public Slice<SearchHit> search(Long viewerId, String query, @Nullable SearchType type, int page, int size) {
+        // 큰 page가 int 범위를 넘어 음수 offset으로 검사를 통과하지 않도록 long으로 비교
+        if (page < 0 || size < 1 || (long) page * size + size > MAX_RESULT_WINDOW) {
+            throw new GeneralException(ErrorCode.INVALID_INPUT, "page * size <= " + MAX_RESULT_WINDOW);
+        }
+        int offset = page * size;
+
+        List<SearchHit> hits = searchIndex.search(viewerId, query, type, offset, size + 1);
+        boolean hasNext = hits.size() > size;
+        return new SliceImpl<>(hasNext ? hits.subList(0, size) : hits, PageRequest.of(page, size), hasNext);
+    }
+
+    public void index(Collection<SearchDocument> documents) {
+        searchIndex.upsert(documents);
+    }
+
+    public void delete(SearchType type, Collection<Long> ids) {
+        searchIndex.delete(type, ids);
+    }
+
+    public long beginRebuild() {
+        return searchIndex.beginRebuild();
+    }
+
+    public void finishRebuild(long generation) {
+        searchIndex.finishRebuild(generation);
+        searchIndex.refresh();
+        searchIndex.commit();
+    }
+
+    public @Nullable String getCheckpoint(String key) {
+        return searchIndex.getCheckpoint(key);
+    }
+
+    public void setCheckpoint(String key, String value) {
+        searchIndex.setCheckpoint(key, value);
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.refresh-interval:1s}")
+    public void refresh() {
+        searchIndex.refresh();
+    }
+
+    @Scheduled(
+            initialDelayString = "${search.index.commit-interval:30s}",
+            fixedDelayString = "${search.index.commit-interval:30s}"
+    )
+    public void commit() {
+        searchIndex.commit();
+    }
+}
@@ -0,0 +1,140 @@
+package kr.flint.search.repository;
+
+import kr.flint.search.dto.SearchDocument;
+import kr.flint.search.dto.SearchHit;
+import kr.flint.search.dto.SearchType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchIndexTest {
+
+    private static final Long OWNER = 1L;
+    private static final Long OTHER = 2L;
+
+    @TempDir
+    Path path;
+
+    private SearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        searchIndex = new SearchIndex(path);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    @Nested
+    @DisplayName("한글 n-gram 검색")
+    class KoreanNgram {
+
+        @Test
+        @DisplayName("조사가 붙은 단어도 어간 질의로 찾는다")
+        void matches_word_with_particle() {
+            index(SearchDocument.collection(10L, OTHER, true, "주말에 볼 영화를 모았어요", null));
+
+            assertThat(ids(OWNER, "영화")).containsExactly(10L);
+            assertThat(ids(OWNER, "드라마")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("제목 일치가 본문 일치보다 높은 점수를 받는다")
+        void title_match_scores_higher_than_body_match() {
+            index(
+                    SearchDocument.collection(10L, OTHER, true, "여행 준비물", "캠핑 장비 목록"),
+                    SearchDocument.collection(20L, OTHER, true, "캠핑 장비", "여행 준비물 정리")
+            );
+
+            assertThat(ids(OWNER, "캠핑")).containsExactly(20L, 10L);
+        }
+    }
+
+    @Nested
+    @DisplayName("공개 범위")
+    class Visibility {
+
+        @Test
+        @DisplayName("다른 사용자의 콘텐츠와 비공개 컬렉션은 검색되지 않는다")
+        void hides_other_users_private_documents() {
+            index(
+                    SearchDocument.content(1L, OWNER, "스프링 부트 가이드", null),
+                    SearchDocument.content(2L, OTHER, "스프링 부트 가이드", null),
+                    SearchDocument.collection(3L, OTHER, true, "스프링 부트 모음", null),
+                    SearchDocument.collection(4L, OTHER, false, "스프링 부트 비공개", null),
+                    SearchDocument.collection(5L, OWNER, false, "스프링 부트 내 비공개", null)
+            );
+
+            assertThat(ids(OWNER, "스프링")).containsExactlyInAnyOrder(1L, 3L, 5L);
+        }
+    }
+
+    @Nested
+    @DisplayName("색인 갱신")
+    class Updates {
+
+        @Test
+        @DisplayName("같은 문서를 다시 색인하면 교체되고, 삭제하면 검색되지 않는다")
+        void upsert_replaces_and_delete_removes() {
+            index(SearchDocument.content(1L, OWNER, "자바 동시성", null));
+            index(SearchDocument.content(1L, OWNER, "코틀린 코루틴", null));
+
+            assertThat(ids(OWNER, "자바")).isEmpty();
+            assertThat(ids(OWNER, "코루틴")).containsExactly(1L);
+
+            searchIndex.delete(SearchType.CONTENT, List.of(1L));
+            searchIndex.refresh();
+
+            assertThat(ids(OWNER, "코루틴")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("전체 재구성 후 다시 색인되지 않은 문서는 지워진다")
+        void rebuild_removes_documents_not_reindexed() {
+            index(
+                    SearchDocument.content(1L, OWNER, "삭제될 메모", null),
+                    SearchDocument.content(2L, OWNER, "남을 메모", null)
+            );
+
+            long generation = searchIndex.beginRebuild();
+            index(SearchDocument.content(2L, OWNER, "남을 메모", null));
+            searchIndex.finishRebuild(generation);
+            searchIndex.refresh();
+
+            assertThat(ids(OWNER, "메모")).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("동기화 위치는 커밋과 함께 저장되어 다시 열어도 유지된다")
+        void checkpoint_survives_reopen() throws IOException {
+            index(SearchDocument.content(1L, OWNER, "재시작 테스트", null));
+            searchIndex.setCheckpoint("content.updated-at", "2026-01-01T00:00");
+            searchIndex.close();
+
+            searchIndex = new SearchIndex(path);
+
+            assertThat(searchIndex.getCheckpoint("content.updated-at")).isEqualTo("2026-01-01T00:00");
+            assertThat(ids(OWNER, "재시작")).containsExactly(1L);
+        }
+    }
+
+    private void index(SearchDocument... documents) {
+        searchIndex.upsert(List.of(documents));
+        searchIndex.refresh();
+    }
+
+    private List<Long> ids(Long viewerId, String query) {
+        return searchIndex.search(viewerId, query, null, 0, 20).stream().map(SearchHit::id).toList();
+    }
+}
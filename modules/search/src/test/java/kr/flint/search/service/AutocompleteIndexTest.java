@@ -0,0 +1,83 @@
+package kr.flint.search.service;
+
+import kr.flint.search.dto.AutocompleteSource;
+import kr.flint.search.dto.AutocompleteSuggestion;
+import kr.flint.search.dto.AutocompleteType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutocompleteIndexTest {
+
+    private static final int TOP_K = 3;
+
+    @Test
+    @DisplayName("초성 질의와 초성이 섞인 질의로 한글 후보를 찾는다")
+    void matches_choseong_query() {
+        AutocompleteIndex index = build(
+                keyword("영화", 10),
+                keyword("여행", 5),
+                keyword("음악", 3)
+        );
+
+        assertThat(texts(index, "ㅇㅎ")).containsExactly("영화", "여행");
+        assertThat(texts(index, "영ㅎ")).containsExactly("영화");
+        assertThat(texts(index, "영")).containsExactly("영화");
+    }
+
+    @Test
+    @DisplayName("문장 중간 단어로 시작하는 질의도 찾는다")
+    void matches_word_start() {
+        AutocompleteIndex index = build(collection("주말에 볼 영화", 1));
+
+        assertThat(texts(index, "영화")).containsExactly("주말에 볼 영화");
+        assertThat(texts(index, "화")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 문장은 인기도를 합산하고, 대소문자와 공백 차이는 무시한다")
+    void merges_normalized_duplicates() {
+        AutocompleteIndex index = build(
+                collection("Spring  Boot", 1),
+                collection("spring boot", 1),
+                collection("spring batch", 1)
+        );
+
+        assertThat(texts(index, "SPRING b")).containsExactly("spring boot", "spring batch");
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("후보가 top-K보다 많은 접두어는 미리 계산한 인기도 상위 K개를 반환한다")
+    void returns_precomputed_top_k() {
+        List<AutocompleteSource> sources = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            sources.add(collection("캠핑 " + i, i));
+        }
+        AutocompleteIndex index = AutocompleteIndex.build(sources, TOP_K, Integer.MAX_VALUE);
+
+        assertThat(texts(index, "캠")).containsExactly("캠핑 49", "캠핑 48", "캠핑 47");
+        assertThat(texts(index, "ㅋㅍ 1")).containsExactly("캠핑 19", "캠핑 18", "캠핑 17");
+        assertThat(texts(index, "캠핑 4")).containsExactly("캠핑 49", "캠핑 48", "캠핑 47");
+    }
+
+    private static AutocompleteIndex build(AutocompleteSource... sources) {
+        return AutocompleteIndex.build(List.of(sources), TOP_K, Integer.MAX_VALUE);
+    }
+
+    private static List<String> texts(AutocompleteIndex index, String query) {
+        return index.suggest(query, TOP_K).stream().map(AutocompleteSuggestion::text).toList();
+    }
+
+    private static AutocompleteSource keyword(String text, long weight) {
+        return new AutocompleteSource(AutocompleteType.KEYWORD, text, weight);
+    }
+
+    private static AutocompleteSource collection(String text, long weight) {
+        return new AutocompleteSource(AutocompleteType.COLLECTION, text, weight);
+    }
+}
@@ -0,0 +1,80 @@
+package kr.flint.search.service;
+
+import kr.flint.search.dto.SearchDocument;
+import kr.flint.search.dto.SearchHit;
+import kr.flint.search.repository.SearchIndex;
+import kr.flint.shared.exception.ErrorCode;
+import kr.flint.shared.exception.GeneralException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.data.domain.Slice;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchServiceTest {
+
+    private static final Long VIEWER = 1L;
+
+    @TempDir
+    Path path;
+
+    private SearchIndex searchIndex;
+    private SearchService searchService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        searchIndex = new SearchIndex(path);
+        searchService = new SearchService(searchIndex);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    @Test
+    @DisplayName("한 건을 더 조회하여 다음 페이지 여부를 판단한다")
+    void slices_with_has_next() {
+        searchIndex.upsert(List.of(
+                SearchDocument.collection(10L, 2L, true, "주말 영화", null),
+                SearchDocument.collection(20L, 2L, true, "평일 영화", null),
+                SearchDocument.collection(30L, 2L, true, "심야 영화", null)
+        ));
+        searchIndex.refresh();
+
+        Slice<SearchHit> first = searchService.search(VIEWER, "영화", null, 0, 2);
+        Slice<SearchHit> second = searchService.search(VIEWER, "영화", null, 1, 2);
+
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).hasSize(1);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "-1, 10",
+            "0, 0",
+            "100, 10",
+            // page * size가 int 범위를 넘어 음수가 되는 경우
+            "1073741824, 2",
+            "2147483647, 2147483647"
+    })
+    @DisplayName("음수 page, 0 이하 size, 조회 범위를 넘는 page는 INVALID_INPUT으로 거절한다")
+    void rejects_out_of_window(int page, int size) {
+        assertThatThrownBy(() -> searchService.search(VIEWER, "영화", null, page, size))
+                .isInstanceOf(GeneralException.class)
+                .extracting(e -> ((GeneralException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT);
+    }
+}
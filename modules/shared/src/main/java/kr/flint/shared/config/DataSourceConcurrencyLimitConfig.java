@@ -0,0 +1,52 @@
+package kr.flint.shared.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.flint.shared.datasource.ConcurrencyLimitProperties;
+import kr.flint.shared.datasource.ConcurrencyLimitedDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션이 쓰는 DataSource(빈 이름 dataSource)를 {@link ConcurrencyLimitedDataSource}로 감싼다 (datasource.concurrency-limit.enabled).
+ * <p>
+ * 라우팅을 켜면 dataSource는 primary/복제본을 고르는 지연 프록시이므로, 상한은 primary와 복제본 커넥션을 합한 수에 걸린다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.concurrency-limit", name = "enabled", havingValue = "true")
+public class DataSourceConcurrencyLimitConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    /**
+     * 빈 후처리기는 설정 바인딩보다 먼저 만들어지므로 속성은 Environment에서 직접 읽는다
+     */
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(
+            Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+                ConcurrencyLimitProperties properties = Binder.get(environment)
+                        .bindOrCreate("datasource.concurrency-limit", ConcurrencyLimitProperties.class);
+                log.info("DB 동시 사용 상한: {} (대기 {})", properties.maxConcurrent(), properties.acquireTimeout());
+                return new ConcurrencyLimitedDataSource(dataSource, properties.maxConcurrent(),
+                        properties.acquireTimeout(), meterRegistryProvider.getIfAvailable());
+            }
+        };
+    }
+}
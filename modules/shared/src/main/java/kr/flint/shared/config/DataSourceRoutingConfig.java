@@ -0,0 +1,127 @@
+package kr.flint.shared.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.flint.shared.datasource.DataSourceRoutingProperties;
+import kr.flint.shared.datasource.ReadYourWrites;
+import kr.flint.shared.datasource.ReadYourWritesFilter;
+import kr.flint.shared.datasource.ReplicaRoutingDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (datasource.routing.enabled).
+ * <p>
+ * 애플리케이션이 쓰는 DataSource는 primary를 감싼 {@link LazyConnectionDataSourceProxy}다.
+ * 트랜잭션이 시작될 때가 아니라 첫 쿼리를 보낼 때 실제 커넥션을 받으므로,
+ * 그 시점에 커넥션이 읽기 전용({@code @Transactional(readOnly = true)})이면 {@link ReplicaRoutingDataSource}에서 받는다.
+ * 쓰기 트랜잭션과 그 안에 참여한 읽기 전용 메서드는 primary 커넥션을 그대로 쓴다.
+ * <p>
+ * p6spy는 바깥 {@code dataSource}만 감싼다. primary와 라우터는 decorator.datasource.exclude-beans로 제외하여
+ * 문장 하나가 p6spy 리스너를 두 번 지나지 않게 한다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    private final DataSourceRoutingProperties properties;
+
+    public DataSourceRoutingConfig(DataSourceRoutingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites() {
+        return new ReadYourWrites(properties.readYourWritesWindow());
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReadYourWrites readYourWrites) {
+        return new ReadYourWritesFilter(readYourWrites);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            ReadYourWrites readYourWrites,
+            ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (DataSourceRoutingProperties.Replica replica : properties.replicas()) {
+            replicas.add(createReplica(primaryDataSource, replica, meterRegistry));
+        }
+        log.info("읽기 전용 DataSource 라우팅: 복제본 {}개 ({})", replicas.size(), properties.strategy());
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, properties.strategy(), readYourWrites, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.read-your-writes-window:3s}")
+    public void purgeReadYourWrites() {
+        readYourWrites().purgeExpired();
+    }
+
+    /**
+     * 풀 설정은 primary를 복사하고 접속 정보와 이름만 바꾼다
+     */
+    private static HikariDataSource createReplica(
+            HikariDataSource primary,
+            DataSourceRoutingProperties.Replica replica,
+            @Nullable MeterRegistry meterRegistry
+    ) {
+        HikariDataSource dataSource = new HikariDataSource();
+        primary.copyStateTo(dataSource);
+        dataSource.setPoolName(replica.name());
+        dataSource.setJdbcUrl(replica.url());
+        if (replica.username() != null) {
+            dataSource.setUsername(replica.username());
+        }
+        if (replica.password() != null) {
+            dataSource.setPassword(replica.password());
+        }
+        if (replica.maximumPoolSize() != null) {
+            dataSource.setMaximumPoolSize(replica.maximumPoolSize());
+        }
+        dataSource.setReadOnly(true);
+        dataSource.setMetricRegistry(null);
+        dataSource.setMetricsTrackerFactory(null);
+        if (meterRegistry != null) {
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
+        return dataSource;
+    }
+}
@@ -1,10 +1,28 @@
 package kr.flint.shared.config;
 
 import com.p6spy.engine.spy.P6SpyOptions;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
+import kr.flint.shared.p6spy.CallerFrames;
 import kr.flint.shared.p6spy.CustomP6spySqlFormat;
+import kr.flint.shared.p6spy.SlowQueryListener;
+import kr.flint.shared.p6spy.SqlStatementMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * p6spy 설정.
+ * <p>
+ * - 로컬: {@link CustomP6spySqlFormat}으로 모든 SQL을 포맷팅하여 로그 (decorator.datasource.p6spy.enable-logging)
+ * - 운영: 로깅을 끄고 {@link SlowQueryListener}로 형태별 지표와 느린 쿼리만 기록
+ * <p>
+ * p6spy는 포맷터를 클래스 이름으로 직접 생성하므로 호출 위치 필터는 정적으로 넘긴다.
+ */
 @Configuration
 public class P6spyConfig {
 
@@ -12,4 +30,28 @@ public class P6spyConfig {
     public void setLogMessageFormat() {
         P6SpyOptions.getActiveInstance().setLogMessageFormat(CustomP6spySqlFormat.class.getName());
     }
+
+    @Bean
+    public CallerFrames sqlCallerFrames(
+            @Value("${p6spy.filter.allow:kr.flint}") List<String> allow,
+            @Value("${p6spy.filter.deny:kr.flint.shared}") List<String> deny,
+            @Value("${p6spy.slow-query.max-frames:10}") int maxFrames
+    ) {
+        CallerFrames callerFrames = new CallerFrames(allow, deny, maxFrames);
+        CustomP6spySqlFormat.setCallerFrames(callerFrames);
+        return callerFrames;
+    }
+
+    @Bean
+    public SlowQueryListener slowQueryListener(
+            CallerFrames sqlCallerFrames,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${p6spy.slow-query.threshold:200ms}") Duration threshold,
+            @Value("${p6spy.slow-query.sample-rate:0}") double sampleRate,
+            @Value("${p6spy.metrics.max-shapes:500}") int maxShapes
+    ) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+        SqlStatementMetrics metrics = meterRegistry != null ? new SqlStatementMetrics(meterRegistry, maxShapes) : null;
+        return new SlowQueryListener(threshold, sampleRate, sqlCallerFrames, metrics);
+    }
 }
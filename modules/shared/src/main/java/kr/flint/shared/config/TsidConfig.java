@@ -0,0 +1,28 @@
+package kr.flint.shared.config;
+
+import jakarta.annotation.PostConstruct;
+import kr.flint.shared.id.TsidGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 인스턴스별 TSID 노드 ID 설정 (tsid.node-id, 0 ~ 1023).
+ * 지정하지 않으면 호스트 이름과 PID로 정하며, 인스턴스끼리 겹칠 수 있으므로 운영에서는 인스턴스마다 지정한다.
+ */
+@Slf4j
+@Configuration
+public class TsidConfig {
+
+    @Value("${tsid.node-id:#{null}}")
+    private @Nullable Integer nodeId;
+
+    @PostConstruct
+    public void initializeTsidGenerator() {
+        if (nodeId != null) {
+            TsidGenerator.initialize(nodeId);
+        }
+        log.info("TSID 노드 ID: {}{}", TsidGenerator.getInstance().getNodeId(), nodeId == null ? " (호스트 기반)" : "");
+    }
+}
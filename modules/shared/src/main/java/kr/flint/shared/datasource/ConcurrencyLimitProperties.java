@@ -0,0 +1,28 @@
+package kr.flint.shared.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * DB 커넥션 동시 사용 상한. 가상 스레드로 요청을 받을 때 켠다.
+ *
+ * <pre>
+ * datasource:
+ *   concurrency-limit:
+ *     enabled: true
+ *     max-concurrent: 10
+ *     acquire-timeout: 1s
+ * </pre>
+ *
+ * @param maxConcurrent  동시에 커넥션을 쥘 수 있는 스레드 수. 풀 크기(spring.datasource.hikari.maximum-pool-size) 이하로 둔다
+ * @param acquireTimeout 허가를 기다리는 최대 시간. 넘으면 풀 고갈과 같은 {@link java.sql.SQLTransientConnectionException}
+ */
+@ConfigurationProperties(prefix = "datasource.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10") int maxConcurrent,
+        @DefaultValue("1s") Duration acquireTimeout
+) {
+}
@@ -0,0 +1,179 @@
+package kr.flint.shared.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 커넥션을 쥔 스레드 수를 세마포어로 제한하는 DataSource.
+ * <p>
+ * 가상 스레드는 요청마다 하나씩 생기므로 Tomcat 스레드 수가 더 이상 DB 동시 사용을 막아 주지 않는다.
+ * 허가를 받은 스레드만 풀에 들어가고 나머지는 세마포어에서 도착 순서대로 기다리며, 가상 스레드는 기다리는 동안 캐리어를 놓아준다.
+ * 허가는 커넥션을 닫을 때 한 번만 반납한다.
+ * <p>
+ * 한 스레드가 커넥션을 쥔 채 두 번째 커넥션(REQUIRES_NEW 등)을 요청하면 허가를 두 개 쓴다.
+ * 모든 허가가 그런 스레드에 잡히면 acquireTimeout 뒤 실패하므로, 상한은 풀 크기보다 작게 잡는 편이 안전하다.
+ * <p>
+ * 지표: {@code datasource.concurrency.active}, {@code datasource.concurrency.waiting},
+ * {@code datasource.concurrency.wait} (허가 대기 시간), {@code datasource.concurrency.rejected}
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long acquireTimeoutNanos;
+    private final @Nullable Timer waitTimer;
+    private final @Nullable Counter rejected;
+
+    public ConcurrencyLimitedDataSource(
+            DataSource target,
+            int maxConcurrent,
+            Duration acquireTimeout,
+            @Nullable MeterRegistry meterRegistry
+    ) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        if (meterRegistry != null) {
+            Gauge.builder("datasource.concurrency.active", this, ConcurrencyLimitedDataSource::active)
+                    .description("DB 커넥션을 쥔 스레드 수")
+                    .register(meterRegistry);
+            Gauge.builder("datasource.concurrency.waiting", permits, Semaphore::getQueueLength)
+                    .description("DB 동시 사용 허가를 기다리는 스레드 수")
+                    .register(meterRegistry);
+            this.waitTimer = Timer.builder("datasource.concurrency.wait")
+                    .description("DB 동시 사용 허가 대기 시간")
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("datasource.concurrency.rejected")
+                    .description("허가를 받지 못해 실패한 커넥션 요청")
+                    .register(meterRegistry);
+        } else {
+            this.waitTimer = null;
+            this.rejected = null;
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return guard(() -> obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return guard(() -> obtainTargetDataSource().getConnection(username, password));
+    }
+
+    int active() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    private void acquire() throws SQLException {
+        long startedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 동시 사용 허가 대기 중 인터럽트", e);
+        }
+        if (waitTimer != null) {
+            waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            if (rejected != null) {
+                rejected.increment();
+            }
+            throw new SQLTransientConnectionException(
+                    "DB 동시 사용 상한(" + maxConcurrent + ") 초과: " + permits.getQueueLength() + "개 스레드 대기 중");
+        }
+    }
+
+    private Connection guard(ConnectionSupplier supplier) throws SQLException {
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        return (Connection) Proxy.newProxyInstance(
+                ConcurrencyLimitedDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ReleasingHandler(connection, permits));
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+
+    /**
+     * close에서 허가를 한 번만 반납하는 커넥션 프록시
+     */
+    private static final class ReleasingHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final Semaphore permits;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleasingHandler(Connection target, Semaphore permits) {
+            this.target = target;
+            this.permits = permits;
+        }
+
+        @Override
+        public @Nullable Object invoke(Object proxy, Method method, Object @Nullable [] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return args != null && proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "unwrap":
+                    if (args != null && ((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                case "isWrapperFor":
+                    if (args != null && ((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                    break;
+                case "close":
+                    try {
+                        target.close();
+                    } finally {
+                        if (released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                    return null;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
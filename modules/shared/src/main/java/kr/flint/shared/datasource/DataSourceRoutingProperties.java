@@ -0,0 +1,65 @@
+package kr.flint.shared.datasource;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 라우팅 설정. enabled가 false면 spring.datasource 하나만 사용한다.
+ *
+ * <pre>
+ * datasource:
+ *   routing:
+ *     enabled: true
+ *     strategy: LEAST_BUSY
+ *     read-your-writes-window: 3s
+ *     replicas:
+ *       - name: replica-1
+ *         url: jdbc:mysql://replica-1:3306/flint
+ *       - name: replica-2
+ *         url: jdbc:mysql://replica-2:3306/flint
+ *         maximum-pool-size: 20
+ * </pre>
+ *
+ * @param strategy             복제본 선택 방식
+ * @param readYourWritesWindow 사용자가 쓰기를 커밋한 뒤 이 시간 동안은 그 사용자의 읽기도 primary로 보낸다. 복제 지연 p99보다 길게 잡는다
+ * @param replicas             복제본 목록. 비어 있으면 읽기도 primary로 보낸다
+ */
+@ConfigurationProperties(prefix = "datasource.routing")
+public record DataSourceRoutingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("ROUND_ROBIN") Strategy strategy,
+        @DefaultValue("3s") Duration readYourWritesWindow,
+        @DefaultValue List<Replica> replicas
+) {
+
+    /**
+     * 접속 정보 외의 풀 설정은 primary(spring.datasource.hikari)를 따른다.
+     *
+     * @param username        비우면 primary와 같다
+     * @param password        비우면 primary와 같다
+     * @param maximumPoolSize 비우면 primary와 같다
+     */
+    public record Replica(
+            String name,
+            String url,
+            @Nullable String username,
+            @Nullable String password,
+            @Nullable Integer maximumPoolSize
+    ) {
+    }
+
+    public enum Strategy {
+        /**
+         * 복제본을 차례로 사용
+         */
+        ROUND_ROBIN,
+        /**
+         * 사용 중인 커넥션이 가장 적은 복제본을 사용
+         */
+        LEAST_BUSY
+    }
+}
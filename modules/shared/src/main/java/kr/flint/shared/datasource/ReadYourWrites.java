@@ -0,0 +1,103 @@
+package kr.flint.shared.datasource;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 자신이 방금 쓴 데이터를 복제 지연 때문에 못 보는 일이 없도록 읽기를 primary에 고정.
+ * <p>
+ * 쓰기 트랜잭션이 커밋되면
+ * <ul>
+ *     <li>같은 요청의 이후 읽기는 모두 primary</li>
+ *     <li>같은 사용자의 요청은 window 동안 primary</li>
+ * </ul>
+ * 요청 범위는 {@link ReadYourWritesFilter}가 요청 스레드에 연다. 요청 밖(스케줄러 등)이나
+ * 요청 스레드에서 분기한 다른 스레드의 읽기는 고정되지 않으며, 사용자별 기록은 노드 메모리에만 있다.
+ */
+public class ReadYourWrites implements TransactionExecutionListener {
+
+    private static final ThreadLocal<Scope> SCOPE = new ThreadLocal<>();
+
+    private final long windowNanos;
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWrites(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * 현재 스레드에 요청 범위를 연다.
+     *
+     * @param userKey 같은 사용자의 요청을 묶는 키. 익명이면 null
+     */
+    void open(@Nullable String userKey) {
+        SCOPE.set(new Scope(userKey));
+    }
+
+    void close() {
+        SCOPE.remove();
+    }
+
+    /**
+     * 현재 스레드의 읽기를 primary로 보내야 하는지
+     */
+    public boolean pinnedToPrimary() {
+        Scope scope = SCOPE.get();
+        if (scope == null) {
+            return false;
+        }
+        if (scope.wrote) {
+            return true;
+        }
+        if (scope.userKey == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(scope.userKey);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        pinnedUntil.remove(scope.userKey, until);
+        return false;
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        if (commitFailure != null || !transaction.isNewTransaction() || transaction.isReadOnly()) {
+            return;
+        }
+        Scope scope = SCOPE.get();
+        if (scope == null) {
+            return;
+        }
+        scope.wrote = true;
+        if (scope.userKey != null) {
+            pinnedUntil.put(scope.userKey, System.nanoTime() + windowNanos);
+        }
+    }
+
+    /**
+     * 만료된 사용자 기록 정리
+     */
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        pinnedUntil.values().removeIf(until -> until - now <= 0);
+    }
+
+    private static final class Scope {
+
+        private final @Nullable String userKey;
+        private boolean wrote;
+
+        private Scope(@Nullable String userKey) {
+            this.userKey = userKey;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package kr.flint.shared.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.Principal;
+
+/**
+ * 요청마다 {@link ReadYourWrites} 범위를 연다.
+ * 인증 필터 뒤에서 실행되어야 사용자별로 묶이며, 익명 요청은 그 요청 안에서만 고정된다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final ReadYourWrites readYourWrites;
+
+    public ReadYourWritesFilter(ReadYourWrites readYourWrites) {
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Principal principal = request.getUserPrincipal();
+        readYourWrites.open(principal != null ? principal.getName() : null);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            readYourWrites.close();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package kr.flint.shared.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 커넥션을 나눠 주는 DataSource.
+ * <p>
+ * {@code LazyConnectionDataSourceProxy}의 readOnlyDataSource로 쓰여 {@code @Transactional(readOnly = true)}의 커넥션만 여기로 온다.
+ * 복제본 중 하나를 {@link DataSourceRoutingProperties.Strategy}로 고르고,
+ * {@link ReadYourWrites}가 고정한 요청이나 복제본이 없을 때는 primary를 준다.
+ * <p>
+ * 대상별로 {@code datasource.routing.connections} 카운터(tag: target)를 남기며,
+ * 풀 지표는 각 Hikari 풀 이름(pool 태그)으로 {@code hikaricp.connections.*}에 기록된다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+
+    private final DataSourceRoutingProperties.Strategy strategy;
+    private final ReadYourWrites readYourWrites;
+    private final List<HikariDataSource> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Map<String, Counter> counters = new HashMap<>();
+
+    public ReplicaRoutingDataSource(
+            HikariDataSource primary,
+            List<HikariDataSource> replicas,
+            DataSourceRoutingProperties.Strategy strategy,
+            ReadYourWrites readYourWrites,
+            @Nullable MeterRegistry meterRegistry
+    ) {
+        this.strategy = strategy;
+        this.readYourWrites = readYourWrites;
+        this.replicas = List.copyOf(replicas);
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        List<String> names = new ArrayList<>();
+        names.add(PRIMARY);
+        for (HikariDataSource replica : replicas) {
+            targets.put(replica.getPoolName(), replica);
+            names.add(replica.getPoolName());
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+
+        if (meterRegistry != null) {
+            for (String name : names) {
+                counters.put(name, Counter.builder("datasource.routing.connections")
+                        .description("읽기 전용 커넥션을 받은 대상")
+                        .tag("target", name)
+                        .register(meterRegistry));
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String target = readYourWrites.pinnedToPrimary() || replicas.isEmpty() ? PRIMARY : selectReplica().getPoolName();
+        Counter counter = counters.get(target);
+        if (counter != null) {
+            counter.increment();
+        }
+        return target;
+    }
+
+    private HikariDataSource selectReplica() {
+        return switch (strategy) {
+            case ROUND_ROBIN -> replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+            case LEAST_BUSY -> leastBusy();
+        };
+    }
+
+    /**
+     * 사용 중인 커넥션이 가장 적은 복제본. 같으면 차례로 돌아가며 고른다
+     */
+    private HikariDataSource leastBusy() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        HikariDataSource best = replicas.get(start);
+        int bestActive = activeConnections(best);
+        for (int i = 1; i < size && bestActive > 0; i++) {
+            HikariDataSource candidate = replicas.get((start + i) % size);
+            int active = activeConnections(candidate);
+            if (active < bestActive) {
+                best = candidate;
+                bestActive = active;
+            }
+        }
+        return best;
+    }
+
+    private static int activeConnections(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        // 아직 커넥션을 한 번도 받지 않은 풀
+        return pool != null ? pool.getActiveConnections() : 0;
+    }
+
+    /**
+     * 복제본 풀만 닫는다. primary는 별도 빈으로 관리된다
+     */
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+    }
+}
@@ -13,16 +13,22 @@ public record PaginationMeta(
         @Schema(description = "현재 페이지 반환된 아이템 수", example = "10")
         Integer returned,
 
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        Boolean hasNext,
+
         // Offset 전용
         @Schema(description = "현재 페이지 번호 (1부터 시작)", example = "1")
         Integer currentPage,
 
-        @Schema(description = "전체 페이지 수", example = "10")
+        @Schema(description = "전체 페이지 수 (hasNext 전용 모드에서는 생략)", example = "10")
         Integer totalPages,
 
-        @Schema(description = "전체 아이템 수", example = "100")
+        @Schema(description = "전체 아이템 수 (hasNext 전용 모드에서는 생략)", example = "100")
         Long totalElements,
 
+        @Schema(description = "전체 수가 캐시된 추정치인지 여부 (false면 정확한 값)", example = "false")
+        Boolean totalEstimated,
+
         // Cursor 전용
         @Schema(description = "다음 페이지 커서")
         String nextCursor
@@ -32,9 +38,44 @@ public record PaginationMeta(
         return new PaginationMeta(
                 PageType.OFFSET,
                 returned,
+                currentPage < totalPages,
+                currentPage,
+                totalPages,
+                totalElements,
+                false,
+                null
+        );
+    }
+
+    /**
+     * 캐시된 전체 수 기반. hasNext는 size + 1 조회 결과로 정확하게 계산
+     */
+    public static PaginationMeta ofOffset(int returned, int currentPage, boolean hasNext,
+                                          int totalPages, long totalElements, boolean totalEstimated) {
+        return new PaginationMeta(
+                PageType.OFFSET,
+                returned,
+                hasNext,
                 currentPage,
                 totalPages,
                 totalElements,
+                totalEstimated,
+                null
+        );
+    }
+
+    /**
+     * COUNT 없이 다음 페이지 존재 여부만 제공
+     */
+    public static PaginationMeta ofOffsetSlice(int returned, int currentPage, boolean hasNext) {
+        return new PaginationMeta(
+                PageType.OFFSET,
+                returned,
+                hasNext,
+                currentPage,
+                null,
+                null,
+                null,
                 null
         );
     }
@@ -43,6 +84,8 @@ public record PaginationMeta(
         return new PaginationMeta(
                 PageType.CURSOR,
                 returned,
+                nextCursor != null && !nextCursor.isEmpty(),
+                null,
                 null,
                 null,
                 null,
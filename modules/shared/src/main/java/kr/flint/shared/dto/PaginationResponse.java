@@ -2,8 +2,11 @@ package kr.flint.shared.dto;
 
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import io.swagger.v3.oas.annotations.media.Schema;
+import kr.flint.shared.pagination.TotalCount;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Schema(description = "페이지네이션 응답")
@@ -40,6 +43,56 @@ public record PaginationResponse<T>(
         );
     }
 
+    /**
+     * 캐시된 전체 수(OffsetCountCache) 사용. size + 1개를 조회한 결과를 받아 hasNext를 계산
+     */
+    public static <T> PaginationResponse<T> ofOffset(List<T> fetched, int currentPage, int size, TotalCount totalCount) {
+        boolean hasNext = fetched.size() > size;
+        List<T> data = hasNext ? new ArrayList<>(fetched.subList(0, size)) : fetched;
+
+        return new PaginationResponse<>(
+                data,
+                PaginationMeta.ofOffset(data.size(), currentPage, hasNext,
+                        totalCount.totalPages(size), totalCount.value(), totalCount.estimated())
+        );
+    }
+
+    /**
+     * COUNT 없이 조회한 Slice에 캐시된 전체 수(OffsetCountCache)를 붙인다
+     */
+    public static <T> PaginationResponse<T> ofOffset(Slice<T> slice, TotalCount totalCount) {
+        return new PaginationResponse<>(
+                slice.getContent(),
+                PaginationMeta.ofOffset(slice.getNumberOfElements(), slice.getNumber() + 1, slice.hasNext(),
+                        totalCount.totalPages(slice.getSize()), totalCount.value(), totalCount.estimated())
+        );
+    }
+
+    // =============== Offset 기반 (COUNT 없음) ===============
+
+    /**
+     * Spring Data Slice (size + 1 조회) 기반. 전체 수 없이 hasNext만 제공
+     */
+    public static <T> PaginationResponse<T> ofOffsetSlice(Slice<T> slice) {
+        return new PaginationResponse<>(
+                slice.getContent(),
+                PaginationMeta.ofOffsetSlice(slice.getNumberOfElements(), slice.getNumber() + 1, slice.hasNext())
+        );
+    }
+
+    /**
+     * size + 1개를 조회한 결과로 직접 생성
+     */
+    public static <T> PaginationResponse<T> ofOffsetSlice(List<T> fetched, int currentPage, int size) {
+        boolean hasNext = fetched.size() > size;
+        List<T> data = hasNext ? new ArrayList<>(fetched.subList(0, size)) : fetched;
+
+        return new PaginationResponse<>(
+                data,
+                PaginationMeta.ofOffsetSlice(data.size(), currentPage, hasNext)
+        );
+    }
+
     // ==================== Cursor 기반 ====================
 
     public static <T> PaginationResponse<T> ofCursor(SliceCursor<T> slice) {
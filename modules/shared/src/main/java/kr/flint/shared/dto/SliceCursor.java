@@ -1,14 +1,37 @@
 package kr.flint.shared.dto;
 
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 public record SliceCursor<T>(
         List<T> items,
-        String currentCursor,
-        String nextCursor
+        @Nullable String currentCursor,
+        @Nullable String nextCursor
 ) {
 
-    public static <T> SliceCursor<T> of(List<T> items, String currentCursor, String nextCursor) {
+    public static <T> SliceCursor<T> of(List<T> items, @Nullable String currentCursor, @Nullable String nextCursor) {
+        return new SliceCursor<>(items, currentCursor, nextCursor);
+    }
+
+    /**
+     * size + 1개를 조회한 결과로 생성.
+     * 초과 조회된 행이 있으면 다음 페이지가 있다고 보고, size번째 아이템으로 다음 커서를 만든다.
+     */
+    public static <T> SliceCursor<T> fromOverfetched(
+            List<T> fetched,
+            int size,
+            @Nullable String currentCursor,
+            Function<T, String> cursorEncoder
+    ) {
+        if (fetched.size() <= size) {
+            return new SliceCursor<>(fetched, currentCursor, null);
+        }
+
+        List<T> items = new ArrayList<>(fetched.subList(0, size));
+        String nextCursor = items.isEmpty() ? null : cursorEncoder.apply(items.get(items.size() - 1));
         return new SliceCursor<>(items, currentCursor, nextCursor);
     }
 
@@ -15,6 +15,7 @@ public enum ErrorCode implements AppError {
     BAD_REQUEST(HttpStatus.BAD_REQUEST, "COMMON.BAD_REQUEST", "Bad Request", "잘못된 요청입니다."),
     INVALID_INPUT(HttpStatus.BAD_REQUEST, "COMMON.INVALID_INPUT", "Invalid Input", "입력값이 올바르지 않습니다: %s"),
     MISSING_PARAMETER(HttpStatus.BAD_REQUEST, "COMMON.MISSING_PARAMETER", "Missing Parameter", "필수 요청 파라미터가 누락되었습니다: %s"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "COMMON.INVALID_CURSOR", "Invalid Cursor", "유효하지 않은 커서입니다."),
 
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "COMMON.UNAUTHORIZED", "Unauthorized", "인증이 필요합니다."),
     FORBIDDEN(HttpStatus.FORBIDDEN, "COMMON.FORBIDDEN", "Forbidden", "접근 권한이 없습니다."),
@@ -0,0 +1,139 @@
+package kr.flint.shared.id;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 노드별 TSID 생성기.
+ * <p>
+ * 비트 구성은 hypersistence TSID 기본값과 같다 (시각 42비트 | 노드 10비트 | 카운터 12비트, 기준 시각 2020-01-01).
+ * 시각과 카운터를 하나의 {@link AtomicLong}에 "시각 << 12 | 카운터"로 두고 CAS로만 갱신한다.
+ * <ul>
+ *     <li>다음 값 = max(현재 시각 << 12, 직전 값 + 1) 이므로 노드 안에서는 항상 증가한다</li>
+ *     <li>1ms 안에 카운터(4096)를 다 쓰면 다음 ms를 앞당겨 쓴다</li>
+ *     <li>시계가 뒤로 가면 시계가 따라잡을 때까지 직전 값에서 이어 간다</li>
+ * </ul>
+ * 스레드별/스트라이프 카운터는 노드 내 단조 증가를 보장하지 못하므로 쓰지 않는다.
+ * 대신 배치 저장은 {@link #allocate(int)}로 구간을 CAS 한 번에 예약하여 경합을 줄인다.
+ */
+public final class TsidGenerator {
+
+    public static final int NODE_BITS = 10;
+    public static final int COUNTER_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    /**
+     * 2020-01-01T00:00:00Z (hypersistence TSID와 같은 기준 시각)
+     */
+    static final long EPOCH_MILLIS = Instant.parse("2020-01-01T00:00:00Z").toEpochMilli();
+
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+    private static volatile TsidGenerator instance = new TsidGenerator(deriveNodeId(), System::currentTimeMillis);
+
+    private final long node;
+    private final LongSupplier clock;
+
+    /**
+     * 마지막으로 발급한 "시각(ms, EPOCH 기준) << 12 | 카운터"
+     */
+    private final AtomicLong last = new AtomicLong();
+
+    TsidGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.node = (long) nodeId << COUNTER_BITS;
+        this.clock = clock;
+    }
+
+    /**
+     * 애플리케이션 전역 생성기 (Hibernate {@link Tsid} 생성기와 JDBC 배치 저장이 함께 사용)
+     */
+    public static TsidGenerator getInstance() {
+        return instance;
+    }
+
+    /**
+     * 노드 ID를 지정하여 전역 생성기를 교체한다. 직전 생성기가 발급한 값보다 작은 값을 만들지 않도록 이어받는다.
+     */
+    public static synchronized void initialize(int nodeId) {
+        TsidGenerator previous = instance;
+        TsidGenerator next = new TsidGenerator(nodeId, System::currentTimeMillis);
+        next.last.set(previous.last.get());
+        instance = next;
+    }
+
+    public long next() {
+        long now = (clock.getAsLong() - EPOCH_MILLIS) << COUNTER_BITS;
+        while (true) {
+            long previous = last.get();
+            long candidate = Math.max(now, previous + 1);
+            if (last.compareAndSet(previous, candidate)) {
+                return compose(candidate);
+            }
+        }
+    }
+
+    /**
+     * 연속된 count개의 ID를 CAS 한 번으로 예약한다 (배치 저장용).
+     *
+     * @return 오름차순 ID
+     */
+    public long[] allocate(int count) {
+        if (count <= 0) {
+            return new long[0];
+        }
+        long now = (clock.getAsLong() - EPOCH_MILLIS) << COUNTER_BITS;
+        long first;
+        while (true) {
+            long previous = last.get();
+            first = Math.max(now, previous + 1);
+            if (last.compareAndSet(previous, first + count - 1)) {
+                break;
+            }
+        }
+
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = compose(first + i);
+        }
+        return ids;
+    }
+
+    public int getNodeId() {
+        return (int) (node >>> COUNTER_BITS);
+    }
+
+    /**
+     * ID에 담긴 생성 시각
+     */
+    public static Instant toInstant(long tsid) {
+        return Instant.ofEpochMilli((tsid >>> (NODE_BITS + COUNTER_BITS)) + EPOCH_MILLIS);
+    }
+
+    private long compose(long timeAndCounter) {
+        long time = timeAndCounter >>> COUNTER_BITS;
+        long counter = timeAndCounter & COUNTER_MASK;
+        return time << (NODE_BITS + COUNTER_BITS) | node | counter;
+    }
+
+    /**
+     * 설정이 없을 때의 노드 ID: 호스트 이름과 PID의 해시. 인스턴스가 많으면 충돌할 수 있으므로 운영에서는 tsid.node-id를 지정한다.
+     */
+    static int deriveNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = String.valueOf(System.getenv("HOSTNAME"));
+        }
+        String identity = host + "/" + ManagementFactory.getRuntimeMXBean().getName();
+        int hash = identity.hashCode();
+        return (hash ^ (hash >>> 16)) & MAX_NODE_ID;
+    }
+}
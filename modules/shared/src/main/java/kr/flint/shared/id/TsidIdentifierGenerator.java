@@ -0,0 +1,25 @@
+package kr.flint.shared.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.jspecify.annotations.Nullable;
+
+import java.util.EnumSet;
+
+/**
+ * Hibernate가 직접 생성하므로 스프링 빈이 아닌 전역 {@link TsidGenerator}를 사용한다
+ */
+public class TsidIdentifierGenerator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, @Nullable Object currentValue, EventType eventType) {
+        return TsidGenerator.getInstance().next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,94 @@
+package kr.flint.shared.loader;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+/**
+ * ID로 다른 모듈의 데이터를 모아서 조회하는 로더 (DataLoader 방식).
+ * <p>
+ * {@link #load}는 키만 등록하고 결과 future를 돌려준다. {@link BatchLoaderContext#dispatch()} 시점에
+ * 그동안 등록된 키를 batchFunction 한 번(IN 쿼리 한 번)으로 조회한다. 같은 키는 컨텍스트 안에서 한 번만 조회된다.
+ *
+ * @param <K> 키 (보통 ID)
+ * @param <V> 값. batchFunction 결과에 없는 키는 null로 완료된다
+ */
+public final class BatchLoader<K, V> {
+
+    private final Function<Set<K>, Map<K, V>> batchFunction;
+    private final int maxBatchSize;
+    private final Map<K, CompletableFuture<@Nullable V>> futures = new ConcurrentHashMap<>();
+    private final Queue<K> pending = new ConcurrentLinkedQueue<>();
+
+    BatchLoader(Function<Set<K>, Map<K, V>> batchFunction, int maxBatchSize) {
+        this.batchFunction = batchFunction;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public CompletableFuture<@Nullable V> load(K key) {
+        return futures.computeIfAbsent(key, k -> {
+            pending.add(k);
+            return new CompletableFuture<>();
+        });
+    }
+
+    /**
+     * @return 키 순서를 유지한 결과. 값이 없는 키는 제외된다
+     */
+    public CompletableFuture<Map<K, V>> loadMany(Collection<K> keys) {
+        List<K> distinct = List.copyOf(new LinkedHashSet<>(keys));
+        List<CompletableFuture<@Nullable V>> loading = new ArrayList<>(distinct.size());
+        distinct.forEach(key -> loading.add(load(key)));
+        return CompletableFuture.allOf(loading.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            Map<K, V> values = new LinkedHashMap<>();
+            for (int i = 0; i < distinct.size(); i++) {
+                V value = loading.get(i).join();
+                if (value != null) {
+                    values.put(distinct.get(i), value);
+                }
+            }
+            return values;
+        });
+    }
+
+    /**
+     * 대기 중인 키를 maxBatchSize씩 나눠 조회한다.
+     *
+     * @return 조회한 키가 있으면 true
+     */
+    boolean dispatch() {
+        Set<K> keys = new LinkedHashSet<>();
+        for (K key = pending.poll(); key != null; key = pending.poll()) {
+            keys.add(key);
+        }
+        if (keys.isEmpty()) {
+            return false;
+        }
+
+        List<K> ordered = List.copyOf(keys);
+        for (int from = 0; from < ordered.size(); from += maxBatchSize) {
+            Set<K> batch = new LinkedHashSet<>(ordered.subList(from, Math.min(from + maxBatchSize, ordered.size())));
+            Map<K, V> values;
+            try {
+                values = batchFunction.apply(batch);
+            } catch (RuntimeException e) {
+                batch.forEach(key -> futures.get(key).completeExceptionally(e));
+                continue;
+            }
+            // 완료 콜백에서 새 키를 등록할 수 있으며, 같은 dispatch의 다음 차례에 조회된다
+            batch.forEach(key -> futures.get(key).complete(values.get(key)));
+        }
+        return true;
+    }
+}
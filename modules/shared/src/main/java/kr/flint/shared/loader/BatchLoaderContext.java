@@ -0,0 +1,49 @@
+package kr.flint.shared.loader;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * 한 요청(파사드 호출) 동안 쓰는 {@link BatchLoader} 묶음. 요청마다 새로 만들고 공유하지 않는다.
+ * <p>
+ * 모듈 간에는 ID로만 참조하므로 목록을 조립할 때 행마다 다른 모듈을 조회하기 쉽다 (N+1).
+ * 행을 돌며 {@link BatchLoader#load}로 키만 등록한 뒤 {@link #dispatch()}를 한 번 호출하면,
+ * 페이지 크기와 무관하게 로더마다 IN 쿼리 한 번(키가 maxBatchSize를 넘으면 나눠서)으로 끝난다.
+ * <p>
+ * 섹션을 동시에 조회하는 파사드에서도 쓸 수 있도록 스레드 안전하다.
+ */
+public final class BatchLoaderContext {
+
+    /**
+     * IN 절 하나에 넣을 최대 키 수
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+
+    private final List<BatchLoader<?, ?>> loaders = new CopyOnWriteArrayList<>();
+
+    public <K, V> BatchLoader<K, V> register(Function<Set<K>, Map<K, V>> batchFunction) {
+        return register(batchFunction, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    public <K, V> BatchLoader<K, V> register(Function<Set<K>, Map<K, V>> batchFunction, int maxBatchSize) {
+        BatchLoader<K, V> loader = new BatchLoader<>(batchFunction, maxBatchSize);
+        loaders.add(loader);
+        return loader;
+    }
+
+    /**
+     * 등록된 키를 로더별로 모아 조회한다. 완료 콜백이 새 키를 등록하면 더 이상 대기 중인 키가 없을 때까지 반복한다.
+     */
+    public void dispatch() {
+        boolean dispatched;
+        do {
+            dispatched = false;
+            for (BatchLoader<?, ?> loader : loaders) {
+                dispatched |= loader.dispatch();
+            }
+        } while (dispatched);
+    }
+}
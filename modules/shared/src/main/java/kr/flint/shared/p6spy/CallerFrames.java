@@ -0,0 +1,54 @@
+package kr.flint.shared.p6spy;
+
+import java.util.List;
+
+/**
+ * SQL을 실행한 애플리케이션 코드 위치.
+ * <p>
+ * {@link StackWalker}는 필요한 프레임까지만 훑고 멈추며, {@code Throwable}처럼 전체 스택을 배열로 만들지 않는다.
+ * 프레임은 클래스 이름 접두사로 거른다. (allow에 해당하고 deny에 해당하지 않는 클래스)
+ */
+public final class CallerFrames {
+
+    public static final CallerFrames NONE = new CallerFrames(List.of(), List.of(), 0);
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private final List<String> allow;
+    private final List<String> deny;
+    private final int maxFrames;
+
+    public CallerFrames(List<String> allow, List<String> deny, int maxFrames) {
+        this.allow = List.copyOf(allow);
+        this.deny = List.copyOf(deny);
+        this.maxFrames = maxFrames;
+    }
+
+    /**
+     * 가까운 호출부터 최대 maxFrames개. "클래스.메서드:줄" 형식
+     */
+    public List<String> capture() {
+        if (allow.isEmpty() || maxFrames <= 0) {
+            return List.of();
+        }
+        return WALKER.walk(frames -> frames
+                .filter(frame -> isApplicationFrame(frame.getClassName()))
+                .limit(maxFrames)
+                .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .toList());
+    }
+
+    private boolean isApplicationFrame(String className) {
+        for (String prefix : deny) {
+            if (className.startsWith(prefix)) {
+                return false;
+            }
+        }
+        for (String prefix : allow) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
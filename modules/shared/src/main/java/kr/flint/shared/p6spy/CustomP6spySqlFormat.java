@@ -3,23 +3,22 @@ package kr.flint.shared.p6spy;
 import com.p6spy.engine.logging.Category;
 import com.p6spy.engine.spy.appender.MessageFormattingStrategy;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Component;
 
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
-import java.util.Queue;
 
-@Component
+/**
+ * 로컬용 SQL 로그 포맷. Hibernate 포맷터로 줄바꿈하고 호출 위치를 붙인다.
+ * <p>
+ * p6spy가 클래스 이름으로 직접 생성하므로 빈이 아니며, 호출 위치 필터는 {@link #setCallerFrames}로 받는다.
+ */
 public class CustomP6spySqlFormat implements MessageFormattingStrategy {
 
-    @Value("${p6spy.filter.allow:}")
-    private List<String> allowFilter = Collections.emptyList();
+    private static volatile CallerFrames callerFrames = CallerFrames.NONE;
 
-    @Value("${p6spy.filter.deny:}")
-    private List<String> denyFilter = Collections.emptyList();
+    public static void setCallerFrames(CallerFrames frames) {
+        callerFrames = frames;
+    }
 
     @Override
     public String formatMessage(int connectionId, String now, long elapsed, String category, String prepared,
@@ -49,20 +48,11 @@ public class CustomP6spySqlFormat implements MessageFormattingStrategy {
     }
 
     private String createStack(int connectionId, long elapsed) {
-        Queue<String> callStack = new LinkedList<>();
-        StackTraceElement[] stackTrace = new Throwable().getStackTrace();
-
-        for (StackTraceElement element : stackTrace) {
-            String trace = element.toString();
-            if (isValid(trace)) {
-                callStack.offer(trace);
-            }
-        }
+        List<String> frames = callerFrames.capture();
 
         StringBuilder sb = new StringBuilder();
-        int order = 1;
-        while (!callStack.isEmpty()) {
-            sb.append("\n\t\t").append(order++).append(". ").append(callStack.poll());
+        for (int i = 0; i < frames.size(); i++) {
+            sb.append("\n\t\t").append(i + 1).append(". ").append(frames.get(i));
         }
 
         return "\n\n\tConnection ID: " + connectionId
@@ -70,13 +60,4 @@ public class CustomP6spySqlFormat implements MessageFormattingStrategy {
                 + "\tCall Stack:" + sb + "\n"
                 + "\n----------------------------------------------------------------------------";
     }
-
-    private boolean isValid(String input) {
-        if (allowFilter.isEmpty()) {
-            return false;
-        }
-        boolean isAllowed = allowFilter.stream().anyMatch(input::startsWith);
-        boolean isDenied = denyFilter.stream().anyMatch(input::startsWith);
-        return isAllowed && !isDenied;
-    }
 }
@@ -0,0 +1,78 @@
+package kr.flint.shared.p6spy;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 운영용 SQL 계측. p6spy 로깅을 끈 상태에서도 모든 문장에 대해 동작한다.
+ * <p>
+ * - 모든 문장: {@link SqlStatementMetrics}에 형태별 실행 시간 기록
+ * - threshold 이상 걸린 문장(warn)과 sampleRate 비율로 고른 문장(info)만 호출 위치를 잡아 로그로 남긴다
+ * <p>
+ * 로그에는 바인딩 값 없이 정규화한 SQL만 남기며, Hibernate 포맷터를 거치지 않는다.
+ */
+@Slf4j
+public class SlowQueryListener extends SimpleJdbcEventListener {
+
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final CallerFrames callerFrames;
+    private final @Nullable SqlStatementMetrics metrics;
+
+    public SlowQueryListener(
+            Duration threshold,
+            double sampleRate,
+            CallerFrames callerFrames,
+            @Nullable SqlStatementMetrics metrics
+    ) {
+        this.thresholdNanos = threshold.toNanos();
+        this.sampleRate = sampleRate;
+        this.callerFrames = callerFrames;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, @Nullable SQLException e) {
+        String sql = statementInformation.getSql();
+        if (sql == null || sql.isEmpty()) {
+            return;
+        }
+        if (metrics != null) {
+            metrics.record(sql, timeElapsedNanos);
+        }
+
+        boolean slow = timeElapsedNanos >= thresholdNanos;
+        if (!slow && !sampled()) {
+            return;
+        }
+        String message = format(SqlShape.of(sql), timeElapsedNanos, callerFrames.capture(), e);
+        if (slow) {
+            log.warn("느린 쿼리 {}", message);
+        } else {
+            log.info("샘플 쿼리 {}", message);
+        }
+    }
+
+    private boolean sampled() {
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private static String format(SqlShape shape, long elapsedNanos, List<String> frames, @Nullable SQLException e) {
+        StringBuilder sb = new StringBuilder(shape.text().length() + 64 * (frames.size() + 1));
+        sb.append(elapsedNanos / 1_000_000).append("ms [").append(shape.id()).append("] ").append(shape.text());
+        if (e != null) {
+            sb.append("\n\t실패: ").append(e.getMessage());
+        }
+        for (int i = 0; i < frames.size(); i++) {
+            sb.append("\n\t").append(i + 1).append(". ").append(frames.get(i));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,139 @@
+package kr.flint.shared.p6spy;
+
+import java.util.Locale;
+
+/**
+ * 리터럴과 공백 차이를 없앤 SQL 문장 형태. 같은 형태의 문장끼리 지연 시간을 모으는 기준이다.
+ * <p>
+ * - 연속된 공백은 하나로 줄인다
+ * - 문자열/숫자 리터럴은 {@code ?}로 바꾼다 (값이 로그나 지표에 남지 않는다)
+ * - {@code in (?, ?, ?)}처럼 이어진 자리표시자는 {@code (?)} 하나로 줄여, IN 목록 길이가 달라도 같은 형태로 본다
+ *
+ * @param text      정규화한 SQL (최대 {@value #MAX_LENGTH}자)
+ * @param operation 첫 키워드 (select, insert, update, delete 등)
+ * @param table     대상 테이블. 찾지 못하면 빈 문자열
+ * @param id        text의 해시. 지표 태그로 쓴다
+ */
+public record SqlShape(String text, String operation, String table, String id) {
+
+    static final int MAX_LENGTH = 1000;
+
+    public static SqlShape of(String sql) {
+        String text = normalize(sql);
+        String operation = firstWord(text);
+        return new SqlShape(text, operation, tableOf(text, operation), Integer.toHexString(text.hashCode()));
+    }
+
+    static String normalize(String sql) {
+        int length = sql.length();
+        StringBuilder out = new StringBuilder(Math.min(length, MAX_LENGTH));
+        int i = 0;
+        while (i < length && out.length() < MAX_LENGTH) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (!out.isEmpty() && i < length) {
+                    out.append(' ');
+                }
+                continue;
+            }
+            if (c == '\'') {
+                i = skipString(sql, i + 1);
+                appendPlaceholder(out);
+                continue;
+            }
+            if (isDigit(c) && !isIdentifierPart(out)) {
+                while (i < length && (isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                appendPlaceholder(out);
+                continue;
+            }
+            if (c == '?') {
+                i++;
+                appendPlaceholder(out);
+                continue;
+            }
+            out.append(c);
+            i++;
+        }
+        return out.toString();
+    }
+
+    /**
+     * 직전이 {@code ?,} 또는 {@code ?, }이면 구분자를 지우고 새 자리표시자를 붙이지 않는다
+     */
+    private static void appendPlaceholder(StringBuilder out) {
+        int end = out.length();
+        if (end >= 2 && out.charAt(end - 1) == ',' && out.charAt(end - 2) == '?') {
+            out.setLength(end - 1);
+            return;
+        }
+        if (end >= 3 && out.charAt(end - 1) == ' ' && out.charAt(end - 2) == ',' && out.charAt(end - 3) == '?') {
+            out.setLength(end - 2);
+            return;
+        }
+        out.append('?');
+    }
+
+    /**
+     * 닫는 따옴표 다음 위치. {@code ''}는 이스케이프된 따옴표로 본다
+     */
+    private static int skipString(String sql, int from) {
+        int i = from;
+        while (i < sql.length()) {
+            char c = sql.charAt(i++);
+            if (c == '\\') {
+                i++;
+            } else if (c == '\'') {
+                if (i < sql.length() && sql.charAt(i) == '\'') {
+                    i++;
+                } else {
+                    return i;
+                }
+            }
+        }
+        return i;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * 숫자가 c1_0처럼 식별자의 일부인지
+     */
+    private static boolean isIdentifierPart(StringBuilder out) {
+        if (out.isEmpty()) {
+            return false;
+        }
+        char previous = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '$';
+    }
+
+    private static String firstWord(String text) {
+        int end = text.indexOf(' ');
+        return (end < 0 ? text : text.substring(0, end)).toLowerCase(Locale.ROOT);
+    }
+
+    private static String tableOf(String text, String operation) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        String keyword = switch (operation) {
+            case "insert", "replace" -> " into ";
+            case "update" -> "update ";
+            default -> " from ";
+        };
+        int start = lower.indexOf(keyword);
+        if (start < 0) {
+            return "";
+        }
+        start += keyword.length();
+        int end = start;
+        while (end < lower.length() && (Character.isLetterOrDigit(lower.charAt(end)) || lower.charAt(end) == '_')) {
+            end++;
+        }
+        return lower.substring(start, end);
+    }
+}
@@ -0,0 +1,79 @@
+package kr.flint.shared.p6spy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 문장 형태({@link SqlShape})별 실행 시간 히스토그램 ({@code sql.statement}, tag: operation, table, shape).
+ * <p>
+ * 같은 SQL 문자열은 형태를 다시 계산하지 않도록 Timer를 바로 찾는다.
+ * 형태가 maxShapes를 넘으면 이후 새 형태는 shape=other 하나로 모아 지표 카디널리티를 제한한다.
+ * 형태 id와 SQL의 대응은 처음 등록될 때 로그로 남긴다.
+ */
+@Slf4j
+public class SqlStatementMetrics {
+
+    private static final String METRIC_NAME = "sql.statement";
+    private static final String OTHER = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxShapes;
+    private final int maxCachedSql;
+    private final Map<String, Timer> timersBySql = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timersByShape = new ConcurrentHashMap<>();
+    private final Timer overflow;
+
+    public SqlStatementMetrics(MeterRegistry meterRegistry, int maxShapes) {
+        this.meterRegistry = meterRegistry;
+        this.maxShapes = maxShapes;
+        this.maxCachedSql = maxShapes * 4;
+        this.overflow = timer(OTHER, OTHER, OTHER);
+    }
+
+    public void record(String sql, long elapsedNanos) {
+        timerFor(sql).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timerFor(String sql) {
+        Timer timer = timersBySql.get(sql);
+        if (timer != null) {
+            return timer;
+        }
+
+        SqlShape shape = SqlShape.of(sql);
+        timer = timersByShape.get(shape.text());
+        if (timer == null) {
+            timer = timersByShape.size() < maxShapes
+                    ? timersByShape.computeIfAbsent(shape.text(), text -> register(shape))
+                    : overflow;
+        }
+        // IN 목록 길이마다 SQL 문자열이 달라지므로 캐시 크기를 제한한다
+        if (timersBySql.size() < maxCachedSql) {
+            timersBySql.putIfAbsent(sql, timer);
+        }
+        return timer;
+    }
+
+    private Timer register(SqlShape shape) {
+        log.info("SQL 형태 등록 [{}] {}", shape.id(), shape.text());
+        return timer(shape.operation(), shape.table(), shape.id());
+    }
+
+    private Timer timer(String operation, String table, String shape) {
+        return Timer.builder(METRIC_NAME)
+                .description("문장 형태별 SQL 실행 시간")
+                .tag("operation", operation)
+                .tag("table", table)
+                .tag("shape", shape)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,30 @@
+package kr.flint.shared.pagination;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * {@link OffsetCountCache}의 백그라운드 COUNT를 실행하는 가상 스레드 실행기.
+ * <p>
+ * Executor 타입 빈을 등록하면 스프링 기본 applicationTaskExecutor가 만들어지지 않으므로 Executor를 구현하지 않고 감싼다.
+ */
+@Component
+public class CountRefreshExecutor {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    /**
+     * 종료 시 진행 중인 COUNT를 인터럽트한다. 캐시된 값이 남아 있으므로 기다리지 않는다
+     */
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,181 @@
+package kr.flint.shared.pagination;
+
+import kr.flint.shared.exception.ErrorCode;
+import kr.flint.shared.exception.GeneralException;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * {@link KeysetCursor}를 URL-safe 문자열로 인코딩/디코딩.
+ * <p>
+ * 포맷: base64url(version | typeTag | sortKey | id | HMAC-SHA256(scope, 앞 필드) 16바이트)
+ * <p>
+ * 서명으로 클라이언트의 커서 위변조를 막는다. scope는 커서를 발급한 목록과 정렬 기준(예: 컬렉션 하나의 position 순서)이며,
+ * 커서에 싣지 않고 서명에만 섞으므로 다른 목록이나 정렬 기준의 커서는 서명 검증에서 거절된다. typeTag는 정렬 키 타입을 확인한다.
+ */
+@Component
+public class CursorCodec {
+
+    private static final byte VERSION = 2;
+    private static final int MAC_LENGTH = 16;
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Mac prototype;
+
+    public CursorCodec(@Value("${pagination.cursor.secret}") String secret) {
+        if (secret.isBlank()) {
+            throw new IllegalStateException("pagination.cursor.secret must not be blank");
+        }
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            this.prototype.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("커서 서명 키 초기화 실패", e);
+        }
+    }
+
+    /**
+     * @param scope 커서를 발급한 목록과 정렬 기준. 디코딩할 때 같은 값을 넘겨야 한다
+     */
+    public String encode(String scope, KeysetCursor<?> cursor) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(48);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(VERSION);
+            writeSortKey(out, cursor.sortKey());
+            out.writeLong(cursor.id());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        byte[] payload = buffer.toByteArray();
+        byte[] signed = Arrays.copyOf(payload, payload.length + MAC_LENGTH);
+        System.arraycopy(sign(scope, payload), 0, signed, payload.length, MAC_LENGTH);
+        return ENCODER.encodeToString(signed);
+    }
+
+    /**
+     * 커서 문자열이 비어 있으면 첫 페이지 요청으로 보고 null 반환
+     *
+     * @throws GeneralException 위변조되었거나 다른 scope, 정렬 키 타입으로 발급된 커서({@link ErrorCode#INVALID_CURSOR})
+     */
+    public <K extends Comparable<? super K>> @Nullable KeysetCursor<K> decode(
+            String scope,
+            @Nullable String cursor,
+            Class<K> sortKeyType
+    ) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        byte[] signed;
+        try {
+            signed = DECODER.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new GeneralException(ErrorCode.INVALID_CURSOR, e);
+        }
+        if (signed.length <= MAC_LENGTH) {
+            throw new GeneralException(ErrorCode.INVALID_CURSOR);
+        }
+
+        byte[] payload = Arrays.copyOf(signed, signed.length - MAC_LENGTH);
+        byte[] mac = Arrays.copyOfRange(signed, payload.length, signed.length);
+        if (!MessageDigest.isEqual(mac, Arrays.copyOf(sign(scope, payload), MAC_LENGTH))) {
+            throw new GeneralException(ErrorCode.INVALID_CURSOR);
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            if (in.readByte() != VERSION) {
+                throw new GeneralException(ErrorCode.INVALID_CURSOR);
+            }
+            Object sortKey = readSortKey(in);
+            if (!sortKeyType.isInstance(sortKey)) {
+                throw new GeneralException(ErrorCode.INVALID_CURSOR);
+            }
+            return KeysetCursor.of(sortKeyType.cast(sortKey), in.readLong());
+        } catch (IOException e) {
+            throw new GeneralException(ErrorCode.INVALID_CURSOR, e);
+        }
+    }
+
+    private byte[] sign(String scope, byte[] payload) {
+        try {
+            Mac mac = (Mac) prototype.clone();
+            mac.update(scope.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(payload);
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void writeSortKey(DataOutputStream out, Object sortKey) throws IOException {
+        switch (sortKey) {
+            case Long value -> {
+                out.writeByte(SortKeyType.LONG.tag);
+                out.writeLong(value);
+            }
+            case Integer value -> {
+                out.writeByte(SortKeyType.INTEGER.tag);
+                out.writeInt(value);
+            }
+            case String value -> {
+                out.writeByte(SortKeyType.STRING.tag);
+                out.writeUTF(value);
+            }
+            case LocalDateTime value -> {
+                out.writeByte(SortKeyType.LOCAL_DATE_TIME.tag);
+                out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(value.getNano());
+            }
+            default -> throw new IllegalArgumentException(
+                    "지원하지 않는 커서 정렬 키 타입: " + sortKey.getClass().getName());
+        }
+    }
+
+    private static Object readSortKey(DataInputStream in) throws IOException {
+        return switch (SortKeyType.of(in.readByte())) {
+            case LONG -> in.readLong();
+            case INTEGER -> in.readInt();
+            case STRING -> in.readUTF();
+            case LOCAL_DATE_TIME -> LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+        };
+    }
+
+    private enum SortKeyType {
+        LONG('L'), INTEGER('I'), STRING('S'), LOCAL_DATE_TIME('T');
+
+        private final byte tag;
+
+        SortKeyType(char tag) {
+            this.tag = (byte) tag;
+        }
+
+        static SortKeyType of(byte tag) {
+            for (SortKeyType type : values()) {
+                if (type.tag == tag) {
+                    return type;
+                }
+            }
+            throw new GeneralException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package kr.flint.shared.pagination;
+
+/**
+ * 키셋(seek) 페이지네이션 커서.
+ * 정렬 키와 TSID(Base.id) tie-breaker로 마지막으로 조회한 행의 위치를 표현한다.
+ *
+ * @param sortKey 정렬 기준 값
+ * @param id      정렬 키가 같은 행 사이의 순서를 보장하는 식별자
+ */
+public record KeysetCursor<K extends Comparable<? super K>>(
+        K sortKey,
+        Long id
+) {
+
+    public static <K extends Comparable<? super K>> KeysetCursor<K> of(K sortKey, Long id) {
+        return new KeysetCursor<>(sortKey, id);
+    }
+}
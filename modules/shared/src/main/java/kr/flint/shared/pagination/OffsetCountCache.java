@@ -0,0 +1,156 @@
+package kr.flint.shared.pagination;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+
+/**
+ * Offset 페이지네이션의 COUNT(*) 결과를 캐시(Redis)에 보관하고 비동기로 갱신.
+ * <p>
+ * - refreshAfter 이내: 캐시 값 반환
+ * - refreshAfter ~ maxStaleness: 캐시 값을 반환하고 백그라운드에서 한 번만 재계산
+ * - maxStaleness 초과 또는 캐시 없음: 요청 스레드에서 COUNT 후 저장
+ * <p>
+ * 따라서 반환되는 전체 수는 최대 maxStaleness 만큼 오래된 값일 수 있다.
+ */
+@Slf4j
+@Component
+public class OffsetCountCache {
+
+    public static final String CACHE_NAME = "pagination-count";
+
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+    private final Duration refreshAfter;
+    private final Duration maxStaleness;
+    private final Executor refreshExecutor;
+    private final LongSupplier clock;
+
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public OffsetCountCache(
+            ObjectProvider<CacheManager> cacheManagerProvider,
+            CountRefreshExecutor countRefreshExecutor,
+            @Value("${pagination.count-cache.refresh-after:30s}") Duration refreshAfter,
+            @Value("${pagination.count-cache.max-staleness:10m}") Duration maxStaleness
+    ) {
+        this(cacheManagerProvider, countRefreshExecutor::execute, refreshAfter, maxStaleness, System::currentTimeMillis);
+    }
+
+    OffsetCountCache(ObjectProvider<CacheManager> cacheManagerProvider,
+                     Executor refreshExecutor,
+                     Duration refreshAfter,
+                     Duration maxStaleness,
+                     LongSupplier clock) {
+        this.cacheManagerProvider = cacheManagerProvider;
+        this.refreshExecutor = refreshExecutor;
+        this.refreshAfter = refreshAfter;
+        this.maxStaleness = maxStaleness;
+        this.clock = clock;
+    }
+
+    /**
+     * @param queryShape 쿼리 종류 (예: "collection:by-user")
+     * @param filter     쿼리 조건. toString()이 조건을 모두 표현해야 한다 (record 권장)
+     * @param counter    실제 COUNT 쿼리
+     */
+    public TotalCount count(String queryShape, Object filter, LongSupplier counter) {
+        Cache cache = findCache();
+        if (cache == null) {
+            return TotalCount.exact(counter.getAsLong());
+        }
+
+        String key = queryShape + ":" + filter;
+        Snapshot snapshot = Snapshot.decode(cache.get(key, String.class));
+        long now = clock.getAsLong();
+
+        if (snapshot == null || snapshot.ageMillis(now) > maxStaleness.toMillis()) {
+            long count = counter.getAsLong();
+            cache.put(key, new Snapshot(count, now).encode());
+            return TotalCount.exact(count);
+        }
+
+        if (snapshot.ageMillis(now) > refreshAfter.toMillis()) {
+            refreshAsync(cache, key, counter);
+        }
+        return TotalCount.estimated(snapshot.count());
+    }
+
+    /**
+     * 쓰기 직후 정확한 전체 수가 필요할 때 캐시 무효화
+     */
+    public void evict(String queryShape, Object filter) {
+        Cache cache = findCache();
+        if (cache != null) {
+            cache.evict(queryShape + ":" + filter);
+        }
+    }
+
+    private void refreshAsync(Cache cache, String key, LongSupplier counter) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    cache.put(key, new Snapshot(counter.getAsLong(), clock.getAsLong()).encode());
+                } catch (Exception e) {
+                    log.warn("COUNT 캐시 갱신 실패: {}", key, e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.remove(key);
+            log.warn("COUNT 캐시 갱신 작업 등록 실패: {}", key, e);
+        }
+    }
+
+    private @Nullable Cache findCache() {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        return cacheManager == null ? null : cacheManager.getCache(CACHE_NAME);
+    }
+
+    /**
+     * 캐시 값 직렬화 방식과 무관하도록 "count:computedAt" 문자열로 저장
+     */
+    private record Snapshot(long count, long computedAt) {
+
+        static @Nullable Snapshot decode(@Nullable String value) {
+            if (value == null) {
+                return null;
+            }
+            int separator = value.indexOf(':');
+            if (separator < 0) {
+                return null;
+            }
+            try {
+                return new Snapshot(
+                        Long.parseLong(value, 0, separator, 10),
+                        Long.parseLong(value, separator + 1, value.length(), 10)
+                );
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        String encode() {
+            return count + ":" + computedAt;
+        }
+
+        long ageMillis(long now) {
+            return now - computedAt;
+        }
+    }
+}
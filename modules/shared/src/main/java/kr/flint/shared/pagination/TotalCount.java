@@ -0,0 +1,25 @@
+package kr.flint.shared.pagination;
+
+/**
+ * Offset 페이지네이션의 전체 아이템 수
+ *
+ * @param value     전체 아이템 수
+ * @param estimated 캐시된 추정치이면 true, 이번 요청에서 COUNT한 값이면 false
+ */
+public record TotalCount(
+        long value,
+        boolean estimated
+) {
+
+    public static TotalCount exact(long value) {
+        return new TotalCount(value, false);
+    }
+
+    public static TotalCount estimated(long value) {
+        return new TotalCount(value, true);
+    }
+
+    public int totalPages(int size) {
+        return size <= 0 ? 0 : (int) ((value + size - 1) / size);
+    }
+}
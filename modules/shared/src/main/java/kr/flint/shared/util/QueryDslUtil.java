@@ -1,11 +1,25 @@
 package kr.flint.shared.util;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPQLQuery;
+import kr.flint.shared.dto.SliceCursor;
+import kr.flint.shared.pagination.KeysetCursor;
 import lombok.NoArgsConstructor;
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -68,4 +82,75 @@ public final class QueryDslUtil {
                 ? emptyCondition()
                 : predicateFunction.apply(collection);
     }
+
+    // ==================== Offset 페이지네이션 (COUNT 없음) ====================
+
+    /**
+     * offset/limit(size + 1)로 조회하여 COUNT 없이 Slice 생성
+     */
+    public static <T> Slice<T> fetchOffsetSlice(JPQLQuery<T> query, Pageable pageable) {
+        int size = pageable.getPageSize();
+        List<T> fetched = query
+                .offset(pageable.getOffset())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? new ArrayList<>(fetched.subList(0, size)) : fetched;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    // ==================== Keyset(seek) 페이지네이션 ====================
+
+    /**
+     * 커서 이후의 행만 조회하는 seek 조건. 커서가 없으면 첫 페이지
+     * <p>
+     * (sortKey, id) 튜플 비교를 {@code sortKey >= k AND (sortKey > k OR id > i)} 형태로 풀어
+     * (sortKey, id) 복합 인덱스의 range scan을 타도록 한다. (DESC는 부등호 반대)
+     */
+    public static <K extends Comparable<? super K>> Predicate seekAfter(
+            ComparableExpressionBase<K> sortKey,
+            NumberPath<Long> id,
+            @Nullable KeysetCursor<K> cursor,
+            Order direction
+    ) {
+        if (cursor == null) {
+            return emptyCondition();
+        }
+
+        boolean asc = direction == Order.ASC;
+        Ops inclusive = asc ? Ops.GOE : Ops.LOE;
+        Ops exclusive = asc ? Ops.GT : Ops.LT;
+
+        return Expressions.booleanOperation(inclusive, sortKey, Expressions.constant(cursor.sortKey()))
+                .and(Expressions.booleanOperation(exclusive, sortKey, Expressions.constant(cursor.sortKey()))
+                        .or(Expressions.booleanOperation(exclusive, id, Expressions.constant(cursor.id()))));
+    }
+
+    /**
+     * seek 조건과 짝을 이루는 정렬. id를 tie-breaker로 항상 포함
+     */
+    public static <K extends Comparable<? super K>> OrderSpecifier<?>[] keysetOrder(
+            ComparableExpressionBase<K> sortKey,
+            NumberPath<Long> id,
+            Order direction
+    ) {
+        return new OrderSpecifier<?>[]{
+                new OrderSpecifier<>(direction, sortKey),
+                new OrderSpecifier<>(direction, id)
+        };
+    }
+
+    /**
+     * limit(size + 1)로 조회하여 COUNT 없이 다음 페이지 존재 여부와 다음 커서를 계산
+     */
+    public static <T> SliceCursor<T> fetchSlice(
+            JPQLQuery<T> query,
+            int size,
+            @Nullable String currentCursor,
+            Function<T, String> cursorEncoder
+    ) {
+        List<T> fetched = query.limit(size + 1L).fetch();
+        return SliceCursor.fromOverfetched(fetched, size, currentCursor, cursorEncoder);
+    }
 }
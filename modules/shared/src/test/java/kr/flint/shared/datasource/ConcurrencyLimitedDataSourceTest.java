@@ -0,0 +1,85 @@
+package kr.flint.shared.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ConcurrencyLimitedDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("상한만큼 커넥션을 쥐고 있으면 다음 요청은 대기 시간 뒤 실패한다")
+    void rejects_when_all_permits_are_held() throws SQLException {
+        ConcurrencyLimitedDataSource dataSource = limited(2);
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(meterRegistry.get("datasource.concurrency.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("datasource.concurrency.active").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("커넥션을 닫으면 허가를 한 번만 반납한다")
+    void close_releases_permit_once() throws SQLException {
+        ConcurrencyLimitedDataSource dataSource = limited(1);
+        Connection connection = dataSource.getConnection();
+
+        connection.close();
+        connection.close();
+
+        assertThat(dataSource.active()).isZero();
+        dataSource.getConnection();
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    @DisplayName("풀에서 커넥션을 받지 못하면 허가를 돌려준다")
+    void releases_permit_when_target_fails() throws SQLException {
+        DataSource target = mock(DataSource.class);
+        given(target.getConnection()).willThrow(new SQLTransientConnectionException("pool exhausted"));
+        ConcurrencyLimitedDataSource dataSource =
+                new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(10), meterRegistry);
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("pool exhausted");
+        assertThat(dataSource.active()).isZero();
+    }
+
+    @Test
+    @DisplayName("close 외의 호출은 실제 커넥션으로 넘긴다")
+    void delegates_to_target_connection() throws SQLException {
+        DataSource target = mock(DataSource.class);
+        Connection physical = mock(Connection.class);
+        given(target.getConnection()).willReturn(physical);
+        ConcurrencyLimitedDataSource dataSource =
+                new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(10), meterRegistry);
+
+        Connection connection = dataSource.getConnection();
+        connection.setReadOnly(true);
+        connection.close();
+
+        verify(physical).setReadOnly(true);
+        verify(physical).close();
+    }
+
+    private ConcurrencyLimitedDataSource limited(int maxConcurrent) throws SQLException {
+        DataSource target = mock(DataSource.class);
+        given(target.getConnection()).willAnswer(invocation -> mock(Connection.class));
+        return new ConcurrencyLimitedDataSource(target, maxConcurrent, Duration.ofMillis(10), meterRegistry);
+    }
+}
@@ -0,0 +1,99 @@
+package kr.flint.shared.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionExecution;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final ReadYourWrites readYourWrites = new ReadYourWrites(Duration.ofMinutes(1));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(
+            pool(ReplicaRoutingDataSource.PRIMARY),
+            List.of(pool("replica-1"), pool("replica-2")),
+            DataSourceRoutingProperties.Strategy.ROUND_ROBIN,
+            readYourWrites,
+            meterRegistry
+    );
+
+    @AfterEach
+    void tearDown() {
+        readYourWrites.close();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 커넥션은 복제본을 차례로 사용한다")
+    void round_robin_across_replicas() {
+        List<Object> targets = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            targets.add(dataSource.determineCurrentLookupKey());
+        }
+
+        assertThat(targets).containsExactly("replica-1", "replica-2", "replica-1", "replica-2");
+        assertThat(meterRegistry.get("datasource.routing.connections").tag("target", "replica-1").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 요청의 이후 읽기는 primary로 간다")
+    void reads_after_write_in_same_request_use_primary() {
+        readYourWrites.open(null);
+
+        readYourWrites.afterCommit(writeTransaction(), null);
+
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 사용자만 window 동안 다음 요청도 primary로 간다")
+    void user_is_pinned_to_primary_across_requests() {
+        readYourWrites.open("1");
+        readYourWrites.afterCommit(writeTransaction(), null);
+        readYourWrites.close();
+
+        readYourWrites.open("1");
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        readYourWrites.close();
+
+        readYourWrites.open("2");
+        assertThat(dataSource.determineCurrentLookupKey()).isNotEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션이나 실패한 커밋은 고정하지 않는다")
+    void read_only_or_failed_commit_does_not_pin() {
+        readYourWrites.open("1");
+        TransactionExecution readOnly = mock(TransactionExecution.class);
+        given(readOnly.isNewTransaction()).willReturn(true);
+        given(readOnly.isReadOnly()).willReturn(true);
+
+        readYourWrites.afterCommit(readOnly, null);
+        readYourWrites.afterCommit(writeTransaction(), new IllegalStateException());
+
+        assertThat(readYourWrites.pinnedToPrimary()).isFalse();
+    }
+
+    private static TransactionExecution writeTransaction() {
+        TransactionExecution transaction = mock(TransactionExecution.class);
+        given(transaction.isNewTransaction()).willReturn(true);
+        given(transaction.isReadOnly()).willReturn(false);
+        return transaction;
+    }
+
+    private static HikariDataSource pool(String name) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        return pool;
+    }
+}
@@ -0,0 +1,86 @@
+package kr.flint.shared.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TsidGeneratorTest {
+
+    private static final long NOW = TsidGenerator.EPOCH_MILLIS + 1_000_000;
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 발급해도 중복이 없고, 스레드마다 증가한다")
+    void unique_and_increasing_under_contention() throws Exception {
+        TsidGenerator generator = new TsidGenerator(7, System::currentTimeMillis);
+        List<Future<long[]>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                results.add(executor.submit(() -> {
+                    long[] ids = new long[50_000];
+                    for (int i = 0; i < ids.length; i++) {
+                        ids[i] = generator.next();
+                    }
+                    return ids;
+                }));
+            }
+        }
+
+        List<Long> all = new ArrayList<>();
+        for (Future<long[]> result : results) {
+            long[] ids = result.get();
+            for (int i = 1; i < ids.length; i++) {
+                assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+            }
+            for (long id : ids) {
+                all.add(id);
+            }
+        }
+        assertThat(all).doesNotHaveDuplicates();
+        assertThat(all).allSatisfy(id -> assertThat((id >>> TsidGenerator.COUNTER_BITS) & TsidGenerator.MAX_NODE_ID).isEqualTo(7));
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 직전 값보다 큰 값을 발급한다")
+    void monotonic_across_clock_step_back() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TsidGenerator generator = new TsidGenerator(1, clock::get);
+
+        long before = generator.next();
+        clock.set(NOW - 60_000);
+        long after = generator.next();
+
+        assertThat(after).isGreaterThan(before);
+        assertThat(TsidGenerator.toInstant(after).toEpochMilli()).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("1ms 안에 카운터를 다 쓰면 다음 ms로 넘어간다")
+    void borrows_next_millisecond_when_counter_is_exhausted() {
+        TsidGenerator generator = new TsidGenerator(1, () -> NOW);
+
+        long[] ids = generator.allocate((1 << TsidGenerator.COUNTER_BITS) + 1);
+
+        assertThat(TsidGenerator.toInstant(ids[0]).toEpochMilli()).isEqualTo(NOW);
+        assertThat(TsidGenerator.toInstant(ids[ids.length - 1]).toEpochMilli()).isEqualTo(NOW + 1);
+        for (int i = 1; i < ids.length; i++) {
+            assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+        }
+        assertThat(generator.next()).isGreaterThan(ids[ids.length - 1]);
+    }
+
+    @Test
+    @DisplayName("노드 ID는 10비트 범위여야 한다")
+    void rejects_out_of_range_node_id() {
+        assertThatThrownBy(() -> new TsidGenerator(TsidGenerator.MAX_NODE_ID + 1, System::currentTimeMillis))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
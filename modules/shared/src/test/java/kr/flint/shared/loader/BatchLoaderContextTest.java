@@ -0,0 +1,132 @@
+package kr.flint.shared.loader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchLoaderContextTest {
+
+    private final BatchLoaderContext context = new BatchLoaderContext();
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100, 1000})
+    @DisplayName("페이지 크기와 무관하게 로더마다 쿼리 한 번으로 조회한다")
+    void one_query_per_loader_regardless_of_page_size(int pageSize) {
+        CountingQuery owners = new CountingQuery(id -> "user-" + id);
+        CountingQuery contents = new CountingQuery(id -> "content-" + id);
+        BatchLoader<Long, String> ownerLoader = context.register(owners);
+        BatchLoader<Long, String> contentLoader = context.register(contents);
+
+        List<CompletableFuture<String>> rows = new ArrayList<>();
+        for (long id = 1; id <= pageSize; id++) {
+            // 소유자는 10명이 번갈아 가며 등장
+            rows.add(ownerLoader.load(id % 10).thenCombine(contentLoader.load(id), (owner, content) -> owner + "/" + content));
+        }
+        context.dispatch();
+
+        assertThat(rows).allSatisfy(row -> assertThat(row).isCompleted());
+        assertThat(rows.getFirst().join()).isEqualTo("user-1/content-1");
+        assertThat(owners.calls).containsExactly(Set.of(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L));
+        assertThat(contents.calls).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("이미 조회한 키는 다시 조회하지 않는다")
+    void memoizes_loaded_keys() {
+        CountingQuery query = new CountingQuery(id -> "v" + id);
+        BatchLoader<Long, String> loader = context.register(query);
+
+        loader.loadMany(List.of(1L, 2L));
+        context.dispatch();
+        CompletableFuture<Map<Long, String>> again = loader.loadMany(List.of(2L, 1L, 3L));
+        context.dispatch();
+
+        assertThat(again.join()).containsExactly(Map.entry(2L, "v2"), Map.entry(1L, "v1"), Map.entry(3L, "v3"));
+        assertThat(query.calls).containsExactly(Set.of(1L, 2L), Set.of(3L));
+    }
+
+    @Test
+    @DisplayName("완료 콜백에서 등록한 키는 같은 dispatch에서 다음 단계로 조회한다")
+    void dispatches_keys_registered_by_callbacks() {
+        CountingQuery collections = new CountingQuery(id -> String.valueOf(id * 100));
+        CountingQuery owners = new CountingQuery(id -> "user-" + id);
+        BatchLoader<Long, String> collectionLoader = context.register(collections);
+        BatchLoader<Long, String> ownerLoader = context.register(owners);
+
+        List<CompletableFuture<String>> rows = LongStream.rangeClosed(1, 50)
+                .mapToObj(id -> collectionLoader.load(id)
+                        .thenCompose(ownerId -> ownerLoader.load(Long.parseLong(ownerId))))
+                .toList();
+        context.dispatch();
+
+        assertThat(rows.get(2).join()).isEqualTo("user-300");
+        assertThat(collections.calls).hasSize(1);
+        assertThat(owners.calls).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("키가 maxBatchSize를 넘으면 나눠서 조회하고, 결과에 없는 키는 null로 완료한다")
+    void splits_batches_and_completes_missing_keys_with_null() {
+        CountingQuery query = new CountingQuery(id -> id % 2 == 0 ? "even" : null);
+        BatchLoader<Long, String> loader = context.register(query, 3);
+
+        List<CompletableFuture<String>> loaded = LongStream.rangeClosed(1, 7).mapToObj(loader::load).toList();
+        context.dispatch();
+
+        assertThat(query.calls).hasSize(3);
+        assertThat(loaded.get(0).join()).isNull();
+        assertThat(loaded.get(1).join()).isEqualTo("even");
+    }
+
+    @Test
+    @DisplayName("조회가 실패하면 그 배치의 future를 모두 예외로 완료한다")
+    void propagates_failure_to_batch() {
+        BatchLoader<Long, String> loader = context.register(keys -> {
+            throw new IllegalStateException("db down");
+        });
+
+        CompletableFuture<String> loaded = loader.load(1L);
+        context.dispatch();
+
+        assertThatThrownBy(loaded::join).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * IN 쿼리 대신 호출마다 요청된 키를 기록한다
+     */
+    private static final class CountingQuery implements Function<Set<Long>, Map<Long, String>> {
+
+        private final Function<Long, String> valueOf;
+        private final List<Set<Long>> calls = new ArrayList<>();
+
+        private CountingQuery(Function<Long, String> valueOf) {
+            this.valueOf = valueOf;
+        }
+
+        @Override
+        public Map<Long, String> apply(Set<Long> keys) {
+            calls.add(Set.copyOf(keys));
+            Map<Long, String> values = new HashMap<>();
+            keys.forEach(key -> {
+                String value = valueOf.apply(key);
+                if (value != null) {
+                    values.put(key, value);
+                }
+            });
+            return values;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package kr.flint.shared.p6spy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlShapeTest {
+
+    @Test
+    @DisplayName("IN 목록 길이와 리터럴 값이 달라도 같은 형태로 본다")
+    void in_list_length_and_literals_do_not_change_shape() {
+        SqlShape three = SqlShape.of("select c1_0.id from collection c1_0 where c1_0.id in (?,?,?) limit 10");
+        SqlShape two = SqlShape.of("select  c1_0.id\n  from collection c1_0 where c1_0.id in (?, ?) limit 20");
+
+        assertThat(three).isEqualTo(two);
+        assertThat(three.text()).isEqualTo("select c1_0.id from collection c1_0 where c1_0.id in (?) limit ?");
+        assertThat(three.operation()).isEqualTo("select");
+        assertThat(three.table()).isEqualTo("collection");
+    }
+
+    @Test
+    @DisplayName("문자열 리터럴은 이스케이프된 따옴표까지 값으로 보고 지운다")
+    void string_literals_are_masked() {
+        SqlShape shape = SqlShape.of("update content set memo='it''s mine' where id=3");
+
+        assertThat(shape.text()).isEqualTo("update content set memo=? where id=?");
+        assertThat(shape.table()).isEqualTo("content");
+    }
+
+    @Test
+    @DisplayName("INSERT는 into 뒤의 테이블을 대상으로 한다")
+    void insert_table_is_resolved() {
+        SqlShape shape = SqlShape.of("insert into collection_content (id,position) values (?,?)");
+
+        assertThat(shape.operation()).isEqualTo("insert");
+        assertThat(shape.table()).isEqualTo("collection_content");
+    }
+}
@@ -0,0 +1,95 @@
+package kr.flint.shared.pagination;
+
+import kr.flint.shared.exception.ErrorCode;
+import kr.flint.shared.exception.GeneralException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+    private static final String SCOPE = "collection-contents:1";
+
+    private final CursorCodec codec = new CursorCodec("test-cursor-secret");
+
+    @Test
+    @DisplayName("정렬 키 타입마다 인코딩한 커서를 그대로 디코딩한다")
+    void round_trip() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_456_000);
+
+        assertThat(codec.decode(SCOPE, codec.encode(SCOPE, KeysetCursor.of("a0V", 7L)), String.class))
+                .isEqualTo(KeysetCursor.of("a0V", 7L));
+        assertThat(codec.decode(SCOPE, codec.encode(SCOPE, KeysetCursor.of(42L, 7L)), Long.class))
+                .isEqualTo(KeysetCursor.of(42L, 7L));
+        assertThat(codec.decode(SCOPE, codec.encode(SCOPE, KeysetCursor.of(3, 7L)), Integer.class))
+                .isEqualTo(KeysetCursor.of(3, 7L));
+        assertThat(codec.decode(SCOPE, codec.encode(SCOPE, KeysetCursor.of(createdAt, 7L)), LocalDateTime.class))
+                .isEqualTo(KeysetCursor.of(createdAt, 7L));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "  "})
+    @DisplayName("비어 있는 커서는 첫 페이지(null)")
+    void blank_cursor_is_first_page(String cursor) {
+        assertThat(codec.decode(SCOPE, cursor, String.class)).isNull();
+        assertThat(codec.decode(SCOPE, null, String.class)).isNull();
+    }
+
+    @Test
+    @DisplayName("한 바이트라도 바꾼 커서는 서명 검증에서 거절한다")
+    void rejects_tampered_cursor() {
+        byte[] bytes = Base64.getUrlDecoder().decode(codec.encode(SCOPE, KeysetCursor.of(42L, 7L)));
+        for (int i = 0; i < bytes.length; i++) {
+            byte[] tampered = bytes.clone();
+            tampered[i] ^= 0x01;
+            String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(tampered);
+
+            assertInvalid(() -> codec.decode(SCOPE, cursor, Long.class));
+        }
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명한 커서는 거절한다")
+    void rejects_cursor_signed_with_other_secret() {
+        String cursor = new CursorCodec("other-secret").encode(SCOPE, KeysetCursor.of(42L, 7L));
+
+        assertInvalid(() -> codec.decode(SCOPE, cursor, Long.class));
+    }
+
+    @Test
+    @DisplayName("정렬 키 타입이 다른 커서는 거절한다")
+    void rejects_sort_key_type_mismatch() {
+        String cursor = codec.encode(SCOPE, KeysetCursor.of(42L, 7L));
+
+        assertInvalid(() -> codec.decode(SCOPE, cursor, String.class));
+    }
+
+    @Test
+    @DisplayName("같은 타입이라도 다른 목록이나 정렬 기준에서 발급한 커서는 거절한다")
+    void rejects_cursor_from_other_scope() {
+        String cursor = codec.encode("collection-contents:2", KeysetCursor.of("a0V", 7L));
+
+        assertInvalid(() -> codec.decode(SCOPE, cursor, String.class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "AAAA", "_-_-"})
+    @DisplayName("형식이 깨진 커서는 거절한다")
+    void rejects_malformed_cursor(String cursor) {
+        assertInvalid(() -> codec.decode(SCOPE, cursor, String.class));
+    }
+
+    private static void assertInvalid(Runnable decode) {
+        assertThatThrownBy(decode::run)
+                .isInstanceOf(GeneralException.class)
+                .extracting(e -> ((GeneralException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+    }
+}
@@ -0,0 +1,120 @@
+package kr.flint.shared.pagination;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffsetCountCacheTest {
+
+    private static final String SHAPE = "bookmark:collections-by-user";
+    private static final Long FILTER = 42L;
+    private static final Duration REFRESH_AFTER = Duration.ofSeconds(30);
+    private static final Duration MAX_STALENESS = Duration.ofMinutes(10);
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private final AtomicLong rows = new AtomicLong(120);
+    private final AtomicLong counts = new AtomicLong();
+    private final List<Runnable> refreshTasks = new ArrayList<>();
+
+    private final LongSupplier counter = () -> {
+        counts.incrementAndGet();
+        return rows.get();
+    };
+
+    private OffsetCountCache countCache;
+
+    @BeforeEach
+    void setUp() {
+        countCache = new OffsetCountCache(provider(new ConcurrentMapCacheManager()), refreshTasks::add,
+                REFRESH_AFTER, MAX_STALENESS, now::get);
+    }
+
+    @Test
+    @DisplayName("캐시가 없으면 요청 스레드에서 COUNT하고 정확한 값으로 돌려준다")
+    void miss_counts_inline() {
+        assertThat(countCache.count(SHAPE, FILTER, counter)).isEqualTo(TotalCount.exact(120));
+        assertThat(counts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("refreshAfter 이내면 COUNT 없이 캐시 값을 추정치로 돌려준다")
+    void hit_skips_count() {
+        countCache.count(SHAPE, FILTER, counter);
+        rows.set(130);
+        now.addAndGet(REFRESH_AFTER.toMillis());
+
+        assertThat(countCache.count(SHAPE, FILTER, counter)).isEqualTo(TotalCount.estimated(120));
+        assertThat(counts).hasValue(1);
+        assertThat(refreshTasks).isEmpty();
+    }
+
+    @Test
+    @DisplayName("refreshAfter가 지나면 캐시 값을 돌려주고 백그라운드 COUNT는 한 번만 등록한다")
+    void stale_refreshes_once_in_background() {
+        countCache.count(SHAPE, FILTER, counter);
+        rows.set(130);
+        now.addAndGet(REFRESH_AFTER.toMillis() + 1);
+
+        assertThat(countCache.count(SHAPE, FILTER, counter)).isEqualTo(TotalCount.estimated(120));
+        assertThat(countCache.count(SHAPE, FILTER, counter)).isEqualTo(TotalCount.estimated(120));
+        assertThat(refreshTasks).hasSize(1);
+
+        refreshTasks.getFirst().run();
+
+        assertThat(countCache.count(SHAPE, FILTER, counter)).isEqualTo(TotalCount.estimated(130));
+        assertThat(counts).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("maxStaleness가 지난 값은 쓰지 않고 요청 스레드에서 다시 COUNT한다")
+    void too_stale_counts_inline() {
+        countCache.count(SHAPE, FILTER, counter);
+        rows.set(130);
+        now.addAndGet(MAX_STALENESS.toMillis() + 1);
+
+        assertThat(countCache.count(SHAPE, FILTER, counter)).isEqualTo(TotalCount.exact(130));
+        assertThat(refreshTasks).isEmpty();
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 조회에서 다시 COUNT하고, 다른 조건의 캐시는 남는다")
+    void evict_forces_recount() {
+        countCache.count(SHAPE, FILTER, counter);
+        countCache.count(SHAPE, 7L, counter);
+        rows.set(121);
+
+        countCache.evict(SHAPE, FILTER);
+
+        assertThat(countCache.count(SHAPE, FILTER, counter)).isEqualTo(TotalCount.exact(121));
+        assertThat(countCache.count(SHAPE, 7L, counter)).isEqualTo(TotalCount.estimated(120));
+        assertThat(counts).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("CacheManager가 없으면 매번 COUNT한다")
+    void without_cache_manager() {
+        OffsetCountCache uncached = new OffsetCountCache(new StaticListableBeanFactory().getBeanProvider(CacheManager.class),
+                refreshTasks::add, REFRESH_AFTER, MAX_STALENESS, now::get);
+
+        assertThat(uncached.count(SHAPE, FILTER, counter)).isEqualTo(TotalCount.exact(120));
+        assertThat(uncached.count(SHAPE, FILTER, counter)).isEqualTo(TotalCount.exact(120));
+        assertThat(counts).hasValue(2);
+    }
+
+    private static ObjectProvider<CacheManager> provider(CacheManager cacheManager) {
+        return new StaticListableBeanFactory(Map.of("cacheManager", cacheManager)).getBeanProvider(CacheManager.class);
+    }
+}
@@ -0,0 +1,136 @@
+package kr.flint.shared.util;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Constant;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Operation;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.core.types.dsl.StringPath;
+import kr.flint.shared.pagination.KeysetCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * seek 조건을 메모리의 행에 직접 평가하여 {@code ORDER BY sortKey, id}로 넘기는 페이지가 빠짐없이, 겹치지 않고 이어지는지 확인한다.
+ */
+class QueryDslUtilTest {
+
+    private final PathBuilder<Object> content = new PathBuilder<>(Object.class, "content");
+    private final StringPath position = content.getString("position");
+    private final NumberPath<Long> id = content.getNumber("id", Long.class);
+
+    private record Row(String position, Long id) {
+    }
+
+    private static final Comparator<Row> ASC = Comparator.comparing(Row::position).thenComparing(Row::id);
+
+    @Test
+    @DisplayName("커서가 없으면 조건을 붙이지 않는다")
+    void no_cursor_is_first_page() {
+        Predicate predicate = QueryDslUtil.seekAfter(position, id, null, Order.ASC);
+
+        assertThat(((BooleanBuilder) predicate).hasValue()).isFalse();
+    }
+
+    @Test
+    @DisplayName("정렬 키가 같으면 id로 이어서, 커서 행 자체와 그 앞의 행은 제외한다")
+    void breaks_ties_by_id() {
+        Predicate predicate = QueryDslUtil.seekAfter(position, id, KeysetCursor.of("b", 5L), Order.ASC);
+
+        assertThat(matches(predicate, new Row("b", 6L))).isTrue();
+        assertThat(matches(predicate, new Row("c", 1L))).isTrue();
+        assertThat(matches(predicate, new Row("b", 5L))).isFalse();
+        assertThat(matches(predicate, new Row("b", 4L))).isFalse();
+        assertThat(matches(predicate, new Row("a", 9L))).isFalse();
+    }
+
+    @Test
+    @DisplayName("DESC는 부등호가 반대다")
+    void descending_reverses_comparison() {
+        Predicate predicate = QueryDslUtil.seekAfter(position, id, KeysetCursor.of("b", 5L), Order.DESC);
+
+        assertThat(matches(predicate, new Row("b", 4L))).isTrue();
+        assertThat(matches(predicate, new Row("a", 9L))).isTrue();
+        assertThat(matches(predicate, new Row("b", 5L))).isFalse();
+        assertThat(matches(predicate, new Row("b", 6L))).isFalse();
+        assertThat(matches(predicate, new Row("c", 1L))).isFalse();
+    }
+
+    @Test
+    @DisplayName("정렬 키가 겹치는 행이 페이지 경계에 걸려도 모든 행을 한 번씩 순서대로 읽는다")
+    void pages_cover_every_row_once() {
+        List<Row> rows = new ArrayList<>();
+        for (long n = 0; n < 30; n++) {
+            // 세 행씩 같은 position, id는 position 순서와 무관하게 섞는다
+            rows.add(new Row("p" + (n / 3), (n * 7) % 30 + 1));
+        }
+
+        assertThat(readAll(rows, Order.ASC, 4)).containsExactlyElementsOf(rows.stream().sorted(ASC).toList());
+        assertThat(readAll(rows, Order.DESC, 4)).containsExactlyElementsOf(rows.stream().sorted(ASC.reversed()).toList());
+    }
+
+    private List<Row> readAll(List<Row> rows, Order direction, int size) {
+        Comparator<Row> order = direction == Order.ASC ? ASC : ASC.reversed();
+        List<Row> read = new ArrayList<>();
+        KeysetCursor<String> cursor = null;
+        while (true) {
+            Predicate predicate = QueryDslUtil.seekAfter(position, id, cursor, direction);
+            List<Row> page = rows.stream()
+                    .filter(row -> matches(predicate, row))
+                    .sorted(order)
+                    .limit(size)
+                    .toList();
+            if (page.isEmpty()) {
+                return read;
+            }
+            read.addAll(page);
+            cursor = KeysetCursor.of(page.getLast().position(), page.getLast().id());
+        }
+    }
+
+    private static boolean matches(Predicate predicate, Row row) {
+        return predicate instanceof BooleanBuilder builder && !builder.hasValue()
+                || (Boolean) evaluate(predicate, row);
+    }
+
+    /**
+     * seekAfter가 만드는 연산(AND, OR, 비교)만 평가한다
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object evaluate(Expression<?> expression, Row row) {
+        if (expression instanceof Constant<?> constant) {
+            return constant.getConstant();
+        }
+        if (expression instanceof Path<?> path) {
+            return "id".equals(path.getMetadata().getName()) ? row.id() : row.position();
+        }
+        Operation<?> operation = (Operation<?>) expression;
+        Object left = evaluate(operation.getArg(0), row);
+        Object right = evaluate(operation.getArg(1), row);
+        if (operation.getOperator() == Ops.AND) {
+            return (Boolean) left && (Boolean) right;
+        }
+        if (operation.getOperator() == Ops.OR) {
+            return (Boolean) left || (Boolean) right;
+        }
+        int compared = ((Comparable) left).compareTo(right);
+        return switch ((Ops) operation.getOperator()) {
+            case GT -> compared > 0;
+            case GOE -> compared >= 0;
+            case LT -> compared < 0;
+            case LOE -> compared <= 0;
+            default -> throw new IllegalArgumentException("평가하지 않는 연산: " + operation.getOperator());
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package kr.flint.taste.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import kr.flint.shared.domain.BaseTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(name = "keyword")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Keyword extends BaseTime {
+
+    @Column(nullable = false, unique = true)
+    private String name;
+
+    private Keyword(String name) {
+        this.name = name;
+    }
+
+    public static Keyword create(String name) {
+        return new Keyword(name);
+    }
+}
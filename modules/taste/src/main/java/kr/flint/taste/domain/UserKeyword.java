@@ -0,0 +1,38 @@
+package kr.flint.taste.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import kr.flint.shared.domain.BaseTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(
+        name = "user_keyword",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_keyword", columnNames = {"userId", "keywordId"}),
+        // 취향 인덱스의 증분 동기화 (createdAt 워터마크)
+        indexes = @Index(name = "idx_user_keyword_created_at", columnList = "createdAt")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserKeyword extends BaseTime {
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long keywordId;
+
+    private UserKeyword(Long userId, Long keywordId) {
+        this.userId = userId;
+        this.keywordId = keywordId;
+    }
+
+    public static UserKeyword create(Long userId, Long keywordId) {
+        return new UserKeyword(userId, keywordId);
+    }
+}
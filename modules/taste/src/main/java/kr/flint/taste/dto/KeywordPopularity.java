@@ -0,0 +1,7 @@
+package kr.flint.taste.dto;
+
+/**
+ * 키워드와 그 키워드를 고른 사용자 수
+ */
+public record KeywordPopularity(Long id, String name, long userCount) {
+}
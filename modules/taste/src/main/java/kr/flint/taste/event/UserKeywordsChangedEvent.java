@@ -0,0 +1,9 @@
+package kr.flint.taste.event;
+
+import java.util.Set;
+
+/**
+ * 사용자의 취향 키워드 전체 교체
+ */
+public record UserKeywordsChangedEvent(Long userId, Set<Long> keywordIds) {
+}
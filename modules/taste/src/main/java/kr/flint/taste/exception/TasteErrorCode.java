@@ -0,0 +1,18 @@
+package kr.flint.taste.exception;
+
+import kr.flint.shared.exception.AppError;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum TasteErrorCode implements AppError {
+
+    KEYWORD_NOT_FOUND(HttpStatus.NOT_FOUND, "TASTE.KEYWORD_NOT_FOUND", "Keyword Not Found", "존재하지 않는 키워드입니다: %s");
+
+    private final HttpStatus httpStatus;
+    private final String code;
+    private final String title;
+    private final String detail;
+}
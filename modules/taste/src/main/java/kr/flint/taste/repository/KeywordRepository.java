@@ -0,0 +1,7 @@
+package kr.flint.taste.repository;
+
+import kr.flint.taste.domain.Keyword;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface KeywordRepository extends JpaRepository<Keyword, Long> {
+}
@@ -0,0 +1,7 @@
+package kr.flint.taste.repository;
+
+/**
+ * 취향 인덱스 구성에 필요한 최소 컬럼 프로젝션
+ */
+public record UserKeywordPair(Long userId, Long keywordId) {
+}
@@ -0,0 +1,46 @@
+package kr.flint.taste.repository;
+
+import kr.flint.taste.domain.UserKeyword;
+import kr.flint.taste.dto.KeywordPopularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface UserKeywordRepository extends JpaRepository<UserKeyword, Long> {
+
+    @Query("select new kr.flint.taste.repository.UserKeywordPair(uk.userId, uk.keywordId) from UserKeyword uk")
+    List<UserKeywordPair> findAllPairs();
+
+    @Query("""
+            select new kr.flint.taste.repository.UserKeywordPair(uk.userId, uk.keywordId)
+            from UserKeyword uk
+            where uk.userId in :userIds
+            """)
+    List<UserKeywordPair> findPairsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * since 이후(포함) 키워드를 설정한 사용자. 키워드 변경은 전체 교체이므로 새 행의 createdAt으로 판단한다.
+     */
+    @Query("select distinct uk.userId from UserKeyword uk where uk.createdAt >= :since")
+    List<Long> findUserIdsChangedSince(@Param("since") LocalDateTime since);
+
+    @Query("""
+            select new kr.flint.taste.dto.KeywordPopularity(k.id, k.name, count(uk.id))
+            from Keyword k
+            left join UserKeyword uk on uk.keywordId = k.id
+            group by k.id, k.name
+            """)
+    List<KeywordPopularity> findKeywordPopularity();
+
+    @Query("select uk.keywordId from UserKeyword uk where uk.userId = :userId")
+    List<Long> findKeywordIdsByUserId(@Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from UserKeyword uk where uk.userId = :userId")
+    void deleteAllByUserId(@Param("userId") Long userId);
+}
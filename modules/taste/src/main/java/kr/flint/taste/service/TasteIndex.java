@@ -0,0 +1,254 @@
+package kr.flint.taste.service;
+
+import kr.flint.shared.util.LongIndexMap;
+import org.jspecify.annotations.Nullable;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 키워드 → 사용자 압축 비트맵(RoaringBitmap) 역색인.
+ * <p>
+ * 사용자 ID(TSID)는 비트맵에 담을 수 있도록 0부터 증가하는 int 순번으로 바꿔 저장한다.
+ * 조회 사용자의 키워드 m개에 대해 "k개 이상 겹치는 사용자" 비트맵을 O(m²)번의 비트맵 연산으로 구하므로,
+ * 비용은 사용자 수가 아니라 키워드 수와 비트맵 크기에 비례하고 DB를 조회하지 않는다.
+ * <p>
+ * 노드별 인덱스이며, 다른 노드의 변경은 {@link TasteIndexSynchronizer}가 주기적으로 반영한다.
+ */
+@Component
+public class TasteIndex {
+
+    /**
+     * 조회 사용자의 키워드가 이보다 많으면 앞에서부터 이만큼만 사용 (비트맵 연산이 키워드 수의 제곱에 비례)
+     */
+    static final int MAX_QUERY_KEYWORDS = 32;
+
+    private static final int[] NO_KEYWORDS = new int[0];
+
+    private final StampedLock lock = new StampedLock();
+
+    private State state = new State(1024);
+
+    /**
+     * 사용자의 키워드를 교체. 빈 목록이면 인덱스에서 제외된다.
+     */
+    public void replace(long userId, Collection<Long> keywordIds) {
+        long stamp = lock.writeLock();
+        try {
+            state.replace(userId, keywordIds);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 전체 재구성. 새 인덱스를 잠금 밖에서 만든 뒤 교체하므로 재구성 중에도 조회가 막히지 않는다.
+     */
+    public void replaceAll(Map<Long, ? extends Collection<Long>> keywordIdsByUser) {
+        State rebuilt = new State(keywordIdsByUser.size());
+        keywordIdsByUser.forEach(rebuilt::replace);
+
+        long stamp = lock.writeLock();
+        try {
+            state = rebuilt;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int userCount() {
+        long stamp = lock.readLock();
+        try {
+            return state.indexedUsers;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 키워드가 겹치는 사용자를 겹치는 키워드 수 내림차순으로 순회. 같은 점수 안에서는 매번 다른 위치에서 시작한다.
+     * 조회 사용자 자신은 제외하며, 키워드가 없는 사용자면 빈 순회를 반환한다.
+     */
+    public PrimitiveIterator.OfLong findSimilarUsers(long userId) {
+        long stamp = lock.readLock();
+        try {
+            int ordinal = state.userOrdinals.get(userId);
+            if (ordinal == LongIndexMap.MISSING || state.keywordsByUser[ordinal].length == 0) {
+                return ScoredUserIterator.EMPTY;
+            }
+
+            int[] keywords = state.keywordsByUser[ordinal];
+            int m = Math.min(keywords.length, MAX_QUERY_KEYWORDS);
+
+            // atLeast[j]: 키워드가 j + 1개 이상 겹치는 사용자
+            RoaringBitmap[] atLeast = new RoaringBitmap[m];
+            for (int i = 0; i < m; i++) {
+                RoaringBitmap users = state.usersByKeyword.get(keywords[i]);
+                for (int j = i; j >= 1; j--) {
+                    if (atLeast[j - 1] == null) {
+                        continue;
+                    }
+                    RoaringBitmap promoted = RoaringBitmap.and(atLeast[j - 1], users);
+                    atLeast[j] = atLeast[j] == null ? promoted : RoaringBitmap.or(atLeast[j], promoted);
+                }
+                atLeast[0] = atLeast[0] == null ? users.clone() : RoaringBitmap.or(atLeast[0], users);
+            }
+
+            // 점수가 높은 순서로 정확히 j + 1개 겹치는 사용자
+            List<RoaringBitmap> tiers = new ArrayList<>(m);
+            for (int j = m - 1; j >= 0; j--) {
+                if (atLeast[j] == null) {
+                    continue;
+                }
+                RoaringBitmap exact = j == m - 1 ? atLeast[j] : RoaringBitmap.andNot(atLeast[j], atLeast[j + 1]);
+                exact.remove(ordinal);
+                if (!exact.isEmpty()) {
+                    tiers.add(exact);
+                }
+            }
+
+            // 순번은 재사용하지 않고 배열은 교체만 되므로 잠금 밖에서도 읽을 수 있다
+            return new ScoredUserIterator(tiers, state.userIds);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 인덱스 본체. 잠금은 {@link TasteIndex}가 책임진다.
+     */
+    private static final class State {
+
+        private final LongIndexMap userOrdinals;
+        private long[] userIds;
+        private int[][] keywordsByUser;
+        private int userCount;
+        private int indexedUsers;
+
+        private final LongIndexMap keywordOrdinals = new LongIndexMap(256);
+        private final List<RoaringBitmap> usersByKeyword = new ArrayList<>();
+
+        State(int expectedUsers) {
+            int capacity = Math.max(1024, expectedUsers + (expectedUsers >> 2));
+            this.userOrdinals = new LongIndexMap(capacity);
+            this.userIds = new long[capacity];
+            this.keywordsByUser = new int[capacity][];
+        }
+
+        void replace(long userId, Collection<Long> keywordIds) {
+            int ordinal = ordinalOf(userId);
+
+            int[] previous = keywordsByUser[ordinal];
+            for (int keyword : previous) {
+                usersByKeyword.get(keyword).remove(ordinal);
+            }
+
+            int[] keywords = keywordIds.stream()
+                    .mapToInt(this::keywordOrdinalOf)
+                    .distinct()
+                    .toArray();
+            for (int keyword : keywords) {
+                usersByKeyword.get(keyword).add(ordinal);
+            }
+            keywordsByUser[ordinal] = keywords;
+
+            if (previous.length == 0 && keywords.length > 0) {
+                indexedUsers++;
+            } else if (previous.length > 0 && keywords.length == 0) {
+                indexedUsers--;
+            }
+        }
+
+        private int ordinalOf(long userId) {
+            int ordinal = userOrdinals.get(userId);
+            if (ordinal != LongIndexMap.MISSING) {
+                return ordinal;
+            }
+            if (userCount == userIds.length) {
+                // 읽기 중인 반복자가 이전 배열을 계속 볼 수 있도록 제자리 확장 대신 복사
+                userIds = Arrays.copyOf(userIds, userIds.length << 1);
+                keywordsByUser = Arrays.copyOf(keywordsByUser, keywordsByUser.length << 1);
+            }
+            ordinal = userCount++;
+            userIds[ordinal] = userId;
+            keywordsByUser[ordinal] = NO_KEYWORDS;
+            userOrdinals.put(userId, ordinal);
+            return ordinal;
+        }
+
+        private int keywordOrdinalOf(long keywordId) {
+            int ordinal = keywordOrdinals.get(keywordId);
+            if (ordinal == LongIndexMap.MISSING) {
+                ordinal = usersByKeyword.size();
+                usersByKeyword.add(new RoaringBitmap());
+                keywordOrdinals.put(keywordId, ordinal);
+            }
+            return ordinal;
+        }
+    }
+
+    /**
+     * 점수 구간(tier)을 차례로 순회하며, 각 구간은 무작위 위치에서 시작해 한 바퀴 돈다.
+     */
+    private static final class ScoredUserIterator implements PrimitiveIterator.OfLong {
+
+        static final ScoredUserIterator EMPTY = new ScoredUserIterator(List.of(), new long[0]);
+
+        private final List<RoaringBitmap> tiers;
+        private final long[] userIds;
+
+        private int tierIndex = -1;
+        private @Nullable PeekableIntIterator head;
+        private @Nullable PeekableIntIterator tail;
+        private int start;
+
+        ScoredUserIterator(List<RoaringBitmap> tiers, long[] userIds) {
+            this.tiers = tiers;
+            this.userIds = userIds;
+            advanceTier();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return head != null;
+        }
+
+        @Override
+        public long nextLong() {
+            if (head == null) {
+                throw new NoSuchElementException();
+            }
+
+            PeekableIntIterator wrapped = Objects.requireNonNull(tail);
+            int ordinal = head.hasNext() ? head.next() : wrapped.next();
+
+            if (!head.hasNext() && !(wrapped.hasNext() && wrapped.peekNext() < start)) {
+                advanceTier();
+            }
+            return userIds[ordinal];
+        }
+
+        private void advanceTier() {
+            head = null;
+            if (++tierIndex >= tiers.size()) {
+                return;
+            }
+            RoaringBitmap tier = tiers.get(tierIndex);
+            start = tier.select(ThreadLocalRandom.current().nextInt(tier.getCardinality()));
+            head = tier.getIntIterator();
+            head.advanceIfNeeded(start);
+            tail = tier.getIntIterator();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package kr.flint.taste.service;
+
+import kr.flint.taste.event.UserKeywordsChangedEvent;
+import kr.flint.taste.repository.UserKeywordPair;
+import kr.flint.taste.repository.UserKeywordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link TasteIndex}를 DB와 동기화.
+ * <p>
+ * - 이 노드의 변경: 커밋 직후 이벤트로 즉시 반영
+ * - 다른 노드의 변경: createdAt 워터마크 이후 키워드를 설정한 사용자를 주기적으로 다시 읽어 반영
+ * - 다른 노드에서 키워드를 모두 지운 경우처럼 새 행이 없는 변경: 주기적인 전체 재구성으로 정리
+ */
+@Slf4j
+@Component
+public class TasteIndexSynchronizer {
+
+    private static final int RELOAD_CHUNK_SIZE = 1000;
+
+    private final TasteIndex tasteIndex;
+    private final UserKeywordRepository userKeywordRepository;
+    private final Duration pollOverlap;
+
+    private volatile @Nullable LocalDateTime watermark;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public TasteIndexSynchronizer(
+            TasteIndex tasteIndex,
+            UserKeywordRepository userKeywordRepository,
+            @Value("${taste.index.poll-overlap:30s}") Duration pollOverlap
+    ) {
+        this.tasteIndex = tasteIndex;
+        this.userKeywordRepository = userKeywordRepository;
+        this.pollOverlap = pollOverlap;
+    }
+
+    @TransactionalEventListener
+    public void onKeywordsChanged(UserKeywordsChangedEvent event) {
+        tasteIndex.replace(event.userId(), event.keywordIds());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${taste.index.rebuild-interval:30m}",
+            fixedDelayString = "${taste.index.rebuild-interval:30m}"
+    )
+    public void rebuild() {
+        lock.lock();
+        try {
+            rebuildLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void rebuildLocked() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Map<Long, List<Long>> keywordIdsByUser = groupByUser(userKeywordRepository.findAllPairs());
+        tasteIndex.replaceAll(keywordIdsByUser);
+        watermark = startedAt;
+        log.info("취향 인덱스 재구성: 사용자 {}명", keywordIdsByUser.size());
+    }
+
+    @Scheduled(
+            initialDelayString = "${taste.index.poll-interval:5s}",
+            fixedDelayString = "${taste.index.poll-interval:5s}"
+    )
+    public void poll() {
+        lock.lock();
+        try {
+            pollLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void pollLocked() {
+        LocalDateTime current = watermark;
+        if (current == null) {
+            // 아직 한 번도 재구성하지 않음
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<Long> changedUserIds = userKeywordRepository.findUserIdsChangedSince(current.minus(pollOverlap));
+        for (int from = 0; from < changedUserIds.size(); from += RELOAD_CHUNK_SIZE) {
+            List<Long> chunk = changedUserIds.subList(from, Math.min(from + RELOAD_CHUNK_SIZE, changedUserIds.size()));
+            Map<Long, List<Long>> keywordIdsByUser = groupByUser(userKeywordRepository.findPairsByUserIdIn(chunk));
+            for (Long userId : chunk) {
+                tasteIndex.replace(userId, keywordIdsByUser.getOrDefault(userId, List.of()));
+            }
+        }
+        watermark = startedAt;
+    }
+
+    private static Map<Long, List<Long>> groupByUser(List<UserKeywordPair> pairs) {
+        Map<Long, List<Long>> keywordIdsByUser = new HashMap<>();
+        for (UserKeywordPair pair : pairs) {
+            keywordIdsByUser.computeIfAbsent(pair.userId(), userId -> new ArrayList<>()).add(pair.keywordId());
+        }
+        return keywordIdsByUser;
+    }
+}
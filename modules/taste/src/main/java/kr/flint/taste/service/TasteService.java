@@ -0,0 +1,65 @@
+package kr.flint.taste.service;
+
+import kr.flint.shared.exception.GeneralException;
+import kr.flint.taste.domain.UserKeyword;
+import kr.flint.taste.dto.KeywordPopularity;
+import kr.flint.taste.event.UserKeywordsChangedEvent;
+import kr.flint.taste.exception.TasteErrorCode;
+import kr.flint.taste.repository.KeywordRepository;
+import kr.flint.taste.repository.UserKeywordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TasteService {
+
+    private final KeywordRepository keywordRepository;
+    private final UserKeywordRepository userKeywordRepository;
+    private final TasteIndex tasteIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public List<Long> getKeywordIds(Long userId) {
+        return userKeywordRepository.findKeywordIdsByUserId(userId);
+    }
+
+    /**
+     * 모든 키워드와 선택한 사용자 수 (자동완성 인기도)
+     */
+    public List<KeywordPopularity> findKeywordPopularity() {
+        return userKeywordRepository.findKeywordPopularity();
+    }
+
+    /**
+     * 사용자의 취향 키워드를 전체 교체
+     */
+    @Transactional
+    public void replaceKeywords(Long userId, Set<Long> keywordIds) {
+        Set<Long> missing = new HashSet<>(keywordIds);
+        keywordRepository.findAllById(keywordIds).forEach(keyword -> missing.remove(keyword.getId()));
+        if (!missing.isEmpty()) {
+            throw new GeneralException(TasteErrorCode.KEYWORD_NOT_FOUND, missing);
+        }
+
+        userKeywordRepository.deleteAllByUserId(userId);
+        userKeywordRepository.saveAll(keywordIds.stream()
+                .map(keywordId -> UserKeyword.create(userId, keywordId))
+                .toList());
+        eventPublisher.publishEvent(new UserKeywordsChangedEvent(userId, Set.copyOf(keywordIds)));
+    }
+
+    /**
+     * 취향 키워드가 겹치는 사용자를 겹치는 수 내림차순으로 순회 (메모리 인덱스, DB 조회 없음)
+     */
+    public PrimitiveIterator.OfLong findSimilarUsers(Long userId) {
+        return tasteIndex.findSimilarUsers(userId);
+    }
+}
@@ -0,0 +1,141 @@
+package kr.flint.taste.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TasteIndexTest {
+
+    private static final long ME = 1L;
+
+    private final TasteIndex index = new TasteIndex();
+
+    @Nested
+    @DisplayName("점수")
+    class Scoring {
+
+        @Test
+        @DisplayName("겹치는 키워드 수 내림차순으로 순회하고, 키워드가 겹치지 않는 사용자와 자신은 제외한다")
+        void orders_by_overlap_descending() {
+            index.replace(ME, List.of(10L, 20L, 30L, 40L));
+            index.replace(2L, List.of(10L));
+            index.replace(3L, List.of(10L, 20L, 30L, 40L, 50L));
+            index.replace(4L, List.of(20L, 30L));
+            index.replace(5L, List.of(10L, 30L, 40L));
+            index.replace(6L, List.of(50L, 60L));
+
+            assertThat(drain(index.findSimilarUsers(ME))).containsExactly(3L, 5L, 4L, 2L);
+        }
+
+        @Test
+        @DisplayName("같은 점수의 사용자는 한 번씩만 나오고, 앞의 K명은 점수가 가장 높은 사용자다")
+        void top_k_are_highest_scores() {
+            index.replace(ME, List.of(10L, 20L, 30L));
+            Map<Long, Integer> scores = new HashMap<>();
+            for (long user = 100; user < 400; user++) {
+                int overlap = (int) (user % 4);
+                List<Long> keywords = new ArrayList<>(List.of(10L, 20L, 30L).subList(0, overlap));
+                keywords.add(1_000L + user);
+                index.replace(user, keywords);
+                if (overlap > 0) {
+                    scores.put(user, overlap);
+                }
+            }
+
+            List<Long> similar = drain(index.findSimilarUsers(ME));
+
+            assertThat(similar).hasSize(scores.size()).doesNotHaveDuplicates();
+            assertThat(similar).extracting(scores::get).isSortedAccordingTo((a, b) -> Integer.compare(b, a));
+            assertThat(similar.subList(0, 75)).allMatch(user -> scores.get(user) == 3);
+        }
+
+        @Test
+        @DisplayName("같은 점수 안에서는 시작 위치가 매번 달라진다")
+        void rotates_within_tier() {
+            index.replace(ME, List.of(10L));
+            LongStream.rangeClosed(2, 101).forEach(user -> index.replace(user, List.of(10L)));
+
+            Set<Long> firsts = new HashSet<>();
+            for (int i = 0; i < 50; i++) {
+                firsts.add(index.findSimilarUsers(ME).nextLong());
+            }
+
+            assertThat(firsts).hasSizeGreaterThan(1);
+        }
+
+        @Test
+        @DisplayName("조회 키워드가 상한을 넘으면 앞에서부터 상한만큼만 점수에 쓴다")
+        void caps_query_keywords() {
+            List<Long> keywords = LongStream.rangeClosed(1, TasteIndex.MAX_QUERY_KEYWORDS + 1).boxed().toList();
+            index.replace(ME, keywords);
+            index.replace(2L, List.of((long) TasteIndex.MAX_QUERY_KEYWORDS + 1));
+            index.replace(3L, List.of(1L));
+
+            assertThat(drain(index.findSimilarUsers(ME))).containsExactly(3L);
+        }
+    }
+
+    @Nested
+    @DisplayName("갱신")
+    class Updates {
+
+        @Test
+        @DisplayName("키워드가 없거나 모르는 사용자는 빈 순회를 돌려준다")
+        void unknown_or_empty_user() {
+            index.replace(2L, List.of(10L));
+            index.replace(ME, List.of());
+
+            PrimitiveIterator.OfLong unknown = index.findSimilarUsers(99L);
+
+            assertThat(unknown.hasNext()).isFalse();
+            assertThatThrownBy(unknown::nextLong).isInstanceOf(NoSuchElementException.class);
+            assertThat(index.findSimilarUsers(ME).hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("교체하면 이전 키워드로는 더 이상 찾지 않고, 빈 목록이면 사용자 수에서 빠진다")
+        void replace_drops_previous_keywords() {
+            index.replace(ME, List.of(10L));
+            index.replace(2L, List.of(10L));
+            index.replace(2L, List.of(20L));
+
+            assertThat(drain(index.findSimilarUsers(ME))).isEmpty();
+            assertThat(index.userCount()).isEqualTo(2);
+
+            index.replace(2L, List.of());
+
+            assertThat(index.userCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("전체 재구성은 이전 인덱스를 대체한다")
+        void replace_all_swaps_index() {
+            index.replace(ME, List.of(10L));
+            index.replace(2L, List.of(10L));
+
+            index.replaceAll(Map.of(ME, List.of(20L), 3L, List.of(20L), 4L, List.of()));
+
+            assertThat(drain(index.findSimilarUsers(ME))).containsExactly(3L);
+            assertThat(index.userCount()).isEqualTo(2);
+        }
+    }
+
+    private static List<Long> drain(PrimitiveIterator.OfLong iterator) {
+        List<Long> drained = new ArrayList<>();
+        iterator.forEachRemaining((long id) -> drained.add(id));
+        return drained;
+    }
+}